@@ -1,9 +1,11 @@
 package com.peopleflow.accesscontrol.core.application;
 
+import com.peopleflow.accesscontrol.core.domain.AlteracoesUsuario;
 import com.peopleflow.accesscontrol.core.ports.output.KeycloakUsuarioPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -51,6 +53,14 @@ public class UsuarioService {
         return keycloakPort.listAll();
     }
 
+    public List<Map<String, Object>> listarPagina(int first, int max) {
+        return keycloakPort.listPage(first, max);
+    }
+
+    public boolean existe(String userId) {
+        return keycloakPort.exists(userId);
+    }
+
     public List<Map<String, Object>> buscarPorAtributo(String attributeName, String attributeValue) {
         log.debug("Buscando usuários por atributo: {}={}", attributeName, attributeValue);
         return keycloakPort.findByAttribute(attributeName, attributeValue);
@@ -101,6 +111,31 @@ public class UsuarioService {
         keycloakPort.updateUserAttribute(userId, attributeName, attributeValue);
     }
     
+    /**
+     * Aplica as alterações acumuladas na representação do usuário (ativo, nome, email, atributos)
+     */
+    public void aplicarAlteracoes(String userId, AlteracoesUsuario alteracoes) {
+        if (!alteracoes.alteraRepresentacao()) {
+            return;
+        }
+        Map<String, Object> userData = new HashMap<>();
+        if (alteracoes.ativo() != null) {
+            userData.put("enabled", alteracoes.ativo());
+        }
+        if (alteracoes.primeiroNome() != null) {
+            userData.put("firstName", alteracoes.primeiroNome());
+        }
+        if (alteracoes.sobrenome() != null) {
+            userData.put("lastName", alteracoes.sobrenome());
+        }
+        if (alteracoes.email() != null) {
+            userData.put("email", alteracoes.email());
+        }
+        log.info("Aplicando alterações ao usuário {}: campos={}, atributos={}",
+                userId, userData.keySet(), alteracoes.atributos().keySet());
+        keycloakPort.updateUserAndAttributes(userId, userData, alteracoes.atributos());
+    }
+
     public void atribuirRoles(String userId, List<String> roleNames) {
         log.info("Atribuindo roles {} ao usuário {}", roleNames, userId);
         keycloakPort.assignClientRoles(userId, roleNames);
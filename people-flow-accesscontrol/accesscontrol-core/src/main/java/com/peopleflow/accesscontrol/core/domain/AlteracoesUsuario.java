@@ -0,0 +1,74 @@
+package com.peopleflow.accesscontrol.core.domain;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Alterações pendentes de um usuário Keycloak, acumuladas para serem aplicadas de uma vez
+ *
+ * Campos nulos não alteram nada. Ao mesclar, os valores da alteração posterior
+ * prevalecem; atributos são combinados chave a chave.
+ */
+public record AlteracoesUsuario(
+    Boolean ativo,
+    String primeiroNome,
+    String sobrenome,
+    String email,
+    Map<String, String> atributos,
+    Long cargoIdRoles,
+    Long departamentoIdGrupo
+) {
+
+    public AlteracoesUsuario {
+        atributos = atributos == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(atributos));
+    }
+
+    public static AlteracoesUsuario nenhuma() {
+        return new AlteracoesUsuario(null, null, null, null, Map.of(), null, null);
+    }
+
+    public AlteracoesUsuario comAtivo(boolean valor) {
+        return new AlteracoesUsuario(valor, primeiroNome, sobrenome, email, atributos, cargoIdRoles, departamentoIdGrupo);
+    }
+
+    public AlteracoesUsuario comDadosPessoais(String novoPrimeiroNome, String novoSobrenome, String novoEmail) {
+        return new AlteracoesUsuario(ativo, novoPrimeiroNome, novoSobrenome, novoEmail, atributos, cargoIdRoles,
+                departamentoIdGrupo);
+    }
+
+    public AlteracoesUsuario comAtributo(String nome, String valor) {
+        Map<String, String> novos = new LinkedHashMap<>(atributos);
+        novos.put(nome, valor);
+        return new AlteracoesUsuario(ativo, primeiroNome, sobrenome, email, novos, cargoIdRoles, departamentoIdGrupo);
+    }
+
+    /** Reatribui as roles mapeadas para o cargo */
+    public AlteracoesUsuario comRolesDoCargo(Long cargoId) {
+        return new AlteracoesUsuario(ativo, primeiroNome, sobrenome, email, atributos, cargoId, departamentoIdGrupo);
+    }
+
+    /** Reatribui o grupo mapeado para o departamento */
+    public AlteracoesUsuario comGrupoDoDepartamento(Long departamentoId) {
+        return new AlteracoesUsuario(ativo, primeiroNome, sobrenome, email, atributos, cargoIdRoles, departamentoId);
+    }
+
+    public AlteracoesUsuario mesclar(AlteracoesUsuario posterior) {
+        Map<String, String> atributosMesclados = new LinkedHashMap<>(atributos);
+        atributosMesclados.putAll(posterior.atributos);
+        return new AlteracoesUsuario(
+            posterior.ativo != null ? posterior.ativo : ativo,
+            posterior.primeiroNome != null ? posterior.primeiroNome : primeiroNome,
+            posterior.sobrenome != null ? posterior.sobrenome : sobrenome,
+            posterior.email != null ? posterior.email : email,
+            atributosMesclados,
+            posterior.cargoIdRoles != null ? posterior.cargoIdRoles : cargoIdRoles,
+            posterior.departamentoIdGrupo != null ? posterior.departamentoIdGrupo : departamentoIdGrupo
+        );
+    }
+
+    /** Há algo a gravar na representação do usuário (PUT /users/{id}) */
+    public boolean alteraRepresentacao() {
+        return ativo != null || primeiroNome != null || sobrenome != null || email != null || !atributos.isEmpty();
+    }
+}
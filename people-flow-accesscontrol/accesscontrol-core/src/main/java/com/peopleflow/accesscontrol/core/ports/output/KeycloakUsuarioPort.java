@@ -15,6 +15,16 @@ public interface KeycloakUsuarioPort {
     Map<String, Object> findById(String userId);
     
     List<Map<String, Object>> listAll();
+
+    /**
+     * Página de usuários com atributos, a partir da posição {@code first}
+     */
+    List<Map<String, Object>> listPage(int first, int max);
+
+    /**
+     * Verifica se o usuário existe, sem tratar 404 como erro
+     */
+    boolean exists(String userId);
     
     List<Map<String, Object>> findByAttribute(String attributeName, String attributeValue);
     
@@ -35,6 +45,12 @@ public interface KeycloakUsuarioPort {
     void logoutUser(String userId);
     
     void updateUserAttribute(String userId, String attributeName, String attributeValue);
+
+    /**
+     * Grava campos da representação e atributos em um único PUT;
+     * só busca o usuário antes (GET) quando há atributos a mesclar.
+     */
+    void updateUserAndAttributes(String userId, Map<String, Object> userData, Map<String, String> attributes);
     
     void assignClientRoles(String userId, List<String> roleNames);
     
@@ -0,0 +1,65 @@
+package com.peopleflow.accesscontrol.core.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AlteracoesUsuario - Testes Unitários")
+class AlteracoesUsuarioTest {
+
+    @Test
+    @DisplayName("Deve fazer prevalecer os valores da alteração posterior")
+    void deveFazerPrevalecerAlteracaoPosterior() {
+        // Arrange
+        AlteracoesUsuario anterior = AlteracoesUsuario.nenhuma()
+                .comAtivo(false)
+                .comDadosPessoais("Maria", "Silva", "maria@example.com")
+                .comRolesDoCargo(1L);
+        AlteracoesUsuario posterior = AlteracoesUsuario.nenhuma()
+                .comAtivo(true)
+                .comRolesDoCargo(2L);
+
+        // Act
+        AlteracoesUsuario mescladas = anterior.mesclar(posterior);
+
+        // Assert
+        assertThat(mescladas.ativo()).isTrue();
+        assertThat(mescladas.cargoIdRoles()).isEqualTo(2L);
+        assertThat(mescladas.primeiroNome()).isEqualTo("Maria");
+        assertThat(mescladas.sobrenome()).isEqualTo("Silva");
+        assertThat(mescladas.email()).isEqualTo("maria@example.com");
+        assertThat(mescladas.departamentoIdGrupo()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve combinar atributos chave a chave")
+    void deveCombinarAtributos() {
+        // Arrange
+        AlteracoesUsuario anterior = AlteracoesUsuario.nenhuma()
+                .comAtributo("empresaId", "1")
+                .comAtributo("colaboradorId", "100");
+        AlteracoesUsuario posterior = AlteracoesUsuario.nenhuma()
+                .comAtributo("empresaId", "2")
+                .comGrupoDoDepartamento(5L);
+
+        // Act
+        AlteracoesUsuario mescladas = anterior.mesclar(posterior);
+
+        // Assert
+        assertThat(mescladas.atributos()).isEqualTo(Map.of("empresaId", "2", "colaboradorId", "100"));
+        assertThat(mescladas.departamentoIdGrupo()).isEqualTo(5L);
+        assertThat(anterior.atributos()).containsEntry("empresaId", "1");
+    }
+
+    @Test
+    @DisplayName("Deve indicar se há algo a gravar na representação do usuário")
+    void deveIndicarAlteracaoNaRepresentacao() {
+        assertThat(AlteracoesUsuario.nenhuma().alteraRepresentacao()).isFalse();
+        assertThat(AlteracoesUsuario.nenhuma().comRolesDoCargo(1L).alteraRepresentacao()).isFalse();
+        assertThat(AlteracoesUsuario.nenhuma().comAtivo(false).alteraRepresentacao()).isTrue();
+        assertThat(AlteracoesUsuario.nenhuma().comAtributo("empresaId", "1").alteraRepresentacao()).isTrue();
+    }
+}
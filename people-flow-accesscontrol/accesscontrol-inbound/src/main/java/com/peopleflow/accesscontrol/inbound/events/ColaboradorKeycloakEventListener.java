@@ -3,12 +3,13 @@ package com.peopleflow.accesscontrol.inbound.events;
 import com.peopleflow.accesscontrol.core.application.AutoAtribuicaoService;
 import com.peopleflow.accesscontrol.core.application.UsuarioService;
 import com.peopleflow.accesscontrol.core.domain.events.UsuarioKeycloakCriado;
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
 import com.peopleflow.pessoascontratos.core.domain.events.ColaboradorCriado;
+import com.peopleflow.pessoascontratos.core.ports.input.NotificacaoUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
@@ -18,6 +19,9 @@ import java.util.Map;
 /**
  * Listener que integra Colaborador com Keycloak: cria usuário no Keycloak
  * quando um colaborador é criado e marcado como "requer acesso ao sistema".
+ * 
+ * Executado pelo relay do outbox; uma reentrega após falha reaproveita o usuário
+ * já existente (busca por username) em vez de duplicá-lo.
  */
 @Slf4j
 @Component
@@ -26,9 +30,9 @@ public class ColaboradorKeycloakEventListener {
 
     private final UsuarioService usuarioService;
     private final AutoAtribuicaoService autoAtribuicaoService;
+    private final NotificacaoUseCase notificacaoUseCase;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Async
     @EventListener
     public void handleColaboradorCriado(ColaboradorCriado event) {
         log.info("🎧 Recebido evento ColaboradorCriado: ID={}, Nome={}, RequerAcesso={}",
@@ -105,13 +109,10 @@ public class ColaboradorKeycloakEventListener {
                 }
             }
 
-            try {
-                usuarioService.enviarEmailDefinirSenha(userId);
-                log.info("📧 Email de configuração de senha enviado para {}", email);
-            } catch (Exception e) {
-                log.warn("⚠️ Erro ao enviar email de senha para {}: {}",
-                        email, e.getMessage());
-            }
+            // Enviado pelo despachante de notificações (canal keycloak), com retentativa
+            notificacaoUseCase.enfileirar(NovaNotificacao.acaoKeycloak(
+                userId, event.colaboradorId(), NovaNotificacao.ACAO_DEFINIR_SENHA));
+            log.info("📧 Email de configuração de senha enfileirado para {}", email);
 
             eventPublisher.publishEvent(
                 new UsuarioKeycloakCriado(userId, event.colaboradorId(), email)
@@ -122,6 +123,7 @@ public class ColaboradorKeycloakEventListener {
         } catch (Exception e) {
             log.error("❌ Erro ao criar usuário no Keycloak para colaborador ID={}: {}",
                      event.colaboradorId(), e.getMessage(), e);
+            throw e;
         }
     }
 }
@@ -1,25 +1,31 @@
 package com.peopleflow.accesscontrol.inbound.events;
 
-import com.peopleflow.accesscontrol.core.application.AutoAtribuicaoService;
 import com.peopleflow.accesscontrol.core.application.UsuarioService;
+import com.peopleflow.accesscontrol.core.domain.AlteracoesUsuario;
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
 import com.peopleflow.pessoascontratos.core.domain.events.*;
 import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Event Listener que sincroniza mudanças de status do Colaborador com o Keycloak
  * 
  * Mantém consistência entre os domínios: quando um colaborador é inativado,
  * demitido ou excluído, o usuário correspondente no Keycloak também é afetado.
+ * 
+ * Os eventos chegam pelo relay do outbox, fora da thread da requisição e em ordem
+ * por colaborador. Cada handler só traduz o evento em alterações do usuário e as
+ * entrega ao {@link KeycloakSyncDispatcher}, que grava cada usuário pela sua faixa
+ * e retenta falhas; as operações são idempotentes.
+ * A confirmação do dispatcher é devolvida ao relay ({@link ConfirmacaoEntrega}), que só
+ * marca o evento como processado quando o Keycloak aceitar as alterações.
  */
 @Slf4j
 @Component
@@ -27,135 +33,70 @@ import java.util.Map;
 public class ColaboradorSincronizacaoListener {
 
     private final UsuarioService usuarioService;
-    private final AutoAtribuicaoService autoAtribuicaoService;
     private final ColaboradorUseCase colaboradorUseCase;
+    private final KeycloakSyncDispatcher dispatcher;
 
     /**
      * Quando um colaborador é inativado, desativa o usuário no Keycloak
      */
-    @Async
     @EventListener
     public void handleColaboradorInativado(ColaboradorInativado event) {
         log.info("🎧 Recebido evento ColaboradorInativado: ID={}", event.colaboradorId());
-        
-        String userId = buscarUsuarioIdPorColaborador(event.colaboradorId());
-        if (userId != null) {
-            try {
-                usuarioService.desativar(userId);
-                log.info("✅ Usuário {} desativado (colaborador inativado)", userId);
-            } catch (Exception e) {
-                log.error("❌ Erro ao desativar usuário {}: {}", userId, e.getMessage());
-            }
-        } else {
-            log.debug("Colaborador {} não possui usuário vinculado", event.colaboradorId());
-        }
+        enfileirar(event.colaboradorId(), AlteracoesUsuario.nenhuma().comAtivo(false));
     }
 
     /**
      * Quando um colaborador é ativado, reativa o usuário no Keycloak
      */
-    @Async
     @EventListener
     public void handleColaboradorAtivado(ColaboradorAtivado event) {
         log.info("🎧 Recebido evento ColaboradorAtivado: ID={}", event.colaboradorId());
-        
-        String userId = buscarUsuarioIdPorColaborador(event.colaboradorId());
-        if (userId != null) {
-            try {
-                usuarioService.ativar(userId);
-                log.info("✅ Usuário {} reativado (colaborador ativado)", userId);
-            } catch (Exception e) {
-                log.error("❌ Erro ao reativar usuário {}: {}", userId, e.getMessage());
-            }
-        }
+        enfileirar(event.colaboradorId(), AlteracoesUsuario.nenhuma().comAtivo(true));
     }
 
     /**
      * Quando um colaborador é reativado, reativa o usuário no Keycloak
      */
-    @Async
     @EventListener
     public void handleColaboradorReativado(ColaboradorReativado event) {
         log.info("🎧 Recebido evento ColaboradorReativado: ID={}", event.colaboradorId());
-        
-        String userId = buscarUsuarioIdPorColaborador(event.colaboradorId());
-        if (userId != null) {
-            try {
-                usuarioService.ativar(userId);
-                usuarioService.atualizarAtributo(userId, "reativadoEm", 
-                        event.ocorridoEm().toString());
-                log.info("✅ Usuário {} reativado (colaborador reativado)", userId);
-            } catch (Exception e) {
-                log.error("❌ Erro ao reativar usuário {}: {}", userId, e.getMessage());
-            }
-        }
+        enfileirar(event.colaboradorId(), AlteracoesUsuario.nenhuma()
+                .comAtivo(true)
+                .comAtributo("reativadoEm", event.ocorridoEm().toString()));
     }
 
     /**
      * Quando um colaborador é demitido, desativa o usuário e registra a demissão
      */
-    @Async
     @EventListener
     public void handleColaboradorDemitido(ColaboradorDemitido event) {
         log.info("🎧 Recebido evento ColaboradorDemitido: ID={}, Data={}", 
                 event.colaboradorId(), event.dataDemissao());
-        
-        String userId = buscarUsuarioIdPorColaborador(event.colaboradorId());
-        if (userId != null) {
-            try {
-                // Desativar usuário
-                usuarioService.desativar(userId);
-                
-                // Registrar data de demissão nos atributos
-                usuarioService.atualizarAtributo(userId, "dataDemissao", 
-                        event.dataDemissao().toString());
-                usuarioService.atualizarAtributo(userId, "demitidoEm", 
-                        event.ocorridoEm().toString());
-                
-                log.info("✅ Usuário {} desativado (colaborador demitido em {})", 
-                        userId, event.dataDemissao());
-            } catch (Exception e) {
-                log.error("❌ Erro ao processar demissão do usuário {}: {}", 
-                        userId, e.getMessage());
-            }
-        }
+        enfileirar(event.colaboradorId(), AlteracoesUsuario.nenhuma()
+                .comAtivo(false)
+                .comAtributo("dataDemissao", event.dataDemissao().toString())
+                .comAtributo("demitidoEm", event.ocorridoEm().toString()));
     }
 
     /**
      * Quando um colaborador é excluído, desativa o usuário e marca como excluído
      * Não deleta o usuário para manter histórico de auditoria
      */
-    @Async
     @EventListener
     public void handleColaboradorExcluido(ColaboradorExcluido event) {
         log.info("🎧 Recebido evento ColaboradorExcluido: ID={}", event.colaboradorId());
-        
-        String userId = buscarUsuarioIdPorColaborador(event.colaboradorId());
-        if (userId != null) {
-            try {
-                // Desativar (não deletar) para manter histórico
-                usuarioService.desativar(userId);
-                
-                // Marcar como excluído nos atributos
-                usuarioService.atualizarAtributo(userId, "excluido", "true");
-                usuarioService.atualizarAtributo(userId, "excluidoEm", 
-                        event.ocorridoEm().toString());
-                
-                log.info("✅ Usuário {} desativado e marcado como excluído", userId);
-            } catch (Exception e) {
-                log.error("❌ Erro ao processar exclusão do usuário {}: {}", 
-                        userId, e.getMessage());
-            }
-        }
+        enfileirar(event.colaboradorId(), AlteracoesUsuario.nenhuma()
+                .comAtivo(false)
+                .comAtributo("excluido", "true")
+                .comAtributo("excluidoEm", event.ocorridoEm().toString()));
     }
 
     /**
      * Quando um colaborador é atualizado, sincroniza dados no Keycloak
-     * - Atualiza nome e email se alterados
-     * - Re-atribui roles se cargo mudou
-     * - Re-atribui grupo se departamento mudou
+     * - Atualiza nome e email
+     * - Re-atribui roles do cargo
+     * - Re-atribui grupo do departamento
      */
-    @Async
     @EventListener
     public void handleColaboradorAtualizado(ColaboradorAtualizado event) {
         log.info("🎧 Recebido evento ColaboradorAtualizado: ID={}, Campos={}", 
@@ -167,103 +108,86 @@ public class ColaboradorSincronizacaoListener {
             return;
         }
         
-        try {
-            // Buscar colaborador atualizado para obter dados completos
-            Colaborador colaborador = colaboradorUseCase.buscarPorId(event.colaboradorId());
-            
-            // Atualizar nome e email no Keycloak
-            Map<String, Object> updateData = new HashMap<>();
-            if (colaborador.getEmail() != null) {
-                String[] nomes = colaborador.getNome().split(" ", 2);
-                updateData.put("firstName", nomes[0]);
-                updateData.put("lastName", nomes.length > 1 ? nomes[1] : "");
-                updateData.put("email", colaborador.getEmail().getValor());
-            }
-            
-            if (!updateData.isEmpty()) {
-                usuarioService.atualizar(userId, updateData);
-                log.info("✅ Dados do usuário {} atualizados no Keycloak", userId);
-            }
-            
-            // Re-atribuir roles se cargo mudou
-            if (colaborador.getCargoId() != null) {
-                try {
-                    autoAtribuicaoService.atribuirRolesPorCargo(userId, colaborador.getCargoId());
-                    log.info("✅ Roles re-atribuídas para userId={}, cargoId={}", 
-                            userId, colaborador.getCargoId());
-                } catch (Exception e) {
-                    log.warn("⚠️ Erro ao re-atribuir roles: {}", e.getMessage());
-                }
-            }
-            
-            // Re-atribuir grupo se departamento mudou
-            if (colaborador.getDepartamentoId() != null) {
-                try {
-                    autoAtribuicaoService.atribuirGrupoPorDepartamento(userId, colaborador.getDepartamentoId());
-                    log.info("✅ Grupo re-atribuído para userId={}, departamentoId={}", 
-                            userId, colaborador.getDepartamentoId());
-                } catch (Exception e) {
-                    log.warn("⚠️ Erro ao re-atribuir grupo: {}", e.getMessage());
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("❌ Erro ao sincronizar atualização do colaborador {}: {}", 
-                    event.colaboradorId(), e.getMessage(), e);
+        // Buscar colaborador atualizado para obter dados completos
+        Colaborador colaborador = colaboradorUseCase.buscarPorId(event.colaboradorId());
+
+        AlteracoesUsuario alteracoes = AlteracoesUsuario.nenhuma();
+        if (colaborador.getEmail() != null) {
+            String[] nomes = colaborador.getNome().split(" ", 2);
+            alteracoes = alteracoes.comDadosPessoais(
+                    nomes[0], nomes.length > 1 ? nomes[1] : "", colaborador.getEmail().getValor());
+        }
+        if (colaborador.getCargoId() != null) {
+            alteracoes = alteracoes.comRolesDoCargo(colaborador.getCargoId());
         }
+        if (colaborador.getDepartamentoId() != null) {
+            alteracoes = alteracoes.comGrupoDoDepartamento(colaborador.getDepartamentoId());
+        }
+        ConfirmacaoEntrega.aguardar(dispatcher.enfileirar(userId, alteracoes));
     }
 
     /**
-     * Quando um colaborador é transferido, atualiza grupo no Keycloak
+     * Quando um colaborador é transferido, atualiza empresa e grupo no Keycloak
      */
-    @Async
     @EventListener
     public void handleColaboradorTransferido(ColaboradorTransferido event) {
         log.info("🎧 Recebido evento ColaboradorTransferido: ID={}, NovoDept={}", 
                 event.colaboradorId(), event.novoDepartamentoId());
-        
-        String userId = buscarUsuarioIdPorColaborador(event.colaboradorId());
+
+        AlteracoesUsuario alteracoes = AlteracoesUsuario.nenhuma()
+                .comAtributo("empresaId", event.novaEmpresaId().toString());
+        if (event.novoDepartamentoId() != null) {
+            alteracoes = alteracoes.comGrupoDoDepartamento(event.novoDepartamentoId());
+        }
+        enfileirar(event.colaboradorId(), alteracoes);
+    }
+
+    private void enfileirar(Long colaboradorId, AlteracoesUsuario alteracoes) {
+        String userId = buscarUsuarioIdPorColaborador(colaboradorId);
         if (userId == null) {
-            log.debug("Colaborador {} não possui usuário vinculado", event.colaboradorId());
+            log.debug("Colaborador {} não possui usuário vinculado", colaboradorId);
             return;
         }
-        
-        try {
-            // Atualizar atributos de empresa e departamento
-            usuarioService.atualizarAtributo(userId, "empresaId", 
-                    event.novaEmpresaId().toString());
-            
-            // Re-atribuir grupo se departamento mudou
-            if (event.novoDepartamentoId() != null) {
-                autoAtribuicaoService.atribuirGrupoPorDepartamento(userId, event.novoDepartamentoId());
-                log.info("✅ Grupo atualizado para userId={}, novoDepartamentoId={}", 
-                        userId, event.novoDepartamentoId());
-            }
-        } catch (Exception e) {
-            log.error("❌ Erro ao processar transferência do usuário {}: {}", 
-                    userId, e.getMessage());
-        }
+        ConfirmacaoEntrega.aguardar(dispatcher.enfileirar(userId, alteracoes));
     }
 
     /**
-     * Busca o ID do usuário Keycloak associado a um colaborador
+     * Busca o ID do usuário Keycloak associado a um colaborador.
+     *
+     * Usa primeiro o vínculo local (COLABORADOR.KEYCLOAK_USER_ID, preenchido por
+     * vincularAcessoSistema). A busca por atributo no Keycloak é só fallback para
+     * vínculos antigos, e o resultado encontrado é gravado localmente.
+     *
+     * @return null só quando não há usuário vinculado; falhas de banco ou do Keycloak
+     *         propagam para o relay do outbox, que retenta o evento com backoff
      */
     private String buscarUsuarioIdPorColaborador(Long colaboradorId) {
+        Optional<String> vinculoLocal = colaboradorUseCase.buscarKeycloakUserId(colaboradorId);
+        if (vinculoLocal.isPresent()) {
+            return vinculoLocal.get();
+        }
+
+        List<Map<String, Object>> users = usuarioService.buscarPorAtributo(
+            "colaboradorId", 
+            colaboradorId.toString()
+        );
+        
+        if (users.isEmpty()) {
+            return null;
+        }
+        
+        String userId = (String) users.get(0).get("id");
+        vincularLocalmente(colaboradorId, userId);
+        return userId;
+    }
+
+    private void vincularLocalmente(Long colaboradorId, String userId) {
         try {
-            List<Map<String, Object>> users = usuarioService.buscarPorAtributo(
-                "colaboradorId", 
-                colaboradorId.toString()
-            );
-            
-            if (users.isEmpty()) {
-                return null;
-            }
-            
-            return (String) users.get(0).get("id");
+            colaboradorUseCase.vincularAcessoSistema(colaboradorId, userId);
+            log.info("✅ Vínculo colaboradorId={} → userId={} gravado localmente", colaboradorId, userId);
         } catch (Exception e) {
-            log.error("❌ Erro ao buscar usuário por colaboradorId {}: {}", 
+            log.warn("⚠️ Não foi possível gravar vínculo local do colaborador {}: {}",
                     colaboradorId, e.getMessage());
-            return null;
         }
     }
 }
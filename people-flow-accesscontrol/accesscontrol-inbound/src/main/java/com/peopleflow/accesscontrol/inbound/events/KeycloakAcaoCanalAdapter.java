@@ -0,0 +1,61 @@
+package com.peopleflow.accesscontrol.inbound.events;
+
+import com.peopleflow.accesscontrol.core.application.UsuarioService;
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.ports.output.CanalNotificacaoPort;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Canal "keycloak": e-mails de ação do Keycloak (ex.: definir senha), que levam um
+ * link gerado pelo próprio Keycloak e por isso são enviados por ele
+ *
+ * Passar pela fila de notificações dá a esses e-mails o mesmo limite de taxa,
+ * retentativa com backoff e registro de envio dos demais canais.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeycloakAcaoCanalAdapter implements CanalNotificacaoPort {
+
+    private final UsuarioService usuarioService;
+
+    @Override
+    public CanalNotificacao canal() {
+        return CanalNotificacao.KEYCLOAK;
+    }
+
+    @Override
+    public List<ResultadoEnvio> enviar(List<NotificacaoRenderizada> notificacoes) {
+        List<ResultadoEnvio> resultados = new ArrayList<>(notificacoes.size());
+        for (NotificacaoRenderizada notificacao : notificacoes) {
+            resultados.add(executar(notificacao));
+        }
+        return resultados;
+    }
+
+    private ResultadoEnvio executar(NotificacaoRenderizada notificacao) {
+        Object acao = notificacao.contexto().get("acao");
+        if (notificacao.usuarioId() == null) {
+            return ResultadoEnvio.falhaDefinitiva(notificacao.id(), "Notificação sem usuário do Keycloak");
+        }
+        if (!NovaNotificacao.ACAO_DEFINIR_SENHA.equals(acao)) {
+            return ResultadoEnvio.falhaDefinitiva(notificacao.id(), "Ação do Keycloak desconhecida: " + acao);
+        }
+        try {
+            usuarioService.enviarEmailDefinirSenha(notificacao.usuarioId());
+            log.info("📧 Email de configuração de senha enviado para usuário {}", notificacao.usuarioId());
+            return ResultadoEnvio.sucesso(notificacao.id());
+        } catch (Exception e) {
+            log.warn("⚠️ Erro ao enviar email de senha para usuário {}: {}", notificacao.usuarioId(), e.getMessage());
+            return ResultadoEnvio.falhaTemporaria(notificacao.id(), e.getMessage());
+        }
+    }
+}
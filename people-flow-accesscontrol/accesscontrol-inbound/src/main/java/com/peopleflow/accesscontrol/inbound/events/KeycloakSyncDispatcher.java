@@ -0,0 +1,192 @@
+package com.peopleflow.accesscontrol.inbound.events;
+
+import com.peopleflow.accesscontrol.core.application.AutoAtribuicaoService;
+import com.peopleflow.accesscontrol.core.application.UsuarioService;
+import com.peopleflow.accesscontrol.core.domain.AlteracoesUsuario;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Despachante de alterações de usuários Keycloak
+ *
+ * As alterações são despachadas assim que enfileiradas e aplicadas com um único PUT
+ * na representação (mais o GET quando há atributos), seguido da reatribuição de
+ * roles/grupo se pedida. Alterações que chegam enquanto o usuário ainda aguarda a vez
+ * na faixa ou uma nova tentativa são mescladas nas pendentes.
+ *
+ * Cada usuário é sempre despachado pela mesma faixa (thread única), então as
+ * gravações de um usuário nunca se sobrepõem nem chegam fora de ordem. Falhas são
+ * retentadas com backoff, mescladas por baixo das alterações mais novas.
+ *
+ * {@link #enfileirar} devolve um future concluído quando o Keycloak aceita as alterações
+ * (ou que falha quando as tentativas acabam): o relay do outbox só marca o evento como
+ * processado depois disso, então nada se perde num crash ou após esgotar as tentativas.
+ */
+@Component
+public class KeycloakSyncDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(KeycloakSyncDispatcher.class);
+
+    private static final Duration BACKOFF_INICIAL = Duration.ofSeconds(2);
+
+    private final UsuarioService usuarioService;
+    private final AutoAtribuicaoService autoAtribuicaoService;
+    private final ConcurrentMap<String, Pendente> pendentes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService[] faixas;
+    private final int tentativasMaximas;
+
+    public KeycloakSyncDispatcher(
+            UsuarioService usuarioService,
+            AutoAtribuicaoService autoAtribuicaoService,
+            @Value("${keycloak.sincronizacao.paralelismo:4}") int paralelismo,
+            @Value("${keycloak.sincronizacao.tentativas:5}") int tentativasMaximas) {
+        this.usuarioService = usuarioService;
+        this.autoAtribuicaoService = autoAtribuicaoService;
+        this.tentativasMaximas = tentativasMaximas;
+        this.faixas = new ScheduledExecutorService[paralelismo];
+        for (int i = 0; i < paralelismo; i++) {
+            faixas[i] = Executors.newSingleThreadScheduledExecutor(
+                    new CustomizableThreadFactory("keycloak-sync-" + i + "-"));
+        }
+    }
+
+    /**
+     * Agenda as alterações do usuário; se já houver alterações pendentes, mescla com elas
+     *
+     * @return future concluído quando as alterações forem aplicadas no Keycloak
+     */
+    public CompletableFuture<Void> enfileirar(String userId, AlteracoesUsuario alteracoes) {
+        CompletableFuture<Void> confirmacao = new CompletableFuture<>();
+        if (registrar(userId, new Pendente(alteracoes, List.of(confirmacao)), true)) {
+            agendar(userId, 1, Duration.ZERO);
+        }
+        return confirmacao;
+    }
+
+    /** Quantidade de usuários com alterações aguardando despacho */
+    public int pendentes() {
+        return pendentes.size();
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        // Tarefas já agendadas ainda rodam após o shutdown (política padrão do executor)
+        for (ScheduledExecutorService faixa : faixas) {
+            faixa.shutdown();
+        }
+        for (ScheduledExecutorService faixa : faixas) {
+            if (!faixa.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("⚠️ Keycloak sync: encerrado com {} usuários pendentes", pendentes.size());
+            }
+        }
+        // O que não foi aplicado volta para a origem (o outbox reentrega na próxima subida)
+        new ArrayList<>(pendentes.keySet()).forEach(userId -> {
+            Pendente pendente = pendentes.remove(userId);
+            if (pendente != null) {
+                pendente.falhar(new IllegalStateException("Keycloak sync encerrado antes de aplicar as alterações"));
+            }
+        });
+    }
+
+    private void despachar(String userId, int tentativa) {
+        Pendente pendente = pendentes.remove(userId);
+        if (pendente == null) {
+            return;
+        }
+        try {
+            aplicar(userId, pendente.alteracoes());
+            pendente.confirmar();
+        } catch (Exception e) {
+            if (tentativa >= tentativasMaximas) {
+                log.error("❌ Keycloak sync: alterações do usuário {} não aplicadas após {} tentativas: {}",
+                        userId, tentativa, e.getMessage());
+                pendente.falhar(e);
+                return;
+            }
+            Duration atraso = BACKOFF_INICIAL.multipliedBy(1L << (tentativa - 1));
+            log.warn("⚠️ Keycloak sync: falha ao atualizar usuário {} (tentativa {}), nova tentativa em {}: {}",
+                    userId, tentativa, atraso, e.getMessage());
+            if (registrar(userId, pendente, false)) {
+                agendar(userId, tentativa + 1, atraso);
+            }
+        }
+    }
+
+    private void agendar(String userId, int tentativa, Duration atraso) {
+        try {
+            faixaDe(userId).schedule(() -> despachar(userId, tentativa), atraso.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            Pendente pendente = pendentes.remove(userId);
+            if (pendente != null) {
+                pendente.falhar(e);
+            }
+        }
+    }
+
+    private void aplicar(String userId, AlteracoesUsuario alteracoes) {
+        usuarioService.aplicarAlteracoes(userId, alteracoes);
+        if (alteracoes.cargoIdRoles() != null) {
+            autoAtribuicaoService.atribuirRolesPorCargo(userId, alteracoes.cargoIdRoles());
+        }
+        if (alteracoes.departamentoIdGrupo() != null) {
+            autoAtribuicaoService.atribuirGrupoPorDepartamento(userId, alteracoes.departamentoIdGrupo());
+        }
+        log.info("✅ Keycloak sync: usuário {} sincronizado", userId);
+    }
+
+    /**
+     * Registra as alterações; {@code posteriores} indica se elas são mais novas que as já pendentes
+     *
+     * @return true se não havia nada pendente (é preciso agendar um despacho)
+     */
+    private boolean registrar(String userId, Pendente pendente, boolean posteriores) {
+        boolean[] novo = {false};
+        pendentes.compute(userId, (id, atual) -> {
+            if (atual == null) {
+                novo[0] = true;
+                return pendente;
+            }
+            return posteriores ? atual.mesclar(pendente) : pendente.mesclar(atual);
+        });
+        return novo[0];
+    }
+
+    private ScheduledExecutorService faixaDe(String userId) {
+        return faixas[Math.floorMod(userId.hashCode(), faixas.length)];
+    }
+
+    /**
+     * Alterações pendentes de um usuário e as confirmações de quem as enfileirou
+     */
+    private record Pendente(AlteracoesUsuario alteracoes, List<CompletableFuture<Void>> confirmacoes) {
+
+        Pendente mesclar(Pendente posterior) {
+            List<CompletableFuture<Void>> todas = new ArrayList<>(confirmacoes);
+            todas.addAll(posterior.confirmacoes());
+            return new Pendente(alteracoes.mesclar(posterior.alteracoes()), todas);
+        }
+
+        void confirmar() {
+            confirmacoes.forEach(confirmacao -> confirmacao.complete(null));
+        }
+
+        void falhar(Throwable erro) {
+            confirmacoes.forEach(confirmacao -> confirmacao.completeExceptionally(erro));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.peopleflow.accesscontrol.inbound.reconciliacao;
+
+/**
+ * Divergência encontrada pela reconciliação
+ */
+public record Divergencia(
+    TipoDivergencia tipo,
+    String keycloakUserId,
+    Long colaboradorId,
+    String detalhe
+) {
+}
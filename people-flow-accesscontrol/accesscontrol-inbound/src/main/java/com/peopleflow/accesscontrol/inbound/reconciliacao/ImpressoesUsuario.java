@@ -0,0 +1,54 @@
+package com.peopleflow.accesscontrol.inbound.reconciliacao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Conjunto compacto dos IDs de usuário vistos no realm (8 bytes por usuário)
+ *
+ * Guarda uma impressão de 64 bits de cada ID em um array ordenado em vez das strings:
+ * 100 mil usuários ocupam menos de 1 MB. Uma colisão só faria um vínculo órfão
+ * passar despercebido nesta execução, com probabilidade desprezível.
+ */
+final class ImpressoesUsuario {
+
+    private long[] valores = new long[1024];
+    private int tamanho;
+    private boolean ordenado = true;
+
+    void adicionar(String userId) {
+        if (tamanho == valores.length) {
+            valores = Arrays.copyOf(valores, tamanho * 2);
+        }
+        valores[tamanho++] = impressao(userId);
+        ordenado = false;
+    }
+
+    boolean contem(String userId) {
+        if (!ordenado) {
+            Arrays.sort(valores, 0, tamanho);
+            ordenado = true;
+        }
+        return Arrays.binarySearch(valores, 0, tamanho, impressao(userId)) >= 0;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    private static long impressao(String userId) {
+        try {
+            UUID uuid = UUID.fromString(userId);
+            return uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
+        } catch (IllegalArgumentException e) {
+            // IDs fora do formato UUID: FNV-1a de 64 bits
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : userId.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
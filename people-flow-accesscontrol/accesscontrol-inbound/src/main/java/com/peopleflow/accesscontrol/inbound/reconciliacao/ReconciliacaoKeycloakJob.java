@@ -0,0 +1,393 @@
+package com.peopleflow.accesscontrol.inbound.reconciliacao;
+
+import com.peopleflow.accesscontrol.core.application.UsuarioService;
+import com.peopleflow.accesscontrol.core.domain.AlteracoesUsuario;
+import com.peopleflow.accesscontrol.inbound.events.KeycloakSyncDispatcher;
+import com.peopleflow.common.util.LimitadorTaxa;
+import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase;
+import com.peopleflow.pessoascontratos.core.query.VinculoAcesso;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Reconciliação entre os usuários do realm e COLABORADOR (KEYCLOAK_USER_ID / STATUS)
+ *
+ * Duas passadas, com memória limitada:
+ * 1. Percorre o realm em páginas ({@code first}/{@code max}); cada página é comparada
+ *    com os colaboradores correspondentes em uma única consulta.
+ * 2. Percorre os colaboradores vinculados por keyset; IDs que não apareceram no realm
+ *    são confirmados um a um (a paginação por posição pode pular usuários criados
+ *    durante a leitura).
+ *
+ * Correções vão para um pool de workers com taxa máxima de chamadas ao Keycloak.
+ * Mudanças no usuário passam pelo {@link KeycloakSyncDispatcher}, a mesma fila da
+ * sincronização por eventos, para não sobrepor gravações do mesmo usuário.
+ * Em simulação nada é alterado: só o relatório é produzido.
+ */
+@Component
+public class ReconciliacaoKeycloakJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliacaoKeycloakJob.class);
+
+    private static final String ATRIBUTO_COLABORADOR = "colaboradorId";
+
+    private final UsuarioService usuarioService;
+    private final ColaboradorUseCase colaboradorUseCase;
+    private final KeycloakSyncDispatcher dispatcher;
+    private final int tamanhoPagina;
+    private final int paralelismo;
+    private final int chamadasPorSegundo;
+    private final boolean corrigirAgendada;
+
+    private final AtomicBoolean emAndamento = new AtomicBoolean();
+    private final ExecutorService execucoes =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("keycloak-reconciliacao-job-"));
+    private volatile RelatorioReconciliacao ultimo;
+
+    private final Counter usuariosLidos;
+    private final Counter colaboradoresLidos;
+    private final Map<TipoDivergencia, Counter> divergencias = new EnumMap<>(TipoDivergencia.class);
+    private final Counter correcoesAplicadas;
+    private final Counter correcoesComFalha;
+
+    public ReconciliacaoKeycloakJob(
+            UsuarioService usuarioService,
+            ColaboradorUseCase colaboradorUseCase,
+            KeycloakSyncDispatcher dispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${keycloak.reconciliacao.tamanho-pagina:500}") int tamanhoPagina,
+            @Value("${keycloak.reconciliacao.paralelismo:4}") int paralelismo,
+            @Value("${keycloak.reconciliacao.chamadas-por-segundo:50}") int chamadasPorSegundo,
+            @Value("${keycloak.reconciliacao.corrigir:true}") boolean corrigirAgendada) {
+        this.usuarioService = usuarioService;
+        this.colaboradorUseCase = colaboradorUseCase;
+        this.dispatcher = dispatcher;
+        this.tamanhoPagina = tamanhoPagina;
+        this.paralelismo = paralelismo;
+        this.chamadasPorSegundo = chamadasPorSegundo;
+        this.corrigirAgendada = corrigirAgendada;
+
+        this.usuariosLidos = meterRegistry.counter("peopleflow.reconciliacao.lidos", "origem", "keycloak");
+        this.colaboradoresLidos = meterRegistry.counter("peopleflow.reconciliacao.lidos", "origem", "colaborador");
+        for (TipoDivergencia tipo : TipoDivergencia.values()) {
+            divergencias.put(tipo, meterRegistry.counter("peopleflow.reconciliacao.divergencias", "tipo", tipo.name()));
+        }
+        this.correcoesAplicadas = meterRegistry.counter("peopleflow.reconciliacao.correcoes", "resultado", "aplicada");
+        this.correcoesComFalha = meterRegistry.counter("peopleflow.reconciliacao.correcoes", "resultado", "falha");
+        Gauge.builder("peopleflow.reconciliacao.em-andamento", emAndamento, andamento -> andamento.get() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${keycloak.reconciliacao.cron:0 0 4 * * *}")
+    public void executarAgendada() {
+        Optional<RelatorioReconciliacao> reservado = reservar(!corrigirAgendada);
+        if (reservado.isEmpty()) {
+            log.warn("⚠️ Reconciliação Keycloak: execução agendada ignorada, já existe uma em andamento");
+            return;
+        }
+        executarReservada(reservado.get());
+    }
+
+    /**
+     * Inicia uma execução em segundo plano
+     *
+     * @return relatório (preenchido à medida que a execução avança), ou vazio
+     *         se já houver uma execução em andamento
+     */
+    public Optional<RelatorioReconciliacao> iniciar(boolean simulacao) {
+        Optional<RelatorioReconciliacao> reservado = reservar(simulacao);
+        reservado.ifPresent(relatorio -> execucoes.execute(() -> executarReservada(relatorio)));
+        return reservado;
+    }
+
+    public Optional<RelatorioReconciliacao> ultimo() {
+        return Optional.ofNullable(ultimo);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        execucoes.shutdownNow();
+    }
+
+    private Optional<RelatorioReconciliacao> reservar(boolean simulacao) {
+        if (!emAndamento.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        RelatorioReconciliacao relatorio = new RelatorioReconciliacao(simulacao);
+        ultimo = relatorio;
+        return Optional.of(relatorio);
+    }
+
+    private void executarReservada(RelatorioReconciliacao relatorio) {
+        try {
+            executar(relatorio);
+        } finally {
+            emAndamento.set(false);
+        }
+    }
+
+    private void executar(RelatorioReconciliacao relatorio) {
+        log.info("🔄 Reconciliação Keycloak iniciada (simulação={})", relatorio.isSimulacao());
+        Workers workers = new Workers(paralelismo, chamadasPorSegundo);
+        try {
+            ImpressoesUsuario vistos = percorrerRealm(relatorio, workers);
+            percorrerColaboradores(relatorio, workers, vistos);
+            workers.aguardar();
+            relatorio.concluir();
+            log.info("✅ Reconciliação Keycloak concluída: usuários={}, colaboradores={}, divergências={}, " +
+                            "correções={}, falhas={}",
+                    relatorio.getUsuariosLidos(), relatorio.getColaboradoresLidos(), relatorio.getDivergencias(),
+                    relatorio.getCorrecoesAplicadas(), relatorio.getCorrecoesComFalha());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            relatorio.falhar("Interrompida");
+            log.warn("⚠️ Reconciliação Keycloak interrompida");
+        } catch (Exception e) {
+            relatorio.falhar(e.getMessage());
+            log.error("❌ Reconciliação Keycloak falhou: {}", e.getMessage(), e);
+        } finally {
+            workers.encerrar();
+        }
+    }
+
+    private ImpressoesUsuario percorrerRealm(RelatorioReconciliacao relatorio, Workers workers)
+            throws InterruptedException {
+        ImpressoesUsuario vistos = new ImpressoesUsuario();
+        int first = 0;
+        while (true) {
+            List<Map<String, Object>> pagina = usuarioService.listarPagina(first, tamanhoPagina);
+            if (pagina.isEmpty()) {
+                break;
+            }
+            compararPagina(pagina, relatorio, workers, vistos);
+            relatorio.usuariosLidos(pagina.size());
+            usuariosLidos.increment(pagina.size());
+            first += pagina.size();
+            log.debug("Reconciliação Keycloak: {} usuários lidos", first);
+            if (pagina.size() < tamanhoPagina) {
+                break;
+            }
+        }
+        return vistos;
+    }
+
+    private void compararPagina(List<Map<String, Object>> pagina, RelatorioReconciliacao relatorio,
+                                Workers workers, ImpressoesUsuario vistos) throws InterruptedException {
+        List<String> userIds = new ArrayList<>(pagina.size());
+        Set<Long> colaboradorIds = new HashSet<>();
+        for (Map<String, Object> usuario : pagina) {
+            userIds.add((String) usuario.get("id"));
+            Long colaboradorId = colaboradorIdDoAtributo(usuario);
+            if (colaboradorId != null) {
+                colaboradorIds.add(colaboradorId);
+            }
+        }
+
+        Map<String, VinculoAcesso> porUsuario = new HashMap<>();
+        Map<Long, VinculoAcesso> porColaborador = new HashMap<>();
+        for (VinculoAcesso vinculo : colaboradorUseCase.buscarVinculosAcesso(userIds, colaboradorIds)) {
+            if (vinculo.keycloakUserId() != null) {
+                porUsuario.put(vinculo.keycloakUserId(), vinculo);
+            }
+            porColaborador.put(vinculo.colaboradorId(), vinculo);
+        }
+
+        for (Map<String, Object> usuario : pagina) {
+            String userId = (String) usuario.get("id");
+            boolean habilitado = Boolean.TRUE.equals(usuario.get("enabled"));
+            vistos.adicionar(userId);
+
+            VinculoAcesso vinculo = porUsuario.get(userId);
+            Long colaboradorId = colaboradorIdDoAtributo(usuario);
+            if (vinculo == null && colaboradorId != null) {
+                VinculoAcesso colaborador = porColaborador.get(colaboradorId);
+                if (colaborador == null || "excluido".equalsIgnoreCase(colaborador.status())) {
+                    if (habilitado) {
+                        divergir(relatorio, workers, TipoDivergencia.COLABORADOR_INEXISTENTE, userId, colaboradorId,
+                                "Usuário habilitado sem colaborador ativo",
+                                () -> definirHabilitado(userId, false));
+                    }
+                    continue;
+                }
+                if (colaborador.keycloakUserId() != null) {
+                    divergir(relatorio, workers, TipoDivergencia.VINCULO_CONFLITANTE, userId, colaboradorId,
+                            "Colaborador vinculado ao usuário " + colaborador.keycloakUserId(), null);
+                    continue;
+                }
+                divergir(relatorio, workers, TipoDivergencia.VINCULO_AUSENTE, userId, colaboradorId,
+                        "Colaborador sem KEYCLOAK_USER_ID",
+                        () -> colaboradorUseCase.vincularAcessoSistema(colaboradorId, userId));
+                vinculo = colaborador;
+            }
+            if (vinculo == null) {
+                // Usuário sem colaborador (ex.: administradores): fora do escopo
+                continue;
+            }
+
+            boolean esperado = vinculo.deveTerAcesso();
+            if (esperado != habilitado) {
+                divergir(relatorio, workers, TipoDivergencia.STATUS_DIVERGENTE, userId, vinculo.colaboradorId(),
+                        "Usuário " + (habilitado ? "habilitado" : "desabilitado") + ", colaborador " + vinculo.status(),
+                        () -> definirHabilitado(userId, esperado));
+            }
+        }
+    }
+
+    private void percorrerColaboradores(RelatorioReconciliacao relatorio, Workers workers, ImpressoesUsuario vistos)
+            throws InterruptedException {
+        Long aposId = 0L;
+        while (true) {
+            List<VinculoAcesso> pagina = colaboradorUseCase.listarVinculosAcesso(aposId, tamanhoPagina);
+            if (pagina.isEmpty()) {
+                break;
+            }
+            for (VinculoAcesso vinculo : pagina) {
+                if (!vistos.contem(vinculo.keycloakUserId())) {
+                    // Só um candidato: confirma no Keycloak antes de reportar
+                    workers.submeter(() -> {
+                        if (!usuarioService.existe(vinculo.keycloakUserId())) {
+                            registrar(relatorio, new Divergencia(TipoDivergencia.USUARIO_INEXISTENTE,
+                                    vinculo.keycloakUserId(), vinculo.colaboradorId(), "Usuário não existe no realm"));
+                        }
+                    }, () -> {
+                    }, erro -> log.warn("⚠️ Reconciliação Keycloak: não foi possível verificar o usuário {}: {}",
+                            vinculo.keycloakUserId(), erro.getMessage()));
+                }
+            }
+            relatorio.colaboradoresLidos(pagina.size());
+            colaboradoresLidos.increment(pagina.size());
+            aposId = pagina.get(pagina.size() - 1).colaboradorId();
+            if (pagina.size() < tamanhoPagina) {
+                break;
+            }
+        }
+    }
+
+    private void divergir(RelatorioReconciliacao relatorio, Workers workers, TipoDivergencia tipo,
+                          String userId, Long colaboradorId, String detalhe, Runnable correcao)
+            throws InterruptedException {
+        Divergencia divergencia = new Divergencia(tipo, userId, colaboradorId, detalhe);
+        registrar(relatorio, divergencia);
+        if (relatorio.isSimulacao() || correcao == null) {
+            return;
+        }
+        workers.submeter(correcao,
+                () -> {
+                    relatorio.correcaoAplicada();
+                    correcoesAplicadas.increment();
+                },
+                erro -> {
+                    relatorio.correcaoComFalha();
+                    correcoesComFalha.increment();
+                    log.warn("⚠️ Reconciliação Keycloak: falha ao corrigir {}: {}", divergencia, erro.getMessage());
+                });
+    }
+
+    private void registrar(RelatorioReconciliacao relatorio, Divergencia divergencia) {
+        relatorio.registrar(divergencia);
+        divergencias.get(divergencia.tipo()).increment();
+        log.debug("Reconciliação Keycloak: {}", divergencia);
+    }
+
+    private void definirHabilitado(String userId, boolean habilitado) {
+        // Aguarda a aplicação para o relatório contar a correção como aplicada ou com falha.
+        // O dispatcher despacha na hora (sem janela), então a vazão segue chamadas-por-segundo
+        try {
+            dispatcher.enfileirar(userId, AlteracoesUsuario.nenhuma().comAtivo(habilitado)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException causa ? causa : e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long colaboradorIdDoAtributo(Map<String, Object> usuario) {
+        Object atributos = usuario.get("attributes");
+        if (!(atributos instanceof Map<?, ?> mapa)) {
+            return null;
+        }
+        Object valores = ((Map<String, Object>) mapa).get(ATRIBUTO_COLABORADOR);
+        if (!(valores instanceof List<?> lista) || lista.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(String.valueOf(lista.get(0)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Pool de workers com fila limitada (backpressure sobre a leitura) e taxa máxima de chamadas
+     */
+    private static final class Workers {
+
+        private final ExecutorService executor;
+        private final Semaphore vagas;
+        private final LimitadorTaxa limitador;
+
+        Workers(int paralelismo, int chamadasPorSegundo) {
+            this.executor = Executors.newFixedThreadPool(paralelismo,
+                    new CustomizableThreadFactory("keycloak-reconciliacao-"));
+            this.vagas = new Semaphore(paralelismo * 4);
+            this.limitador = new LimitadorTaxa(Math.max(1, chamadasPorSegundo));
+        }
+
+        void submeter(Runnable tarefa, Runnable sucesso, Consumer<Exception> falha)
+                throws InterruptedException {
+            vagas.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        limitador.adquirir();
+                        tarefa.run();
+                        sucesso.run();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        falha.accept(e);
+                    } finally {
+                        vagas.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                vagas.release();
+                throw e;
+            }
+        }
+
+        void aguardar() throws InterruptedException {
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.info("Reconciliação Keycloak: aguardando correções pendentes");
+            }
+        }
+
+        void encerrar() {
+            executor.shutdownNow();
+        }
+    }
+}
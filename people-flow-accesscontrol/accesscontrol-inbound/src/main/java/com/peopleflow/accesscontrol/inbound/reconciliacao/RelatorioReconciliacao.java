@@ -0,0 +1,126 @@
+package com.peopleflow.accesscontrol.inbound.reconciliacao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progresso e resultado de uma execução da reconciliação
+ *
+ * Atualizado pelos workers enquanto a execução anda; os getters devolvem
+ * um retrato do momento da leitura. Guarda no máximo {@link #LIMITE_AMOSTRAS}
+ * divergências, além das contagens por tipo.
+ */
+public class RelatorioReconciliacao {
+
+    static final int LIMITE_AMOSTRAS = 500;
+
+    public enum Situacao { EM_ANDAMENTO, CONCLUIDA, FALHOU }
+
+    private final boolean simulacao;
+    private final LocalDateTime iniciadaEm = LocalDateTime.now();
+    private volatile LocalDateTime finalizadaEm;
+    private volatile Situacao situacao = Situacao.EM_ANDAMENTO;
+    private volatile String erro;
+
+    private final AtomicLong usuariosLidos = new AtomicLong();
+    private final AtomicLong colaboradoresLidos = new AtomicLong();
+    private final AtomicLong correcoesAplicadas = new AtomicLong();
+    private final AtomicLong correcoesComFalha = new AtomicLong();
+    private final Map<TipoDivergencia, AtomicLong> divergencias = new EnumMap<>(TipoDivergencia.class);
+    private final List<Divergencia> amostras = new ArrayList<>();
+
+    RelatorioReconciliacao(boolean simulacao) {
+        this.simulacao = simulacao;
+        for (TipoDivergencia tipo : TipoDivergencia.values()) {
+            divergencias.put(tipo, new AtomicLong());
+        }
+    }
+
+    void usuariosLidos(int quantidade) {
+        usuariosLidos.addAndGet(quantidade);
+    }
+
+    void colaboradoresLidos(int quantidade) {
+        colaboradoresLidos.addAndGet(quantidade);
+    }
+
+    void registrar(Divergencia divergencia) {
+        divergencias.get(divergencia.tipo()).incrementAndGet();
+        synchronized (amostras) {
+            if (amostras.size() < LIMITE_AMOSTRAS) {
+                amostras.add(divergencia);
+            }
+        }
+    }
+
+    void correcaoAplicada() {
+        correcoesAplicadas.incrementAndGet();
+    }
+
+    void correcaoComFalha() {
+        correcoesComFalha.incrementAndGet();
+    }
+
+    void concluir() {
+        finalizadaEm = LocalDateTime.now();
+        situacao = Situacao.CONCLUIDA;
+    }
+
+    void falhar(String mensagem) {
+        finalizadaEm = LocalDateTime.now();
+        erro = mensagem;
+        situacao = Situacao.FALHOU;
+    }
+
+    public boolean isSimulacao() {
+        return simulacao;
+    }
+
+    public LocalDateTime getIniciadaEm() {
+        return iniciadaEm;
+    }
+
+    public LocalDateTime getFinalizadaEm() {
+        return finalizadaEm;
+    }
+
+    public Situacao getSituacao() {
+        return situacao;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public long getUsuariosLidos() {
+        return usuariosLidos.get();
+    }
+
+    public long getColaboradoresLidos() {
+        return colaboradoresLidos.get();
+    }
+
+    public long getCorrecoesAplicadas() {
+        return correcoesAplicadas.get();
+    }
+
+    public long getCorrecoesComFalha() {
+        return correcoesComFalha.get();
+    }
+
+    public Map<TipoDivergencia, Long> getDivergencias() {
+        Map<TipoDivergencia, Long> contagens = new EnumMap<>(TipoDivergencia.class);
+        divergencias.forEach((tipo, total) -> contagens.put(tipo, total.get()));
+        return contagens;
+    }
+
+    public List<Divergencia> getAmostras() {
+        synchronized (amostras) {
+            return List.copyOf(amostras);
+        }
+    }
+}
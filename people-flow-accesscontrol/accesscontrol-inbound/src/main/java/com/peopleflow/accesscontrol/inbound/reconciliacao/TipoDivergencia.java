@@ -0,0 +1,33 @@
+package com.peopleflow.accesscontrol.inbound.reconciliacao;
+
+/**
+ * Tipos de divergência entre o realm e COLABORADOR
+ */
+public enum TipoDivergencia {
+
+    /** Usuário habilitado/desabilitado em desacordo com o status do colaborador */
+    STATUS_DIVERGENTE(true),
+
+    /** Usuário tem atributo colaboradorId, mas o colaborador não tem KEYCLOAK_USER_ID */
+    VINCULO_AUSENTE(true),
+
+    /** Atributo colaboradorId aponta para colaborador vinculado a outro usuário */
+    VINCULO_CONFLITANTE(false),
+
+    /** Usuário habilitado cujo colaborador não existe ou foi excluído */
+    COLABORADOR_INEXISTENTE(true),
+
+    /** COLABORADOR.KEYCLOAK_USER_ID aponta para usuário que não existe no realm */
+    USUARIO_INEXISTENTE(false);
+
+    private final boolean corrigivel;
+
+    TipoDivergencia(boolean corrigivel) {
+        this.corrigivel = corrigivel;
+    }
+
+    /** Se a reconciliação corrige automaticamente; os demais só entram no relatório */
+    public boolean isCorrigivel() {
+        return corrigivel;
+    }
+}
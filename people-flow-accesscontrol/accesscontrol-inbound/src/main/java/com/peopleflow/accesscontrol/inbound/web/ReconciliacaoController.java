@@ -0,0 +1,43 @@
+package com.peopleflow.accesscontrol.inbound.web;
+
+import com.peopleflow.accesscontrol.inbound.reconciliacao.ReconciliacaoKeycloakJob;
+import com.peopleflow.accesscontrol.inbound.reconciliacao.RelatorioReconciliacao;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/usuarios/reconciliacao")
+@RequiredArgsConstructor
+@Tag(name = "Usuários Keycloak", description = "Gerenciamento de usuários do Keycloak")
+public class ReconciliacaoController {
+
+    private final ReconciliacaoKeycloakJob reconciliacao;
+
+    @PostMapping
+    @PreAuthorize("hasRole('admin')")
+    @Operation(summary = "Iniciar reconciliação",
+               description = "Compara usuários do realm com os colaboradores em segundo plano; " +
+                             "com simular=true (padrão) só gera o relatório, sem corrigir")
+    public ResponseEntity<RelatorioReconciliacao> iniciar(
+            @RequestParam(defaultValue = "true") boolean simular) {
+
+        return reconciliacao.iniciar(simular)
+                .map(relatorio -> ResponseEntity.status(HttpStatus.ACCEPTED).body(relatorio))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping
+    @PreAuthorize("hasRole('admin')")
+    @Operation(summary = "Relatório da reconciliação",
+               description = "Progresso da execução em andamento ou resultado da última")
+    public ResponseEntity<RelatorioReconciliacao> ultimo() {
+        return reconciliacao.ultimo()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
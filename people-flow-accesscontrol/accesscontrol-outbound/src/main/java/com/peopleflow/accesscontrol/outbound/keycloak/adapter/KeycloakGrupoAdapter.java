@@ -2,10 +2,10 @@ package com.peopleflow.accesscontrol.outbound.keycloak.adapter;
 
 import com.peopleflow.accesscontrol.core.ports.output.KeycloakGrupoPort;
 import com.peopleflow.accesscontrol.outbound.keycloak.client.KeycloakAdminFeignClient;
+import com.peopleflow.accesscontrol.outbound.keycloak.token.KeycloakAdminTokenManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -17,33 +17,16 @@ import java.util.Map;
 public class KeycloakGrupoAdapter implements KeycloakGrupoPort {
 
     private final KeycloakAdminFeignClient keycloakClient;
+    private final KeycloakAdminTokenManager tokenManager;
     
     @Value("${keycloak.realm}")
     private String realm;
-    
-    @Value("${keycloak.admin.username:admin}")
-    private String adminUsername;
-    
-    @Value("${keycloak.admin.password:admin}")
-    private String adminPassword;
-
-    @Cacheable(value = "keycloak-admin-token", unless = "#result == null")
-    protected String getAdminToken() {
-        Map<String, ?> form = Map.of(
-            "client_id", "admin-cli",
-            "username", adminUsername,
-            "password", adminPassword,
-            "grant_type", "password"
-        );
-        Map<String, Object> tokenResponse = keycloakClient.getAdminToken(form);
-        return "Bearer " + tokenResponse.get("access_token");
-    }
 
     @Override
     public String createGroup(String name) {
         log.info("Criando grupo no Keycloak: {}", name);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         Map<String, Object> group = Map.of("name", name);
         
         keycloakClient.createGroup(realm, token, group);
@@ -65,7 +48,7 @@ public class KeycloakGrupoAdapter implements KeycloakGrupoPort {
     public List<Map<String, Object>> listAll() {
         log.debug("Listando todos os grupos");
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         return keycloakClient.listGroups(realm, token);
     }
 
@@ -73,7 +56,7 @@ public class KeycloakGrupoAdapter implements KeycloakGrupoPort {
     public Map<String, Object> findById(String groupId) {
         log.debug("Buscando grupo por ID: {}", groupId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         return keycloakClient.getGroup(realm, groupId, token);
     }
 
@@ -81,7 +64,7 @@ public class KeycloakGrupoAdapter implements KeycloakGrupoPort {
     public List<Map<String, Object>> findByName(String name) {
         log.debug("Buscando grupos por nome: {}", name);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         List<Map<String, Object>> allGroups = keycloakClient.listGroups(realm, token);
         
         // Filtrar por nome
@@ -94,7 +77,7 @@ public class KeycloakGrupoAdapter implements KeycloakGrupoPort {
     public void updateGroup(String groupId, String newName) {
         log.info("Atualizando grupo: {} para {}", groupId, newName);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         Map<String, Object> group = Map.of("name", newName);
         
         keycloakClient.updateGroup(realm, groupId, token, group);
@@ -105,7 +88,7 @@ public class KeycloakGrupoAdapter implements KeycloakGrupoPort {
     public void deleteGroup(String groupId) {
         log.info("Deletando grupo: {}", groupId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         keycloakClient.deleteGroup(realm, groupId, token);
         
         log.info("Grupo deletado com sucesso");
@@ -115,7 +98,7 @@ public class KeycloakGrupoAdapter implements KeycloakGrupoPort {
     public List<Map<String, Object>> getMembers(String groupId) {
         log.debug("Listando membros do grupo: {}", groupId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         return keycloakClient.getGroupMembers(realm, groupId, token);
     }
 
@@ -2,6 +2,7 @@ package com.peopleflow.accesscontrol.outbound.keycloak.adapter;
 
 import com.peopleflow.accesscontrol.core.ports.output.KeycloakRolePort;
 import com.peopleflow.accesscontrol.outbound.keycloak.client.KeycloakAdminFeignClient;
+import com.peopleflow.accesscontrol.outbound.keycloak.token.KeycloakAdminTokenManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,37 +21,20 @@ import java.util.Map;
 public class KeycloakRoleAdapter implements KeycloakRolePort {
 
     private final KeycloakAdminFeignClient keycloakClient;
+    private final KeycloakAdminTokenManager tokenManager;
     
     @Value("${keycloak.realm}")
     private String realm;
     
     @Value("${keycloak.client-id}")
     private String clientId;
-    
-    @Value("${keycloak.admin.username:admin}")
-    private String adminUsername;
-    
-    @Value("${keycloak.admin.password:admin}")
-    private String adminPassword;
-
-    @Cacheable(value = "keycloak-admin-token", unless = "#result == null")
-    protected String getAdminToken() {
-        Map<String, ?> form = Map.of(
-            "client_id", "admin-cli",
-            "username", adminUsername,
-            "password", adminPassword,
-            "grant_type", "password"
-        );
-        Map<String, Object> tokenResponse = keycloakClient.getAdminToken(form);
-        return "Bearer " + tokenResponse.get("access_token");
-    }
 
     @Override
     @Cacheable(value = "keycloak-client-uuid", key = "#root.target.clientId", unless = "#result == null")
     public String getClientUuid() {
         log.debug("Obtendo UUID do client: {}", clientId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         List<Map<String, Object>> clients = keycloakClient.findClientByClientId(
             realm, clientId, token
         );
@@ -66,7 +50,7 @@ public class KeycloakRoleAdapter implements KeycloakRolePort {
     public void createClientRole(String roleName, String description) {
         log.info("Criando role no client: {}", roleName);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         String clientUuid = getClientUuid();
         
         Map<String, Object> role = Map.of(
@@ -82,7 +66,7 @@ public class KeycloakRoleAdapter implements KeycloakRolePort {
     public List<Map<String, Object>> listClientRoles() {
         log.debug("Listando roles do client");
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         String clientUuid = getClientUuid();
         
         return keycloakClient.listClientRoles(realm, clientUuid, token);
@@ -111,7 +95,7 @@ public class KeycloakRoleAdapter implements KeycloakRolePort {
     public void deleteRole(String roleName) {
         log.info("Deletando role: {}", roleName);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         String clientUuid = getClientUuid();
         
         keycloakClient.deleteClientRole(realm, clientUuid, roleName, token);
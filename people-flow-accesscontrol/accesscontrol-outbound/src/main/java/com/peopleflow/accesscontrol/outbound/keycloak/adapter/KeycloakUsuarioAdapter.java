@@ -2,10 +2,11 @@ package com.peopleflow.accesscontrol.outbound.keycloak.adapter;
 
 import com.peopleflow.accesscontrol.core.ports.output.KeycloakUsuarioPort;
 import com.peopleflow.accesscontrol.outbound.keycloak.client.KeycloakAdminFeignClient;
+import com.peopleflow.accesscontrol.outbound.keycloak.token.KeycloakAdminTokenManager;
+import feign.Response;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -17,6 +18,7 @@ import java.util.stream.Collectors;
 public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
 
     private final KeycloakAdminFeignClient keycloakClient;
+    private final KeycloakAdminTokenManager tokenManager;
     
     @Value("${keycloak.realm}")
     private String realm;
@@ -24,33 +26,13 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     @Value("${keycloak.client-id}")
     private String keycloakClientId;
 
-    @Value("${keycloak.admin.username:admin}")
-    private String adminUsername;
-    
-    @Value("${keycloak.admin.password:admin}")
-    private String adminPassword;
-
-    @Cacheable(value = "keycloak-admin-token", unless = "#result == null")
-    private String getAdminToken() {
-        log.debug("Obtendo token de administrador do Keycloak");
-        Map<String, ?> form = Map.of(
-            "client_id", "admin-cli",
-            "username", adminUsername,
-            "password", adminPassword,
-            "grant_type", "password"
-        );
-        Map<String, Object> tokenResponse = keycloakClient.getAdminToken(form);
-        String accessToken = (String) tokenResponse.get("access_token");
-        return "Bearer " + accessToken;
-    }
-
     @Override
     public String createUser(String username, String email, String firstName, 
                             String lastName, Map<String, List<String>> attributes) {
         
         log.info("Criando usuário no Keycloak: {}", username);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         
         Map<String, Object> user = new HashMap<>();
         user.put("username", username);
@@ -84,7 +66,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void setPassword(String userId, String password, boolean temporary) {
         log.info("Definindo senha para usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         
         Map<String, Object> credential = Map.of(
             "type", "password",
@@ -101,7 +83,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public Map<String, Object> findByUsername(String username) {
         log.debug("Buscando usuário por username: {}", username);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         List<Map<String, Object>> users = keycloakClient.searchUsers(
             realm, username, true, token
         );
@@ -113,7 +95,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public Map<String, Object> findById(String userId) {
         log.debug("Buscando usuário por ID: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         return keycloakClient.getUser(realm, userId, token);
     }
 
@@ -121,18 +103,43 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public List<Map<String, Object>> listAll() {
         log.debug("Listando todos os usuários");
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         return keycloakClient.listUsers(realm, token);
     }
 
+    @Override
+    public List<Map<String, Object>> listPage(int first, int max) {
+        log.debug("Listando usuários: first={}, max={}", first, max);
+
+        String token = tokenManager.getBearerToken();
+        return keycloakClient.listUsersPage(realm, first, max, false, token);
+    }
+
+    @Override
+    public boolean exists(String userId) {
+        String token = tokenManager.getBearerToken();
+        try (Response response = keycloakClient.getUserResponse(realm, userId, token)) {
+            return switch (response.status()) {
+                case 200 -> true;
+                case 404 -> false;
+                default -> throw new IllegalStateException(
+                    "Erro ao verificar usuário " + userId + " no Keycloak: HTTP " + response.status());
+            };
+        }
+    }
+
     @Override
     public List<Map<String, Object>> findByAttribute(String attributeName, String attributeValue) {
         log.debug("Buscando usuários por atributo: {}={}", attributeName, attributeValue);
         
-        String token = getAdminToken();
-        List<Map<String, Object>> allUsers = keycloakClient.listUsers(realm, token);
+        String token = tokenManager.getBearerToken();
+        List<Map<String, Object>> users = keycloakClient.searchUsersByAttribute(
+            realm, attributeName + ":" + attributeValue, true, null, token
+        );
         
-        return allUsers.stream()
+        // O Keycloak já filtra pelo atributo; a checagem local protege contra versões
+        // que tratam o parâmetro q como busca parcial.
+        return users.stream()
             .filter(user -> {
                 @SuppressWarnings("unchecked")
                 Map<String, List<String>> attributes = 
@@ -152,7 +159,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void updateUser(String userId, Map<String, Object> userData) {
         log.info("Atualizando usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         keycloakClient.updateUser(realm, userId, token, userData);
         
         log.info("Usuário atualizado com sucesso");
@@ -162,7 +169,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void enableUser(String userId) {
         log.info("Ativando usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         Map<String, Object> user = Map.of("enabled", true);
         keycloakClient.updateUser(realm, userId, token, user);
     }
@@ -171,7 +178,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void disableUser(String userId) {
         log.info("Desativando usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         Map<String, Object> user = Map.of("enabled", false);
         keycloakClient.updateUser(realm, userId, token, user);
     }
@@ -180,7 +187,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void deleteUser(String userId) {
         log.info("Deletando usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         keycloakClient.deleteUser(realm, userId, token);
         
         log.info("Usuário deletado com sucesso");
@@ -190,7 +197,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void addToGroup(String userId, String groupId) {
         log.info("Adicionando usuário {} ao grupo {}", userId, groupId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         keycloakClient.addUserToGroup(realm, userId, groupId, token);
     }
 
@@ -198,7 +205,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void removeFromGroup(String userId, String groupId) {
         log.info("Removendo usuário {} do grupo {}", userId, groupId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         keycloakClient.removeUserFromGroup(realm, userId, groupId, token);
     }
 
@@ -206,7 +213,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public List<Map<String, Object>> getUserGroups(String userId) {
         log.debug("Listando grupos do usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         return keycloakClient.getUserGroups(realm, userId, token);
     }
 
@@ -214,7 +221,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void logoutUser(String userId) {
         log.info("Fazendo logout do usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         keycloakClient.logoutUser(realm, userId, token);
         
         log.info("Logout realizado com sucesso");
@@ -224,7 +231,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void updateUserAttribute(String userId, String attributeName, String attributeValue) {
         log.info("Atualizando atributo {} do usuário {}", attributeName, userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         
         Map<String, Object> user = keycloakClient.getUser(realm, userId, token);
         
@@ -245,11 +252,31 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
         log.info("Atributo {} atualizado com sucesso", attributeName);
     }
     
+    @Override
+    public void updateUserAndAttributes(String userId, Map<String, Object> userData, Map<String, String> attributes) {
+        String token = tokenManager.getBearerToken();
+
+        Map<String, Object> representation = new HashMap<>(userData);
+        if (!attributes.isEmpty()) {
+            // PUT substitui o mapa de atributos inteiro: parte do que já está gravado
+            Map<String, Object> user = keycloakClient.getUser(realm, userId, token);
+
+            @SuppressWarnings("unchecked")
+            Map<String, List<String>> current = (Map<String, List<String>>) user.get("attributes");
+            Map<String, List<String>> merged = current == null ? new HashMap<>() : new HashMap<>(current);
+            attributes.forEach((name, value) -> merged.put(name, List.of(value)));
+            representation.put("attributes", merged);
+        }
+
+        keycloakClient.updateUser(realm, userId, token, representation);
+        log.info("Usuário {} atualizado: campos={}, atributos={}", userId, userData.keySet(), attributes.keySet());
+    }
+
     @Override
     public void assignClientRoles(String userId, List<String> roleNames) {
         log.info("Atribuindo roles {} ao usuário {}", roleNames, userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         
         List<Map<String, Object>> clients = keycloakClient.findClientByClientId(
             realm, keycloakClientId, token
@@ -286,7 +313,7 @@ public class KeycloakUsuarioAdapter implements KeycloakUsuarioPort {
     public void sendPasswordSetupEmail(String userId) {
         log.info("Enviando email de configuração de senha para usuário: {}", userId);
         
-        String token = getAdminToken();
+        String token = tokenManager.getBearerToken();
         
         List<String> actions = List.of("UPDATE_PASSWORD");
         
@@ -1,5 +1,6 @@
 package com.peopleflow.accesscontrol.outbound.keycloak.client;
 
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
@@ -43,6 +44,18 @@ public interface KeycloakAdminFeignClient {
         @RequestHeader("Authorization") String bearerToken
     );
 
+    /**
+     * Página de usuários ({@code first}/{@code max}), ordenada por username no Keycloak
+     */
+    @GetMapping("/admin/realms/{realm}/users")
+    List<Map<String, Object>> listUsersPage(
+        @PathVariable("realm") String realm,
+        @RequestParam("first") int first,
+        @RequestParam("max") int max,
+        @RequestParam(value = "briefRepresentation", defaultValue = "false") boolean briefRepresentation,
+        @RequestHeader("Authorization") String bearerToken
+    );
+
     @GetMapping("/admin/realms/{realm}/users")
     List<Map<String, Object>> searchUsers(
         @PathVariable("realm") String realm,
@@ -51,6 +64,19 @@ public interface KeycloakAdminFeignClient {
         @RequestHeader("Authorization") String bearerToken
     );
 
+    /**
+     * Busca por atributo customizado via parâmetro {@code q} (formato {@code chave:valor}),
+     * filtrado no próprio Keycloak em vez de listar o realm inteiro.
+     */
+    @GetMapping("/admin/realms/{realm}/users")
+    List<Map<String, Object>> searchUsersByAttribute(
+        @PathVariable("realm") String realm,
+        @RequestParam("q") String query,
+        @RequestParam(value = "exact", defaultValue = "true") boolean exact,
+        @RequestParam(value = "max", required = false) Integer max,
+        @RequestHeader("Authorization") String bearerToken
+    );
+
     @GetMapping("/admin/realms/{realm}/users/{userId}")
     Map<String, Object> getUser(
         @PathVariable("realm") String realm,
@@ -58,6 +84,16 @@ public interface KeycloakAdminFeignClient {
         @RequestHeader("Authorization") String bearerToken
     );
 
+    /**
+     * Mesmo recurso de {@link #getUser}, com a resposta crua: 404 não passa pelo ErrorDecoder
+     */
+    @GetMapping("/admin/realms/{realm}/users/{userId}")
+    Response getUserResponse(
+        @PathVariable("realm") String realm,
+        @PathVariable("userId") String userId,
+        @RequestHeader("Authorization") String bearerToken
+    );
+
     @PutMapping("/admin/realms/{realm}/users/{userId}")
     void updateUser(
         @PathVariable("realm") String realm,
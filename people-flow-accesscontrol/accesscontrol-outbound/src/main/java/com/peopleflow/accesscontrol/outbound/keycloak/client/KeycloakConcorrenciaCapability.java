@@ -0,0 +1,82 @@
+package com.peopleflow.accesscontrol.outbound.keycloak.client;
+
+import feign.Capability;
+import feign.Client;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita as chamadas HTTP simultâneas ao Keycloak com um semáforo
+ *
+ * O teto de concorrência é do downstream, não do pool de quem chama: com
+ * executores de uma thread por tarefa, só as requisições ao Keycloak esperam.
+ * Cada tentativa do Retryer disputa a permissão de novo, então o intervalo entre
+ * tentativas não ocupa vaga.
+ *
+ * Métricas (tag downstream=keycloak): peopleflow.downstream.espera (tempo até obter
+ * a vaga), peopleflow.downstream.em-uso e peopleflow.downstream.rejeitadas.
+ */
+@Slf4j
+public class KeycloakConcorrenciaCapability implements Capability {
+
+    private static final String DOWNSTREAM = "keycloak";
+
+    private final Semaphore vagas;
+    private final Duration esperaMaxima;
+    private final Timer timerEspera;
+    private final Counter rejeitadas;
+
+    public KeycloakConcorrenciaCapability(int limite, Duration esperaMaxima, MeterRegistry registry) {
+        this.vagas = new Semaphore(limite, true);
+        this.esperaMaxima = esperaMaxima;
+        this.timerEspera = Timer.builder("peopleflow.downstream.espera")
+                .description("Tempo de espera por uma vaga de concorrência no downstream")
+                .tag("downstream", DOWNSTREAM)
+                .register(registry);
+        this.rejeitadas = Counter.builder("peopleflow.downstream.rejeitadas")
+                .description("Chamadas que desistiram de esperar por uma vaga no downstream")
+                .tag("downstream", DOWNSTREAM)
+                .register(registry);
+        Gauge.builder("peopleflow.downstream.em-uso", vagas, s -> limite - s.availablePermits())
+                .description("Chamadas em andamento no downstream")
+                .tag("downstream", DOWNSTREAM)
+                .register(registry);
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            adquirir(request.url());
+            try {
+                return client.execute(request, options);
+            } finally {
+                vagas.release();
+            }
+        };
+    }
+
+    private void adquirir(String url) {
+        long inicio = System.nanoTime();
+        boolean obtida;
+        try {
+            obtida = vagas.tryAcquire(esperaMaxima.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KeycloakException("Interrompido aguardando vaga para chamar o Keycloak", e);
+        } finally {
+            timerEspera.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+        if (!obtida) {
+            rejeitadas.increment();
+            log.warn("Limite de concorrência do Keycloak esgotado após {}: {}", esperaMaxima, url);
+            throw new KeycloakException("Limite de concorrência do Keycloak esgotado após " + esperaMaxima);
+        }
+    }
+}
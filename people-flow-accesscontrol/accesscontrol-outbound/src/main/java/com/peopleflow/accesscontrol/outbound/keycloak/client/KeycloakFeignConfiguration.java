@@ -1,5 +1,6 @@
 package com.peopleflow.accesscontrol.outbound.keycloak.client;
 
+import feign.Capability;
 import feign.Logger;
 import feign.Request;
 import feign.RequestInterceptor;
@@ -7,13 +8,17 @@ import feign.Retryer;
 import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
 import feign.form.spring.SpringFormEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Slf4j
 @Configuration
 public class KeycloakFeignConfiguration {
@@ -68,6 +73,17 @@ public class KeycloakFeignConfiguration {
         );
     }
 
+    /**
+     * Teto de chamadas simultâneas ao Keycloak (independe do executor de quem chama)
+     */
+    @Bean
+    public Capability keycloakConcorrencia(
+            @Value("${keycloak.concorrencia.limite:16}") int limite,
+            @Value("${keycloak.concorrencia.espera-maxima:PT30S}") Duration esperaMaxima,
+            MeterRegistry meterRegistry) {
+        return new KeycloakConcorrenciaCapability(limite, esperaMaxima, meterRegistry);
+    }
+
     @Bean
     public ErrorDecoder errorDecoder() {
         return (methodKey, response) -> {
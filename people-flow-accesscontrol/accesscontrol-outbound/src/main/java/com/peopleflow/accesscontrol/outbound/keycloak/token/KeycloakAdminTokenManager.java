@@ -0,0 +1,146 @@
+package com.peopleflow.accesscontrol.outbound.keycloak.token;
+
+import com.peopleflow.accesscontrol.outbound.keycloak.client.KeycloakAdminFeignClient;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gerenciador do token de administrador do Keycloak, compartilhado pelos adapters
+ *
+ * - Usa o {@code expires_in} da resposta para saber quando o token expira
+ * - Renova em background quando o token entra na janela de antecedência,
+ *   devolvendo o token atual (ainda válido) enquanto a renovação acontece
+ * - Renovações concorrentes são agrupadas em uma única requisição (single-flight)
+ */
+@Slf4j
+@Component
+public class KeycloakAdminTokenManager {
+
+    /** Folga para latência de rede e diferença de relógio */
+    private static final Duration MARGEM_SEGURANCA = Duration.ofSeconds(5);
+
+    private final KeycloakAdminFeignClient keycloakClient;
+    private final Clock clock;
+    private final Duration antecedencia;
+    private final Map<String, ?> credenciais;
+    private final ExecutorService renovador;
+
+    private volatile TokenAtual atual;
+    private final AtomicReference<CompletableFuture<TokenAtual>> renovacaoEmAndamento = new AtomicReference<>();
+
+    public KeycloakAdminTokenManager(
+            KeycloakAdminFeignClient keycloakClient,
+            @Value("${keycloak.admin.username:admin}") String adminUsername,
+            @Value("${keycloak.admin.password:admin}") String adminPassword,
+            @Value("${keycloak.admin.token.renovacao-antecipada:PT15S}") Duration antecedencia) {
+        this.keycloakClient = keycloakClient;
+        this.clock = Clock.systemUTC();
+        this.antecedencia = antecedencia;
+        this.credenciais = Map.of(
+            "client_id", "admin-cli",
+            "username", adminUsername,
+            "password", adminPassword,
+            "grant_type", "password"
+        );
+        this.renovador = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("keycloak-token-"));
+    }
+
+    /**
+     * Retorna o header Authorization ("Bearer ...") com um token válido
+     */
+    public String getBearerToken() {
+        TokenAtual token = atual;
+        Instant agora = clock.instant();
+
+        if (token != null && agora.isBefore(token.expiraEm())) {
+            if (!agora.isBefore(token.renovarEm())) {
+                renovar();
+            }
+            return token.bearer();
+        }
+
+        try {
+            return renovar().join().bearer();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException causa ? causa : e;
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        renovador.shutdownNow();
+    }
+
+    private CompletableFuture<TokenAtual> renovar() {
+        CompletableFuture<TokenAtual> novaRenovacao = new CompletableFuture<>();
+        CompletableFuture<TokenAtual> emAndamento = renovacaoEmAndamento.compareAndExchange(null, novaRenovacao);
+        if (emAndamento != null) {
+            return emAndamento;
+        }
+
+        try {
+            renovador.execute(() -> {
+                try {
+                    TokenAtual token = solicitarToken();
+                    atual = token;
+                    novaRenovacao.complete(token);
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ Falha ao renovar token de administrador do Keycloak: {}", e.getMessage());
+                    novaRenovacao.completeExceptionally(e);
+                } finally {
+                    renovacaoEmAndamento.compareAndSet(novaRenovacao, null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Renovador encerrado (shutdown): falha esta renovação em vez de deixar quem espera pendurado
+            renovacaoEmAndamento.compareAndSet(novaRenovacao, null);
+            novaRenovacao.completeExceptionally(
+                    new IllegalStateException("Renovação do token do Keycloak indisponível (aplicação encerrando)", e));
+        }
+        return novaRenovacao;
+    }
+
+    private TokenAtual solicitarToken() {
+        log.debug("Obtendo token de administrador do Keycloak");
+        Map<String, Object> resposta = keycloakClient.getAdminToken(credenciais);
+
+        Object accessToken = resposta.get("access_token");
+        if (accessToken == null) {
+            throw new IllegalStateException("Resposta do Keycloak sem access_token");
+        }
+
+        Duration validade = resposta.get("expires_in") instanceof Number expiresIn
+                ? Duration.ofSeconds(expiresIn.longValue())
+                : Duration.ofSeconds(60);
+        Duration vidaUtil = validade.minus(MARGEM_SEGURANCA);
+        if (vidaUtil.isNegative()) {
+            vidaUtil = Duration.ZERO;
+        }
+        // Tokens curtos: renova na metade da vida útil
+        Duration janela = antecedencia.compareTo(vidaUtil.dividedBy(2)) > 0 ? vidaUtil.dividedBy(2) : antecedencia;
+
+        Instant emitidoEm = clock.instant();
+        return new TokenAtual(
+            "Bearer " + accessToken,
+            emitidoEm.plus(vidaUtil),
+            emitidoEm.plus(vidaUtil.minus(janela))
+        );
+    }
+
+    private record TokenAtual(String bearer, Instant expiraEm, Instant renovarEm) {
+    }
+}
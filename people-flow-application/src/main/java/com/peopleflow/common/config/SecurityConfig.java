@@ -1,5 +1,14 @@
 package com.peopleflow.common.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.peopleflow.common.security.CachingJwtDecoder;
+import com.peopleflow.common.security.JwksCache;
+import com.peopleflow.common.security.UsuarioAutenticado;
+import com.peopleflow.common.security.UsuarioAutenticadoToken;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,9 +23,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -32,9 +41,6 @@ import java.util.stream.Stream;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
-    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
-    private String jwkSetUri;
-
     @Value("${keycloak.client-id}")
     private String keycloakClientId;
 
@@ -70,23 +76,41 @@ public class SecurityConfig {
     }
 
     /**
-     * Decodificador de JWT usando JWK Set URI do Keycloak
+     * Decodificador de JWT usando as chaves do Keycloak
+     * 
+     * As chaves vêm do {@link JwksCache} (pré-carregadas e renovadas em background),
+     * e tokens já verificados são reaproveitados pelo {@link CachingJwtDecoder}.
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+    public JwtDecoder jwtDecoder(
+            JwksCache jwksCache,
+            MeterRegistry meterRegistry,
+            @Value("${keycloak.token-cache.tamanho-maximo:10000}") long tamanhoCache,
+            @Value("${keycloak.token-cache.ttl-maximo:PT5M}") Duration ttlCache) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwksCache));
+        // exp/nbf são validados pelos validators do Spring, como no decoder padrão
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        return new CachingJwtDecoder(new NimbusJwtDecoder(jwtProcessor), tamanhoCache, ttlCache, meterRegistry);
     }
 
     /**
      * Conversor de JWT para Authentication
-     * Extrai roles do Keycloak e converte em GrantedAuthorities do Spring Security
+     * Extrai roles do Keycloak e converte em GrantedAuthorities do Spring Security;
+     * o {@link UsuarioAutenticado} (empresaId e roles já processados) é montado
+     * aqui, uma vez por requisição.
      */
     @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
-        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(
-                new KeycloakGrantedAuthoritiesConverter(keycloakClientId));
-        return converter;
+    public Converter<Jwt, AbstractAuthenticationToken> jwtAuthenticationConverter() {
+        KeycloakGrantedAuthoritiesConverter rolesConverter = new KeycloakGrantedAuthoritiesConverter(keycloakClientId);
+        return jwt -> {
+            List<String> roles = rolesConverter.extractRoles(jwt);
+            List<GrantedAuthority> authorities = roles.stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role))
+                    .toList();
+            return new UsuarioAutenticadoToken(jwt, authorities, UsuarioAutenticado.de(jwt, roles));
+        };
     }
 
     /**
@@ -106,18 +130,24 @@ public class SecurityConfig {
 
         @Override
         public Collection<GrantedAuthority> convert(Jwt jwt) {
-            // Extrair roles do realm
-            Collection<GrantedAuthority> realmRoles = extractRealmRoles(jwt);
-            // Extrair roles do client (keycloak.client-id)
-            Collection<GrantedAuthority> clientRoles = extractClientRoles(jwt, clientId);
-            return Stream.concat(realmRoles.stream(), clientRoles.stream())
+            return extractRoles(jwt).stream()
+                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
                     .collect(Collectors.toList());
         }
 
+        /**
+         * Nomes das roles do realm e do client (keycloak.client-id), sem prefixo
+         */
+        List<String> extractRoles(Jwt jwt) {
+            return Stream.concat(extractRealmRoles(jwt).stream(), extractClientRoles(jwt, clientId).stream())
+                    .distinct()
+                    .toList();
+        }
+
         /**
          * Extrai roles do realm (roles globais)
          */
-        private Collection<GrantedAuthority> extractRealmRoles(Jwt jwt) {
+        private List<String> extractRealmRoles(Jwt jwt) {
             Map<String, Object> realmAccess = jwt.getClaim("realm_access");
             if (realmAccess == null) {
                 return List.of();
@@ -129,16 +159,14 @@ public class SecurityConfig {
                 return List.of();
             }
             
-            return roles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .collect(Collectors.toList());
+            return roles;
         }
 
         /**
          * Extrai roles do client (roles específicas da aplicação)
          * Formato no JWT: resource_access.{clientId}.roles
          */
-        private Collection<GrantedAuthority> extractClientRoles(Jwt jwt, String clientId) {
+        private List<String> extractClientRoles(Jwt jwt, String clientId) {
             Map<String, Object> resourceAccess = jwt.getClaim("resource_access");
             if (resourceAccess == null) {
                 return List.of();
@@ -156,9 +184,7 @@ public class SecurityConfig {
                 return List.of();
             }
             
-            return roles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                    .collect(Collectors.toList());
+            return roles;
         }
     }
 }
@@ -0,0 +1,18 @@
+-- ============================
+-- ÍNDICES PARA PAGINAÇÃO KEYSET (CURSOR)
+-- ============================
+-- A listagem por cursor ordena por (NOME, ID) ou ID e continua a partir do
+-- último item entregue; estes índices tornam cada página um range scan,
+-- independente da profundidade. Colaboradores excluídos nunca são listados.
+
+CREATE INDEX IF NOT EXISTS IDX_COLABORADOR_KEYSET_NOME
+    ON PEOPLE_FLOW_RH.COLABORADOR (NOME, ID)
+    WHERE STATUS <> 'excluido';
+
+CREATE INDEX IF NOT EXISTS IDX_COLABORADOR_EMPRESA_KEYSET_NOME
+    ON PEOPLE_FLOW_RH.COLABORADOR (EMPRESA_ID, NOME, ID)
+    WHERE STATUS <> 'excluido';
+
+CREATE INDEX IF NOT EXISTS IDX_COLABORADOR_EMPRESA_KEYSET_ID
+    ON PEOPLE_FLOW_RH.COLABORADOR (EMPRESA_ID, ID)
+    WHERE STATUS <> 'excluido';
@@ -0,0 +1,39 @@
+-- ============================
+-- BUSCA TEXTUAL DE COLABORADORES (TRIGRAMA + SEM ACENTOS)
+-- ============================
+-- LIKE '%x%' sobre lower(coluna) não usa índice B-tree. Os índices GIN com
+-- pg_trgm atendem LIKE por substring e similaridade (word_similarity / <%),
+-- e a função F_UNACCENT permite casar "joao" com "João".
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+CREATE EXTENSION IF NOT EXISTS unaccent WITH SCHEMA public;
+
+-- unaccent() é STABLE; índices de expressão exigem função IMMUTABLE.
+-- Fixar o dicionário torna o resultado determinístico.
+CREATE OR REPLACE FUNCTION PEOPLE_FLOW_RH.F_UNACCENT(TEXT)
+    RETURNS TEXT
+    LANGUAGE SQL
+    IMMUTABLE
+    PARALLEL SAFE
+    STRICT
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
+
+CREATE INDEX IF NOT EXISTS IDX_COLABORADOR_NOME_TRGM
+    ON PEOPLE_FLOW_RH.COLABORADOR
+    USING GIN (PEOPLE_FLOW_RH.F_UNACCENT(LOWER(NOME)) public.gin_trgm_ops)
+    WHERE STATUS <> 'excluido';
+
+CREATE INDEX IF NOT EXISTS IDX_COLABORADOR_EMAIL_TRGM
+    ON PEOPLE_FLOW_RH.COLABORADOR
+    USING GIN (LOWER(EMAIL) public.gin_trgm_ops)
+    WHERE STATUS <> 'excluido';
+
+-- CPF é armazenado formatado; o índice cobre apenas os dígitos
+CREATE INDEX IF NOT EXISTS IDX_COLABORADOR_CPF_DIGITOS_TRGM
+    ON PEOPLE_FLOW_RH.COLABORADOR
+    USING GIN (REGEXP_REPLACE(CPF, '[^0-9]', '', 'g') public.gin_trgm_ops)
+    WHERE STATUS <> 'excluido';
+
+COMMENT ON FUNCTION PEOPLE_FLOW_RH.F_UNACCENT(TEXT) IS 'Wrapper IMMUTABLE de unaccent para índices de busca';
@@ -0,0 +1,30 @@
+-- ============================
+-- SEQUENCES - ALOCAÇÃO EM BLOCO (HIBERNATE POOLED)
+-- ============================
+-- As entidades JPA passam a usar allocationSize > 1 com o otimizador pooled:
+-- cada nextval reserva um bloco de INCREMENT BY ids (valor - incremento + 1 .. valor)
+-- e o Hibernate gera os ids do bloco em memória, sem round trip por insert.
+--
+-- O INCREMENT BY deve ser igual ao allocationSize da entidade. Inserts que usam o
+-- default da coluna (IDENTITY) continuam seguros: apenas pulam para o próximo bloco.
+-- CACHE volta a 1 porque a pré-alocação agora é feita pela aplicação.
+
+ALTER SEQUENCE PEOPLE_FLOW_RH.EMPRESA_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.UNIDADE_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.DEPARTAMENTO_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.CENTRO_CUSTO_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.AREA_ID_SEQ INCREMENT BY 20 CACHE 1;
+
+ALTER SEQUENCE PEOPLE_FLOW_RH.COLABORADOR_ID_SEQ INCREMENT BY 50 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.DEPENDENTE_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.CONTA_BANCARIA_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.DOCUMENTO_COLABORADOR_ID_SEQ INCREMENT BY 20 CACHE 1;
+
+ALTER SEQUENCE PEOPLE_FLOW_RH.NIVEL_HIERARQUICO_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.FAMILIA_CARGO_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.JORNADA_TRABALHO_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.CARGO_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.FAIXA_SALARIAL_ID_SEQ INCREMENT BY 20 CACHE 1;
+
+ALTER SEQUENCE PEOPLE_FLOW_RH.CONTRATO_ID_SEQ INCREMENT BY 20 CACHE 1;
+ALTER SEQUENCE PEOPLE_FLOW_RH.DOCUMENTO_CONTRATO_ID_SEQ INCREMENT BY 20 CACHE 1;
@@ -0,0 +1,40 @@
+-- ==========================
+-- PROJEÇÃO DE HEADCOUNT
+-- ==========================
+-- Read model de colaboradores ativos por empresa / departamento / centro de custo,
+-- mantido pelos eventos de Colaborador (relay do outbox) e verificado por um job noturno.
+
+-- Unidade em que cada colaborador ativo está contado (base do delta -1/+1)
+CREATE TABLE IF NOT EXISTS PEOPLE_FLOW_RH.HEADCOUNT_COLABORADOR (
+    COLABORADOR_ID  BIGINT PRIMARY KEY,
+    EMPRESA_ID      BIGINT NOT NULL,
+    DEPARTAMENTO_ID BIGINT,
+    CENTRO_CUSTO_ID BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS PEOPLE_FLOW_RH.HEADCOUNT_UNIDADE (
+    ID              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    EMPRESA_ID      BIGINT NOT NULL,
+    DEPARTAMENTO_ID BIGINT,
+    CENTRO_CUSTO_ID BIGINT,
+    ATIVOS          INT NOT NULL DEFAULT 0,
+    ATUALIZADO_EM   TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    CONSTRAINT UQ_HEADCOUNT_UNIDADE UNIQUE NULLS NOT DISTINCT (EMPRESA_ID, DEPARTAMENTO_ID, CENTRO_CUSTO_ID),
+    CONSTRAINT CK_HEADCOUNT_UNIDADE_ATIVOS CHECK (ATIVOS >= 0)
+);
+
+-- Carga inicial
+INSERT INTO PEOPLE_FLOW_RH.HEADCOUNT_COLABORADOR (COLABORADOR_ID, EMPRESA_ID, DEPARTAMENTO_ID, CENTRO_CUSTO_ID)
+SELECT ID, EMPRESA_ID, DEPARTAMENTO_ID, CENTRO_CUSTO_ID
+FROM PEOPLE_FLOW_RH.COLABORADOR
+WHERE STATUS = 'ativo'
+ON CONFLICT DO NOTHING;
+
+INSERT INTO PEOPLE_FLOW_RH.HEADCOUNT_UNIDADE (EMPRESA_ID, DEPARTAMENTO_ID, CENTRO_CUSTO_ID, ATIVOS)
+SELECT EMPRESA_ID, DEPARTAMENTO_ID, CENTRO_CUSTO_ID, COUNT(*)
+FROM PEOPLE_FLOW_RH.HEADCOUNT_COLABORADOR
+GROUP BY EMPRESA_ID, DEPARTAMENTO_ID, CENTRO_CUSTO_ID
+ON CONFLICT DO NOTHING;
+
+COMMENT ON TABLE PEOPLE_FLOW_RH.HEADCOUNT_COLABORADOR IS 'Projeção de headcount: unidade em que cada colaborador ativo está contado';
+COMMENT ON TABLE PEOPLE_FLOW_RH.HEADCOUNT_UNIDADE IS 'Projeção de headcount: colaboradores ativos por empresa, departamento e centro de custo';
@@ -0,0 +1,9 @@
+-- ==========================
+-- COLABORADOR - VERSÃO (LOCK OTIMISTA)
+-- ==========================
+-- Toda escrita em COLABORADOR incrementa VERSAO. As atualizações parciais e as
+-- transições de status são UPDATEs condicionados (WHERE ID = ? AND VERSAO = ? /
+-- AND STATUS IN (...)): zero linhas afetadas significa que outra escrita venceu.
+
+ALTER TABLE PEOPLE_FLOW_RH.COLABORADOR
+    ADD COLUMN IF NOT EXISTS VERSAO BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,109 @@
+-- ==========================
+-- MARCAÇÃO DE PONTO - PARTICIONAMENTO MENSAL
+-- ==========================
+-- MARCACAO_PONTO passa a ser particionada por mês de DATA_HORA (limites em UTC).
+-- Partições nomeadas MARCACAO_PONTO_AAAA_MM são criadas com antecedência pela aplicação
+-- (CRIAR_PARTICAO_MARCACAO_PONTO); a partição DEFAULT só recebe marcações fora delas e é
+-- esvaziada quando a partição do mês é criada.
+--
+-- A chave primária inclui DATA_HORA (exigência do particionamento). A unicidade
+-- (COLABORADOR_ID, DATA_HORA, TIPO) torna a ingestão idempotente: reenvios de
+-- kiosks/app são descartados com ON CONFLICT DO NOTHING. Ela substitui IDX_MP_COLAB_DATA.
+
+ALTER TABLE PEOPLE_FLOW_RH.MARCACAO_PONTO RENAME TO MARCACAO_PONTO_LEGADO;
+ALTER SEQUENCE PEOPLE_FLOW_RH.MARCACAO_PONTO_ID_SEQ RENAME TO MARCACAO_PONTO_LEGADO_ID_SEQ;
+
+-- IDs gerados pelo default da coluna (identity não é suportada em tabela particionada antes do PG 17)
+CREATE SEQUENCE IF NOT EXISTS PEOPLE_FLOW_RH.MARCACAO_PONTO_ID_SEQ CACHE 1;
+
+CREATE TABLE PEOPLE_FLOW_RH.MARCACAO_PONTO (
+    ID             BIGINT NOT NULL DEFAULT nextval('PEOPLE_FLOW_RH.MARCACAO_PONTO_ID_SEQ'),
+    COLABORADOR_ID BIGINT NOT NULL,
+    DATA_HORA      TIMESTAMPTZ NOT NULL,
+    TIPO           TEXT NOT NULL,
+    ORIGEM         TEXT,
+    LATITUDE       NUMERIC(9,6),
+    LONGITUDE      NUMERIC(9,6),
+    CRIADO_POR     VARCHAR(100),
+    CRIADO_EM      TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    ATUALIZADO_POR VARCHAR(100),
+    ATUALIZADO_EM  TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    EXCLUIDO_POR   VARCHAR(100),
+    EXCLUIDO_EM    TIMESTAMPTZ,
+    CONSTRAINT PK_MARCACAO_PONTO PRIMARY KEY (ID, DATA_HORA),
+    CONSTRAINT UQ_MP_COLAB_DATA_TIPO UNIQUE (COLABORADOR_ID, DATA_HORA, TIPO),
+    CONSTRAINT FK_MP_COLAB FOREIGN KEY (COLABORADOR_ID) REFERENCES PEOPLE_FLOW_RH.COLABORADOR(ID),
+    CONSTRAINT CHK_MP_TIPO CHECK (TIPO IN ('entrada', 'saida', 'entrada_intervalo', 'saida_intervalo')),
+    CONSTRAINT CHK_MP_ORIGEM CHECK (ORIGEM IS NULL OR ORIGEM IN ('kiosk', 'mobile', 'web', 'import', 'manual')),
+    CONSTRAINT CHK_MP_LATITUDE CHECK (LATITUDE IS NULL OR (LATITUDE BETWEEN -90 AND 90)),
+    CONSTRAINT CHK_MP_LONGITUDE CHECK (LONGITUDE IS NULL OR (LONGITUDE BETWEEN -180 AND 180))
+) PARTITION BY RANGE (DATA_HORA);
+
+ALTER SEQUENCE PEOPLE_FLOW_RH.MARCACAO_PONTO_ID_SEQ OWNED BY PEOPLE_FLOW_RH.MARCACAO_PONTO.ID;
+
+CREATE TABLE PEOPLE_FLOW_RH.MARCACAO_PONTO_DEFAULT
+    PARTITION OF PEOPLE_FLOW_RH.MARCACAO_PONTO DEFAULT;
+
+-- Cria (se ainda não existe) a partição do mês de P_MES, movendo para ela
+-- as marcações desse mês que tenham caído na partição DEFAULT
+CREATE OR REPLACE FUNCTION PEOPLE_FLOW_RH.CRIAR_PARTICAO_MARCACAO_PONTO(P_MES DATE)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    V_INICIO TIMESTAMPTZ := date_trunc('month', P_MES)::TIMESTAMP AT TIME ZONE 'UTC';
+    V_FIM    TIMESTAMPTZ := (date_trunc('month', P_MES) + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC';
+    V_NOME   TEXT := 'marcacao_ponto_' || to_char(P_MES, 'YYYY_MM');
+BEGIN
+    IF to_regclass('people_flow_rh.' || V_NOME) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('CREATE TABLE people_flow_rh.%I (LIKE people_flow_rh.marcacao_ponto INCLUDING DEFAULTS)', V_NOME);
+    EXECUTE format('ALTER TABLE people_flow_rh.%I ADD CONSTRAINT %I CHECK (data_hora >= %L AND data_hora < %L)',
+                   V_NOME, 'chk_' || V_NOME || '_mes', V_INICIO, V_FIM);
+    EXECUTE format('WITH movidas AS (DELETE FROM people_flow_rh.marcacao_ponto_default '
+                   'WHERE data_hora >= $1 AND data_hora < $2 RETURNING *) '
+                   'INSERT INTO people_flow_rh.%I SELECT * FROM movidas', V_NOME)
+        USING V_INICIO, V_FIM;
+    EXECUTE format('ALTER TABLE people_flow_rh.marcacao_ponto ATTACH PARTITION people_flow_rh.%I '
+                   'FOR VALUES FROM (%L) TO (%L)', V_NOME, V_INICIO, V_FIM);
+    RETURN V_NOME;
+END;
+$$;
+
+-- Partições do mês mais antigo já registrado até dois meses à frente
+DO $$
+DECLARE
+    V_MES DATE := date_trunc('month', COALESCE(
+        (SELECT MIN(DATA_HORA) AT TIME ZONE 'UTC' FROM PEOPLE_FLOW_RH.MARCACAO_PONTO_LEGADO),
+        now() AT TIME ZONE 'UTC'))::DATE;
+BEGIN
+    WHILE V_MES <= (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '2 month')::DATE LOOP
+        PERFORM PEOPLE_FLOW_RH.CRIAR_PARTICAO_MARCACAO_PONTO(V_MES);
+        V_MES := (V_MES + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO PEOPLE_FLOW_RH.MARCACAO_PONTO
+    (ID, COLABORADOR_ID, DATA_HORA, TIPO, ORIGEM, LATITUDE, LONGITUDE,
+     CRIADO_POR, CRIADO_EM, ATUALIZADO_POR, ATUALIZADO_EM, EXCLUIDO_POR, EXCLUIDO_EM)
+SELECT ID, COLABORADOR_ID, DATA_HORA, TIPO, ORIGEM, LATITUDE, LONGITUDE,
+       CRIADO_POR, CRIADO_EM, ATUALIZADO_POR, ATUALIZADO_EM, EXCLUIDO_POR, EXCLUIDO_EM
+FROM PEOPLE_FLOW_RH.MARCACAO_PONTO_LEGADO
+ORDER BY ID
+ON CONFLICT DO NOTHING;
+
+SELECT setval('PEOPLE_FLOW_RH.MARCACAO_PONTO_ID_SEQ',
+              GREATEST((SELECT COALESCE(MAX(ID), 0) FROM PEOPLE_FLOW_RH.MARCACAO_PONTO), 1));
+
+DROP TABLE PEOPLE_FLOW_RH.MARCACAO_PONTO_LEGADO;
+
+COMMENT ON TABLE PEOPLE_FLOW_RH.MARCACAO_PONTO IS
+'Registro de marcações de ponto dos colaboradores. Alto volume de dados; particionada por mês (UTC) de DATA_HORA.';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.MARCACAO_PONTO.DATA_HORA IS 'Data e hora da marcação';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.MARCACAO_PONTO.TIPO IS 'Tipo: entrada, saida, entrada_intervalo, saida_intervalo';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.MARCACAO_PONTO.ORIGEM IS 'Origem: kiosk, mobile, web, import, manual';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.MARCACAO_PONTO.LATITUDE IS 'Latitude da geolocalização da marcação';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.MARCACAO_PONTO.LONGITUDE IS 'Longitude da geolocalização da marcação';
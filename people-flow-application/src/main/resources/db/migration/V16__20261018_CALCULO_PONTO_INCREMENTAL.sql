@@ -0,0 +1,47 @@
+-- ==========================
+-- CÁLCULO DE PONTO INCREMENTAL
+-- ==========================
+-- CALCULO_PONTO_DIA passa a ter uma linha por colaborador e dia (UQ_CPD_COLAB_DATA,
+-- substitui IDX_CPD_COLAB_DATA) e guarda as horas previstas pela jornada, para que o
+-- recálculo de um dia saiba quanto ele contribuía para o saldo do banco de horas.
+--
+-- CALCULO_PONTO_PENDENTE é a fila de dias a recalcular: a ingestão de marcações e o
+-- fechamento do mês inserem (colaborador, dia); o motor de cálculo consome a fila.
+-- O dia é a data local do fuso configurado em app.ponto.calculo.fuso.
+
+DELETE FROM PEOPLE_FLOW_RH.CALCULO_PONTO_DIA c
+USING PEOPLE_FLOW_RH.CALCULO_PONTO_DIA d
+WHERE c.COLABORADOR_ID = d.COLABORADOR_ID
+  AND c.DATA = d.DATA
+  AND c.ID < d.ID;
+
+ALTER TABLE PEOPLE_FLOW_RH.CALCULO_PONTO_DIA
+    ADD COLUMN IF NOT EXISTS HORAS_PREVISTAS NUMERIC(6,2) NOT NULL DEFAULT 0;
+
+ALTER TABLE PEOPLE_FLOW_RH.CALCULO_PONTO_DIA
+    ADD CONSTRAINT CHK_CPD_HORAS_PREVISTAS CHECK (HORAS_PREVISTAS >= 0);
+
+ALTER TABLE PEOPLE_FLOW_RH.CALCULO_PONTO_DIA
+    ADD CONSTRAINT UQ_CPD_COLAB_DATA UNIQUE (COLABORADOR_ID, DATA);
+
+DROP INDEX IF EXISTS PEOPLE_FLOW_RH.IDX_CPD_COLAB_DATA;
+
+CREATE TABLE IF NOT EXISTS PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE (
+    COLABORADOR_ID BIGINT NOT NULL,
+    DATA           DATE NOT NULL,
+    INCLUIDO_EM    TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    CONSTRAINT PK_CALCULO_PONTO_PENDENTE PRIMARY KEY (COLABORADOR_ID, DATA)
+);
+
+-- Marcações já registradas entram na fila para o primeiro cálculo
+INSERT INTO PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE (COLABORADOR_ID, DATA)
+SELECT DISTINCT COLABORADOR_ID, (DATA_HORA AT TIME ZONE 'America/Sao_Paulo')::DATE
+FROM PEOPLE_FLOW_RH.MARCACAO_PONTO
+WHERE EXCLUIDO_EM IS NULL
+ON CONFLICT DO NOTHING;
+
+COMMENT ON COLUMN PEOPLE_FLOW_RH.CALCULO_PONTO_DIA.HORAS_PREVISTAS IS 'Horas previstas pela jornada no dia';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.CALCULO_PONTO_DIA.BANCO_HORAS_SALDO IS
+'Saldo acumulado do banco de horas ao fim do dia (soma de trabalhadas - previstas até a data)';
+COMMENT ON TABLE PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE IS
+'Fila de dias de colaborador com marcações alteradas, aguardando recálculo do ponto';
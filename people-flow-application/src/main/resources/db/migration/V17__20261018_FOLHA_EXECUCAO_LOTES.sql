@@ -0,0 +1,42 @@
+-- ==========================
+-- FOLHA DE PAGAMENTO - EXECUÇÃO EM LOTES
+-- ==========================
+-- O cálculo de uma execução é planejado em lotes de contratos (faixas contíguas de ID,
+-- em ordem de ID). Cada lote é calculado em uma transação que grava seus itens e o marca
+-- como concluído: uma execução interrompida retoma dos lotes ainda pendentes, sem
+-- duplicar itens. Os lotes também guardam contagens e duração, base das métricas da execução.
+--
+-- Rubricas calculadas automaticamente são as que têm BASE_CALCULO.tipo:
+--   {"tipo": "salario_base"}                     salário base proporcional aos dias do contrato
+--   {"tipo": "percentual_salario", "percentual": 8} percentual do salário base proporcional
+--   {"tipo": "valor_fixo", "valor": 150.00}       valor fixo
+-- Rubricas sem tipo são lançadas manualmente.
+
+ALTER TABLE PEOPLE_FLOW_RH.FOLHA_EXECUCAO
+    ADD COLUMN IF NOT EXISTS INICIADO_EM  TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS CONCLUIDO_EM TIMESTAMPTZ;
+
+CREATE TABLE IF NOT EXISTS PEOPLE_FLOW_RH.FOLHA_EXECUCAO_LOTE (
+    EXECUCAO_ID        BIGINT NOT NULL,
+    LOTE               INT NOT NULL,
+    CONTRATO_ID_INICIO BIGINT NOT NULL,
+    CONTRATO_ID_FIM    BIGINT NOT NULL,
+    STATUS             TEXT NOT NULL DEFAULT 'pendente',
+    CONTRATOS          INT NOT NULL DEFAULT 0,
+    ITENS              INT NOT NULL DEFAULT 0,
+    DURACAO_MS         BIGINT NOT NULL DEFAULT 0,
+    CONCLUIDO_EM       TIMESTAMPTZ,
+    CONSTRAINT PK_FOLHA_EXECUCAO_LOTE PRIMARY KEY (EXECUCAO_ID, LOTE),
+    CONSTRAINT FK_FEL_EXECUCAO FOREIGN KEY (EXECUCAO_ID) REFERENCES PEOPLE_FLOW_RH.FOLHA_EXECUCAO(ID),
+    CONSTRAINT CHK_FEL_STATUS CHECK (STATUS IN ('pendente', 'concluido'))
+);
+
+-- Lotes pendentes de cada execução, na ordem de reivindicação
+CREATE INDEX IF NOT EXISTS IDX_FEL_PENDENTE
+    ON PEOPLE_FLOW_RH.FOLHA_EXECUCAO_LOTE (EXECUCAO_ID, LOTE)
+    WHERE STATUS = 'pendente';
+
+COMMENT ON TABLE PEOPLE_FLOW_RH.FOLHA_EXECUCAO_LOTE IS
+'Lotes de contratos (faixa de IDs) do cálculo de uma execução da folha; checkpoint para retomada';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.FOLHA_EXECUCAO.INICIADO_EM IS 'Início do cálculo';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.FOLHA_EXECUCAO.CONCLUIDO_EM IS 'Fim do cálculo (todos os lotes concluídos)';
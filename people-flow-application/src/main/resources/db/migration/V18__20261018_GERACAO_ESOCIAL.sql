@@ -0,0 +1,70 @@
+-- ==========================
+-- ESOCIAL - GERAÇÃO DE EVENTOS EM LOTES
+-- ==========================
+-- Uma geração produz os eventos de um tipo (S-1200) de uma execução da folha para um
+-- empregador. Os trabalhadores são percorridos em ordem de ID, em páginas do tamanho de
+-- um lote de envio: cada página vira EVENTO_ESOCIAL + PAYLOAD_ESOCIAL (XML escrito em
+-- streaming) e avança ULTIMO_COLABORADOR_ID na mesma transação. A memória usada depende
+-- só do tamanho do lote, e uma geração interrompida continua do último lote gravado.
+
+CREATE TABLE IF NOT EXISTS PEOPLE_FLOW_RH.GERACAO_ESOCIAL (
+    ID  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    EXECUCAO_ID           BIGINT NOT NULL,
+    EMPRESA_ID            BIGINT NOT NULL,
+    TIPO                  TEXT NOT NULL,
+    COMPETENCIA           DATE NOT NULL, -- use o dia 1 do mês
+    STATUS                TEXT NOT NULL DEFAULT 'gerando',
+    ULTIMO_COLABORADOR_ID BIGINT NOT NULL DEFAULT 0,
+    LOTES                 INT NOT NULL DEFAULT 0,
+    EVENTOS               INT NOT NULL DEFAULT 0,
+    TAMANHO_XML           BIGINT NOT NULL DEFAULT 0,
+    INICIADO_EM           TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    CONCLUIDO_EM          TIMESTAMPTZ,
+    CRIADO_POR        VARCHAR(100),
+    CRIADO_EM         TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    ATUALIZADO_POR    VARCHAR(100),
+    ATUALIZADO_EM     TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    EXCLUIDO_POR      VARCHAR(100),
+    EXCLUIDO_EM       TIMESTAMPTZ,
+    CONSTRAINT FK_GESOCIAL_EXECUCAO FOREIGN KEY (EXECUCAO_ID) REFERENCES PEOPLE_FLOW_RH.FOLHA_EXECUCAO(ID),
+    CONSTRAINT FK_GESOCIAL_EMPRESA FOREIGN KEY (EMPRESA_ID) REFERENCES PEOPLE_FLOW_RH.EMPRESA(ID),
+    CONSTRAINT CHK_GESOCIAL_STATUS CHECK (STATUS IN ('gerando', 'gerado'))
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS UQ_GESOCIAL_EXECUCAO_EMPRESA_TIPO
+    ON PEOPLE_FLOW_RH.GERACAO_ESOCIAL (EXECUCAO_ID, EMPRESA_ID, TIPO)
+    WHERE EXCLUIDO_EM IS NULL;
+
+CREATE INDEX IF NOT EXISTS IDX_GESOCIAL_GERANDO
+    ON PEOPLE_FLOW_RH.GERACAO_ESOCIAL (ID)
+    WHERE STATUS = 'gerando' AND EXCLUIDO_EM IS NULL;
+
+ALTER TABLE PEOPLE_FLOW_RH.EVENTO_ESOCIAL
+    ADD COLUMN IF NOT EXISTS GERACAO_ID BIGINT,
+    ADD COLUMN IF NOT EXISTS LOTE       INT,
+    ADD COLUMN IF NOT EXISTS ID_EVENTO  VARCHAR(36);
+
+ALTER TABLE PEOPLE_FLOW_RH.EVENTO_ESOCIAL
+    ADD CONSTRAINT FK_ESOCIAL_GERACAO FOREIGN KEY (GERACAO_ID) REFERENCES PEOPLE_FLOW_RH.GERACAO_ESOCIAL(ID);
+
+-- Um evento por trabalhador na geração; também serve aos lotes de envio (GERACAO_ID, LOTE)
+CREATE UNIQUE INDEX IF NOT EXISTS UQ_ESOCIAL_GERACAO_REFERENCIA
+    ON PEOPLE_FLOW_RH.EVENTO_ESOCIAL (GERACAO_ID, REFERENCIA_ID)
+    WHERE GERACAO_ID IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS IDX_ESOCIAL_GERACAO_LOTE
+    ON PEOPLE_FLOW_RH.EVENTO_ESOCIAL (GERACAO_ID, LOTE)
+    WHERE GERACAO_ID IS NOT NULL;
+
+-- Trabalhadores de uma execução em ordem de ID (keyset da geração)
+CREATE INDEX IF NOT EXISTS IDX_FI_EXECUCAO_COLAB
+    ON PEOPLE_FLOW_RH.FOLHA_ITEM (EXECUCAO_ID, COLABORADOR_ID)
+    WHERE EXCLUIDO_EM IS NULL;
+
+COMMENT ON TABLE PEOPLE_FLOW_RH.GERACAO_ESOCIAL IS
+'Geração dos eventos eSocial de uma execução da folha por empregador; checkpoint para retomada';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.GERACAO_ESOCIAL.ULTIMO_COLABORADOR_ID IS 'Último trabalhador com evento gravado (keyset)';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.GERACAO_ESOCIAL.TAMANHO_XML IS 'Soma do tamanho (caracteres) dos XMLs gerados';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.EVENTO_ESOCIAL.GERACAO_ID IS 'Geração que produziu o evento';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.EVENTO_ESOCIAL.LOTE IS 'Lote de envio dentro da geração';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.EVENTO_ESOCIAL.ID_EVENTO IS 'Atributo Id do evento no XML';
@@ -0,0 +1,39 @@
+-- ==========================
+-- NOTIFICAÇÕES - DESPACHO EM LOTES
+-- ==========================
+-- NOTIFICACAO_ENVIO passa a ser a fila de envio: linhas pendentes são reivindicadas em
+-- lotes (FOR UPDATE SKIP LOCKED + lease em RESERVADO_ATE), renderizadas a partir do
+-- template na hora do envio e entregues pelo adapter do canal. Falhas voltam à fila com
+-- backoff (DISPONIVEL_EM) até o limite de tentativas; depois ficam com status 'erro'.
+--
+-- CORPO_RENDERIZADO deixa de ser obrigatório: campanhas enfileiram uma linha por
+-- destinatário só com template e contexto, e o corpo é gravado quando a notificação é enviada.
+--
+-- Canal 'keycloak': e-mails de ação do Keycloak (ex.: definir senha), enviados pelo próprio
+-- Keycloak, que gera o link; CONTEXTO.acao indica a ação.
+
+ALTER TABLE PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO
+    ALTER COLUMN CORPO_RENDERIZADO DROP NOT NULL,
+    ADD COLUMN IF NOT EXISTS DESTINATARIO  TEXT,
+    ADD COLUMN IF NOT EXISTS TENTATIVAS    INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS DISPONIVEL_EM TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    ADD COLUMN IF NOT EXISTS RESERVADO_ATE TIMESTAMPTZ;
+
+ALTER TABLE PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO DROP CONSTRAINT IF EXISTS NOTIFICACAO_ENVIO_CANAL_CHECK;
+ALTER TABLE PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO DROP CONSTRAINT IF EXISTS CHK_NE_CANAL;
+ALTER TABLE PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO
+    ADD CONSTRAINT CHK_NE_CANAL CHECK (CANAL IN ('email', 'push', 'inapp', 'keycloak'));
+
+-- Fila de pendentes: só as linhas não enviadas entram no índice
+CREATE INDEX IF NOT EXISTS IDX_NE_PENDENTE
+    ON PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO (DISPONIVEL_EM, ID)
+    WHERE STATUS = 'pendente';
+
+-- Template ativo mais recente pelo nome
+CREATE INDEX IF NOT EXISTS IDX_TN_NOME_ATIVO
+    ON PEOPLE_FLOW_RH.TEMPLATE_NOTIFICACAO (NOME, CANAL, VERSAO DESC)
+    WHERE ATIVO AND EXCLUIDO_EM IS NULL;
+
+COMMENT ON COLUMN PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO.DESTINATARIO IS 'Endereço de entrega; vazio usa o e-mail do colaborador';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO.DISPONIVEL_EM IS 'Quando a notificação pode ser (re)tentada';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO.RESERVADO_ATE IS 'Lease do nó que reivindicou a notificação; expirado, ela volta à fila';
@@ -0,0 +1,35 @@
+-- ==========================
+-- OUTBOX: STATUS E EVENTOS EM ERRO
+-- ==========================
+-- Um evento que esgota as tentativas (ou cujo tipo/payload não é reconhecido) sai da
+-- fila com STATUS = 'erro' em vez de ser retentado para sempre. Só eventos pendentes
+-- bloqueiam os seguintes do mesmo agregado, então um evento em erro deixa de segurar
+-- a fila do colaborador. Eventos em erro ficam para análise e reprocessamento manual
+-- (UPDATE ... SET STATUS = 'pendente', TENTATIVAS = 0).
+
+ALTER TABLE PEOPLE_FLOW_RH.OUTBOX_EVENTO
+    ADD COLUMN IF NOT EXISTS STATUS TEXT NOT NULL DEFAULT 'pendente';
+
+UPDATE PEOPLE_FLOW_RH.OUTBOX_EVENTO SET STATUS = 'processado' WHERE PROCESSADO_EM IS NOT NULL;
+
+ALTER TABLE PEOPLE_FLOW_RH.OUTBOX_EVENTO DROP CONSTRAINT IF EXISTS CHK_OUTBOX_STATUS;
+ALTER TABLE PEOPLE_FLOW_RH.OUTBOX_EVENTO
+    ADD CONSTRAINT CHK_OUTBOX_STATUS CHECK (STATUS IN ('pendente', 'processado', 'erro'));
+
+-- Fila de pendentes e cabeça da fila de cada agregado passam a filtrar por status
+DROP INDEX IF EXISTS PEOPLE_FLOW_RH.IDX_OUTBOX_PENDENTE;
+CREATE INDEX IF NOT EXISTS IDX_OUTBOX_PENDENTE
+    ON PEOPLE_FLOW_RH.OUTBOX_EVENTO (ID)
+    WHERE STATUS = 'pendente';
+
+DROP INDEX IF EXISTS PEOPLE_FLOW_RH.IDX_OUTBOX_AGREGADO_PENDENTE;
+CREATE INDEX IF NOT EXISTS IDX_OUTBOX_AGREGADO_PENDENTE
+    ON PEOPLE_FLOW_RH.OUTBOX_EVENTO (AGREGADO_ID, ID)
+    WHERE STATUS = 'pendente';
+
+CREATE INDEX IF NOT EXISTS IDX_OUTBOX_ERRO
+    ON PEOPLE_FLOW_RH.OUTBOX_EVENTO (ID)
+    WHERE STATUS = 'erro';
+
+COMMENT ON COLUMN PEOPLE_FLOW_RH.OUTBOX_EVENTO.STATUS IS
+'pendente: na fila; processado: entregue; erro: tentativas esgotadas ou evento inválido (fora da fila)';
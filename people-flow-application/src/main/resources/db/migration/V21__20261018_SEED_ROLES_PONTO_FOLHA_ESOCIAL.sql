@@ -0,0 +1,53 @@
+-- ============================
+-- SEED DATA: Roles de ponto, folha, eSocial e notificações
+-- ============================
+-- Roles exigidas pelos endpoints de marcação/fechamento de ponto, processamento da
+-- folha, geração do eSocial e envio de notificações. As mesmas roles estão no realm
+-- (infra/auth/keycloak/realms/people-flow-realm.json).
+
+-- ============================
+-- Cargo 1 - Gerente de RH
+-- ============================
+INSERT INTO people_flow_rh.cargo_role (cargo_id, role_name, descricao) VALUES
+(1, 'ponto:registrar', 'Registrar marcações de ponto'),
+(1, 'ponto:fechar', 'Fechar e recalcular o ponto'),
+
+(1, 'esocial:ler', 'Consultar eventos do eSocial'),
+(1, 'esocial:gerar', 'Gerar eventos do eSocial'),
+
+(1, 'notificacao:enviar', 'Enviar notificações a colaboradores')
+ON CONFLICT (cargo_id, role_name) DO NOTHING;
+
+-- ============================
+-- Cargo 2 - Analista de RH
+-- ============================
+INSERT INTO people_flow_rh.cargo_role (cargo_id, role_name, descricao) VALUES
+(2, 'ponto:fechar', 'Fechar e recalcular o ponto'),
+
+(2, 'esocial:ler', 'Consultar eventos do eSocial'),
+
+(2, 'notificacao:enviar', 'Enviar notificações a colaboradores')
+ON CONFLICT (cargo_id, role_name) DO NOTHING;
+
+-- ============================
+-- Cargo 5 - Colaborador Padrão
+-- ============================
+INSERT INTO people_flow_rh.cargo_role (cargo_id, role_name, descricao) VALUES
+(5, 'ponto:registrar', 'Registrar marcações de ponto')
+ON CONFLICT (cargo_id, role_name) DO NOTHING;
+
+-- ============================
+-- Cargo 6 - Administrador de Sistema
+-- ============================
+INSERT INTO people_flow_rh.cargo_role (cargo_id, role_name, descricao) VALUES
+(6, 'ponto:registrar', 'Registrar marcações de ponto'),
+(6, 'ponto:fechar', 'Fechar e recalcular o ponto'),
+
+(6, 'folha:ler', 'Visualizar folhas de pagamento'),
+(6, 'folha:processar', 'Processar folhas de pagamento'),
+
+(6, 'esocial:ler', 'Consultar eventos do eSocial'),
+(6, 'esocial:gerar', 'Gerar eventos do eSocial'),
+
+(6, 'notificacao:enviar', 'Enviar notificações a colaboradores')
+ON CONFLICT (cargo_id, role_name) DO NOTHING;
@@ -0,0 +1,26 @@
+-- ==========================
+-- CÁLCULO DE PONTO: TENTATIVAS E DIAS EM ERRO
+-- ==========================
+-- Um colaborador cujo recálculo falha volta à fila com backoff (PROXIMA_TENTATIVA_EM)
+-- em vez de continuar na cabeça da fila a cada ciclo. Ao esgotar as tentativas, seus
+-- dias ficam com STATUS = 'erro' e saem da fila; uma nova marcação ou o fechamento
+-- do mês devolve o dia à fila (STATUS = 'pendente', TENTATIVAS = 0).
+
+ALTER TABLE PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE
+    ADD COLUMN IF NOT EXISTS STATUS TEXT NOT NULL DEFAULT 'pendente',
+    ADD COLUMN IF NOT EXISTS TENTATIVAS INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS PROXIMA_TENTATIVA_EM TIMESTAMPTZ,
+    ADD COLUMN IF NOT EXISTS ULTIMO_ERRO TEXT;
+
+ALTER TABLE PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE DROP CONSTRAINT IF EXISTS CHK_CPP_STATUS;
+ALTER TABLE PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE
+    ADD CONSTRAINT CHK_CPP_STATUS CHECK (STATUS IN ('pendente', 'erro'));
+
+CREATE INDEX IF NOT EXISTS IDX_CPP_PENDENTE
+    ON PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE (COLABORADOR_ID, INCLUIDO_EM)
+    WHERE STATUS = 'pendente';
+
+COMMENT ON COLUMN PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE.STATUS IS
+'pendente: na fila; erro: recálculo falhou em todas as tentativas (fora da fila)';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE.PROXIMA_TENTATIVA_EM IS
+'Após uma falha, o colaborador só volta a ser recalculado a partir deste instante';
@@ -0,0 +1,24 @@
+-- ==========================
+-- FOLHA DE PAGAMENTO - LOTES E EXECUÇÕES COM ERRO
+-- ==========================
+-- Um lote cujo cálculo falha volta a pendente e é retentado; ao esgotar as tentativas
+-- fica com STATUS = 'erro'. Quando não resta lote pendente e algum terminou em erro, a
+-- execução vai para 'erro_calculo' em vez de ficar em cálculo para sempre. Calcular de
+-- novo uma execução em erro devolve seus lotes em erro à fila (TENTATIVAS = 0).
+
+ALTER TABLE PEOPLE_FLOW_RH.FOLHA_EXECUCAO_LOTE
+    ADD COLUMN IF NOT EXISTS TENTATIVAS  INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS ULTIMO_ERRO TEXT;
+
+ALTER TABLE PEOPLE_FLOW_RH.FOLHA_EXECUCAO_LOTE DROP CONSTRAINT IF EXISTS CHK_FEL_STATUS;
+ALTER TABLE PEOPLE_FLOW_RH.FOLHA_EXECUCAO_LOTE
+    ADD CONSTRAINT CHK_FEL_STATUS CHECK (STATUS IN ('pendente', 'concluido', 'erro'));
+
+ALTER TABLE PEOPLE_FLOW_RH.FOLHA_EXECUCAO DROP CONSTRAINT IF EXISTS CHK_FE_STATUS;
+ALTER TABLE PEOPLE_FLOW_RH.FOLHA_EXECUCAO
+    ADD CONSTRAINT CHK_FE_STATUS CHECK (STATUS IN ('aberta', 'em_calculo', 'erro_calculo', 'calculada',
+                                                   'em_aprovacao', 'aprovada', 'fechada'));
+
+COMMENT ON COLUMN PEOPLE_FLOW_RH.FOLHA_EXECUCAO.STATUS IS
+'Status: aberta, em_calculo, erro_calculo, calculada, em_aprovacao, aprovada, fechada';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.FOLHA_EXECUCAO_LOTE.ULTIMO_ERRO IS 'Mensagem da última falha do cálculo do lote';
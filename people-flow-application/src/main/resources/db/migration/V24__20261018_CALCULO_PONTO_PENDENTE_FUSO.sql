@@ -0,0 +1,14 @@
+-- ==========================
+-- CÁLCULO DE PONTO: FILA INICIAL NO FUSO CONFIGURADO
+-- ==========================
+-- A carga inicial da fila (V16) calculou o dia das marcações em 'America/Sao_Paulo'.
+-- Com outro fuso em app.ponto.calculo.fuso (placeholder fuso_ponto do Flyway), os dias
+-- locais corretos entram na fila agora; o motor de cálculo recalcula cada dia no fuso
+-- configurado. No fuso padrão nada muda.
+
+INSERT INTO PEOPLE_FLOW_RH.CALCULO_PONTO_PENDENTE (COLABORADOR_ID, DATA)
+SELECT DISTINCT COLABORADOR_ID, (DATA_HORA AT TIME ZONE '${fuso_ponto}')::DATE
+FROM PEOPLE_FLOW_RH.MARCACAO_PONTO
+WHERE EXCLUIDO_EM IS NULL
+  AND '${fuso_ponto}' <> 'America/Sao_Paulo'
+ON CONFLICT DO NOTHING;
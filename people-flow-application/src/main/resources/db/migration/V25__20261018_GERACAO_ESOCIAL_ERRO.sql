@@ -0,0 +1,18 @@
+-- ==========================
+-- ESOCIAL - GERAÇÕES COM ERRO
+-- ==========================
+-- Um lote cuja geração falha é retentado com backoff; cada falha incrementa TENTATIVAS
+-- e guarda ULTIMO_ERRO. Ao esgotar as tentativas a geração fica com STATUS = 'erro' em
+-- vez de ficar em 'gerando' para sempre. Pedir a geração de novo devolve as gerações em
+-- erro a 'gerando' (TENTATIVAS = 0), a partir do último lote gravado.
+
+ALTER TABLE PEOPLE_FLOW_RH.GERACAO_ESOCIAL
+    ADD COLUMN IF NOT EXISTS TENTATIVAS  INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS ULTIMO_ERRO TEXT;
+
+ALTER TABLE PEOPLE_FLOW_RH.GERACAO_ESOCIAL DROP CONSTRAINT IF EXISTS CHK_GESOCIAL_STATUS;
+ALTER TABLE PEOPLE_FLOW_RH.GERACAO_ESOCIAL
+    ADD CONSTRAINT CHK_GESOCIAL_STATUS CHECK (STATUS IN ('gerando', 'gerado', 'erro'));
+
+COMMENT ON COLUMN PEOPLE_FLOW_RH.GERACAO_ESOCIAL.TENTATIVAS IS 'Falhas seguidas desde o último lote gravado';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.GERACAO_ESOCIAL.ULTIMO_ERRO IS 'Mensagem da última falha da geração';
@@ -0,0 +1,37 @@
+-- ============================
+-- OUTBOX DE EVENTOS DE DOMÍNIO
+-- ============================
+-- Eventos gravados na mesma transação da escrita do agregado e
+-- despachados por um relay em lotes (FOR UPDATE SKIP LOCKED).
+
+CREATE TABLE IF NOT EXISTS PEOPLE_FLOW_RH.OUTBOX_EVENTO (
+    ID              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    AGREGADO_TIPO   VARCHAR(100) NOT NULL,
+    AGREGADO_ID     BIGINT NOT NULL,
+    TIPO_EVENTO     VARCHAR(100) NOT NULL,
+    PAYLOAD         TEXT NOT NULL,
+    TENTATIVAS      INT NOT NULL DEFAULT 0,
+    ULTIMO_ERRO     TEXT,
+    DISPONIVEL_EM   TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    RESERVADO_ATE   TIMESTAMPTZ,
+    PROCESSADO_EM   TIMESTAMPTZ,
+    CRIADO_EM       TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
+
+-- Fila de pendentes: só as linhas não processadas entram no índice
+CREATE INDEX IF NOT EXISTS IDX_OUTBOX_PENDENTE
+    ON PEOPLE_FLOW_RH.OUTBOX_EVENTO (ID)
+    WHERE PROCESSADO_EM IS NULL;
+
+-- Ordenação por agregado (cabeça da fila de cada colaborador)
+CREATE INDEX IF NOT EXISTS IDX_OUTBOX_AGREGADO_PENDENTE
+    ON PEOPLE_FLOW_RH.OUTBOX_EVENTO (AGREGADO_ID, ID)
+    WHERE PROCESSADO_EM IS NULL;
+
+-- Limpeza de processados
+CREATE INDEX IF NOT EXISTS IDX_OUTBOX_PROCESSADO_EM
+    ON PEOPLE_FLOW_RH.OUTBOX_EVENTO (PROCESSADO_EM)
+    WHERE PROCESSADO_EM IS NOT NULL;
+
+COMMENT ON TABLE PEOPLE_FLOW_RH.OUTBOX_EVENTO IS 'Outbox transacional de eventos de domínio (entrega at-least-once)';
+COMMENT ON COLUMN PEOPLE_FLOW_RH.OUTBOX_EVENTO.RESERVADO_ATE IS 'Lease do nó que reivindicou o evento; expirado, o evento volta à fila';
@@ -0,0 +1,114 @@
+package com.peopleflow.benchmarks;
+
+import com.peopleflow.pessoascontratos.outbound.jpa.entity.ColaboradorEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Massa de dados determinística (seed fixa) para os benchmarks
+ */
+final class Amostras {
+
+    static final int TAMANHO_PAGINA = 200;
+
+    private Amostras() {
+    }
+
+    /** CPFs válidos, só dígitos */
+    static String[] cpfs(int quantidade) {
+        Random random = new Random(42);
+        String[] cpfs = new String[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            int[] d = new int[11];
+            for (int j = 0; j < 9; j++) {
+                d[j] = random.nextInt(10);
+            }
+            d[0] = 1 + random.nextInt(9); // evita sequência repetida
+            d[9] = digitoCpf(d, 9);
+            d[10] = digitoCpf(d, 10);
+            cpfs[i] = juntar(d);
+        }
+        return cpfs;
+    }
+
+    /** CNPJs válidos, só dígitos */
+    static String[] cnpjs(int quantidade) {
+        Random random = new Random(7);
+        int[] pesos1 = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+        int[] pesos2 = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+        String[] cnpjs = new String[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            int[] d = new int[14];
+            for (int j = 0; j < 8; j++) {
+                d[j] = random.nextInt(10);
+            }
+            d[0] = 1 + random.nextInt(9);
+            d[11] = 1; // filial 0001
+            d[12] = digitoCnpj(d, pesos1);
+            d[13] = digitoCnpj(d, pesos2);
+            cnpjs[i] = juntar(d);
+        }
+        return cnpjs;
+    }
+
+    static String formatarCpf(String digitos) {
+        return digitos.substring(0, 3) + "." + digitos.substring(3, 6) + "."
+                + digitos.substring(6, 9) + "-" + digitos.substring(9);
+    }
+
+    static String formatarCnpj(String digitos) {
+        return digitos.substring(0, 2) + "." + digitos.substring(2, 5) + "." + digitos.substring(5, 8)
+                + "/" + digitos.substring(8, 12) + "-" + digitos.substring(12);
+    }
+
+    /** Página de entidades como lidas do banco (CPF formatado, email minúsculo) */
+    static List<ColaboradorEntity> paginaColaboradores() {
+        String[] cpfs = cpfs(TAMANHO_PAGINA);
+        List<ColaboradorEntity> pagina = new ArrayList<>(TAMANHO_PAGINA);
+        for (int i = 0; i < TAMANHO_PAGINA; i++) {
+            ColaboradorEntity entity = new ColaboradorEntity();
+            entity.setId((long) i + 1);
+            entity.setNome("Colaborador " + i);
+            entity.setCpf(formatarCpf(cpfs[i]));
+            entity.setMatricula("M" + i);
+            entity.setEmail("colaborador" + i + "@empresa.com.br");
+            entity.setDataAdmissao(LocalDate.of(2020, 1, 1).plusDays(i));
+            entity.setStatus("ativo");
+            entity.setEmpresaId(1L);
+            entity.setDepartamentoId(10L + (i % 5));
+            entity.setCentroCustoId(100L);
+            entity.setCargoId(1000L + (i % 20));
+            pagina.add(entity);
+        }
+        return pagina;
+    }
+
+    private static int digitoCpf(int[] d, int tamanho) {
+        int soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += d[i] * (tamanho + 1 - i);
+        }
+        int resto = 11 - (soma % 11);
+        return resto >= 10 ? 0 : resto;
+    }
+
+    private static int digitoCnpj(int[] d, int[] pesos) {
+        int soma = 0;
+        for (int i = 0; i < pesos.length; i++) {
+            soma += d[i] * pesos[i];
+        }
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+
+    private static String juntar(int[] digitos) {
+        StringBuilder sb = new StringBuilder(digitos.length);
+        for (int digito : digitos) {
+            sb.append(digito);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package com.peopleflow.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do jar de benchmarks
+ *
+ * Sem argumentos executa todos os benchmarks e grava o resultado em JSON
+ * (target/jmh-result.json) para comparação entre versões. Com argumentos,
+ * repassa para o CLI padrão do JMH (ex.: {@code -rf json -rff saida.json Cpf}).
+ */
+public final class BenchmarkRunner {
+
+    private static final String RESULTADO_PADRAO = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        executarTodos();
+    }
+
+    private static void executarTodos() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include("com\\.peopleflow\\.benchmarks\\..*")
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULTADO_PADRAO)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.peopleflow.benchmarks;
+
+import com.peopleflow.common.pagination.PagedResult;
+import com.peopleflow.pessoascontratos.core.domain.Colaborador;
+import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorResponse;
+import com.peopleflow.pessoascontratos.inbound.web.mapper.ColaboradorWebMapper;
+import com.peopleflow.pessoascontratos.outbound.jpa.entity.ColaboradorEntity;
+import com.peopleflow.pessoascontratos.outbound.jpa.mapper.ColaboradorJpaMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento de uma página de colaboradores (entity → domínio → response), como no GET de listagem
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final ColaboradorJpaMapper jpaMapper = Mappers.getMapper(ColaboradorJpaMapper.class);
+    private final ColaboradorWebMapper webMapper = Mappers.getMapper(ColaboradorWebMapper.class);
+
+    private List<ColaboradorEntity> entidades;
+    private List<Colaborador> colaboradores;
+    private PagedResult<Colaborador> pagina;
+
+    @Setup
+    public void preparar() {
+        entidades = Amostras.paginaColaboradores();
+        colaboradores = entidades.stream().map(jpaMapper::toDomain).toList();
+        pagina = new PagedResult<>(colaboradores, 10_000, 50, 0, Amostras.TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public List<Colaborador> entityParaDominio() {
+        List<Colaborador> resultado = new ArrayList<>(entidades.size());
+        for (ColaboradorEntity entity : entidades) {
+            resultado.add(jpaMapper.toDomain(entity));
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    public List<ColaboradorEntity> dominioParaEntity() {
+        List<ColaboradorEntity> resultado = new ArrayList<>(colaboradores.size());
+        for (Colaborador colaborador : colaboradores) {
+            resultado.add(jpaMapper.toEntity(colaborador));
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    public List<ColaboradorResponse> dominioParaResponse() {
+        List<ColaboradorResponse> resultado = new ArrayList<>(colaboradores.size());
+        for (Colaborador colaborador : colaboradores) {
+            resultado.add(webMapper.toResponse(colaborador));
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    public PagedResult<ColaboradorResponse> pagedResultMap() {
+        return PagedResult.map(pagina, webMapper::toResponse);
+    }
+}
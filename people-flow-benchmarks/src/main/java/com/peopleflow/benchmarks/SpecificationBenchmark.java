@@ -0,0 +1,97 @@
+package com.peopleflow.benchmarks;
+
+import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import com.peopleflow.pessoascontratos.outbound.jpa.entity.ColaboradorEntity;
+import com.peopleflow.pessoascontratos.outbound.jpa.specification.ColaboradorSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem dos predicados de ColaboradorSpecification com o CriteriaBuilder do Hibernate.
+ * O metamodelo é inicializado em H2 em memória, sem schema nem consultas ao banco.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private ColaboradorFilter filtroVazio;
+    private ColaboradorFilter filtroCompleto;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1")
+                .applySetting("hibernate.hbm2ddl.auto", "none")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(ColaboradorEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+
+        filtroVazio = new ColaboradorFilter();
+        filtroCompleto = ColaboradorFilter.builder()
+                .nome("Silva")
+                .cpf("123.456.789-09")
+                .email("empresa.com.br")
+                .matricula("M100")
+                .status("ativo")
+                .empresaId(1L)
+                .departamentoId(10L)
+                .centroCustoId(100L)
+                .dataAdmissaoInicio(LocalDate.of(2020, 1, 1))
+                .dataAdmissaoFim(LocalDate.of(2024, 12, 31))
+                .dataDemissaoInicio(LocalDate.of(2021, 1, 1))
+                .dataDemissaoFim(LocalDate.of(2025, 12, 31))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate filtroVazio() {
+        return montar(ColaboradorSpecification.filter(filtroVazio));
+    }
+
+    @Benchmark
+    public Predicate filtroCompleto() {
+        return montar(ColaboradorSpecification.filter(filtroCompleto));
+    }
+
+    private Predicate montar(Specification<ColaboradorEntity> specification) {
+        CriteriaQuery<ColaboradorEntity> query = criteriaBuilder.createQuery(ColaboradorEntity.class);
+        Root<ColaboradorEntity> root = query.from(ColaboradorEntity.class);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+}
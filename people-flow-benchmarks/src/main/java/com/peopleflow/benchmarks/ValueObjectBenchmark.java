@@ -0,0 +1,100 @@
+package com.peopleflow.benchmarks;
+
+import com.peopleflow.common.valueobject.Cnpj;
+import com.peopleflow.common.valueobject.Cpf;
+import com.peopleflow.common.valueobject.Email;
+import com.peopleflow.common.valueobject.InscricaoEstadual;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construção e leitura dos value objects de documento (hot path de toDomain e validação)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private static final int AMOSTRAS = 1024;
+
+    private String[] cpfsDigitos;
+    private String[] cpfsFormatados;
+    private String[] cnpjsDigitos;
+    private String[] cnpjsFormatados;
+    private String[] emails;
+    private String[] inscricoes;
+    private Cpf[] cpfs;
+    private int indice;
+
+    @Setup
+    public void preparar() {
+        cpfsDigitos = Amostras.cpfs(AMOSTRAS);
+        cnpjsDigitos = Amostras.cnpjs(AMOSTRAS);
+        cpfsFormatados = new String[AMOSTRAS];
+        cnpjsFormatados = new String[AMOSTRAS];
+        emails = new String[AMOSTRAS];
+        inscricoes = new String[AMOSTRAS];
+        cpfs = new Cpf[AMOSTRAS];
+        for (int i = 0; i < AMOSTRAS; i++) {
+            cpfsFormatados[i] = Amostras.formatarCpf(cpfsDigitos[i]);
+            cnpjsFormatados[i] = Amostras.formatarCnpj(cnpjsDigitos[i]);
+            emails[i] = "Colaborador." + i + "@Empresa.com.br";
+            String ie = "1" + String.format("%08d", i * 7919);
+            inscricoes[i] = ie.substring(0, 3) + "." + ie.substring(3, 6) + "." + ie.substring(6);
+            cpfs[i] = new Cpf(cpfsDigitos[i]);
+        }
+    }
+
+    private int proximo() {
+        indice = (indice + 1) & (AMOSTRAS - 1);
+        return indice;
+    }
+
+    @Benchmark
+    public Cpf cpfNovo() {
+        return new Cpf(cpfsDigitos[proximo()]);
+    }
+
+    @Benchmark
+    public Cpf cpfFromStorage() {
+        return Cpf.fromStorage(cpfsFormatados[proximo()]);
+    }
+
+    @Benchmark
+    public String cpfValorNumerico() {
+        return cpfs[proximo()].getValorNumerico();
+    }
+
+    @Benchmark
+    public Cnpj cnpjNovo() {
+        return new Cnpj(cnpjsDigitos[proximo()]);
+    }
+
+    @Benchmark
+    public Cnpj cnpjFromStorage() {
+        return Cnpj.fromStorage(cnpjsFormatados[proximo()]);
+    }
+
+    @Benchmark
+    public Email emailNovo() {
+        return new Email(emails[proximo()]);
+    }
+
+    @Benchmark
+    public InscricaoEstadual inscricaoEstadualOf() {
+        return InscricaoEstadual.of(inscricoes[proximo()]);
+    }
+}
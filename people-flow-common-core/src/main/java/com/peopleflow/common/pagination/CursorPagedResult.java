@@ -0,0 +1,34 @@
+package com.peopleflow.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Resultado de uma consulta paginada por cursor
+ * 
+ * {@code nextCursor} deve ser enviado na próxima requisição para continuar a varredura;
+ * é {@code null} na última página. {@code totalElements} só é preenchido quando
+ * solicitado em {@link CursorPagination#includeTotal()}.
+ * 
+ * @param <T> Tipo dos elementos
+ */
+public record CursorPagedResult<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext,
+    int size,
+    Long totalElements
+) {
+
+    /**
+     * Mapeia os itens da página preservando cursor e metadados.
+     */
+    public <R> CursorPagedResult<R> map(Function<T, R> mapper) {
+        return new CursorPagedResult<>(
+                content.stream().map(mapper).toList(),
+                nextCursor,
+                hasNext,
+                size,
+                totalElements);
+    }
+}
@@ -0,0 +1,49 @@
+package com.peopleflow.common.pagination;
+
+/**
+ * Paginação por cursor (keyset/seek)
+ * 
+ * Alternativa a {@link Pagination} para varreduras longas: em vez de {@code OFFSET},
+ * cada página continua a partir da chave de ordenação + id do último item da página
+ * anterior, codificados no cursor opaco. O custo de cada página não cresce com a
+ * profundidade, e a contagem total só é feita quando solicitada.
+ * 
+ * <p><strong>Nota Arquitetural:</strong> Abstração pura (sem dependências Spring), no módulo common-core.
+ */
+public record CursorPagination(
+    String cursor,
+    int size,
+    String sortBy,
+    Pagination.SortDirection direction,
+    boolean includeTotal
+) {
+
+    /**
+     * Cria uma paginação por cursor
+     *
+     * @param cursor Cursor devolvido pela página anterior ({@code null} para a primeira página)
+     * @param size Tamanho da página
+     * @param sortBy Campo para ordenação (o id é sempre usado como desempate)
+     * @param direction Direção da ordenação
+     * @param includeTotal Se deve calcular o total de elementos (COUNT)
+     * @return CursorPagination
+     */
+    public static CursorPagination of(String cursor, int size, String sortBy,
+                                      Pagination.SortDirection direction, boolean includeTotal) {
+        return new CursorPagination(
+                cursor == null || cursor.isBlank() ? null : cursor.trim(),
+                Pagination.normalizeSize(size),
+                sortBy,
+                direction != null ? direction : Pagination.SortDirection.ASC,
+                includeTotal);
+    }
+
+    /**
+     * Verifica se é a primeira página (sem cursor)
+     *
+     * @return true se não há cursor
+     */
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+}
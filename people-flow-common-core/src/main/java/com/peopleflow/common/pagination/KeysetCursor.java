@@ -0,0 +1,55 @@
+package com.peopleflow.common.pagination;
+
+import com.peopleflow.common.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Conteúdo do cursor opaco de {@link CursorPagination}
+ * 
+ * Guarda a ordenação usada (para rejeitar cursores reaproveitados com outra ordenação),
+ * o valor da chave de ordenação e o id do último item entregue.
+ * Codificado em Base64 URL-safe para trafegar em query string.
+ */
+public record KeysetCursor(
+    String sortBy,
+    Pagination.SortDirection direction,
+    String sortValue,
+    long lastId
+) {
+
+    private static final String VERSAO = "v1";
+    private static final char SEPARADOR = '|';
+
+    public String encode() {
+        // sortValue vai por último: pode conter o separador
+        String raw = VERSAO + SEPARADOR + sortBy + SEPARADOR + direction.name() + SEPARADOR
+                + lastId + SEPARADOR + (sortValue != null ? sortValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = raw.split("\\|", 5);
+            if (partes.length != 5 || !VERSAO.equals(partes[0])) {
+                throw new ValidationException("Cursor de paginação inválido");
+            }
+            return new KeysetCursor(
+                    partes[1],
+                    Pagination.SortDirection.valueOf(partes[2]),
+                    partes[4],
+                    Long.parseLong(partes[3]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Cursor de paginação inválido", e);
+        }
+    }
+
+    /**
+     * Verifica se o cursor foi gerado para a mesma ordenação
+     */
+    public boolean correspondeA(String sortBy, Pagination.SortDirection direction) {
+        return this.sortBy.equals(sortBy) && this.direction == direction;
+    }
+}
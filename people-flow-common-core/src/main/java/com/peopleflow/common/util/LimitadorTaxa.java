@@ -0,0 +1,42 @@
+package com.peopleflow.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite de chamadas por segundo, compartilhado pelas threads que o usam
+ *
+ * Cada chamada reserva o próximo intervalo livre e dorme até ele; sem rajadas.
+ * Usado no envio por canal de notificação e nas correções da reconciliação do Keycloak.
+ */
+public class LimitadorTaxa {
+
+    private final long intervaloNanos;
+    private long proximoNanos = System.nanoTime();
+
+    /**
+     * @param porSegundo chamadas por segundo; 0 ou menos desliga o limite
+     */
+    public LimitadorTaxa(int porSegundo) {
+        this.intervaloNanos = porSegundo > 0 ? TimeUnit.SECONDS.toNanos(1) / porSegundo : 0;
+    }
+
+    public void adquirir() throws InterruptedException {
+        adquirir(1);
+    }
+
+    public void adquirir(int chamadas) throws InterruptedException {
+        if (intervaloNanos == 0 || chamadas <= 0) {
+            return;
+        }
+        long espera;
+        synchronized (this) {
+            long agora = System.nanoTime();
+            long inicio = Math.max(proximoNanos, agora);
+            proximoNanos = inicio + intervaloNanos * chamadas;
+            espera = inicio - agora;
+        }
+        if (espera > 0) {
+            TimeUnit.NANOSECONDS.sleep(espera);
+        }
+    }
+}
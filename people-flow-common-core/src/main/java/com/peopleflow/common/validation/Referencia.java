@@ -0,0 +1,46 @@
+package com.peopleflow.common.validation;
+
+/**
+ * Referência a ser validada: a entidade existe (não excluída) e, se informada,
+ * pertence à empresa esperada
+ *
+ * @param empresaIdEsperada {@code null} quando não há vínculo de empresa a conferir
+ */
+public record Referencia(TipoReferencia tipo, Long id, Long empresaIdEsperada) {
+
+    public static Referencia empresa(Long id) {
+        return new Referencia(TipoReferencia.EMPRESA, id, null);
+    }
+
+    public static Referencia unidade(Long id, Long empresaId) {
+        return new Referencia(TipoReferencia.UNIDADE, id, empresaId);
+    }
+
+    public static Referencia departamento(Long id, Long empresaId) {
+        return new Referencia(TipoReferencia.DEPARTAMENTO, id, empresaId);
+    }
+
+    public static Referencia centroCusto(Long id, Long empresaId) {
+        return new Referencia(TipoReferencia.CENTRO_CUSTO, id, empresaId);
+    }
+
+    public static Referencia colaborador(Long id, Long empresaId) {
+        return new Referencia(TipoReferencia.COLABORADOR, id, empresaId);
+    }
+
+    public static Referencia cargo(Long id) {
+        return new Referencia(TipoReferencia.CARGO, id, null);
+    }
+
+    public static Referencia jornadaTrabalho(Long id) {
+        return new Referencia(TipoReferencia.JORNADA_TRABALHO, id, null);
+    }
+
+    public static Referencia nivelHierarquico(Long id) {
+        return new Referencia(TipoReferencia.NIVEL_HIERARQUICO, id, null);
+    }
+
+    public static Referencia familiaCargo(Long id) {
+        return new Referencia(TipoReferencia.FAMILIA_CARGO, id, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.peopleflow.common.validation;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.common.exception.ResourceNotFoundException;
+
+/**
+ * Resultado negativo da validação de uma {@link Referencia}
+ *
+ * @param empresaIdEncontrada empresa a que a entidade pertence de fato (só para {@link Motivo#OUTRA_EMPRESA})
+ */
+public record ReferenciaInvalida(Referencia referencia, Motivo motivo, Long empresaIdEncontrada) {
+
+    public enum Motivo { NAO_ENCONTRADA, OUTRA_EMPRESA }
+
+    /**
+     * Exceção padrão: {@link ResourceNotFoundException} ou {@code <TIPO>_NAO_PERTENCE_EMPRESA}
+     */
+    public BusinessException toException() {
+        TipoReferencia tipo = referencia.tipo();
+        if (motivo == Motivo.NAO_ENCONTRADA) {
+            return new ResourceNotFoundException(tipo.getRecurso(), referencia.id());
+        }
+        return new BusinessException(tipo.name() + "_NAO_PERTENCE_EMPRESA",
+                String.format("%s %d não pertence à empresa %d",
+                        tipo.getDescricao(), referencia.id(), referencia.empresaIdEsperada()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.peopleflow.common.validation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Port para validação de integridade referencial entre módulos
+ *
+ * Resolve um lote de referências de uma vez (uma ida ao banco para o que não
+ * estiver no cache de existência), em vez de uma consulta por chave estrangeira.
+ * Implementação deve estar no módulo de infraestrutura.
+ */
+public interface ReferenciaValidatorPort {
+
+    /**
+     * Verifica as referências sem lançar exceção; referências com ID nulo são ignoradas
+     *
+     * @return referências inválidas, na ordem recebida (vazio se todas válidas)
+     */
+    List<ReferenciaInvalida> verificar(Collection<Referencia> referencias);
+
+    /**
+     * @throws com.peopleflow.common.exception.BusinessException na primeira referência inválida
+     */
+    default void validar(Referencia... referencias) {
+        validar(Arrays.asList(referencias));
+    }
+
+    /**
+     * @throws com.peopleflow.common.exception.BusinessException na primeira referência inválida
+     */
+    default void validar(Collection<Referencia> referencias) {
+        List<ReferenciaInvalida> invalidas = verificar(referencias);
+        if (!invalidas.isEmpty()) {
+            throw invalidas.get(0).toException();
+        }
+    }
+
+    /**
+     * Descarta a entidade do cache de existência (ex.: após exclusão). Para empresas,
+     * descarta também as entidades vinculadas a ela.
+     */
+    void esquecer(TipoReferencia tipo, Long id);
+}
@@ -0,0 +1,47 @@
+package com.peopleflow.common.validation;
+
+/**
+ * Entidades que podem ser referenciadas por outras (chaves estrangeiras entre módulos)
+ *
+ * As organizacionais e o colaborador pertencem a uma empresa; as de cargos/jornada são globais.
+ */
+public enum TipoReferencia {
+
+    EMPRESA("Empresa", "A empresa", true),
+    UNIDADE("Unidade", "A unidade", true),
+    DEPARTAMENTO("Departamento", "O departamento", true),
+    CENTRO_CUSTO("CentroCusto", "O centro de custo", true),
+    COLABORADOR("Colaborador", "O colaborador", true),
+    CARGO("Cargo", "O cargo", false),
+    JORNADA_TRABALHO("JornadaTrabalho", "A jornada de trabalho", false),
+    NIVEL_HIERARQUICO("NivelHierarquico", "O nível hierárquico", false),
+    FAMILIA_CARGO("FamiliaCargo", "A família de cargo", false);
+
+    private final String recurso;
+    private final String descricao;
+    private final boolean porEmpresa;
+
+    TipoReferencia(String recurso, String descricao, boolean porEmpresa) {
+        this.recurso = recurso;
+        this.descricao = descricao;
+        this.porEmpresa = porEmpresa;
+    }
+
+    /**
+     * Nome do recurso usado em {@link com.peopleflow.common.exception.ResourceNotFoundException}
+     */
+    public String getRecurso() {
+        return recurso;
+    }
+
+    /**
+     * Descrição com artigo, para mensagens ("A unidade 5 não pertence à empresa 2")
+     */
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public boolean isPorEmpresa() {
+        return porEmpresa;
+    }
+}
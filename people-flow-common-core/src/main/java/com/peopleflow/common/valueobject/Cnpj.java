@@ -1,6 +1,7 @@
 package com.peopleflow.common.valueobject;
 
 import com.peopleflow.common.exception.BusinessException;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -9,17 +10,29 @@ import lombok.ToString;
 @EqualsAndHashCode
 @ToString
 public class Cnpj {
+
+    private static final int TAMANHO = 14;
+    private static final String MASCARA = "##.###.###/####-##";
+    private static final int[] PESOS_PRIMEIRO_DIGITO = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] PESOS_SEGUNDO_DIGITO = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
     private final String valor;
 
+    /** Forma só com dígitos, calculada na primeira chamada de getValorNumerico */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient String valorNumerico;
+
     public Cnpj(String cnpj) {
         if (cnpj == null || cnpj.trim().isEmpty()) {
             throw new BusinessException("CNPJ_OBRIGATORIO", "CNPJ é obrigatório");
         }
-        String cnpjLimpo = cnpj.replaceAll("[^0-9]", "");
-        if (!isValidCnpj(cnpjLimpo)) {
+        int[] digitos = Digitos.extrair(cnpj, TAMANHO);
+        if (!isValidCnpj(digitos)) {
             throw new BusinessException("CNPJ_INVALIDO", "CNPJ inválido: " + cnpj);
         }
-        this.valor = formatarCnpj(cnpjLimpo);
+        this.valor = Digitos.formatar(digitos, MASCARA);
     }
 
     private static final Object STORAGE = new Object();
@@ -27,14 +40,18 @@ public class Cnpj {
     /**
      * Cria CNPJ a partir de valor já persistido (ex.: leitura do banco, listagem).
      * Não valida dígitos verificadores — use apenas em fluxos de leitura (GET/list).
+     * Valor já no formato canônico é reaproveitado sem cópia.
      */
     public static Cnpj fromStorage(String cnpj) {
         if (cnpj == null || cnpj.trim().isEmpty()) {
             return null;
         }
-        String cnpjLimpo = cnpj.replaceAll("[^0-9]", "");
-        if (cnpjLimpo.length() == 14) {
-            return new Cnpj(formatarCnpjStatic(cnpjLimpo), STORAGE);
+        if (Digitos.segueMascara(cnpj, MASCARA)) {
+            return new Cnpj(cnpj, STORAGE);
+        }
+        int[] digitos = Digitos.extrair(cnpj, TAMANHO);
+        if (digitos != null) {
+            return new Cnpj(Digitos.formatar(digitos, MASCARA), STORAGE);
         }
         return new Cnpj(cnpj.trim(), STORAGE);
     }
@@ -44,57 +61,19 @@ public class Cnpj {
     }
 
     public String getValorNumerico() {
-        return valor.replaceAll("[^0-9]", "");
-    }
-
-    private boolean isValidCnpj(String cnpj) {
-        if (cnpj.length() != 14) {
-            return false;
-        }
-
-        if (cnpj.matches("(\\d)\\1{13}")) {
-            return false;
-        }
-
-        int soma = 0;
-        int peso = 5;
-        for (int i = 0; i < 12; i++) {
-            soma += Character.getNumericValue(cnpj.charAt(i)) * peso;
-            peso = (peso == 2) ? 9 : peso - 1;
-        }
-        int primeiroDigito = 11 - (soma % 11);
-        if (primeiroDigito >= 10) {
-            primeiroDigito = 0;
+        String numerico = valorNumerico;
+        if (numerico == null) {
+            numerico = Digitos.somenteDigitos(valor);
+            valorNumerico = numerico;
         }
+        return numerico;
+    }
 
-        if (Character.getNumericValue(cnpj.charAt(12)) != primeiroDigito) {
+    private static boolean isValidCnpj(int[] digitos) {
+        if (digitos == null || Digitos.todosIguais(digitos)) {
             return false;
         }
-
-        soma = 0;
-        peso = 6;
-        for (int i = 0; i < 13; i++) {
-            soma += Character.getNumericValue(cnpj.charAt(i)) * peso;
-            peso = (peso == 2) ? 9 : peso - 1;
-        }
-        int segundoDigito = 11 - (soma % 11);
-        if (segundoDigito >= 10) {
-            segundoDigito = 0;
-        }
-
-        return Character.getNumericValue(cnpj.charAt(13)) == segundoDigito;
-    }
-
-    private String formatarCnpj(String cnpj) {
-        return formatarCnpjStatic(cnpj);
-    }
-
-    private static String formatarCnpjStatic(String cnpj) {
-        return cnpj.substring(0, 2) + "." +
-               cnpj.substring(2, 5) + "." +
-               cnpj.substring(5, 8) + "/" +
-               cnpj.substring(8, 12) + "-" +
-               cnpj.substring(12, 14);
+        return digitos[12] == Digitos.digitoModulo11(digitos, PESOS_PRIMEIRO_DIGITO)
+            && digitos[13] == Digitos.digitoModulo11(digitos, PESOS_SEGUNDO_DIGITO);
     }
 }
-
@@ -1,6 +1,7 @@
 package com.peopleflow.common.valueobject;
 
 import com.peopleflow.common.exception.BusinessException;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -9,17 +10,29 @@ import lombok.ToString;
 @EqualsAndHashCode
 @ToString
 public class Cpf {
+
+    private static final int TAMANHO = 11;
+    private static final String MASCARA = "###.###.###-##";
+    private static final int[] PESOS_PRIMEIRO_DIGITO = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] PESOS_SEGUNDO_DIGITO = {11, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+
     private final String valor;
 
+    /** Forma só com dígitos, calculada na primeira chamada de getValorNumerico */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient String valorNumerico;
+
     public Cpf(String cpf) {
         if (cpf == null || cpf.trim().isEmpty()) {
             throw new BusinessException("CPF_OBRIGATORIO", "CPF é obrigatório");
         }
-        String cpfLimpo = cpf.replaceAll("[^0-9]", "");
-        if (!isValidCpf(cpfLimpo)) {
+        int[] digitos = Digitos.extrair(cpf, TAMANHO);
+        if (!isValidCpf(digitos)) {
             throw new BusinessException("CPF_INVALIDO", "CPF inválido: " + cpf);
         }
-        this.valor = formatarCpf(cpfLimpo);
+        this.valor = Digitos.formatar(digitos, MASCARA);
     }
 
     private static final Object STORAGE = new Object();
@@ -27,14 +40,18 @@ public class Cpf {
     /**
      * Cria CPF a partir de valor já persistido (ex.: leitura do banco, listagem).
      * Não valida dígitos verificadores — use apenas em fluxos de leitura (GET/list).
+     * Valor já no formato canônico é reaproveitado sem cópia.
      */
     public static Cpf fromStorage(String cpf) {
         if (cpf == null || cpf.trim().isEmpty()) {
             return null;
         }
-        String cpfLimpo = cpf.replaceAll("[^0-9]", "");
-        if (cpfLimpo.length() == 11) {
-            return new Cpf(formatarCpfStatic(cpfLimpo), STORAGE);
+        if (Digitos.segueMascara(cpf, MASCARA)) {
+            return new Cpf(cpf, STORAGE);
+        }
+        int[] digitos = Digitos.extrair(cpf, TAMANHO);
+        if (digitos != null) {
+            return new Cpf(Digitos.formatar(digitos, MASCARA), STORAGE);
         }
         return new Cpf(cpf.trim(), STORAGE);
     }
@@ -44,49 +61,19 @@ public class Cpf {
     }
 
     public String getValorNumerico() {
-        return valor.replaceAll("[^0-9]", "");
-    }
-
-    private boolean isValidCpf(String cpf) {
-        if (cpf.length() != 11) {
-            return false;
+        String numerico = valorNumerico;
+        if (numerico == null) {
+            numerico = Digitos.somenteDigitos(valor);
+            valorNumerico = numerico;
         }
+        return numerico;
+    }
 
-        if (cpf.matches("(\\d)\\1{10}")) {
+    private static boolean isValidCpf(int[] digitos) {
+        if (digitos == null || Digitos.todosIguais(digitos)) {
             return false;
         }
-
-        int soma = 0;
-        for (int i = 0; i < 9; i++) {
-            soma += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
-        }
-        int primeiroDigito = 11 - (soma % 11);
-        if (primeiroDigito >= 10) {
-            primeiroDigito = 0;
-        }
-
-        soma = 0;
-        for (int i = 0; i < 10; i++) {
-            soma += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
-        }
-        int segundoDigito = 11 - (soma % 11);
-        if (segundoDigito >= 10) {
-            segundoDigito = 0;
-        }
-
-        return Character.getNumericValue(cpf.charAt(9)) == primeiroDigito &&
-               Character.getNumericValue(cpf.charAt(10)) == segundoDigito;
-    }
-
-    private String formatarCpf(String cpf) {
-        return formatarCpfStatic(cpf);
-    }
-
-    private static String formatarCpfStatic(String cpf) {
-        return cpf.substring(0, 3) + "." +
-               cpf.substring(3, 6) + "." +
-               cpf.substring(6, 9) + "-" +
-               cpf.substring(9, 11);
+        return digitos[9] == Digitos.digitoModulo11(digitos, PESOS_PRIMEIRO_DIGITO)
+            && digitos[10] == Digitos.digitoModulo11(digitos, PESOS_SEGUNDO_DIGITO);
     }
 }
-
@@ -0,0 +1,96 @@
+package com.peopleflow.common.valueobject;
+
+/**
+ * Rotinas de parsing e formatação de documentos numéricos sem regex
+ *
+ * Trabalham direto sobre char[]; cada operação aloca no máximo o array de
+ * trabalho e a String de resultado.
+ */
+final class Digitos {
+
+    private Digitos() {
+    }
+
+    /**
+     * Extrai os dígitos ASCII de {@code texto}, ignorando qualquer outro caractere.
+     *
+     * @return os dígitos (0-9, como int) ou null se a quantidade for diferente de {@code esperado}
+     */
+    static int[] extrair(String texto, int esperado) {
+        int[] digitos = new int[esperado];
+        int quantidade = 0;
+        for (int i = 0, n = texto.length(); i < n; i++) {
+            char c = texto.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (quantidade == esperado) {
+                    return null;
+                }
+                digitos[quantidade++] = c - '0';
+            }
+        }
+        return quantidade == esperado ? digitos : null;
+    }
+
+    /**
+     * Verifica se {@code texto} segue exatamente a máscara ('#' = dígito, demais = literal)
+     */
+    static boolean segueMascara(String texto, String mascara) {
+        if (texto.length() != mascara.length()) {
+            return false;
+        }
+        for (int i = 0, n = mascara.length(); i < n; i++) {
+            char m = mascara.charAt(i);
+            char c = texto.charAt(i);
+            if (m == '#' ? (c < '0' || c > '9') : c != m) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String formatar(int[] digitos, String mascara) {
+        char[] saida = new char[mascara.length()];
+        int d = 0;
+        for (int i = 0; i < saida.length; i++) {
+            char m = mascara.charAt(i);
+            saida[i] = m == '#' ? (char) ('0' + digitos[d++]) : m;
+        }
+        return new String(saida);
+    }
+
+    /**
+     * Equivalente a {@code texto.replaceAll("[^0-9]", "")}
+     */
+    static String somenteDigitos(String texto) {
+        char[] saida = new char[texto.length()];
+        int d = 0;
+        for (int i = 0; i < saida.length; i++) {
+            char c = texto.charAt(i);
+            if (c >= '0' && c <= '9') {
+                saida[d++] = c;
+            }
+        }
+        return new String(saida, 0, d);
+    }
+
+    static boolean todosIguais(int[] digitos) {
+        for (int i = 1; i < digitos.length; i++) {
+            if (digitos[i] != digitos[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Dígito verificador módulo 11 sobre os {@code pesos.length} primeiros dígitos
+     */
+    static int digitoModulo11(int[] digitos, int[] pesos) {
+        int soma = 0;
+        for (int i = 0; i < pesos.length; i++) {
+            soma += digitos[i] * pesos[i];
+        }
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+}
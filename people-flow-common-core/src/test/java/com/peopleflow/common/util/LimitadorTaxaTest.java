@@ -0,0 +1,53 @@
+package com.peopleflow.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LimitadorTaxa - Testes Unitários")
+class LimitadorTaxaTest {
+
+    @Test
+    @DisplayName("sem limite (0 por segundo) não deve esperar")
+    void semLimiteNaoDeveEsperar() throws InterruptedException {
+        LimitadorTaxa limitador = new LimitadorTaxa(0);
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            limitador.adquirir();
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("deve espaçar as chamadas pelo intervalo da taxa")
+    void deveEspacarChamadas() throws InterruptedException {
+        // Arrange: 20 por segundo = uma chamada a cada 50ms
+        LimitadorTaxa limitador = new LimitadorTaxa(20);
+
+        // Act: a primeira é imediata, as outras 4 esperam a vez
+        long inicio = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limitador.adquirir();
+        }
+
+        // Assert
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)).isGreaterThanOrEqualTo(190);
+    }
+
+    @Test
+    @DisplayName("adquirir várias chamadas deve reservar o intervalo de todas")
+    void deveReservarIntervaloDeVariasChamadas() throws InterruptedException {
+        LimitadorTaxa limitador = new LimitadorTaxa(20);
+
+        long inicio = System.nanoTime();
+        limitador.adquirir(4);
+        limitador.adquirir();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)).isGreaterThanOrEqualTo(190);
+    }
+}
@@ -0,0 +1,82 @@
+package com.peopleflow.common.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Cnpj - Testes Unitários")
+class CnpjTest {
+
+    @Test
+    @DisplayName("Deve aceitar CNPJ válido sem máscara e formatá-lo")
+    void deveAceitarCnpjValidoSemMascara() {
+        Cnpj cnpj = new Cnpj("11222333000181");
+
+        assertThat(cnpj.getValor()).isEqualTo("11.222.333/0001-81");
+        assertThat(cnpj.getValorNumerico()).isEqualTo("11222333000181");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar CNPJ válido com máscara")
+    void deveAceitarCnpjValidoComMascara() {
+        Cnpj cnpj = new Cnpj("11.444.777/0001-61");
+
+        assertThat(cnpj.getValor()).isEqualTo("11.444.777/0001-61");
+        assertThat(cnpj).isEqualTo(new Cnpj("11444777000161"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CNPJ com dígito verificador inválido")
+    void deveRejeitarDigitoVerificadorInvalido() {
+        assertThatThrownBy(() -> new Cnpj("11.222.333/0001-82"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("code", "CNPJ_INVALIDO");
+        assertThatThrownBy(() -> new Cnpj("11222333000191"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("code", "CNPJ_INVALIDO");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CNPJ com todos os dígitos iguais")
+    void deveRejeitarDigitosRepetidos() {
+        for (char d = '0'; d <= '9'; d++) {
+            String repetido = String.valueOf(d).repeat(14);
+            assertThatThrownBy(() -> new Cnpj(repetido))
+                    .as(repetido)
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("code", "CNPJ_INVALIDO");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CNPJ com quantidade errada de dígitos")
+    void deveRejeitarQuantidadeErradaDeDigitos() {
+        assertThatThrownBy(() -> new Cnpj("1122233300018"))
+                .hasFieldOrPropertyWithValue("code", "CNPJ_INVALIDO");
+        assertThatThrownBy(() -> new Cnpj("112223330001810"))
+                .hasFieldOrPropertyWithValue("code", "CNPJ_INVALIDO");
+    }
+
+    @Test
+    @DisplayName("Deve exigir CNPJ")
+    void deveExigirCnpj() {
+        assertThatThrownBy(() -> new Cnpj(null))
+                .hasFieldOrPropertyWithValue("code", "CNPJ_OBRIGATORIO");
+        assertThatThrownBy(() -> new Cnpj(""))
+                .hasFieldOrPropertyWithValue("code", "CNPJ_OBRIGATORIO");
+    }
+
+    @Test
+    @DisplayName("fromStorage deve reaproveitar valor formatado e formatar só dígitos sem validar")
+    void fromStorageDeveFormatarSemValidar() {
+        String armazenado = "11.222.333/0001-81";
+
+        assertThat(Cnpj.fromStorage(armazenado).getValor()).isSameAs(armazenado);
+        assertThat(Cnpj.fromStorage("11222333000182").getValor()).isEqualTo("11.222.333/0001-82");
+        assertThat(Cnpj.fromStorage(" abc ").getValor()).isEqualTo("abc");
+        assertThat(Cnpj.fromStorage(null)).isNull();
+    }
+}
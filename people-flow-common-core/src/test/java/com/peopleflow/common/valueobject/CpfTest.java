@@ -0,0 +1,105 @@
+package com.peopleflow.common.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Cpf - Testes Unitários")
+class CpfTest {
+
+    @Test
+    @DisplayName("Deve aceitar CPF válido sem máscara e formatá-lo")
+    void deveAceitarCpfValidoSemMascara() {
+        Cpf cpf = new Cpf("52998224725");
+
+        assertThat(cpf.getValor()).isEqualTo("529.982.247-25");
+        assertThat(cpf.getValorNumerico()).isEqualTo("52998224725");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar CPF válido com máscara")
+    void deveAceitarCpfValidoComMascara() {
+        Cpf cpf = new Cpf("111.444.777-35");
+
+        assertThat(cpf.getValor()).isEqualTo("111.444.777-35");
+        assertThat(cpf).isEqualTo(new Cpf("11144477735"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar separadores fora do padrão")
+    void deveIgnorarSeparadoresForaDoPadrao() {
+        assertThat(new Cpf(" 529 982 247/25 ").getValor()).isEqualTo("529.982.247-25");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPF com dígito verificador inválido")
+    void deveRejeitarDigitoVerificadorInvalido() {
+        assertThatThrownBy(() -> new Cpf("529.982.247-24"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("code", "CPF_INVALIDO");
+        assertThatThrownBy(() -> new Cpf("52998224735"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("code", "CPF_INVALIDO");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPF com todos os dígitos iguais")
+    void deveRejeitarDigitosRepetidos() {
+        for (char d = '0'; d <= '9'; d++) {
+            String repetido = String.valueOf(d).repeat(11);
+            assertThatThrownBy(() -> new Cpf(repetido))
+                    .as(repetido)
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("code", "CPF_INVALIDO");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CPF com quantidade errada de dígitos")
+    void deveRejeitarQuantidadeErradaDeDigitos() {
+        assertThatThrownBy(() -> new Cpf("5299822472"))
+                .hasFieldOrPropertyWithValue("code", "CPF_INVALIDO");
+        assertThatThrownBy(() -> new Cpf("529982247250"))
+                .hasFieldOrPropertyWithValue("code", "CPF_INVALIDO");
+        assertThatThrownBy(() -> new Cpf("abc.def.ghi-jk"))
+                .hasFieldOrPropertyWithValue("code", "CPF_INVALIDO");
+    }
+
+    @Test
+    @DisplayName("Deve exigir CPF")
+    void deveExigirCpf() {
+        assertThatThrownBy(() -> new Cpf(null))
+                .hasFieldOrPropertyWithValue("code", "CPF_OBRIGATORIO");
+        assertThatThrownBy(() -> new Cpf("   "))
+                .hasFieldOrPropertyWithValue("code", "CPF_OBRIGATORIO");
+    }
+
+    @Test
+    @DisplayName("fromStorage deve reaproveitar valor já formatado")
+    void fromStorageDeveReaproveitarValorFormatado() {
+        String armazenado = "529.982.247-25";
+
+        Cpf cpf = Cpf.fromStorage(armazenado);
+
+        assertThat(cpf.getValor()).isSameAs(armazenado);
+    }
+
+    @Test
+    @DisplayName("fromStorage deve formatar valor só com dígitos, sem validar")
+    void fromStorageDeveFormatarSemValidar() {
+        assertThat(Cpf.fromStorage("52998224725").getValor()).isEqualTo("529.982.247-25");
+        // Dígito verificador errado: leitura não valida
+        assertThat(Cpf.fromStorage("52998224724").getValor()).isEqualTo("529.982.247-24");
+    }
+
+    @Test
+    @DisplayName("fromStorage deve manter valor fora do padrão e devolver null para vazio")
+    void fromStorageDeveManterValorForaDoPadrao() {
+        assertThat(Cpf.fromStorage(" 123 ").getValor()).isEqualTo("123");
+        assertThat(Cpf.fromStorage(null)).isNull();
+        assertThat(Cpf.fromStorage("  ")).isNull();
+    }
+}
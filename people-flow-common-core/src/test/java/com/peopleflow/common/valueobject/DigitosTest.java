@@ -0,0 +1,50 @@
+package com.peopleflow.common.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Digitos - Testes Unitários")
+class DigitosTest {
+
+    @Test
+    @DisplayName("extrair deve ignorar não-dígitos e exigir a quantidade exata")
+    void extrairDeveExigirQuantidadeExata() {
+        assertThat(Digitos.extrair("1.2-3", 3)).containsExactly(1, 2, 3);
+        assertThat(Digitos.extrair("12", 3)).isNull();
+        assertThat(Digitos.extrair("1234", 3)).isNull();
+        assertThat(Digitos.extrair("", 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("segueMascara deve exigir dígitos nas posições '#' e literais iguais")
+    void segueMascaraDeveConferirPosicoes() {
+        assertThat(Digitos.segueMascara("123.456", "###.###")).isTrue();
+        assertThat(Digitos.segueMascara("123-456", "###.###")).isFalse();
+        assertThat(Digitos.segueMascara("12a.456", "###.###")).isFalse();
+        assertThat(Digitos.segueMascara("123.4567", "###.###")).isFalse();
+    }
+
+    @Test
+    @DisplayName("formatar e somenteDigitos devem ser inversos")
+    void formatarESomenteDigitos() {
+        String formatado = Digitos.formatar(new int[]{1, 2, 3, 4, 5}, "##.###");
+
+        assertThat(formatado).isEqualTo("12.345");
+        assertThat(Digitos.somenteDigitos(formatado)).isEqualTo("12345");
+        assertThat(Digitos.somenteDigitos("a-b")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("digitoModulo11 deve devolver 0 quando o resto é menor que 2")
+    void digitoModulo11() {
+        // 529982247: soma 295, resto 9 -> dígito 2
+        assertThat(Digitos.digitoModulo11(new int[]{5, 2, 9, 9, 8, 2, 2, 4, 7}, new int[]{10, 9, 8, 7, 6, 5, 4, 3, 2}))
+                .isEqualTo(2);
+        // Soma 22, resto 0 -> dígito 0
+        assertThat(Digitos.digitoModulo11(new int[]{1, 1}, new int[]{11, 11})).isZero();
+        assertThat(Digitos.todosIguais(new int[]{7, 7, 7})).isTrue();
+        assertThat(Digitos.todosIguais(new int[]{7, 7, 1})).isFalse();
+    }
+}
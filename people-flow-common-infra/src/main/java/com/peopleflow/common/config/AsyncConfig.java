@@ -1,15 +1,22 @@
 package com.peopleflow.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuração de processamento assíncrono
@@ -17,10 +24,14 @@ import java.util.concurrent.Executor;
  * Habilita o suporte a @Async para processar eventos de domínio
  * de forma assíncrona, melhorando performance e desacoplamento.
  * 
- * Thread Pool configurado para:
- * - Core: 5 threads (mínimo sempre disponível)
- * - Max: 10 threads (máximo permitido)
- * - Queue: 100 (tarefas aguardando)
+ * Modos ({@code app.async.modo}):
+ * - pool (padrão): pool fixo (core 5, max 10, fila 100)
+ * - por-tarefa: uma thread por tarefa, sem fila nem teto de threads; usa virtual
+ *   threads quando a JVM suporta (21+). O limite de concorrência fica em cada
+ *   downstream (ex.: semáforo do cliente Keycloak), não no tamanho do pool.
+ * 
+ * Em ambos os modos o tempo entre a submissão e o início da tarefa é
+ * publicado no timer {@code peopleflow.async.espera}.
  */
 @Configuration
 @EnableAsync
@@ -28,9 +39,30 @@ public class AsyncConfig implements AsyncConfigurer {
     
     private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
     
+    private static final String PREFIXO_THREADS = "async-event-";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String modo;
+    private volatile Timer timerEspera;
+
+    public AsyncConfig(ObjectProvider<MeterRegistry> meterRegistry,
+                       @Value("${app.async.modo:pool}") String modo) {
+        this.meterRegistry = meterRegistry;
+        this.modo = modo;
+    }
+
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        return switch (modo) {
+            case "pool" -> criarPool();
+            case "por-tarefa" -> criarPorTarefa();
+            default -> throw new IllegalStateException(
+                    "app.async.modo inválido: " + modo + " (esperado: pool ou por-tarefa)");
+        };
+    }
+
+    private Executor criarPool() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // Número de threads core (sempre mantidas vivas)
@@ -43,13 +75,15 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setQueueCapacity(100);
         
         // Prefixo do nome das threads (facilita debug)
-        executor.setThreadNamePrefix("async-event-");
+        executor.setThreadNamePrefix(PREFIXO_THREADS);
         
         // Aguarda tarefas pendentes antes de desligar
         executor.setWaitForTasksToCompleteOnShutdown(true);
         
         // Tempo máximo de espera no shutdown (30 segundos)
         executor.setAwaitTerminationSeconds(30);
+
+        executor.setTaskDecorator(medirEspera());
         
         executor.initialize();
         
@@ -60,6 +94,59 @@ public class AsyncConfig implements AsyncConfigurer {
         
         return executor;
     }
+
+    private Executor criarPorTarefa() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(PREFIXO_THREADS);
+
+        boolean virtuais = Runtime.version().feature() >= 21;
+        if (virtuais) {
+            executor.setVirtualThreads(true);
+        } else {
+            log.warn("Virtual threads exigem Java 21+ (JVM atual: {}); usando uma thread de plataforma por tarefa",
+                     Runtime.version().feature());
+        }
+
+        // Aguarda tarefas em andamento antes de desligar (30 segundos)
+        executor.setTaskTerminationTimeout(30_000);
+
+        executor.setTaskDecorator(medirEspera());
+
+        log.info("Executor assíncrono por tarefa configurado: virtualThreads={}", virtuais);
+
+        return executor;
+    }
+
+    /**
+     * Mede o tempo em fila: do momento da submissão até a tarefa começar a rodar
+     */
+    private TaskDecorator medirEspera() {
+        return tarefa -> {
+            long submetidaEm = System.nanoTime();
+            return () -> {
+                Timer timer = timerEspera();
+                if (timer != null) {
+                    timer.record(System.nanoTime() - submetidaEm, TimeUnit.NANOSECONDS);
+                }
+                tarefa.run();
+            };
+        };
+    }
+
+    private Timer timerEspera() {
+        Timer timer = timerEspera;
+        if (timer == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return null;
+            }
+            timer = Timer.builder("peopleflow.async.espera")
+                    .description("Tempo entre a submissão e o início de tarefas @Async")
+                    .tag("modo", modo)
+                    .register(registry);
+            timerEspera = timer;
+        }
+        return timer;
+    }
     
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
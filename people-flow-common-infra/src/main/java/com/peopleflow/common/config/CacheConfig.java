@@ -0,0 +1,53 @@
+package com.peopleflow.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração de cache da aplicação (Caffeine)
+ *
+ * Todo cache é limitado em número de entradas, expira após a escrita e registra
+ * estatísticas de hit/miss/eviction, expostas pelo Actuator (/actuator/caches e
+ * métricas cache.*). Os caches declarados em {@code app.cache.caches} são criados
+ * na inicialização para que as métricas sejam registradas desde o início.
+ *
+ * Escritas e evictions feitas dentro de uma transação só são aplicadas após o
+ * commit, evitando que uma leitura concorrente repopule o cache com dado antigo.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CachePolicyProperties.class)
+public class CacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+
+    @Bean
+    public CacheManager cacheManager(CachePolicyProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(construtor(properties.padrao()));
+
+        properties.caches().keySet().forEach(nome -> {
+            CachePolicyProperties.Politica politica = properties.politicaDe(nome);
+            cacheManager.registerCustomCache(nome, construtor(politica).build());
+            log.info("Cache '{}' configurado: maximo={}, ttl={}",
+                     nome, politica.maximoEntradas(), politica.expiraAposEscrita());
+        });
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static Caffeine<Object, Object> construtor(CachePolicyProperties.Politica politica) {
+        return Caffeine.newBuilder()
+                .maximumSize(politica.maximoEntradas())
+                .expireAfterWrite(politica.expiraAposEscrita())
+                .recordStats();
+    }
+}
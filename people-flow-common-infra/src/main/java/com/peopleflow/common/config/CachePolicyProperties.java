@@ -0,0 +1,40 @@
+package com.peopleflow.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Políticas de cache (prefixo {@code app.cache})
+ *
+ * Cada cache declarado em {@code caches} é criado na inicialização, com limite
+ * de entradas e TTL próprios; caches não declarados usam a política {@code padrao}.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public record CachePolicyProperties(Politica padrao, Map<String, Politica> caches) {
+
+    private static final Politica PADRAO = new Politica(500L, Duration.ofMinutes(10));
+
+    public CachePolicyProperties {
+        padrao = padrao != null ? padrao.completarCom(PADRAO) : PADRAO;
+        caches = caches != null ? Map.copyOf(caches) : Map.of();
+    }
+
+    /**
+     * Política efetiva do cache: valores ausentes herdam a política padrão
+     */
+    public Politica politicaDe(String cache) {
+        Politica politica = caches.get(cache);
+        return politica != null ? politica.completarCom(padrao) : padrao;
+    }
+
+    public record Politica(Long maximoEntradas, Duration expiraAposEscrita) {
+
+        Politica completarCom(Politica base) {
+            return new Politica(
+                    maximoEntradas != null ? maximoEntradas : base.maximoEntradas(),
+                    expiraAposEscrita != null ? expiraAposEscrita : base.expiraAposEscrita());
+        }
+    }
+}
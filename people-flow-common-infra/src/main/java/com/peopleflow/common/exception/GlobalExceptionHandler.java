@@ -4,6 +4,8 @@ import com.peopleflow.common.validation.AccessViolationException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -37,6 +39,9 @@ public class GlobalExceptionHandler {
         error.setPath(request.getRequestURI());
         
         HttpStatus status = determineHttpStatus(ex);
+        if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+            return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+        }
         return ResponseEntity.status(status).body(error);
     }
 
@@ -107,6 +112,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Optimistic locking failure: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse("CONFLITO_VERSAO",
+                "O registro foi alterado por outra operação; recarregue os dados e tente novamente");
+        error.setPath(request.getRequestURI());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(KeycloakException.class)
     public ResponseEntity<ErrorResponse> handleKeycloakException(KeycloakException ex, HttpServletRequest request) {
         log.error("Keycloak error: {}", ex.getMessage());
@@ -154,6 +170,8 @@ public class GlobalExceptionHandler {
             case "VALIDATION_ERROR" -> HttpStatus.BAD_REQUEST;
             case "DUPLICATE_RESOURCE" -> HttpStatus.CONFLICT;
             case "ACESSO_NEGADO" -> HttpStatus.FORBIDDEN;
+            case "CONFLITO_VERSAO" -> HttpStatus.CONFLICT;
+            case "CAPACIDADE_ESGOTADA" -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.BAD_REQUEST;
         };
     }
@@ -0,0 +1,90 @@
+package com.peopleflow.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Decoder que guarda os JWT já verificados, evitando refazer a verificação da
+ * assinatura a cada requisição do mesmo token
+ *
+ * A chave é a assinatura do token; no acerto o token inteiro é comparado, então
+ * um token adulterado nunca reaproveita a entrada de outro. Cada entrada vive até
+ * o {@code exp} do token, limitada por {@code ttlMaximo}. Um token aceito continua
+ * aceito por até esse tempo mesmo se a chave que o assinou sair do JWKS.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<String, Jwt> verificados;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long tamanhoMaximo, Duration ttlMaximo, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.clock = Clock.systemUTC();
+        this.verificados = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfter(new ExpiraComToken(clock, ttlMaximo))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verificados, "jwt-verificados");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        int inicioAssinatura = token.lastIndexOf('.');
+        if (inicioAssinatura < 0 || inicioAssinatura == token.length() - 1) {
+            return delegate.decode(token);
+        }
+        String assinatura = token.substring(inicioAssinatura + 1);
+
+        Jwt jwt = verificados.getIfPresent(assinatura);
+        if (jwt != null && jwt.getTokenValue().equals(token) && naoExpirou(jwt)) {
+            return jwt;
+        }
+
+        // Tokens inválidos lançam exceção e não entram no cache
+        jwt = delegate.decode(token);
+        verificados.put(assinatura, jwt);
+        return jwt;
+    }
+
+    private boolean naoExpirou(Jwt jwt) {
+        return jwt.getExpiresAt() == null || clock.instant().isBefore(jwt.getExpiresAt());
+    }
+
+    private record ExpiraComToken(Clock clock, Duration ttlMaximo) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String chave, Jwt jwt, long currentTime) {
+            Instant expiraEm = jwt.getExpiresAt();
+            if (expiraEm == null) {
+                return ttlMaximo.toNanos();
+            }
+            Duration restante = Duration.between(clock.instant(), expiraEm);
+            if (restante.isNegative()) {
+                return 0;
+            }
+            return Math.min(restante.toNanos(), ttlMaximo.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(chave, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String chave, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
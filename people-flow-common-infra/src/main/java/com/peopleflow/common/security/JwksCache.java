@@ -0,0 +1,166 @@
+package com.peopleflow.common.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cache das chaves públicas (JWKS) do realm, usado na validação local dos JWT
+ *
+ * - Busca as chaves na inicialização e as renova em background a cada {@code renovacao}
+ * - Se o Keycloak estiver fora, continua usando as últimas chaves por até
+ *   {@code tolerancia}; depois disso recusa os tokens (falha fechada)
+ * - Um {@code kid} desconhecido (rotação de chave) dispara uma renovação na hora,
+ *   no máximo uma a cada {@code intervalo-minimo}
+ * - Renovações concorrentes são agrupadas em uma única requisição (single-flight)
+ */
+@Component
+public class JwksCache implements JWKSource<SecurityContext> {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksCache.class);
+
+    private static final int TIMEOUT_CONEXAO_MS = 2000;
+    private static final int TIMEOUT_LEITURA_MS = 3000;
+    private static final int TAMANHO_MAXIMO_BYTES = 64 * 1024;
+
+    private final URL jwkSetUrl;
+    private final Clock clock;
+    private final Duration renovacao;
+    private final Duration tolerancia;
+    private final Duration intervaloMinimo;
+    private final ScheduledExecutorService renovador;
+
+    private volatile ChavesAtuais atuais;
+    private volatile Instant ultimaRenovacaoSobDemanda = Instant.EPOCH;
+    private final AtomicReference<CompletableFuture<ChavesAtuais>> renovacaoEmAndamento = new AtomicReference<>();
+
+    public JwksCache(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${keycloak.jwks.renovacao:PT5M}") Duration renovacao,
+            @Value("${keycloak.jwks.tolerancia:PT6H}") Duration tolerancia,
+            @Value("${keycloak.jwks.intervalo-minimo:PT30S}") Duration intervaloMinimo) throws MalformedURLException {
+        this.jwkSetUrl = new URL(jwkSetUri);
+        this.clock = Clock.systemUTC();
+        this.renovacao = renovacao;
+        this.tolerancia = tolerancia;
+        this.intervaloMinimo = intervaloMinimo;
+        this.renovador = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("keycloak-jwks-"));
+    }
+
+    /**
+     * Agenda a primeira busca para já e as renovações periódicas
+     */
+    @PostConstruct
+    public void iniciar() {
+        renovador.scheduleWithFixedDelay(this::renovarAgendada, 0, renovacao.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        renovador.shutdownNow();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        ChavesAtuais chaves = atuais;
+        if (chaves == null || expiradas(chaves)) {
+            chaves = aguardar(renovar());
+        }
+
+        List<JWK> encontradas = jwkSelector.select(chaves.jwks());
+        if (!encontradas.isEmpty() || !podeRenovarSobDemanda()) {
+            return encontradas;
+        }
+
+        // kid desconhecido: o realm pode ter rotacionado as chaves
+        log.info("🔑 JWKS: chave não encontrada, renovando chaves do realm");
+        return jwkSelector.select(aguardar(renovar()).jwks());
+    }
+
+    private boolean expiradas(ChavesAtuais chaves) {
+        return !clock.instant().isBefore(chaves.obtidasEm().plus(renovacao).plus(tolerancia));
+    }
+
+    private synchronized boolean podeRenovarSobDemanda() {
+        Instant agora = clock.instant();
+        if (agora.isBefore(ultimaRenovacaoSobDemanda.plus(intervaloMinimo))) {
+            return false;
+        }
+        ultimaRenovacaoSobDemanda = agora;
+        return true;
+    }
+
+    private void renovarAgendada() {
+        try {
+            renovar().join();
+        } catch (RuntimeException e) {
+            ChavesAtuais chaves = atuais;
+            log.warn("⚠️ JWKS: falha ao renovar chaves ({}); usando chaves obtidas em {}",
+                    e.getMessage(), chaves != null ? chaves.obtidasEm() : "nunca");
+        }
+    }
+
+    private CompletableFuture<ChavesAtuais> renovar() {
+        CompletableFuture<ChavesAtuais> novaRenovacao = new CompletableFuture<>();
+        CompletableFuture<ChavesAtuais> emAndamento = renovacaoEmAndamento.compareAndExchange(null, novaRenovacao);
+        if (emAndamento != null) {
+            return emAndamento;
+        }
+
+        try {
+            JWKSet jwks = JWKSet.load(jwkSetUrl, TIMEOUT_CONEXAO_MS, TIMEOUT_LEITURA_MS, TAMANHO_MAXIMO_BYTES);
+            ChavesAtuais chaves = new ChavesAtuais(jwks, clock.instant());
+            atuais = chaves;
+            log.debug("JWKS: {} chaves carregadas", jwks.getKeys().size());
+            novaRenovacao.complete(chaves);
+        } catch (Exception e) {
+            novaRenovacao.completeExceptionally(e);
+        } finally {
+            renovacaoEmAndamento.set(null);
+        }
+        return novaRenovacao;
+    }
+
+    private ChavesAtuais aguardar(CompletableFuture<ChavesAtuais> renovacaoFutura) throws KeySourceException {
+        try {
+            return renovacaoFutura.get(TIMEOUT_CONEXAO_MS + TIMEOUT_LEITURA_MS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            ChavesAtuais chaves = atuais;
+            if (chaves != null && !expiradas(chaves)) {
+                return chaves;
+            }
+            Throwable causa = e instanceof ExecutionException ? e.getCause() : e;
+            throw new KeySourceException("Não foi possível obter as chaves do realm: " + causa.getMessage(), causa);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KeySourceException("Interrompido aguardando as chaves do realm", e);
+        }
+    }
+
+    private record ChavesAtuais(JWKSet jwks, Instant obtidasEm) {
+    }
+}
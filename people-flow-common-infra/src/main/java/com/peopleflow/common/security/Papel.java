@@ -0,0 +1,65 @@
+package com.peopleflow.common.security;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Roles conhecidas pela aplicação (realm ou client no Keycloak)
+ *
+ * Cada papel ocupa um bit em {@link UsuarioAutenticado}, então a verificação
+ * é uma operação sobre um {@code long}. Roles fora desta lista continuam
+ * funcionando, consultadas por nome.
+ */
+public enum Papel {
+
+    ADMIN("admin"),
+    COLABORADOR_LER("colaborador:ler"),
+    COLABORADOR_CRIAR("colaborador:criar"),
+    COLABORADOR_EDITAR("colaborador:editar"),
+    COLABORADOR_DELETAR("colaborador:deletar"),
+    COLABORADOR_DEMITIR("colaborador:demitir"),
+    ORGANIZACAO_LER("organizacao:ler"),
+    ORGANIZACAO_CRIAR("organizacao:criar"),
+    ORGANIZACAO_EDITAR("organizacao:editar"),
+    ORGANIZACAO_DELETAR("organizacao:deletar"),
+    NIVEL_HIERARQUICO_LER("nivel_hierarquico:ler"),
+    NIVEL_HIERARQUICO_CRIAR("nivel_hierarquico:criar"),
+    NIVEL_HIERARQUICO_EDITAR("nivel_hierarquico:editar"),
+    NIVEL_HIERARQUICO_DELETAR("nivel_hierarquico:deletar"),
+    PONTO_REGISTRAR("ponto:registrar"),
+    PONTO_FECHAR("ponto:fechar"),
+    FOLHA_LER("folha:ler"),
+    FOLHA_PROCESSAR("folha:processar"),
+    ESOCIAL_LER("esocial:ler"),
+    ESOCIAL_GERAR("esocial:gerar"),
+    NOTIFICACAO_ENVIAR("notificacao:enviar");
+
+    private static final Map<String, Papel> POR_NOME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(Papel::getNome, Function.identity()));
+
+    private final String nome;
+    private final long bit;
+
+    Papel(String nome) {
+        this.nome = nome;
+        this.bit = 1L << ordinal();
+    }
+
+    /** Nome da role no Keycloak (sem o prefixo ROLE_) */
+    public String getNome() {
+        return nome;
+    }
+
+    long bit() {
+        return bit;
+    }
+
+    /**
+     * @return o papel com esse nome, ou null se a role não for conhecida
+     */
+    public static Papel porNome(String nome) {
+        return POR_NOME.get(nome);
+    }
+}
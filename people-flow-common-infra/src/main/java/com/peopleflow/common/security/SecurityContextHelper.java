@@ -23,6 +23,9 @@ import java.util.stream.Collectors;
  * - EmpresaId (atributo customizado)
  * - Subject (ID do usuário no Keycloak)
  * - Roles/Permissões
+ * 
+ * Quando a autenticação é um {@link UsuarioAutenticadoToken} (caso normal), os dados
+ * vêm do {@link UsuarioAutenticado} montado no login da requisição, sem reler o JWT.
  */
 @Component
 public class SecurityContextHelper {
@@ -32,6 +35,10 @@ public class SecurityContextHelper {
      * @return username ou "system" se não autenticado
      */
     public String getUsername() {
+        UsuarioAutenticado usuario = getUsuarioAutenticado();
+        if (usuario != null) {
+            return usuario.getUsername() != null ? usuario.getUsername() : "system";
+        }
         return getJwt()
                 .map(jwt -> jwt.getClaimAsString("preferred_username"))
                 .orElse("system");
@@ -70,27 +77,41 @@ public class SecurityContextHelper {
      * @return empresaId ou null se não disponível
      */
     public Long getEmpresaId() {
+        UsuarioAutenticado usuario = getUsuarioAutenticado();
+        if (usuario != null) {
+            return usuario.getEmpresaId();
+        }
         return getJwt()
-                .map(jwt -> {
-                    Object empresaId = jwt.getClaim("empresaId");
-                    if (empresaId == null) {
-                        return null;
-                    }
-                    if (empresaId instanceof String) {
-                        return Long.parseLong((String) empresaId);
-                    } else if (empresaId instanceof Number) {
-                        return ((Number) empresaId).longValue();
-                    }
-                    return null;
-                })
+                .map(SecurityContextHelper::extrairEmpresaId)
                 .orElse(null);
     }
 
+    /**
+     * Lê o claim empresaId (string ou número)
+     * @return empresaId ou null se ausente
+     */
+    public static Long extrairEmpresaId(Jwt jwt) {
+        Object empresaId = jwt.getClaim("empresaId");
+        if (empresaId == null) {
+            return null;
+        }
+        if (empresaId instanceof String) {
+            return Long.parseLong((String) empresaId);
+        } else if (empresaId instanceof Number) {
+            return ((Number) empresaId).longValue();
+        }
+        return null;
+    }
+
     /**
      * Obtém o subject (ID do usuário no Keycloak)
      * @return subject UUID ou null se não disponível
      */
     public String getSubject() {
+        UsuarioAutenticado usuario = getUsuarioAutenticado();
+        if (usuario != null) {
+            return usuario.getSubject();
+        }
         return getJwt()
                 .map(Jwt::getSubject)
                 .orElse(null);
@@ -106,11 +127,27 @@ public class SecurityContextHelper {
         if (authentication == null) {
             return false;
         }
+        if (authentication instanceof UsuarioAutenticadoToken token) {
+            return token.getUsuario().temPapel(role);
+        }
         
         return authentication.getAuthorities().stream()
                 .anyMatch(auth -> auth.getAuthority().equals("ROLE_" + role));
     }
 
+    /**
+     * Verifica se o usuário tem uma role conhecida (sem alocação quando há {@link UsuarioAutenticado})
+     * @param papel role conhecida
+     * @return true se o usuário possui a role
+     */
+    public boolean hasRole(Papel papel) {
+        UsuarioAutenticado usuario = getUsuarioAutenticado();
+        if (usuario != null) {
+            return usuario.temPapel(papel);
+        }
+        return hasRole(papel.getNome());
+    }
+
     /**
      * Verifica se o usuário tem qualquer uma das roles especificadas
      * @param roles nomes das roles
@@ -148,6 +185,9 @@ public class SecurityContextHelper {
         if (authentication == null) {
             return Set.of();
         }
+        if (authentication instanceof UsuarioAutenticadoToken token) {
+            return token.getUsuario().getPapeis();
+        }
         
         return authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -165,6 +205,18 @@ public class SecurityContextHelper {
         return authentication != null && authentication.isAuthenticated();
     }
 
+    /**
+     * Obtém o usuário montado na autenticação da requisição
+     * @return usuário ou null se a autenticação não for um {@link UsuarioAutenticadoToken}
+     */
+    public UsuarioAutenticado getUsuarioAutenticado() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof UsuarioAutenticadoToken token) {
+            return token.getUsuario();
+        }
+        return null;
+    }
+
     /**
      * Obtém o JWT completo
      * @return Optional contendo o JWT ou empty se não disponível
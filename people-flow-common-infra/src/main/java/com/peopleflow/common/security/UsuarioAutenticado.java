@@ -0,0 +1,93 @@
+package com.peopleflow.common.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Usuário autenticado, montado uma vez por requisição a partir do JWT
+ *
+ * Imutável: empresaId já convertido e roles conhecidas ({@link Papel}) em um bitset,
+ * então as verificações de acesso são leituras de campo, sem alocação.
+ */
+public final class UsuarioAutenticado {
+
+    private final String subject;
+    private final String username;
+    private final Long empresaId;
+    private final long papeis;
+    private final Set<String> outrosPapeis;
+    private final Set<String> todosPapeis;
+
+    public UsuarioAutenticado(String subject, String username, Long empresaId, Collection<String> roles) {
+        this.subject = subject;
+        this.username = username;
+        this.empresaId = empresaId;
+
+        long bits = 0L;
+        Set<String> outros = new HashSet<>();
+        for (String role : roles) {
+            Papel papel = Papel.porNome(role);
+            if (papel != null) {
+                bits |= papel.bit();
+            } else {
+                outros.add(role);
+            }
+        }
+        this.papeis = bits;
+        this.outrosPapeis = Set.copyOf(outros);
+        this.todosPapeis = Set.copyOf(roles);
+    }
+
+    /**
+     * Monta o usuário a partir do JWT e das roles já extraídas (realm + client)
+     *
+     * Um empresaId inválido no token é tratado como ausente: as validações de
+     * empresa recusam o acesso em vez de falhar a autenticação.
+     */
+    public static UsuarioAutenticado de(Jwt jwt, Collection<String> roles) {
+        Long empresaId;
+        try {
+            empresaId = SecurityContextHelper.extrairEmpresaId(jwt);
+        } catch (NumberFormatException e) {
+            empresaId = null;
+        }
+        return new UsuarioAutenticado(jwt.getSubject(), jwt.getClaimAsString("preferred_username"), empresaId, roles);
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /** Empresa do usuário (atributo customizado no Keycloak), ou null se não atribuída */
+    public Long getEmpresaId() {
+        return empresaId;
+    }
+
+    public boolean isAdmin() {
+        return temPapel(Papel.ADMIN);
+    }
+
+    public boolean temPapel(Papel papel) {
+        return (papeis & papel.bit()) != 0;
+    }
+
+    /**
+     * @param role nome da role (sem prefixo ROLE_)
+     */
+    public boolean temPapel(String role) {
+        Papel papel = Papel.porNome(role);
+        return papel != null ? temPapel(papel) : outrosPapeis.contains(role);
+    }
+
+    /** Todas as roles (sem o prefixo ROLE_) */
+    public Set<String> getPapeis() {
+        return todosPapeis;
+    }
+}
@@ -0,0 +1,27 @@
+package com.peopleflow.common.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * Autenticação JWT que carrega o {@link UsuarioAutenticado} já montado
+ *
+ * O principal continua sendo o {@link Jwt}, como no token padrão do Spring.
+ */
+public class UsuarioAutenticadoToken extends JwtAuthenticationToken {
+
+    private final UsuarioAutenticado usuario;
+
+    public UsuarioAutenticadoToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities,
+                                   UsuarioAutenticado usuario) {
+        super(jwt, authorities);
+        this.usuario = usuario;
+    }
+
+    public UsuarioAutenticado getUsuario() {
+        return usuario;
+    }
+}
@@ -1,5 +1,6 @@
 package com.peopleflow.common.validation;
 
+import com.peopleflow.common.security.Papel;
 import com.peopleflow.common.security.SecurityContextHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +46,7 @@ public class AccessValidator implements AccessValidatorPort {
 
     @Override
     public boolean isAdmin() {
-        return securityHelper.hasRole("admin");
+        return securityHelper.hasRole(Papel.ADMIN);
     }
 }
 
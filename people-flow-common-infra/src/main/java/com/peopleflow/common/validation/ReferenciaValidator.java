@@ -0,0 +1,166 @@
+package com.peopleflow.common.validation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validador de referências em lote
+ *
+ * - Existências já confirmadas ficam em um cache curto ({@code app.referencias.cache.*});
+ *   só entram resultados positivos, então uma entidade recém-criada nunca é recusada
+ * - O que falta no cache é buscado em uma única consulta (UNION ALL por tipo, {@code id = ANY(?)})
+ * - Exclusões chamam {@link #esquecer}; dentro de uma transação o descarte acontece após o commit
+ */
+@Slf4j
+@Component
+public class ReferenciaValidator implements ReferenciaValidatorPort {
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    /** Valor no cache para entidades sem empresa (cargos, jornadas...) */
+    private static final long SEM_EMPRESA = 0L;
+
+    private static final Map<TipoReferencia, String> CONSULTAS = new EnumMap<>(TipoReferencia.class);
+
+    static {
+        String organizacao = "SELECT '%s' AS tipo, id, %s AS empresa_id FROM %s.%s WHERE id = ANY(?) AND status <> 'excluido'";
+        String global = "SELECT '%s' AS tipo, id, NULL::BIGINT AS empresa_id FROM %s.%s WHERE id = ANY(?) AND excluido_em IS NULL";
+
+        CONSULTAS.put(TipoReferencia.EMPRESA, String.format(organizacao, "EMPRESA", "id", SCHEMA, "empresa"));
+        CONSULTAS.put(TipoReferencia.UNIDADE, String.format(organizacao, "UNIDADE", "empresa_id", SCHEMA, "unidade"));
+        CONSULTAS.put(TipoReferencia.DEPARTAMENTO, String.format(organizacao, "DEPARTAMENTO", "empresa_id", SCHEMA, "departamento"));
+        CONSULTAS.put(TipoReferencia.CENTRO_CUSTO, String.format(organizacao, "CENTRO_CUSTO", "empresa_id", SCHEMA, "centro_custo"));
+        CONSULTAS.put(TipoReferencia.COLABORADOR, String.format(organizacao, "COLABORADOR", "empresa_id", SCHEMA, "colaborador"));
+        CONSULTAS.put(TipoReferencia.CARGO, String.format(global, "CARGO", SCHEMA, "cargo"));
+        CONSULTAS.put(TipoReferencia.JORNADA_TRABALHO, String.format(global, "JORNADA_TRABALHO", SCHEMA, "jornada_trabalho"));
+        CONSULTAS.put(TipoReferencia.NIVEL_HIERARQUICO, String.format(global, "NIVEL_HIERARQUICO", SCHEMA, "nivel_hierarquico"));
+        CONSULTAS.put(TipoReferencia.FAMILIA_CARGO, String.format(global, "FAMILIA_CARGO", SCHEMA, "familia_cargo"));
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Chave, Long> existentes;
+
+    public ReferenciaValidator(
+            JdbcTemplate jdbcTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.referencias.cache.maximo-entradas:50000}") long maximoEntradas,
+            @Value("${app.referencias.cache.ttl:PT1M}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.existentes = Caffeine.newBuilder()
+                .maximumSize(maximoEntradas)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, existentes, "referencias-existentes"));
+    }
+
+    @Override
+    public List<ReferenciaInvalida> verificar(Collection<Referencia> referencias) {
+        Map<Chave, Long> encontradas = new HashMap<>();
+        Map<TipoReferencia, Set<Long>> faltantes = new EnumMap<>(TipoReferencia.class);
+
+        for (Referencia referencia : referencias) {
+            if (referencia.id() == null) {
+                continue;
+            }
+            Chave chave = new Chave(referencia.tipo(), referencia.id());
+            Long empresaId = existentes.getIfPresent(chave);
+            if (empresaId != null) {
+                encontradas.put(chave, empresaId);
+            } else {
+                faltantes.computeIfAbsent(referencia.tipo(), tipo -> new LinkedHashSet<>()).add(referencia.id());
+            }
+        }
+
+        if (!faltantes.isEmpty()) {
+            Map<Chave, Long> buscadas = buscar(faltantes);
+            existentes.putAll(buscadas);
+            encontradas.putAll(buscadas);
+        }
+
+        List<ReferenciaInvalida> invalidas = new ArrayList<>();
+        for (Referencia referencia : referencias) {
+            if (referencia.id() == null) {
+                continue;
+            }
+            Long empresaId = encontradas.get(new Chave(referencia.tipo(), referencia.id()));
+            if (empresaId == null) {
+                invalidas.add(new ReferenciaInvalida(referencia, ReferenciaInvalida.Motivo.NAO_ENCONTRADA, null));
+            } else if (referencia.empresaIdEsperada() != null
+                    && referencia.tipo().isPorEmpresa()
+                    && !referencia.empresaIdEsperada().equals(empresaId)) {
+                invalidas.add(new ReferenciaInvalida(referencia, ReferenciaInvalida.Motivo.OUTRA_EMPRESA, empresaId));
+            }
+        }
+        return invalidas;
+    }
+
+    @Override
+    public void esquecer(TipoReferencia tipo, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            descartar(tipo, id);
+            return;
+        }
+        // descarta já (a própria transação não deve reaproveitar) e de novo após o commit,
+        // caso outra requisição tenha recolocado a entidade no cache nesse meio tempo
+        descartar(tipo, id);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                descartar(tipo, id);
+            }
+        });
+    }
+
+    private void descartar(TipoReferencia tipo, Long id) {
+        existentes.invalidate(new Chave(tipo, id));
+        if (tipo == TipoReferencia.EMPRESA) {
+            existentes.asMap().entrySet().removeIf(entrada ->
+                    entrada.getKey().tipo().isPorEmpresa() && id.equals(entrada.getValue()));
+        }
+    }
+
+    private Map<Chave, Long> buscar(Map<TipoReferencia, Set<Long>> faltantes) {
+        List<TipoReferencia> tipos = new ArrayList<>(faltantes.keySet());
+        String sql = String.join(" UNION ALL ", tipos.stream().map(CONSULTAS::get).toList());
+
+        Map<Chave, Long> buscadas = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            for (int i = 0; i < tipos.size(); i++) {
+                ps.setArray(i + 1, con.createArrayOf("bigint", faltantes.get(tipos.get(i)).toArray()));
+            }
+            return ps;
+        }, rs -> {
+            long empresaId = rs.getLong("empresa_id");
+            buscadas.put(new Chave(TipoReferencia.valueOf(rs.getString("tipo")), rs.getLong("id")),
+                    rs.wasNull() ? SEM_EMPRESA : empresaId);
+        });
+
+        log.debug("Referências buscadas no banco: tipos={}, encontradas={}", tipos, buscadas.size());
+        return buscadas;
+    }
+
+    private record Chave(TipoReferencia tipo, Long id) {
+    }
+}
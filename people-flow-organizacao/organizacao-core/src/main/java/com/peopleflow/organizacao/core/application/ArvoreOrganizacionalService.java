@@ -0,0 +1,156 @@
+package com.peopleflow.organizacao.core.application;
+
+import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.organizacao.core.ports.input.ArvoreOrganizacionalUseCase;
+import com.peopleflow.organizacao.core.ports.output.HierarquiaOrganizacionalPort;
+import com.peopleflow.organizacao.core.query.ArvoreOrganizacional;
+import com.peopleflow.organizacao.core.query.NoOrganizacao;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mantém em memória um retrato imutável da hierarquia de todas as empresas
+ *
+ * - Leituras não tocam o banco: pegam o retrato atual (referência volátil)
+ * - Gravações recarregam só as empresas afetadas e publicam um novo retrato
+ *   (cópia com as árvores trocadas); recargas são serializadas entre si
+ * - A primeira leitura carrega a hierarquia inteira
+ */
+public class ArvoreOrganizacionalService implements ArvoreOrganizacionalUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ArvoreOrganizacionalService.class);
+
+    private final HierarquiaOrganizacionalPort hierarquiaPort;
+    private final AccessValidatorPort accessValidator;
+
+    private volatile Retrato retrato;
+    private long ultimaVersao;
+
+    public ArvoreOrganizacionalService(HierarquiaOrganizacionalPort hierarquiaPort, AccessValidatorPort accessValidator) {
+        this.hierarquiaPort = hierarquiaPort;
+        this.accessValidator = accessValidator;
+    }
+
+    @Override
+    public ArvoreOrganizacional buscarPorEmpresa(Long empresaId) {
+        if (!accessValidator.isAdmin()) {
+            accessValidator.validarAcessoEmpresa(empresaId);
+        }
+
+        ArvoreOrganizacional arvore = retratoAtual().arvores().get(empresaId);
+        if (arvore == null) {
+            throw new ResourceNotFoundException("Empresa", empresaId);
+        }
+        return arvore;
+    }
+
+    @Override
+    public List<ArvoreOrganizacional> listar() {
+        if (!accessValidator.isAdmin()) {
+            Long empresaId = accessValidator.getEmpresaIdUsuario();
+            ArvoreOrganizacional arvore = empresaId != null ? retratoAtual().arvores().get(empresaId) : null;
+            return arvore != null ? List.of(arvore) : List.of();
+        }
+
+        return retratoAtual().arvores().values().stream()
+                .sorted(Comparator.comparing(ArvoreOrganizacional::getEmpresaId))
+                .toList();
+    }
+
+    @Override
+    public synchronized void registrarAlteracao(TipoNoOrganizacao tipo, Long id, Long empresaId) {
+        Retrato atual = retrato;
+        if (atual == null) {
+            // ainda não carregado: a primeira leitura já vai buscar o estado gravado
+            return;
+        }
+
+        Set<Long> afetadas = new LinkedHashSet<>();
+        if (empresaId != null) {
+            afetadas.add(empresaId);
+        }
+        // o nó pode ter mudado de empresa: a anterior também precisa ser remontada
+        Long empresaAnterior = atual.empresaPorNo().get(new NoOrganizacao.Chave(tipo, id));
+        if (empresaAnterior != null) {
+            afetadas.add(empresaAnterior);
+        }
+        if (afetadas.isEmpty()) {
+            return;
+        }
+
+        List<NoOrganizacao> linhas = hierarquiaPort.listarPorEmpresas(afetadas);
+        long versao = ++ultimaVersao;
+
+        Map<Long, ArvoreOrganizacional> arvores = new HashMap<>(atual.arvores());
+        Map<NoOrganizacao.Chave, Long> empresaPorNo = new HashMap<>(atual.empresaPorNo());
+        empresaPorNo.values().removeIf(afetadas::contains);
+
+        for (Long afetada : afetadas) {
+            ArvoreOrganizacional.montar(afetada, versao, linhas).ifPresentOrElse(
+                    arvore -> arvores.put(afetada, arvore),
+                    () -> arvores.remove(afetada));
+        }
+        for (NoOrganizacao no : linhas) {
+            empresaPorNo.put(no.chave(), no.empresaId());
+        }
+
+        retrato = new Retrato(versao, Map.copyOf(arvores), Map.copyOf(empresaPorNo));
+        log.debug("Árvore organizacional recarregada: versao={}, empresas={}", versao, afetadas);
+    }
+
+    @Override
+    public synchronized void recarregarTudo() {
+        retrato = carregarTudo();
+    }
+
+    private Retrato retratoAtual() {
+        Retrato atual = retrato;
+        if (atual != null) {
+            return atual;
+        }
+        synchronized (this) {
+            if (retrato == null) {
+                retrato = carregarTudo();
+            }
+            return retrato;
+        }
+    }
+
+    private Retrato carregarTudo() {
+        List<NoOrganizacao> linhas = hierarquiaPort.listarTodos();
+        long versao = ++ultimaVersao;
+
+        Map<Long, List<NoOrganizacao>> porEmpresa = new HashMap<>();
+        Map<NoOrganizacao.Chave, Long> empresaPorNo = new HashMap<>();
+        for (NoOrganizacao no : linhas) {
+            porEmpresa.computeIfAbsent(no.empresaId(), id -> new ArrayList<>()).add(no);
+            empresaPorNo.put(no.chave(), no.empresaId());
+        }
+
+        Map<Long, ArvoreOrganizacional> arvores = new HashMap<>();
+        porEmpresa.forEach((empresaId, nos) ->
+                ArvoreOrganizacional.montar(empresaId, versao, nos)
+                        .ifPresent(arvore -> arvores.put(empresaId, arvore)));
+
+        log.info("🌳 Árvore organizacional carregada: versao={}, empresas={}, nos={}",
+                versao, arvores.size(), linhas.size());
+        return new Retrato(versao, Map.copyOf(arvores), Map.copyOf(empresaPorNo));
+    }
+
+    private record Retrato(
+            long versao,
+            Map<Long, ArvoreOrganizacional> arvores,
+            Map<NoOrganizacao.Chave, Long> empresaPorNo
+    ) {
+    }
+}
@@ -7,10 +7,12 @@ import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.util.ServiceUtils;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.Referencia;
 import com.peopleflow.organizacao.core.domain.CentroCusto;
 import com.peopleflow.organizacao.core.ports.input.CentroCustoUseCase;
 import com.peopleflow.organizacao.core.ports.output.CentroCustoRepositoryPort;
-import com.peopleflow.organizacao.core.ports.output.EmpresaRepositoryPort;
 import com.peopleflow.organizacao.core.query.CentroCustoFilter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -25,8 +27,8 @@ public class CentroCustoService implements CentroCustoUseCase {
     private static final Logger log = LoggerFactory.getLogger(CentroCustoService.class);
 
     private final CentroCustoRepositoryPort centroCustoRepository;
-    private final EmpresaRepositoryPort empresaRepository;
     private final AccessValidatorPort accessValidator;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public CentroCusto criar(CentroCusto centroCusto) {
@@ -174,6 +176,7 @@ public class CentroCustoService implements CentroCustoUseCase {
         }
         CentroCusto centroCustoExcluido = centroCusto.excluir();
         CentroCusto resultado = centroCustoRepository.salvar(centroCustoExcluido);
+        referenciaValidator.esquecer(TipoReferencia.CENTRO_CUSTO, id);
 
         log.info("Centro de Custo excluído com sucesso: id={}, nome={}", id, resultado.getNome());
 
@@ -203,7 +206,6 @@ public class CentroCustoService implements CentroCustoUseCase {
     }
 
     private void validarEmpresaExiste(Long empresaId) {
-        empresaRepository.buscarPorId(empresaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Empresa", empresaId));
+        referenciaValidator.validar(Referencia.empresa(empresaId));
     }
 }
@@ -7,12 +7,12 @@ import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.util.ServiceUtils;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.Referencia;
 import com.peopleflow.organizacao.core.domain.Departamento;
-import com.peopleflow.organizacao.core.domain.Unidade;
 import com.peopleflow.organizacao.core.ports.input.DepartamentoUseCase;
 import com.peopleflow.organizacao.core.ports.output.DepartamentoRepositoryPort;
-import com.peopleflow.organizacao.core.ports.output.EmpresaRepositoryPort;
-import com.peopleflow.organizacao.core.ports.output.UnidadeRepositoryPort;
 import com.peopleflow.organizacao.core.query.DepartamentoFilter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -27,9 +27,8 @@ public class DepartamentoService implements DepartamentoUseCase {
     private static final Logger log = LoggerFactory.getLogger(DepartamentoService.class);
 
     private final DepartamentoRepositoryPort departamentoRepository;
-    private final EmpresaRepositoryPort empresaRepository;
-    private final UnidadeRepositoryPort unidadeRepository;
     private final AccessValidatorPort accessValidator;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public Departamento criar(Departamento departamento) {
@@ -39,8 +38,7 @@ public class DepartamentoService implements DepartamentoUseCase {
                 departamento.getEmpresaId(),
                 departamento.getUnidadeId());
 
-        validarEmpresaExiste(departamento.getEmpresaId());
-        validarUnidadePertenceAEmpresa(departamento.getUnidadeId(), departamento.getEmpresaId());
+        validarReferencias(departamento);
         validarUnicidadeCriacao(departamento);
 
         Departamento departamentoSalvar = Departamento.nova(
@@ -78,8 +76,7 @@ public class DepartamentoService implements DepartamentoUseCase {
                 accessValidator.validarAcessoEmpresa(original.getEmpresaId());
             }
 
-            validarEmpresaExiste(departamento.getEmpresaId());
-            validarUnidadePertenceAEmpresa(departamento.getUnidadeId(), departamento.getEmpresaId());
+            validarReferencias(departamento);
 
             Departamento departamentoAtualizar = original.atualizar(
                     departamento.getNome(),
@@ -182,6 +179,7 @@ public class DepartamentoService implements DepartamentoUseCase {
         }
         Departamento departamentoExcluido = departamento.excluir();
         Departamento resultado = departamentoRepository.salvar(departamentoExcluido);
+        referenciaValidator.esquecer(TipoReferencia.DEPARTAMENTO, id);
 
         log.info("Departamento excluído com sucesso: id={}, nome={}", id, resultado.getNome());
 
@@ -211,18 +209,12 @@ public class DepartamentoService implements DepartamentoUseCase {
         return camposAlterados.isEmpty() ? List.of("nenhum") : camposAlterados;
     }
 
-    private void validarEmpresaExiste(Long empresaId) {
-        empresaRepository.buscarPorId(empresaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Empresa", empresaId));
-    }
-
-    private void validarUnidadePertenceAEmpresa(Long unidadeId, Long empresaId) {
-        Unidade unidade = unidadeRepository.buscarPorId(unidadeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Unidade", unidadeId));
-
-        if (!unidade.getEmpresaId().equals(empresaId)) {
-            throw new BusinessException("UNIDADE_NAO_PERTENCE_EMPRESA",
-                    String.format("A unidade %d não pertence à empresa %d", unidadeId, empresaId));
-        }
+    /**
+     * Empresa e unidade (pertencente à empresa) conferidas em uma única consulta
+     */
+    private void validarReferencias(Departamento departamento) {
+        referenciaValidator.validar(
+                Referencia.empresa(departamento.getEmpresaId()),
+                Referencia.unidade(departamento.getUnidadeId(), departamento.getEmpresaId()));
     }
 }
@@ -6,6 +6,8 @@ import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.util.ServiceUtils;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.organizacao.core.domain.Empresa;
 import com.peopleflow.organizacao.core.ports.input.EmpresaUseCase;
 import com.peopleflow.organizacao.core.ports.output.CentroCustoRepositoryPort;
@@ -32,6 +34,7 @@ public class EmpresaService implements EmpresaUseCase {
     private final CentroCustoRepositoryPort centroCustoRepository;
     private final ExisteColaboradorPorEmpresaPort existeColaboradorPorEmpresaPort;
     private final AccessValidatorPort accessValidator;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public Empresa criar(Empresa empresa) {
@@ -190,6 +193,7 @@ public class EmpresaService implements EmpresaUseCase {
 
         Empresa empresaExcluido = empresa.excluir();
         Empresa resultado = empresaRepository.salvar(empresaExcluido);
+        referenciaValidator.esquecer(TipoReferencia.EMPRESA, id);
 
         log.info("Empresa e vínculos excluídos com sucesso (soft delete): id={}, nome={}", id, resultado.getNome());
 
@@ -7,9 +7,11 @@ import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.util.ServiceUtils;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.Referencia;
 import com.peopleflow.organizacao.core.domain.Unidade;
 import com.peopleflow.organizacao.core.ports.input.UnidadeUseCase;
-import com.peopleflow.organizacao.core.ports.output.EmpresaRepositoryPort;
 import com.peopleflow.organizacao.core.ports.output.UnidadeRepositoryPort;
 import com.peopleflow.organizacao.core.query.UnidadeFilter;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +27,8 @@ public class UnidadeService implements UnidadeUseCase {
     private static final Logger log = LoggerFactory.getLogger(UnidadeService.class);
 
     private final UnidadeRepositoryPort unidadeRepository;
-    private final EmpresaRepositoryPort empresaRepository;
     private final AccessValidatorPort accessValidator;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public Unidade criar(Unidade unidade) {
@@ -172,6 +174,7 @@ public class UnidadeService implements UnidadeUseCase {
         }
         Unidade unidadeExcluido = unidade.excluir();
         Unidade resultado = unidadeRepository.salvar(unidadeExcluido);
+        referenciaValidator.esquecer(TipoReferencia.UNIDADE, id);
 
         log.info("Unidade excluída com sucesso: id={}, nome={}", id, resultado.getNome());
 
@@ -201,7 +204,6 @@ public class UnidadeService implements UnidadeUseCase {
     }
 
     private void validarEmpresaExiste(Long empresaId) {
-        empresaRepository.buscarPorId(empresaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Empresa", empresaId));
+        referenciaValidator.validar(Referencia.empresa(empresaId));
     }
 }
@@ -0,0 +1,31 @@
+package com.peopleflow.organizacao.core.ports.input;
+
+import com.peopleflow.organizacao.core.query.ArvoreOrganizacional;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+
+import java.util.List;
+
+public interface ArvoreOrganizacionalUseCase {
+
+    /**
+     * Árvore de uma empresa, servida do retrato em memória
+     */
+    ArvoreOrganizacional buscarPorEmpresa(Long empresaId);
+
+    /**
+     * Árvores visíveis ao usuário: todas para admin, apenas a da própria empresa para os demais
+     */
+    List<ArvoreOrganizacional> listar();
+
+    /**
+     * Recarrega as empresas afetadas pela gravação de um nó
+     *
+     * @param empresaId empresa do nó após a gravação (para empresas, o próprio ID)
+     */
+    void registrarAlteracao(TipoNoOrganizacao tipo, Long id, Long empresaId);
+
+    /**
+     * Descarta o retrato atual e recarrega a hierarquia inteira
+     */
+    void recarregarTudo();
+}
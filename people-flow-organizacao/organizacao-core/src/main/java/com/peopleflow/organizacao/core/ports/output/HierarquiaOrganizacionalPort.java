@@ -0,0 +1,24 @@
+package com.peopleflow.organizacao.core.ports.output;
+
+import com.peopleflow.organizacao.core.query.NoOrganizacao;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Leitura da hierarquia organizacional em poucas consultas, para montar a árvore em memória
+ *
+ * Não devolve registros excluídos (soft delete).
+ */
+public interface HierarquiaOrganizacionalPort {
+
+    /**
+     * @return nós de todas as empresas
+     */
+    List<NoOrganizacao> listarTodos();
+
+    /**
+     * @return nós (inclusive a própria empresa) das empresas informadas
+     */
+    List<NoOrganizacao> listarPorEmpresas(Collection<Long> empresaIds);
+}
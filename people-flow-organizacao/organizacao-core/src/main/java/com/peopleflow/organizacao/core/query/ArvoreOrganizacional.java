@@ -0,0 +1,153 @@
+package com.peopleflow.organizacao.core.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Retrato imutável da hierarquia de uma empresa, com índices pai → filhos e nó → pai
+ *
+ * A {@code impressao} é um hash do conteúdo (não da versão): duas instâncias da
+ * aplicação com os mesmos dados geram a mesma impressão, o que permite usá-la como ETag.
+ */
+public final class ArvoreOrganizacional {
+
+    private static final Comparator<NoOrganizacao> ORDEM_IRMAOS = Comparator
+            .comparing(NoOrganizacao::tipo)
+            .thenComparing(NoOrganizacao::nome, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(NoOrganizacao::id);
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIMO = 0x100000001b3L;
+
+    private final long versao;
+    private final long impressao;
+    private final NoOrganizacao raiz;
+    private final Map<NoOrganizacao.Chave, NoOrganizacao> nos;
+    private final Map<NoOrganizacao.Chave, List<NoOrganizacao>> filhos;
+
+    private ArvoreOrganizacional(long versao, long impressao, NoOrganizacao raiz,
+                                 Map<NoOrganizacao.Chave, NoOrganizacao> nos,
+                                 Map<NoOrganizacao.Chave, List<NoOrganizacao>> filhos) {
+        this.versao = versao;
+        this.impressao = impressao;
+        this.raiz = raiz;
+        this.nos = nos;
+        this.filhos = filhos;
+    }
+
+    /**
+     * Monta a árvore de uma empresa a partir das linhas da hierarquia
+     *
+     * Nós cujo pai não está entre as linhas (ex.: departamento de uma unidade excluída)
+     * são pendurados direto na empresa para não sumirem da árvore.
+     *
+     * @return vazio se a empresa não estiver entre as linhas
+     */
+    public static Optional<ArvoreOrganizacional> montar(Long empresaId, long versao, List<NoOrganizacao> linhas) {
+        NoOrganizacao.Chave chaveRaiz = new NoOrganizacao.Chave(TipoNoOrganizacao.EMPRESA, empresaId);
+
+        Map<NoOrganizacao.Chave, NoOrganizacao> nos = new HashMap<>();
+        for (NoOrganizacao no : linhas) {
+            if (empresaId.equals(no.empresaId()) || no.chave().equals(chaveRaiz)) {
+                nos.put(no.chave(), no);
+            }
+        }
+
+        NoOrganizacao raiz = nos.get(chaveRaiz);
+        if (raiz == null) {
+            return Optional.empty();
+        }
+
+        Map<NoOrganizacao.Chave, List<NoOrganizacao>> filhos = new HashMap<>();
+        for (NoOrganizacao no : nos.values()) {
+            if (no == raiz) {
+                continue;
+            }
+            NoOrganizacao.Chave pai = nos.containsKey(no.chavePai()) ? no.chavePai() : chaveRaiz;
+            filhos.computeIfAbsent(pai, chave -> new ArrayList<>()).add(no);
+        }
+        filhos.replaceAll((chave, lista) -> {
+            lista.sort(ORDEM_IRMAOS);
+            return List.copyOf(lista);
+        });
+
+        List<NoOrganizacao> ordenados = new ArrayList<>(nos.values());
+        ordenados.sort(Comparator.comparing(NoOrganizacao::tipo).thenComparing(NoOrganizacao::id));
+
+        return Optional.of(new ArvoreOrganizacional(versao, calcularImpressao(ordenados), raiz,
+                Map.copyOf(nos), Map.copyOf(filhos)));
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    public long getImpressao() {
+        return impressao;
+    }
+
+    public Long getEmpresaId() {
+        return raiz.id();
+    }
+
+    public NoOrganizacao getRaiz() {
+        return raiz;
+    }
+
+    public int getTotalNos() {
+        return nos.size();
+    }
+
+    public boolean contem(NoOrganizacao.Chave chave) {
+        return nos.containsKey(chave);
+    }
+
+    public Optional<NoOrganizacao> buscar(NoOrganizacao.Chave chave) {
+        return Optional.ofNullable(nos.get(chave));
+    }
+
+    /**
+     * Filhos diretos do nó, já ordenados (tipo, nome)
+     */
+    public List<NoOrganizacao> filhos(NoOrganizacao.Chave chave) {
+        return filhos.getOrDefault(chave, List.of());
+    }
+
+    public Optional<NoOrganizacao> pai(NoOrganizacao.Chave chave) {
+        NoOrganizacao no = nos.get(chave);
+        if (no == null || no == raiz) {
+            return Optional.empty();
+        }
+        NoOrganizacao pai = nos.get(no.chavePai());
+        return Optional.of(pai != null ? pai : raiz);
+    }
+
+    private static long calcularImpressao(List<NoOrganizacao> ordenados) {
+        long hash = FNV_OFFSET;
+        for (NoOrganizacao no : ordenados) {
+            hash = misturar(hash, no.tipo().name());
+            hash = misturar(hash, String.valueOf(no.id()));
+            hash = misturar(hash, String.valueOf(no.unidadeId()));
+            hash = misturar(hash, no.nome());
+            hash = misturar(hash, no.codigo());
+            hash = misturar(hash, no.status());
+        }
+        return hash;
+    }
+
+    private static long misturar(long hash, String valor) {
+        byte[] bytes = (valor != null ? valor : "\0").getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIMO;
+        }
+        // separador entre campos, para "ab"+"c" não colidir com "a"+"bc"
+        hash ^= 0x1f;
+        return hash * FNV_PRIMO;
+    }
+}
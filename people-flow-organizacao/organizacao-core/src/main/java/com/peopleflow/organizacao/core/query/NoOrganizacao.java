@@ -0,0 +1,38 @@
+package com.peopleflow.organizacao.core.query;
+
+/**
+ * Linha da hierarquia organizacional (Empresa, Unidade, Departamento ou Centro de Custo)
+ *
+ * {@code unidadeId} só é preenchido para departamentos vinculados a uma unidade;
+ * os demais nós ficam diretamente abaixo da empresa.
+ */
+public record NoOrganizacao(
+        TipoNoOrganizacao tipo,
+        Long id,
+        Long empresaId,
+        Long unidadeId,
+        String nome,
+        String codigo,
+        String status
+) {
+
+    public Chave chave() {
+        return new Chave(tipo, id);
+    }
+
+    /**
+     * Chave do nó pai; {@code null} para a empresa
+     */
+    public Chave chavePai() {
+        return switch (tipo) {
+            case EMPRESA -> null;
+            case DEPARTAMENTO -> unidadeId != null
+                    ? new Chave(TipoNoOrganizacao.UNIDADE, unidadeId)
+                    : new Chave(TipoNoOrganizacao.EMPRESA, empresaId);
+            case UNIDADE, CENTRO_CUSTO -> new Chave(TipoNoOrganizacao.EMPRESA, empresaId);
+        };
+    }
+
+    public record Chave(TipoNoOrganizacao tipo, Long id) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.peopleflow.organizacao.core.query;
+
+/**
+ * Tipos de nó da árvore organizacional, na ordem em que aparecem entre irmãos
+ */
+public enum TipoNoOrganizacao {
+    EMPRESA,
+    UNIDADE,
+    DEPARTAMENTO,
+    CENTRO_CUSTO
+}
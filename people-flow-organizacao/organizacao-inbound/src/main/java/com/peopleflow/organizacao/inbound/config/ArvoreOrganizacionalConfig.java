@@ -0,0 +1,25 @@
+package com.peopleflow.organizacao.inbound.config;
+
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.organizacao.core.application.ArvoreOrganizacionalService;
+import com.peopleflow.organizacao.core.ports.input.ArvoreOrganizacionalUseCase;
+import com.peopleflow.organizacao.core.ports.output.HierarquiaOrganizacionalPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Árvore organizacional em memória
+ *
+ * Sem delegate transacional: as leituras são servidas do retrato em memória e
+ * as recargas usam consultas JDBC avulsas, fora das transações de gravação.
+ */
+@Configuration
+public class ArvoreOrganizacionalConfig {
+
+    @Bean
+    public ArvoreOrganizacionalUseCase arvoreOrganizacionalUseCase(
+            HierarquiaOrganizacionalPort hierarquiaPort,
+            AccessValidatorPort accessValidator) {
+        return new ArvoreOrganizacionalService(hierarquiaPort, accessValidator);
+    }
+}
@@ -3,12 +3,14 @@ package com.peopleflow.organizacao.inbound.config;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.organizacao.core.application.CentroCustoService;
 import com.peopleflow.organizacao.core.domain.CentroCusto;
 import com.peopleflow.organizacao.core.ports.input.CentroCustoUseCase;
 import com.peopleflow.organizacao.core.ports.output.CentroCustoRepositoryPort;
-import com.peopleflow.organizacao.core.ports.output.EmpresaRepositoryPort;
 import com.peopleflow.organizacao.core.query.CentroCustoFilter;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+import com.peopleflow.organizacao.inbound.events.ArvoreOrganizacionalSincronizador;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -21,23 +23,26 @@ public class CentroCustoConfig {
     @Bean
     public CentroCustoUseCase centroCustoUseCase(
             CentroCustoRepositoryPort repository,
-            EmpresaRepositoryPort empresaRepository,
-            AccessValidatorPort accessValidator) {
-        CentroCustoService service = new CentroCustoService(repository, empresaRepository, accessValidator);
-        return new TransactionalCentroCustoUseCase(service);
+            AccessValidatorPort accessValidator,
+            ReferenciaValidatorPort referenciaValidator,
+            ArvoreOrganizacionalSincronizador arvoreSincronizador) {
+        CentroCustoService service = new CentroCustoService(repository, accessValidator, referenciaValidator);
+        return new TransactionalCentroCustoUseCase(service, arvoreSincronizador);
     }
 
     private static class TransactionalCentroCustoUseCase implements CentroCustoUseCase {
         private final CentroCustoService delegate;
+        private final ArvoreOrganizacionalSincronizador arvoreSincronizador;
 
-        public TransactionalCentroCustoUseCase(CentroCustoService delegate) {
+        public TransactionalCentroCustoUseCase(CentroCustoService delegate, ArvoreOrganizacionalSincronizador arvoreSincronizador) {
             this.delegate = delegate;
+            this.arvoreSincronizador = arvoreSincronizador;
         }
 
         @Override
         @Transactional
         public CentroCusto criar(CentroCusto centroCusto) {
-            return delegate.criar(centroCusto);
+            return atualizarArvore(delegate.criar(centroCusto));
         }
 
         @Override
@@ -55,25 +60,30 @@ public class CentroCustoConfig {
         @Override
         @Transactional
         public CentroCusto atualizar(Long id, CentroCusto centroCusto) {
-            return delegate.atualizar(id, centroCusto);
+            return atualizarArvore(delegate.atualizar(id, centroCusto));
         }
 
         @Override
         @Transactional
         public CentroCusto ativar(Long id) {
-            return delegate.ativar(id);
+            return atualizarArvore(delegate.ativar(id));
         }
 
         @Override
         @Transactional
         public CentroCusto inativar(Long id) {
-            return delegate.inativar(id);
+            return atualizarArvore(delegate.inativar(id));
         }
 
         @Override
         @Transactional
         public CentroCusto excluir(Long id) {
-            return delegate.excluir(id);
+            return atualizarArvore(delegate.excluir(id));
+        }
+
+        private CentroCusto atualizarArvore(CentroCusto centroCusto) {
+            arvoreSincronizador.registrarAposCommit(TipoNoOrganizacao.CENTRO_CUSTO, centroCusto.getId(), centroCusto.getEmpresaId());
+            return centroCusto;
         }
     }
 }
@@ -3,13 +3,14 @@ package com.peopleflow.organizacao.inbound.config;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.organizacao.core.application.DepartamentoService;
 import com.peopleflow.organizacao.core.domain.Departamento;
 import com.peopleflow.organizacao.core.ports.input.DepartamentoUseCase;
 import com.peopleflow.organizacao.core.ports.output.DepartamentoRepositoryPort;
-import com.peopleflow.organizacao.core.ports.output.EmpresaRepositoryPort;
-import com.peopleflow.organizacao.core.ports.output.UnidadeRepositoryPort;
 import com.peopleflow.organizacao.core.query.DepartamentoFilter;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+import com.peopleflow.organizacao.inbound.events.ArvoreOrganizacionalSincronizador;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -22,24 +23,26 @@ public class DepartamentoConfig {
     @Bean
     public DepartamentoUseCase departamentoUseCase(
             DepartamentoRepositoryPort repository,
-            EmpresaRepositoryPort empresaRepository,
-            UnidadeRepositoryPort unidadeRepository,
-            AccessValidatorPort accessValidator) {
-        DepartamentoService service = new DepartamentoService(repository, empresaRepository, unidadeRepository, accessValidator);
-        return new TransactionalDepartamentoUseCase(service);
+            AccessValidatorPort accessValidator,
+            ReferenciaValidatorPort referenciaValidator,
+            ArvoreOrganizacionalSincronizador arvoreSincronizador) {
+        DepartamentoService service = new DepartamentoService(repository, accessValidator, referenciaValidator);
+        return new TransactionalDepartamentoUseCase(service, arvoreSincronizador);
     }
 
     private static class TransactionalDepartamentoUseCase implements DepartamentoUseCase {
         private final DepartamentoService delegate;
+        private final ArvoreOrganizacionalSincronizador arvoreSincronizador;
 
-        public TransactionalDepartamentoUseCase(DepartamentoService delegate) {
+        public TransactionalDepartamentoUseCase(DepartamentoService delegate, ArvoreOrganizacionalSincronizador arvoreSincronizador) {
             this.delegate = delegate;
+            this.arvoreSincronizador = arvoreSincronizador;
         }
 
         @Override
         @Transactional
         public Departamento criar(Departamento departamento) {
-            return delegate.criar(departamento);
+            return atualizarArvore(delegate.criar(departamento));
         }
 
         @Override
@@ -57,25 +60,30 @@ public class DepartamentoConfig {
         @Override
         @Transactional
         public Departamento atualizar(Long id, Departamento departamento) {
-            return delegate.atualizar(id, departamento);
+            return atualizarArvore(delegate.atualizar(id, departamento));
         }
 
         @Override
         @Transactional
         public Departamento ativar(Long id) {
-            return delegate.ativar(id);
+            return atualizarArvore(delegate.ativar(id));
         }
 
         @Override
         @Transactional
         public Departamento inativar(Long id) {
-            return delegate.inativar(id);
+            return atualizarArvore(delegate.inativar(id));
         }
 
         @Override
         @Transactional
         public Departamento excluir(Long id) {
-            return delegate.excluir(id);
+            return atualizarArvore(delegate.excluir(id));
+        }
+
+        private Departamento atualizarArvore(Departamento departamento) {
+            arvoreSincronizador.registrarAposCommit(TipoNoOrganizacao.DEPARTAMENTO, departamento.getId(), departamento.getEmpresaId());
+            return departamento;
         }
     }
 }
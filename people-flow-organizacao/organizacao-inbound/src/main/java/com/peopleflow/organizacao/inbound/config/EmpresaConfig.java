@@ -3,6 +3,7 @@ package com.peopleflow.organizacao.inbound.config;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.organizacao.core.application.EmpresaService;
 import com.peopleflow.organizacao.core.domain.Empresa;
 import com.peopleflow.organizacao.core.ports.input.EmpresaUseCase;
@@ -12,6 +13,8 @@ import com.peopleflow.organizacao.core.ports.output.EmpresaRepositoryPort;
 import com.peopleflow.organizacao.core.ports.output.ExisteColaboradorPorEmpresaPort;
 import com.peopleflow.organizacao.core.ports.output.UnidadeRepositoryPort;
 import com.peopleflow.organizacao.core.query.EmpresaFilter;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+import com.peopleflow.organizacao.inbound.events.ArvoreOrganizacionalSincronizador;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -28,22 +31,26 @@ public class EmpresaConfig {
             UnidadeRepositoryPort unidadeRepository,
             CentroCustoRepositoryPort centroCustoRepository,
             ExisteColaboradorPorEmpresaPort existeColaboradorPorEmpresaPort,
-            AccessValidatorPort accessValidator) {
-        EmpresaService service = new EmpresaService(repository, departamentoRepository, unidadeRepository, centroCustoRepository, existeColaboradorPorEmpresaPort, accessValidator);
-        return new TransactionalEmpresaUseCase(service);
+            AccessValidatorPort accessValidator,
+            ReferenciaValidatorPort referenciaValidator,
+            ArvoreOrganizacionalSincronizador arvoreSincronizador) {
+        EmpresaService service = new EmpresaService(repository, departamentoRepository, unidadeRepository, centroCustoRepository, existeColaboradorPorEmpresaPort, accessValidator, referenciaValidator);
+        return new TransactionalEmpresaUseCase(service, arvoreSincronizador);
     }
 
     private static class TransactionalEmpresaUseCase implements EmpresaUseCase {
         private final EmpresaService delegate;
+        private final ArvoreOrganizacionalSincronizador arvoreSincronizador;
         
-        public TransactionalEmpresaUseCase(EmpresaService delegate) {
+        public TransactionalEmpresaUseCase(EmpresaService delegate, ArvoreOrganizacionalSincronizador arvoreSincronizador) {
             this.delegate = delegate;
+            this.arvoreSincronizador = arvoreSincronizador;
         }
         
         @Override
         @Transactional
         public Empresa criar(Empresa empresa) {
-            return delegate.criar(empresa);
+            return atualizarArvore(delegate.criar(empresa));
         }
         
         @Override
@@ -61,25 +68,30 @@ public class EmpresaConfig {
         @Override
         @Transactional
         public Empresa atualizar(Long id, Empresa empresa) {
-            return delegate.atualizar(id, empresa);
+            return atualizarArvore(delegate.atualizar(id, empresa));
         }
         
         @Override
         @Transactional
         public Empresa ativar(Long id) {
-            return delegate.ativar(id);
+            return atualizarArvore(delegate.ativar(id));
         }
         
         @Override
         @Transactional
         public Empresa inativar(Long id) {
-            return delegate.inativar(id);
+            return atualizarArvore(delegate.inativar(id));
         }
         
         @Override
         @Transactional
         public Empresa excluir(Long id) {
-            return delegate.excluir(id);
+            return atualizarArvore(delegate.excluir(id));
+        }
+
+        private Empresa atualizarArvore(Empresa empresa) {
+            arvoreSincronizador.registrarAposCommit(TipoNoOrganizacao.EMPRESA, empresa.getId(), empresa.getId());
+            return empresa;
         }
     }
 }
@@ -3,12 +3,14 @@ package com.peopleflow.organizacao.inbound.config;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.organizacao.core.application.UnidadeService;
 import com.peopleflow.organizacao.core.domain.Unidade;
 import com.peopleflow.organizacao.core.ports.input.UnidadeUseCase;
-import com.peopleflow.organizacao.core.ports.output.EmpresaRepositoryPort;
 import com.peopleflow.organizacao.core.ports.output.UnidadeRepositoryPort;
 import com.peopleflow.organizacao.core.query.UnidadeFilter;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+import com.peopleflow.organizacao.inbound.events.ArvoreOrganizacionalSincronizador;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -21,23 +23,26 @@ public class UnidadeConfig {
     @Bean
     public UnidadeUseCase unidadeUseCase(
             UnidadeRepositoryPort repository,
-            EmpresaRepositoryPort empresaRepository,
-            AccessValidatorPort accessValidator) {
-        UnidadeService service = new UnidadeService(repository, empresaRepository, accessValidator);
-        return new TransactionalUnidadeUseCase(service);
+            AccessValidatorPort accessValidator,
+            ReferenciaValidatorPort referenciaValidator,
+            ArvoreOrganizacionalSincronizador arvoreSincronizador) {
+        UnidadeService service = new UnidadeService(repository, accessValidator, referenciaValidator);
+        return new TransactionalUnidadeUseCase(service, arvoreSincronizador);
     }
 
     private static class TransactionalUnidadeUseCase implements UnidadeUseCase {
         private final UnidadeService delegate;
+        private final ArvoreOrganizacionalSincronizador arvoreSincronizador;
 
-        public TransactionalUnidadeUseCase(UnidadeService delegate) {
+        public TransactionalUnidadeUseCase(UnidadeService delegate, ArvoreOrganizacionalSincronizador arvoreSincronizador) {
             this.delegate = delegate;
+            this.arvoreSincronizador = arvoreSincronizador;
         }
 
         @Override
         @Transactional
         public Unidade criar(Unidade unidade) {
-            return delegate.criar(unidade);
+            return atualizarArvore(delegate.criar(unidade));
         }
 
         @Override
@@ -55,25 +60,30 @@ public class UnidadeConfig {
         @Override
         @Transactional
         public Unidade atualizar(Long id, Unidade unidade) {
-            return delegate.atualizar(id, unidade);
+            return atualizarArvore(delegate.atualizar(id, unidade));
         }
 
         @Override
         @Transactional
         public Unidade ativar(Long id) {
-            return delegate.ativar(id);
+            return atualizarArvore(delegate.ativar(id));
         }
 
         @Override
         @Transactional
         public Unidade inativar(Long id) {
-            return delegate.inativar(id);
+            return atualizarArvore(delegate.inativar(id));
         }
 
         @Override
         @Transactional
         public Unidade excluir(Long id) {
-            return delegate.excluir(id);
+            return atualizarArvore(delegate.excluir(id));
+        }
+
+        private Unidade atualizarArvore(Unidade unidade) {
+            arvoreSincronizador.registrarAposCommit(TipoNoOrganizacao.UNIDADE, unidade.getId(), unidade.getEmpresaId());
+            return unidade;
         }
     }
 }
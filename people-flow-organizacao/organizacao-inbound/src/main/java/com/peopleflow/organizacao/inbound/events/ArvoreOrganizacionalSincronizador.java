@@ -0,0 +1,61 @@
+package com.peopleflow.organizacao.inbound.events;
+
+import com.peopleflow.organizacao.core.ports.input.ArvoreOrganizacionalUseCase;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Mantém a árvore organizacional em memória alinhada com as gravações
+ *
+ * - Gravações dos serviços de organização recarregam a empresa afetada após o commit
+ *   (nunca antes: outra leitura veria dados que ainda podem sofrer rollback)
+ * - Uma recarga completa periódica cobre gravações feitas por outras instâncias
+ *   ou direto no banco
+ */
+@Component
+@RequiredArgsConstructor
+public class ArvoreOrganizacionalSincronizador {
+
+    private static final Logger log = LoggerFactory.getLogger(ArvoreOrganizacionalSincronizador.class);
+
+    private final ArvoreOrganizacionalUseCase arvoreUseCase;
+
+    public void registrarAposCommit(TipoNoOrganizacao tipo, Long id, Long empresaId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recarregar(tipo, id, empresaId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recarregar(tipo, id, empresaId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.organizacao.arvore.recarga-completa:PT10M}",
+               initialDelayString = "${app.organizacao.arvore.recarga-completa:PT10M}")
+    public void recarregarTudo() {
+        try {
+            arvoreUseCase.recarregarTudo();
+        } catch (Exception e) {
+            log.warn("⚠️ Falha na recarga completa da árvore organizacional: {}", e.getMessage());
+        }
+    }
+
+    private void recarregar(TipoNoOrganizacao tipo, Long id, Long empresaId) {
+        try {
+            arvoreUseCase.registrarAlteracao(tipo, id, empresaId);
+        } catch (Exception e) {
+            // a gravação já foi confirmada; a próxima recarga completa corrige a árvore
+            log.warn("⚠️ Falha ao recarregar árvore organizacional: tipo={}, id={}, empresaId={}, erro={}",
+                    tipo, id, empresaId, e.getMessage());
+        }
+    }
+}
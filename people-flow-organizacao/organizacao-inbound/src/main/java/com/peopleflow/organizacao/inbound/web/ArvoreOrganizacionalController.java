@@ -0,0 +1,69 @@
+package com.peopleflow.organizacao.inbound.web;
+
+import com.peopleflow.organizacao.core.ports.input.ArvoreOrganizacionalUseCase;
+import com.peopleflow.organizacao.core.query.ArvoreOrganizacional;
+import com.peopleflow.organizacao.inbound.web.dto.ArvoreOrganizacionalResponse;
+import com.peopleflow.organizacao.inbound.web.mapper.ArvoreOrganizacionalWebMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/organizacao/arvore")
+@RequiredArgsConstructor
+@Tag(name = "Organização", description = "Hierarquia organizacional")
+public class ArvoreOrganizacionalController {
+
+    private final ArvoreOrganizacionalUseCase arvoreUseCase;
+    private final ArvoreOrganizacionalWebMapper mapper;
+
+    @GetMapping
+    @PreAuthorize("hasRole('organizacao:ler')")
+    @Operation(
+            summary = "Árvore organizacional",
+            description = "Empresa → Unidade → Departamento, com Centros de Custo e departamentos sem unidade "
+                    + "direto abaixo da empresa. Servida da memória; suporta ETag/If-None-Match (304). "
+                    + "Sem empresaId: todas as empresas para admin, apenas a própria para os demais."
+    )
+    public ResponseEntity<ArvoreOrganizacionalResponse> buscar(
+            @RequestParam(required = false) Long empresaId,
+            WebRequest request) {
+
+        List<ArvoreOrganizacional> arvores = empresaId != null
+                ? List.of(arvoreUseCase.buscarPorEmpresa(empresaId))
+                : arvoreUseCase.listar();
+
+        String etag = calcularEtag(arvores);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(mapper.toResponse(arvores));
+    }
+
+    /**
+     * Combina as impressões das árvores devolvidas; muda se qualquer uma delas mudar
+     * ou se o conjunto de empresas mudar
+     */
+    private String calcularEtag(List<ArvoreOrganizacional> arvores) {
+        long hash = 1125899906842597L;
+        for (ArvoreOrganizacional arvore : arvores) {
+            hash = 31 * hash + arvore.getEmpresaId();
+            hash = 31 * hash + arvore.getImpressao();
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+}
@@ -0,0 +1,21 @@
+package com.peopleflow.organizacao.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NoOrganizacaoResponse {
+    private String tipo;
+    private Long id;
+    private String nome;
+    private String codigo;
+    private String status;
+    private List<NoOrganizacaoResponse> filhos;
+}
@@ -0,0 +1,30 @@
+package com.peopleflow.organizacao.inbound.web.mapper;
+
+import com.peopleflow.organizacao.core.query.ArvoreOrganizacional;
+import com.peopleflow.organizacao.core.query.NoOrganizacao;
+import com.peopleflow.organizacao.inbound.web.dto.ArvoreOrganizacionalResponse;
+import com.peopleflow.organizacao.inbound.web.dto.NoOrganizacaoResponse;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ArvoreOrganizacionalWebMapper {
+
+    default ArvoreOrganizacionalResponse toResponse(List<ArvoreOrganizacional> arvores) {
+        return ArvoreOrganizacionalResponse.builder()
+                .empresas(arvores.stream().map(arvore -> toResponse(arvore, arvore.getRaiz())).toList())
+                .build();
+    }
+
+    default NoOrganizacaoResponse toResponse(ArvoreOrganizacional arvore, NoOrganizacao no) {
+        return NoOrganizacaoResponse.builder()
+                .tipo(no.tipo().name())
+                .id(no.id())
+                .nome(no.nome())
+                .codigo(no.codigo())
+                .status(no.status())
+                .filhos(arvore.filhos(no.chave()).stream().map(filho -> toResponse(arvore, filho)).toList())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.peopleflow.organizacao.outbound.database.adapter;
+
+import com.peopleflow.organizacao.core.ports.output.HierarquiaOrganizacionalPort;
+import com.peopleflow.organizacao.core.query.NoOrganizacao;
+import com.peopleflow.organizacao.outbound.database.repository.HierarquiaOrganizacionalJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adapter de leitura da hierarquia organizacional para a árvore em memória
+ */
+@Component
+@RequiredArgsConstructor
+public class HierarquiaOrganizacionalAdapter implements HierarquiaOrganizacionalPort {
+
+    private final HierarquiaOrganizacionalJdbcRepository repository;
+
+    @Override
+    public List<NoOrganizacao> listarTodos() {
+        return repository.findTodos();
+    }
+
+    @Override
+    public List<NoOrganizacao> listarPorEmpresas(Collection<Long> empresaIds) {
+        return repository.findPorEmpresas(empresaIds);
+    }
+}
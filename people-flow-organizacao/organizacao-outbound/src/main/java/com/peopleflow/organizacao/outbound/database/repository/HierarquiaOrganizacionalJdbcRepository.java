@@ -0,0 +1,67 @@
+package com.peopleflow.organizacao.outbound.database.repository;
+
+import com.peopleflow.organizacao.core.query.NoOrganizacao;
+import com.peopleflow.organizacao.core.query.TipoNoOrganizacao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lê EMPRESA, UNIDADE, DEPARTAMENTO e CENTRO_CUSTO em uma única consulta (UNION ALL)
+ */
+@Repository
+@RequiredArgsConstructor
+public class HierarquiaOrganizacionalJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private final RowMapper<NoOrganizacao> rowMapper = (rs, rowNum) -> new NoOrganizacao(
+        TipoNoOrganizacao.valueOf(rs.getString("tipo")),
+        rs.getLong("id"),
+        rs.getLong("empresa_id"),
+        rs.getObject("unidade_id", Long.class),
+        rs.getString("nome"),
+        rs.getString("codigo"),
+        rs.getString("status")
+    );
+
+    public List<NoOrganizacao> findTodos() {
+        String sql = montarSql("TRUE", "TRUE");
+        return jdbcTemplate.query(sql, rowMapper);
+    }
+
+    public List<NoOrganizacao> findPorEmpresas(Collection<Long> empresaIds) {
+        String sql = montarSql("id = ANY(?)", "empresa_id = ANY(?)");
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            for (int i = 1; i <= 4; i++) {
+                ps.setArray(i, con.createArrayOf("bigint", empresaIds.toArray()));
+            }
+            return ps;
+        }, rowMapper);
+    }
+
+    private String montarSql(String filtroEmpresa, String filtroFilhos) {
+        return String.format(
+            "SELECT 'EMPRESA' AS tipo, id, id AS empresa_id, NULL::BIGINT AS unidade_id, nome, cnpj AS codigo, status " +
+            "FROM %1$s.empresa WHERE status <> 'excluido' AND %2$s " +
+            "UNION ALL " +
+            "SELECT 'UNIDADE', id, empresa_id, NULL::BIGINT, nome, codigo, status " +
+            "FROM %1$s.unidade WHERE status <> 'excluido' AND %3$s " +
+            "UNION ALL " +
+            "SELECT 'DEPARTAMENTO', id, empresa_id, unidade_id, nome, codigo, status " +
+            "FROM %1$s.departamento WHERE status <> 'excluido' AND %3$s " +
+            "UNION ALL " +
+            "SELECT 'CENTRO_CUSTO', id, empresa_id, NULL::BIGINT, nome, codigo, status " +
+            "FROM %1$s.centro_custo WHERE status <> 'excluido' AND %3$s",
+            SCHEMA, filtroEmpresa, filtroFilhos
+        );
+    }
+}
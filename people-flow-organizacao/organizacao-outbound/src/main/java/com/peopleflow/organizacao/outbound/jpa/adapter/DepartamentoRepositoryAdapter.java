@@ -9,6 +9,8 @@ import com.peopleflow.organizacao.outbound.jpa.entity.DepartamentoEntity;
 import com.peopleflow.organizacao.outbound.jpa.mapper.DepartamentoJpaMapper;
 import com.peopleflow.organizacao.outbound.jpa.repository.DepartamentoJpaRepository;
 import com.peopleflow.organizacao.outbound.jpa.specification.DepartamentoSpecification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -29,6 +31,7 @@ public class DepartamentoRepositoryAdapter implements DepartamentoRepositoryPort
     }
 
     @Override
+    @CacheEvict(value = "departamentos", key = "#departamento.id", condition = "#departamento.id != null")
     public Departamento salvar(Departamento departamento) {
         DepartamentoEntity entity = mapper.toEntity(departamento);
         DepartamentoEntity savedEntity = departamentoJpaRepository.save(entity);
@@ -36,6 +39,7 @@ public class DepartamentoRepositoryAdapter implements DepartamentoRepositoryPort
     }
 
     @Override
+    @Cacheable(value = "departamentos", key = "#id", unless = "#result == null")
     public Optional<Departamento> buscarPorId(Long id) {
         return departamentoJpaRepository.findById(id).map(mapper::toDomain);
     }
@@ -73,6 +77,7 @@ public class DepartamentoRepositoryAdapter implements DepartamentoRepositoryPort
     }
 
     @Override
+    @CacheEvict(value = "departamentos", allEntries = true)
     public void excluirTodosPorEmpresaId(Long empresaId) {
         departamentoJpaRepository.excluirTodosPorEmpresaId(empresaId);
     }
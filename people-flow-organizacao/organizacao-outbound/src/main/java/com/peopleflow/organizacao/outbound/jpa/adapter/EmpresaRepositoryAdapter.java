@@ -9,6 +9,8 @@ import com.peopleflow.organizacao.outbound.jpa.entity.EmpresaEntity;
 import com.peopleflow.organizacao.outbound.jpa.mapper.EmpresaJpaMapper;
 import com.peopleflow.organizacao.outbound.jpa.repository.EmpresaJpaRepository;
 import com.peopleflow.organizacao.outbound.jpa.specification.EmpresaSpecification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -29,6 +31,7 @@ public class EmpresaRepositoryAdapter implements EmpresaRepositoryPort {
     }
 
     @Override
+    @CacheEvict(value = "empresas", key = "#empresa.id", condition = "#empresa.id != null")
     public Empresa salvar(Empresa empresa) {
         EmpresaEntity entity = mapper.toEntity(empresa);
         EmpresaEntity savedEntity = empresaJpaRepository.save(entity);
@@ -36,6 +39,7 @@ public class EmpresaRepositoryAdapter implements EmpresaRepositoryPort {
     }
 
     @Override
+    @Cacheable(value = "empresas", key = "#id", unless = "#result == null")
     public Optional<Empresa> buscarPorId(Long id) {
         return empresaJpaRepository.findById(id).map(mapper::toDomain);
     }
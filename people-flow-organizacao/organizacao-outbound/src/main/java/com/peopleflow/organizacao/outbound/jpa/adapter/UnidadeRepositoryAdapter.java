@@ -9,6 +9,8 @@ import com.peopleflow.organizacao.outbound.jpa.entity.UnidadeEntity;
 import com.peopleflow.organizacao.outbound.jpa.mapper.UnidadeJpaMapper;
 import com.peopleflow.organizacao.outbound.jpa.repository.UnidadeJpaRepository;
 import com.peopleflow.organizacao.outbound.jpa.specification.UnidadeSpecification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -29,6 +31,7 @@ public class UnidadeRepositoryAdapter implements UnidadeRepositoryPort {
     }
 
     @Override
+    @CacheEvict(value = "unidades", key = "#unidade.id", condition = "#unidade.id != null")
     public Unidade salvar(Unidade unidade) {
         UnidadeEntity entity = mapper.toEntity(unidade);
         UnidadeEntity savedEntity = unidadeJpaRepository.save(entity);
@@ -36,6 +39,7 @@ public class UnidadeRepositoryAdapter implements UnidadeRepositoryPort {
     }
 
     @Override
+    @Cacheable(value = "unidades", key = "#id", unless = "#result == null")
     public Optional<Unidade> buscarPorId(Long id) {
         return unidadeJpaRepository.findById(id).map(mapper::toDomain);
     }
@@ -73,6 +77,7 @@ public class UnidadeRepositoryAdapter implements UnidadeRepositoryPort {
     }
 
     @Override
+    @CacheEvict(value = "unidades", allEntries = true)
     public void excluirTodosPorEmpresaId(Long empresaId) {
         unidadeJpaRepository.excluirTodosPorEmpresaId(empresaId);
     }
@@ -29,7 +29,7 @@ public class AreaEntity extends AuditableEntity {
         name = "AREA_SEQ_GEN",
         sequenceName = "AREA_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
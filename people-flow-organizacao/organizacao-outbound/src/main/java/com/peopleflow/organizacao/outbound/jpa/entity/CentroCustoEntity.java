@@ -29,7 +29,7 @@ public class CentroCustoEntity extends AuditableEntity {
         name = "CENTRO_CUSTO_SEQ_GEN",
         sequenceName = "CENTRO_CUSTO_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
@@ -29,7 +29,7 @@ public class EmpresaEntity extends AuditableEntity {
         name = "EMPRESA_SEQ_GEN",
         sequenceName = "EMPRESA_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
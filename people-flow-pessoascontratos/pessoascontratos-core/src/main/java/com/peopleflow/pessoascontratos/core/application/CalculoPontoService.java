@@ -0,0 +1,133 @@
+package com.peopleflow.pessoascontratos.core.application;
+
+import com.peopleflow.common.exception.ValidationException;
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.AccessViolationException;
+import com.peopleflow.pessoascontratos.core.domain.ApuracaoDia;
+import com.peopleflow.pessoascontratos.core.domain.JornadaTrabalho;
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+import com.peopleflow.pessoascontratos.core.ports.input.CalculoPontoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort.DiaCalculado;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort.DiaPendente;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort.SituacaoDia;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CalculoPontoService implements CalculoPontoUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CalculoPontoService.class);
+
+    private final CalculoPontoRepositoryPort calculoRepository;
+    private final AccessValidatorPort accessValidator;
+    private final ZoneId fuso;
+    private final int maxTentativas;
+
+    @Override
+    public List<Long> colaboradoresPendentes(int limite) {
+        return calculoRepository.colaboradoresPendentes(limite);
+    }
+
+    @Override
+    public int recalcular(List<Long> colaboradorIds) {
+        if (colaboradorIds == null || colaboradorIds.isEmpty()) {
+            return 0;
+        }
+        List<DiaPendente> dias = calculoRepository.reivindicar(colaboradorIds);
+        if (dias.isEmpty()) {
+            return 0;
+        }
+
+        Map<DiaPendente, List<MarcacaoPonto>> marcacoesPorDia = new HashMap<>();
+        for (MarcacaoPonto marcacao : calculoRepository.marcacoes(dias, fuso)) {
+            DiaPendente dia = new DiaPendente(marcacao.colaboradorId(), marcacao.dataHora().atZone(fuso).toLocalDate());
+            marcacoesPorDia.computeIfAbsent(dia, d -> new ArrayList<>()).add(marcacao);
+        }
+
+        List<DiaCalculado> calculados = new ArrayList<>(dias.size());
+        int incompletos = 0;
+        for (SituacaoDia situacao : calculoRepository.carregar(dias)) {
+            List<MarcacaoPonto> marcacoes = marcacoesPorDia.getOrDefault(
+                    new DiaPendente(situacao.colaboradorId(), situacao.data()), List.of());
+            JornadaTrabalho jornada = situacao.cargaSemanalHoras() != null
+                    ? JornadaTrabalho.builder().cargaSemanalHoras(situacao.cargaSemanalHoras()).build()
+                    : null;
+            ApuracaoDia apuracao = ApuracaoDia.apurar(situacao.colaboradorId(), situacao.data(), marcacoes, jornada);
+            if (apuracao.marcacoesIncompletas()) {
+                incompletos++;
+            }
+
+            // Dia sem marcações e sem horas previstas não entra no banco de horas
+            if (!situacao.calculado() && marcacoes.isEmpty() && apuracao.horasPrevistas().signum() == 0) {
+                continue;
+            }
+
+            BigDecimal saldoGravado = situacao.calculado()
+                    ? situacao.horasTrabalhadas().subtract(situacao.horasPrevistas())
+                    : BigDecimal.ZERO;
+            calculados.add(new DiaCalculado(
+                    apuracao.colaboradorId(),
+                    apuracao.data(),
+                    apuracao.horasTrabalhadas(),
+                    apuracao.horasPrevistas(),
+                    apuracao.horasExtras(),
+                    situacao.saldoAnterior(),
+                    apuracao.saldoDia().subtract(saldoGravado)));
+        }
+
+        if (!calculados.isEmpty()) {
+            calculoRepository.gravar(calculados);
+        }
+        if (incompletos > 0) {
+            log.debug("Cálculo de ponto: {} dias com marcações incompletas", incompletos);
+        }
+        return dias.size();
+    }
+
+    @Override
+    public boolean registrarFalha(Long colaboradorId, String erro) {
+        return calculoRepository.registrarFalha(colaboradorId, erro, maxTentativas);
+    }
+
+    @Override
+    public int fecharMes(YearMonth competencia, Long empresaId) {
+        if (competencia == null) {
+            throw new ValidationException("Competência é obrigatória");
+        }
+        Long empresaFiltro = empresaId;
+        if (!accessValidator.isAdmin()) {
+            Long empresaIdUsuario = accessValidator.getEmpresaIdUsuario();
+            if (empresaIdUsuario == null) {
+                throw new AccessViolationException(
+                        "Usuário não possui empresaId atribuído. Contate o administrador.");
+            }
+            if (empresaId != null && !empresaId.equals(empresaIdUsuario)) {
+                accessValidator.validarAcessoEmpresa(empresaId);
+            }
+            empresaFiltro = empresaIdUsuario;
+        }
+
+        LocalDate hoje = LocalDate.now(fuso);
+        LocalDate inicio = competencia.atDay(1);
+        if (inicio.isAfter(hoje)) {
+            throw new ValidationException("Competência futura não pode ser fechada");
+        }
+        LocalDate fim = competencia.atEndOfMonth().isAfter(hoje) ? hoje : competencia.atEndOfMonth();
+
+        int agendados = calculoRepository.agendar(inicio, fim, empresaFiltro);
+        log.info("Fechamento de ponto {}: {} dias agendados para cálculo (empresa {})",
+                competencia, agendados, empresaFiltro != null ? empresaFiltro : "todas");
+        return agendados;
+    }
+}
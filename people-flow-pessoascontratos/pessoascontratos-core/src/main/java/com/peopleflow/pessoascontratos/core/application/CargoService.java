@@ -4,24 +4,27 @@ import com.peopleflow.common.exception.BusinessException;
 import com.peopleflow.common.exception.ResourceNotFoundException;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.common.validation.Referencia;
+import com.peopleflow.common.validation.ReferenciaInvalida;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
 import com.peopleflow.pessoascontratos.core.domain.Cargo;
 import com.peopleflow.pessoascontratos.core.query.CargoFilter;
 import com.peopleflow.pessoascontratos.core.ports.input.CargoUseCase;
 import com.peopleflow.pessoascontratos.core.ports.output.CargoRepositoryPort;
-import com.peopleflow.pessoascontratos.core.ports.output.FamiliaCargoRepositoryPort;
-import com.peopleflow.pessoascontratos.core.ports.output.NivelHierarquicoRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 public class CargoService implements CargoUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CargoService.class);
 
     private final CargoRepositoryPort cargoRepository;
-    private final NivelHierarquicoRepositoryPort nivelHierarquicoRepository;
-    private final FamiliaCargoRepositoryPort familiaCargoRepository;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public Cargo criar(Cargo dados) {
@@ -78,6 +81,7 @@ public class CargoService implements CargoUseCase {
             throw new BusinessException("CARGO_EM_USO_FAIXA", "Existem faixas salariais ativas para este cargo. Exclua-as primeiro.");
         }
         cargoRepository.excluir(id);
+        referenciaValidator.esquecer(TipoReferencia.CARGO, id);
         log.info("Cargo excluído: id={}", id);
     }
 
@@ -87,10 +91,13 @@ public class CargoService implements CargoUseCase {
     }
 
     private void validarReferencias(Long nivelId, Long familiaId) {
-        if (!nivelHierarquicoRepository.existeAtivoPorId(nivelId)) {
-            throw new BusinessException("NIVEL_NAO_ENCONTRADO", "Nível hierárquico não encontrado ou inativo.");
-        }
-        if (!familiaCargoRepository.existeAtivoPorId(familiaId)) {
+        List<ReferenciaInvalida> invalidas = referenciaValidator.verificar(List.of(
+                Referencia.nivelHierarquico(nivelId),
+                Referencia.familiaCargo(familiaId)));
+        for (ReferenciaInvalida invalida : invalidas) {
+            if (invalida.referencia().tipo() == TipoReferencia.NIVEL_HIERARQUICO) {
+                throw new BusinessException("NIVEL_NAO_ENCONTRADO", "Nível hierárquico não encontrado ou inativo.");
+            }
             throw new BusinessException("FAMILIA_NAO_ENCONTRADA", "Família de cargo não encontrada ou inativa.");
         }
     }
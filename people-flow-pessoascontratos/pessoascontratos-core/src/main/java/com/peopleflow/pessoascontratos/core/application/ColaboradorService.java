@@ -1,33 +1,66 @@
 package com.peopleflow.pessoascontratos.core.application;
 
 import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.common.exception.DuplicateResourceException;
 import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.common.exception.ValidationException;
 import com.peopleflow.common.util.ServiceUtils;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.Referencia;
+import com.peopleflow.common.validation.ReferenciaInvalida;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
+import com.peopleflow.common.valueobject.Cpf;
+import com.peopleflow.common.valueobject.Email;
+import com.peopleflow.pessoascontratos.core.domain.CampoColaborador;
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
+import com.peopleflow.pessoascontratos.core.domain.TransicaoStatus;
 import com.peopleflow.pessoascontratos.core.domain.events.*;
 import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase;
 import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorRepositoryPort.ChavesExistentes;
+import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorRepositoryPort.MatriculaEmpresa;
 import com.peopleflow.pessoascontratos.core.ports.output.DomainEventPublisher;
+import com.peopleflow.common.pagination.CursorPagedResult;
+import com.peopleflow.common.pagination.CursorPagination;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorExportacao;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import com.peopleflow.pessoascontratos.core.query.VinculoAcesso;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 @RequiredArgsConstructor
 public class ColaboradorService implements ColaboradorUseCase {
     
     private static final Logger log = LoggerFactory.getLogger(ColaboradorService.class);
 
+    /** Trigramas: termos menores que 3 caracteres não usam os índices GIN (varredura completa) */
+    private static final int TAMANHO_MINIMO_TERMO = 3;
+    private static final int LIMITE_MAXIMO_PESQUISA = 50;
+    private static final int TAMANHO_MAXIMO_LOTE = 1000;
+
     private final ColaboradorRepositoryPort colaboradorRepository;
     private final DomainEventPublisher eventPublisher;
     private final AccessValidatorPort accessValidator;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public Colaborador criar(Colaborador colaborador) {
@@ -57,6 +90,7 @@ public class ColaboradorService implements ColaboradorUseCase {
                     colaborador.getCargoId()
             );
 
+            referenciaValidator.validar(referencias(admitido));
             validarUnicidadeParaCriacao(admitido);
 
             Colaborador colaboradorCriado = colaboradorRepository.salvar(admitido);
@@ -89,6 +123,100 @@ public class ColaboradorService implements ColaboradorUseCase {
         }
     }
 
+    @Override
+    public List<ResultadoAdmissao> admitirEmLote(List<NovaAdmissao> admissoes) {
+        if (admissoes == null || admissoes.isEmpty()) {
+            throw new ValidationException("Lote de admissão vazio");
+        }
+        if (admissoes.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new ValidationException(
+                    String.format("Lote de admissão deve ter no máximo %d colaboradores", TAMANHO_MAXIMO_LOTE));
+        }
+
+        log.info("Iniciando admissão em lote: {} colaboradores", admissoes.size());
+
+        // Acesso validado uma vez por empresa: violação rejeita o lote inteiro
+        if (!accessValidator.isAdmin()) {
+            admissoes.stream()
+                    .map(NovaAdmissao::empresaId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(accessValidator::validarAcessoEmpresa);
+        }
+
+        List<ResultadoAdmissao> resultados = new ArrayList<>(admissoes.size());
+        List<Integer> indicesValidos = new ArrayList<>();
+        List<Colaborador> validos = new ArrayList<>();
+
+        for (int i = 0; i < admissoes.size(); i++) {
+            NovaAdmissao admissao = admissoes.get(i);
+            try {
+                validos.add(Colaborador.novaAdmissao(
+                        admissao.nome(),
+                        admissao.cpf(),
+                        admissao.email(),
+                        admissao.matricula(),
+                        admissao.dataAdmissao(),
+                        admissao.empresaId(),
+                        admissao.departamentoId(),
+                        admissao.centroCustoId(),
+                        admissao.cargoId()
+                ));
+                indicesValidos.add(i);
+            } catch (BusinessException e) {
+                resultados.add(new ResultadoAdmissao(i, null, e.getCode(), e.getMessage()));
+            }
+        }
+
+        Map<Referencia, ReferenciaInvalida> referenciasInvalidas = verificarReferencias(validos);
+        ChavesExistentes existentes = buscarChavesExistentes(validos);
+        Set<String> cpfsNoLote = new HashSet<>();
+        Set<String> emailsNoLote = new HashSet<>();
+        Set<MatriculaEmpresa> matriculasNoLote = new HashSet<>();
+
+        List<Integer> indicesAdmitidos = new ArrayList<>();
+        List<Colaborador> admitidos = new ArrayList<>();
+
+        for (int j = 0; j < validos.size(); j++) {
+            Colaborador colaborador = validos.get(j);
+            int indice = indicesValidos.get(j);
+            try {
+                validarReferenciasNoLote(colaborador, referenciasInvalidas);
+                validarUnicidadeNoLote(colaborador, existentes, cpfsNoLote, emailsNoLote, matriculasNoLote);
+                indicesAdmitidos.add(indice);
+                admitidos.add(colaborador);
+            } catch (BusinessException e) {
+                resultados.add(new ResultadoAdmissao(indice, null, e.getCode(), e.getMessage()));
+            }
+        }
+
+        List<Colaborador> salvos = colaboradorRepository.salvarEmLote(admitidos);
+
+        List<ColaboradorCriado> eventos = new ArrayList<>(salvos.size());
+        for (int k = 0; k < salvos.size(); k++) {
+            Colaborador salvo = salvos.get(k);
+            int indice = indicesAdmitidos.get(k);
+            eventos.add(new ColaboradorCriado(
+                    salvo.getId(),
+                    salvo.getNome(),
+                    salvo.getCpf().getValor(),
+                    salvo.getEmail().getValor(),
+                    salvo.getCargoId(),
+                    salvo.getDepartamentoId(),
+                    salvo.getEmpresaId(),
+                    admissoes.get(indice).requerAcessoSistema()
+            ));
+            resultados.add(new ResultadoAdmissao(indice, salvo.getId(), null, null));
+        }
+        eventPublisher.publishAll(eventos);
+
+        log.info("Admissão em lote concluída: {} admitidos, {} rejeitados",
+                 salvos.size(), admissoes.size() - salvos.size());
+
+        resultados.sort(Comparator.comparingInt(ResultadoAdmissao::indice));
+        return resultados;
+    }
+
     @Override
     public Colaborador buscarPorId(Long id) {
         log.debug("Buscando colaborador por ID: {}", id);
@@ -116,6 +244,46 @@ public class ColaboradorService implements ColaboradorUseCase {
         return result;
     }
 
+    @Override
+    public CursorPagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, CursorPagination pagination) {
+        log.debug("Buscando colaboradores por cursor: primeiraPagina={}, size={}, sortBy={}",
+                  pagination.isFirstPage(), pagination.size(), pagination.sortBy());
+        ColaboradorFilter filterComSeguranca = aplicarFiltrosDeSeguranca(filter);
+        CursorPagedResult<Colaborador> result = colaboradorRepository.buscarPorFiltros(filterComSeguranca, pagination);
+
+        log.debug("Encontrados {} colaboradores (hasNext={})", result.content().size(), result.hasNext());
+        return result;
+    }
+
+    @Override
+    public void exportar(ColaboradorFilter filter, Consumer<ColaboradorExportacao> consumidor) {
+        ColaboradorFilter filterComSeguranca =
+                aplicarFiltrosDeSeguranca(filter != null ? filter : new ColaboradorFilter());
+        log.info("Exportando colaboradores: empresaId={}", filterComSeguranca.getEmpresaId());
+        colaboradorRepository.percorrerParaExportacao(filterComSeguranca, consumidor);
+    }
+
+    @Override
+    public List<Colaborador> pesquisar(String termo, int limite) {
+        if (termo == null || termo.trim().length() < TAMANHO_MINIMO_TERMO) {
+            throw new ValidationException(
+                    String.format("Termo de busca deve ter ao menos %d caracteres", TAMANHO_MINIMO_TERMO));
+        }
+        int limiteNormalizado = Math.max(1, Math.min(limite, LIMITE_MAXIMO_PESQUISA));
+
+        Long empresaId = null;
+        if (!accessValidator.isAdmin()) {
+            empresaId = accessValidator.getEmpresaIdUsuario();
+            if (empresaId == null) {
+                log.warn("Usuário sem empresaId - pesquisa de colaboradores sem resultados");
+                return List.of();
+            }
+        }
+
+        log.debug("Pesquisando colaboradores: termo={}, empresaId={}, limite={}", termo, empresaId, limiteNormalizado);
+        return colaboradorRepository.buscarPorTermo(termo.trim(), empresaId, limiteNormalizado);
+    }
+
     private ColaboradorFilter aplicarFiltrosDeSeguranca(ColaboradorFilter filter) {
         if (accessValidator.isAdmin()) {
             return filter;
@@ -167,6 +335,9 @@ public class ColaboradorService implements ColaboradorUseCase {
             }
 
             Colaborador original = buscarPorId(id);
+            if (colaborador.getVersao() != null) {
+                validarVersao(original, colaborador.getVersao());
+            }
 
             // empresaId é imutável: sempre preservamos o valor original independentemente
             // do que vier no request, evitando migração acidental entre empresas.
@@ -180,30 +351,9 @@ public class ColaboradorService implements ColaboradorUseCase {
                     colaborador.getDepartamentoId(),
                     colaborador.getCentroCustoId(),
                     colaborador.getCargoId()
-            ).toBuilder()
-                    .id(id)
-                    .build();
-
-            validarUnicidadeParaAtualizacao(colaboradorParaAtualizar, id);
-
-            Colaborador colaboradorAtualizado = colaboradorRepository.salvar(colaboradorParaAtualizar);
-
-            List<String> camposAlterados = detectarCamposAlterados(original, colaboradorAtualizado);
-
-            if (!camposAlterados.equals(List.of("nenhum"))) {
-                eventPublisher.publish(
-                        new ColaboradorAtualizado(
-                                colaboradorAtualizado.getId(),
-                                colaboradorAtualizado.getNome(),
-                                String.join(", ", camposAlterados)
-                        )
-                );
-            }
-
-            log.info("Colaborador atualizado com sucesso: id={}, nome={}, camposAlterados={}",
-                    id, colaborador.getNome(), camposAlterados);
+            );
 
-            return colaboradorAtualizado;
+            return gravarAlteracoes(original, colaboradorParaAtualizar);
         } catch (BusinessException e) {
             log.warn("Erro ao atualizar colaborador: id={}, erro={}", id, e.getMessage());
             throw e;
@@ -213,29 +363,93 @@ public class ColaboradorService implements ColaboradorUseCase {
         }
     }
 
-    private List<String> detectarCamposAlterados(Colaborador original, Colaborador atualizado) {
-        List<String> camposAlterados = new ArrayList<>();
+    @Override
+    public Colaborador atualizarParcialmente(Long id, AlteracaoColaborador alteracao) {
+        log.info("Iniciando atualização parcial de colaborador: id={}, versao={}", id, alteracao.versao());
+
+        if (alteracao.versao() == null) {
+            throw new ValidationException("Versão do colaborador é obrigatória na atualização parcial");
+        }
 
-        ServiceUtils.compararEAdicionar(camposAlterados, "nome", original.getNome(), atualizado.getNome());
-        ServiceUtils.compararEAdicionar(camposAlterados, "cpf", original.getCpf(), atualizado.getCpf());
-        ServiceUtils.compararEAdicionar(camposAlterados, "matricula", original.getMatricula(), atualizado.getMatricula());
-        ServiceUtils.compararEAdicionar(camposAlterados, "email", original.getEmail(), atualizado.getEmail());
-        ServiceUtils.compararEAdicionar(camposAlterados, "dataAdmissao", original.getDataAdmissao(), atualizado.getDataAdmissao());
-        ServiceUtils.compararEAdicionar(camposAlterados, "empresaId", original.getEmpresaId(), atualizado.getEmpresaId());
-        ServiceUtils.compararEAdicionar(camposAlterados, "departamentoId", original.getDepartamentoId(), atualizado.getDepartamentoId());
-        ServiceUtils.compararEAdicionar(camposAlterados, "centroCustoId", original.getCentroCustoId(), atualizado.getCentroCustoId());
-        
-        return camposAlterados.isEmpty() ? List.of("nenhum") : camposAlterados;
+        Colaborador original = buscarPorId(id);
+        validarVersao(original, alteracao.versao());
+
+        Colaborador colaboradorParaAtualizar = original.atualizar(
+                valorOuAtual(alteracao.nome(), original.getNome()),
+                alteracao.cpf() != null ? new Cpf(alteracao.cpf()) : original.getCpf(),
+                alteracao.email() != null ? new Email(alteracao.email()) : original.getEmail(),
+                valorOuAtual(alteracao.matricula(), original.getMatricula()),
+                valorOuAtual(alteracao.dataAdmissao(), original.getDataAdmissao()),
+                original.getEmpresaId(),
+                valorOuAtual(alteracao.departamentoId(), original.getDepartamentoId()),
+                valorOuAtual(alteracao.centroCustoId(), original.getCentroCustoId()),
+                valorOuAtual(alteracao.cargoId(), original.getCargoId())
+        );
+
+        return gravarAlteracoes(original, colaboradorParaAtualizar);
+    }
+
+    /**
+     * Valida e grava só os campos que mudaram, condicionado à versão lida em {@code original}.
+     * Sem alterações, não há escrita nem evento.
+     */
+    private Colaborador gravarAlteracoes(Colaborador original, Colaborador atualizado) {
+        Long id = original.getId();
+        Set<CampoColaborador> camposAlterados = CampoColaborador.alterados(original, atualizado);
+        if (camposAlterados.isEmpty()) {
+            log.info("Colaborador sem alterações: id={}", id);
+            return original;
+        }
+
+        List<Referencia> referencias = referenciasAlteradas(atualizado, camposAlterados);
+        if (!referencias.isEmpty()) {
+            referenciaValidator.validar(referencias);
+        }
+        validarUnicidadeParaAtualizacao(atualizado, id, camposAlterados);
+
+        Long novaVersao = colaboradorRepository.atualizarCampos(atualizado, camposAlterados)
+                .orElseThrow(() -> conflitoDeVersao(id));
+        Colaborador colaboradorAtualizado = atualizado.toBuilder()
+                .versao(novaVersao)
+                .build();
+
+        List<String> nomesCampos = camposAlterados.stream().map(CampoColaborador::getNome).toList();
+        eventPublisher.publish(
+                new ColaboradorAtualizado(
+                        colaboradorAtualizado.getId(),
+                        colaboradorAtualizado.getNome(),
+                        String.join(", ", nomesCampos)
+                )
+        );
+
+        log.info("Colaborador atualizado com sucesso: id={}, nome={}, camposAlterados={}",
+                id, colaboradorAtualizado.getNome(), nomesCampos);
+
+        return colaboradorAtualizado;
+    }
+
+    private static <T> T valorOuAtual(T valor, T atual) {
+        return valor != null ? valor : atual;
+    }
+
+    private static void validarVersao(Colaborador atual, Long versaoLida) {
+        if (!versaoLida.equals(atual.getVersao())) {
+            throw conflitoDeVersao(atual.getId());
+        }
+    }
+
+    private static BusinessException conflitoDeVersao(Long id) {
+        return new BusinessException("CONFLITO_VERSAO",
+                String.format("Colaborador %d foi alterado por outra operação; recarregue os dados e tente novamente", id));
     }
 
     @Override
     public Colaborador demitir(Long id, LocalDate dataDemissao) {
         log.info("Iniciando demissão de colaborador: id={}, dataDemissao={}", id, dataDemissao);
-        
-        Colaborador colaborador = buscarPorId(id);
-        Colaborador colaboradorDemitido = colaborador.demitir(dataDemissao);
-        Colaborador resultado = colaboradorRepository.salvar(colaboradorDemitido);
-        
+
+        Colaborador resultado = alterarStatus(id, TransicaoStatus.demissao(dataDemissao),
+                colaborador -> colaborador.demitir(dataDemissao));
+
         eventPublisher.publish(
             new ColaboradorDemitido(
                 resultado.getId(),
@@ -243,39 +457,35 @@ public class ColaboradorService implements ColaboradorUseCase {
                 dataDemissao
             )
         );
-        
+
         log.info("Colaborador demitido com sucesso: id={}, nome={}", id, resultado.getNome());
-        
+
         return resultado;
     }
 
     @Override
     public Colaborador ativar(Long id) {
         log.info("Ativando colaborador: id={}", id);
-        
-        Colaborador colaborador = buscarPorId(id);
-        Colaborador colaboradorAtivado = colaborador.ativar();
-        Colaborador resultado = colaboradorRepository.salvar(colaboradorAtivado);
-        
+
+        Colaborador resultado = alterarStatus(id, TransicaoStatus.ativacao(), Colaborador::ativar);
+
         eventPublisher.publish(
             new ColaboradorAtivado(
                 resultado.getId(),
                 resultado.getNome()
             )
         );
-        
+
         log.info("Colaborador ativado com sucesso: id={}, nome={}", id, resultado.getNome());
-        
+
         return resultado;
     }
 
     @Override
     public Colaborador inativar(Long id) {
         log.info("Inativando colaborador: id={}", id);
-        
-        Colaborador colaborador = buscarPorId(id);
-        Colaborador colaboradorInativado = colaborador.inativar();
-        Colaborador resultado = colaboradorRepository.salvar(colaboradorInativado);
+
+        Colaborador resultado = alterarStatus(id, TransicaoStatus.inativacao(), Colaborador::inativar);
 
         eventPublisher.publish(
             new ColaboradorInativado(
@@ -283,32 +493,53 @@ public class ColaboradorService implements ColaboradorUseCase {
                 resultado.getNome()
             )
         );
-        
+
         log.info("Colaborador inativado com sucesso: id={}, nome={}", id, resultado.getNome());
-        
+
         return resultado;
     }
 
     @Override
     public Colaborador excluir(Long id) {
         log.info("Excluindo colaborador (soft delete): id={}", id);
-        
-        Colaborador colaborador = buscarPorId(id);
-        Colaborador colaboradorExcluido = colaborador.excluir();
-        Colaborador resultado = colaboradorRepository.salvar(colaboradorExcluido);
-        
+
+        Colaborador resultado = alterarStatus(id, TransicaoStatus.exclusao(), Colaborador::excluir);
+        referenciaValidator.esquecer(TipoReferencia.COLABORADOR, id);
+
         eventPublisher.publish(
             new ColaboradorExcluido(
                 resultado.getId(),
                 resultado.getNome()
             )
         );
-        
+
         log.info("Colaborador excluído com sucesso: id={}, nome={}", id, resultado.getNome());
-        
+
         return resultado;
     }
 
+    /**
+     * Transição em um único UPDATE condicionado (status de origem e, fora do admin, empresa do usuário).
+     * Se nenhuma linha for afetada, relê o colaborador e reaplica a {@code regra} do domínio para
+     * devolver o erro específico (não encontrado, acesso negado, transição inválida); se a regra
+     * passar, o registro mudou entre as duas leituras.
+     */
+    private Colaborador alterarStatus(Long id, TransicaoStatus transicao, UnaryOperator<Colaborador> regra) {
+        boolean admin = accessValidator.isAdmin();
+        Long empresaId = admin ? null : accessValidator.getEmpresaIdUsuario();
+
+        if (admin || empresaId != null) {
+            Optional<Colaborador> alterado = colaboradorRepository.alterarStatus(id, transicao, empresaId);
+            if (alterado.isPresent()) {
+                return alterado.get();
+            }
+        }
+
+        Colaborador atual = buscarPorId(id);
+        regra.apply(atual);
+        throw conflitoDeVersao(id);
+    }
+
     @Override
     public Colaborador transferir(Long id, Long novaEmpresaId, Long novoDepartamentoId,
                                    Long novoCentroCustoId, LocalDate dataTransferencia) {
@@ -322,8 +553,10 @@ public class ColaboradorService implements ColaboradorUseCase {
 
         Colaborador transferido = Colaborador.porTransferencia(
                 original, novaEmpresaId, novoDepartamentoId, novoCentroCustoId, dataTransferencia);
+        referenciaValidator.validar(referencias(transferido));
 
         Colaborador resultado = colaboradorRepository.salvar(transferido);
+        referenciaValidator.esquecer(TipoReferencia.COLABORADOR, id);
 
         eventPublisher.publish(
             new ColaboradorTransferido(
@@ -385,6 +618,25 @@ public class ColaboradorService implements ColaboradorUseCase {
         return resultado;
     }
 
+    @Override
+    public Optional<String> buscarKeycloakUserId(Long colaboradorId) {
+        log.debug("Buscando keycloakUserId vinculado: colaboradorId={}", colaboradorId);
+        return colaboradorRepository.buscarKeycloakUserIdPorId(colaboradorId);
+    }
+
+    @Override
+    public List<VinculoAcesso> listarVinculosAcesso(Long aposId, int limite) {
+        return colaboradorRepository.listarVinculosAcesso(aposId, limite);
+    }
+
+    @Override
+    public List<VinculoAcesso> buscarVinculosAcesso(Collection<String> keycloakUserIds, Collection<Long> colaboradorIds) {
+        if (keycloakUserIds.isEmpty() && colaboradorIds.isEmpty()) {
+            return List.of();
+        }
+        return colaboradorRepository.buscarVinculosAcesso(keycloakUserIds, colaboradorIds);
+    }
+
     private void validarUnicidadeParaCriacao(Colaborador colaborador) {
         ServiceUtils.validarUnicidadeCampo(
             "CPF",
@@ -407,22 +659,138 @@ public class ColaboradorService implements ColaboradorUseCase {
         }
     }
 
-    private void validarUnicidadeParaAtualizacao(Colaborador colaborador, Long id) {
-        ServiceUtils.validarUnicidadeCampoComExclusao(
-            "CPF",
-            colaborador.getCpf().getValor(),
-            id,
-            colaboradorRepository::existePorCpfExcluindoId
-        );
-        
-        ServiceUtils.validarUnicidadeCampoComExclusao(
-            "Email",
-            colaborador.getEmail().getValor(),
-            id,
-            colaboradorRepository::existePorEmailExcluindoId
-        );
-        
-        if (colaborador.getMatricula() != null && !colaborador.getMatricula().trim().isEmpty()) {
+    /**
+     * Empresa, departamento e centro de custo (ambos da mesma empresa) e cargo do colaborador
+     */
+    private static List<Referencia> referencias(Colaborador colaborador) {
+        return List.of(
+                Referencia.empresa(colaborador.getEmpresaId()),
+                Referencia.departamento(colaborador.getDepartamentoId(), colaborador.getEmpresaId()),
+                Referencia.centroCusto(colaborador.getCentroCustoId(), colaborador.getEmpresaId()),
+                Referencia.cargo(colaborador.getCargoId()));
+    }
+
+    /**
+     * Referências que mudaram na atualização; empresa é imutável e não é revalidada
+     */
+    private static List<Referencia> referenciasAlteradas(Colaborador colaborador, Set<CampoColaborador> campos) {
+        List<Referencia> referencias = new ArrayList<>(3);
+        if (campos.contains(CampoColaborador.DEPARTAMENTO_ID)) {
+            referencias.add(Referencia.departamento(colaborador.getDepartamentoId(), colaborador.getEmpresaId()));
+        }
+        if (campos.contains(CampoColaborador.CENTRO_CUSTO_ID)) {
+            referencias.add(Referencia.centroCusto(colaborador.getCentroCustoId(), colaborador.getEmpresaId()));
+        }
+        if (campos.contains(CampoColaborador.CARGO_ID)) {
+            referencias.add(Referencia.cargo(colaborador.getCargoId()));
+        }
+        return referencias;
+    }
+
+    /**
+     * Referências de todas as linhas do lote verificadas em uma única chamada
+     */
+    private Map<Referencia, ReferenciaInvalida> verificarReferencias(List<Colaborador> colaboradores) {
+        if (colaboradores.isEmpty()) {
+            return Map.of();
+        }
+        Set<Referencia> referencias = new LinkedHashSet<>();
+        for (Colaborador colaborador : colaboradores) {
+            referencias.addAll(referencias(colaborador));
+        }
+        Map<Referencia, ReferenciaInvalida> invalidas = new HashMap<>();
+        for (ReferenciaInvalida invalida : referenciaValidator.verificar(referencias)) {
+            invalidas.put(invalida.referencia(), invalida);
+        }
+        return invalidas;
+    }
+
+    private void validarReferenciasNoLote(Colaborador colaborador, Map<Referencia, ReferenciaInvalida> invalidas) {
+        if (invalidas.isEmpty()) {
+            return;
+        }
+        for (Referencia referencia : referencias(colaborador)) {
+            ReferenciaInvalida invalida = invalidas.get(referencia);
+            if (invalida != null) {
+                throw invalida.toException();
+            }
+        }
+    }
+
+    private ChavesExistentes buscarChavesExistentes(List<Colaborador> colaboradores) {
+        if (colaboradores.isEmpty()) {
+            return new ChavesExistentes(Set.of(), Set.of(), Set.of());
+        }
+        Set<String> cpfs = new LinkedHashSet<>();
+        Set<String> emails = new LinkedHashSet<>();
+        Set<MatriculaEmpresa> matriculas = new LinkedHashSet<>();
+        for (Colaborador colaborador : colaboradores) {
+            cpfs.add(colaborador.getCpf().getValor());
+            emails.add(colaborador.getEmail().getValor());
+            if (temMatricula(colaborador)) {
+                matriculas.add(new MatriculaEmpresa(colaborador.getEmpresaId(), colaborador.getMatricula()));
+            }
+        }
+        return colaboradorRepository.buscarChavesExistentes(cpfs, emails, matriculas);
+    }
+
+    /**
+     * Mesmas regras de {@link #validarUnicidadeParaCriacao}, contra a base e contra
+     * as linhas anteriores do próprio lote.
+     */
+    private void validarUnicidadeNoLote(Colaborador colaborador,
+                                        ChavesExistentes existentes,
+                                        Set<String> cpfsNoLote,
+                                        Set<String> emailsNoLote,
+                                        Set<MatriculaEmpresa> matriculasNoLote) {
+        String cpf = colaborador.getCpf().getValor();
+        String email = colaborador.getEmail().getValor();
+        MatriculaEmpresa matricula = temMatricula(colaborador)
+                ? new MatriculaEmpresa(colaborador.getEmpresaId(), colaborador.getMatricula())
+                : null;
+
+        if (existentes.cpfs().contains(cpf) || cpfsNoLote.contains(cpf)) {
+            throw new DuplicateResourceException("CPF", cpf);
+        }
+        if (existentes.emails().contains(email) || emailsNoLote.contains(email)) {
+            throw new DuplicateResourceException("Email", email);
+        }
+        if (matricula != null
+                && (existentes.matriculas().contains(matricula) || matriculasNoLote.contains(matricula))) {
+            throw new DuplicateResourceException("Matrícula", matricula.matricula());
+        }
+
+        cpfsNoLote.add(cpf);
+        emailsNoLote.add(email);
+        if (matricula != null) {
+            matriculasNoLote.add(matricula);
+        }
+    }
+
+    private static boolean temMatricula(Colaborador colaborador) {
+        return colaborador.getMatricula() != null && !colaborador.getMatricula().trim().isEmpty();
+    }
+
+    private void validarUnicidadeParaAtualizacao(Colaborador colaborador, Long id, Set<CampoColaborador> campos) {
+        if (campos.contains(CampoColaborador.CPF)) {
+            ServiceUtils.validarUnicidadeCampoComExclusao(
+                "CPF",
+                colaborador.getCpf().getValor(),
+                id,
+                colaboradorRepository::existePorCpfExcluindoId
+            );
+        }
+
+        if (campos.contains(CampoColaborador.EMAIL)) {
+            ServiceUtils.validarUnicidadeCampoComExclusao(
+                "Email",
+                colaborador.getEmail().getValor(),
+                id,
+                colaboradorRepository::existePorEmailExcluindoId
+            );
+        }
+
+        if (campos.contains(CampoColaborador.MATRICULA) && temMatricula(colaborador)) {
             ServiceUtils.validarUnicidadeCampoComExclusao(
                 "Matrícula",
                 colaborador.getMatricula(),
@@ -432,4 +800,3 @@ public class ColaboradorService implements ColaboradorUseCase {
         }
     }
 }
-
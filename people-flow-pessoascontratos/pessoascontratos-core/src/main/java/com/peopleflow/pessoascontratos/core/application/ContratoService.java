@@ -4,18 +4,22 @@ import com.peopleflow.common.exception.BusinessException;
 import com.peopleflow.common.exception.ResourceNotFoundException;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.common.validation.Referencia;
+import com.peopleflow.common.validation.ReferenciaInvalida;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
 import com.peopleflow.pessoascontratos.core.domain.Contrato;
 import com.peopleflow.pessoascontratos.core.query.ContratoFilter;
 import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase;
 import com.peopleflow.pessoascontratos.core.ports.input.ContratoUseCase;
-import com.peopleflow.pessoascontratos.core.ports.output.CargoRepositoryPort;
 import com.peopleflow.pessoascontratos.core.ports.output.ContratoRepositoryPort;
 import com.peopleflow.pessoascontratos.core.ports.output.DocumentoContratoRepositoryPort;
-import com.peopleflow.pessoascontratos.core.ports.output.JornadaTrabalhoRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 public class ContratoService implements ContratoUseCase {
 
@@ -23,9 +27,8 @@ public class ContratoService implements ContratoUseCase {
 
     private final ContratoRepositoryPort contratoRepository;
     private final ColaboradorUseCase colaboradorUseCase;
-    private final JornadaTrabalhoRepositoryPort jornadaTrabalhoRepository;
-    private final CargoRepositoryPort cargoRepository;
     private final DocumentoContratoRepositoryPort documentoContratoRepository;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public Contrato criar(Long colaboradorId, Contrato dados) {
@@ -109,10 +112,13 @@ public class ContratoService implements ContratoUseCase {
     }
 
     private void validarReferencias(Long jornadaId, Long cargoId) {
-        if (!jornadaTrabalhoRepository.existeAtivaPorId(jornadaId)) {
-            throw new BusinessException("JORNADA_NAO_ENCONTRADA", "Jornada de trabalho não encontrada ou inativa.");
-        }
-        if (!cargoRepository.existeAtivoPorId(cargoId)) {
+        List<ReferenciaInvalida> invalidas = referenciaValidator.verificar(List.of(
+                Referencia.jornadaTrabalho(jornadaId),
+                Referencia.cargo(cargoId)));
+        for (ReferenciaInvalida invalida : invalidas) {
+            if (invalida.referencia().tipo() == TipoReferencia.JORNADA_TRABALHO) {
+                throw new BusinessException("JORNADA_NAO_ENCONTRADA", "Jornada de trabalho não encontrada ou inativa.");
+            }
             throw new BusinessException("CARGO_NAO_ENCONTRADO", "Cargo não encontrado ou inativo.");
         }
     }
@@ -0,0 +1,131 @@
+package com.peopleflow.pessoascontratos.core.application;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador;
+import com.peopleflow.pessoascontratos.core.ports.input.EventoESocialUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.EventoESocialRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.EventoESocialRepositoryPort.EventoGerado;
+import com.peopleflow.pessoascontratos.core.ports.output.FolhaExecucaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.LeiauteESocialPort;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusFolha;
+import com.peopleflow.pessoascontratos.core.valueobject.TipoEventoESocial;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class EventoESocialService implements EventoESocialUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(EventoESocialService.class);
+
+    private static final Set<StatusFolha> FOLHA_CALCULADA = EnumSet.of(
+            StatusFolha.CALCULADA, StatusFolha.EM_APROVACAO, StatusFolha.APROVADA, StatusFolha.FECHADA);
+
+    private final EventoESocialRepositoryPort eventoRepository;
+    private final FolhaExecucaoRepositoryPort folhaRepository;
+    private final LeiauteESocialPort leiaute;
+    private final ZoneId fuso;
+    private final int eventosPorLote;
+    private final int maxTentativas;
+
+    @Override
+    public List<GeracaoESocial> gerarS1200(Long execucaoId) {
+        FolhaExecucao execucao = buscarExecucao(execucaoId);
+        if (!FOLHA_CALCULADA.contains(execucao.getStatus())) {
+            throw new BusinessException("ESOCIAL_FOLHA_NAO_CALCULADA",
+                    "Folha com status '" + execucao.getStatus().getValor() + "' ainda não foi calculada");
+        }
+        List<String> semInscricao = eventoRepository.empregadoresSemInscricao(execucaoId);
+        if (!semInscricao.isEmpty()) {
+            throw new BusinessException("ESOCIAL_EMPREGADOR_SEM_CNPJ",
+                    "Empresas sem CNPJ não podem gerar eventos eSocial: " + String.join(", ", semInscricao));
+        }
+        long semCpf = eventoRepository.trabalhadoresSemCpf(execucaoId);
+        if (semCpf > 0) {
+            log.warn("eSocial: {} trabalhadores sem CPF ficaram fora do S-1200 da folha {} (execução {})",
+                    semCpf, execucao.getCompetencia(), execucaoId);
+        }
+
+        List<Long> pendentes = eventoRepository.planejarGeracoes(execucaoId, TipoEventoESocial.S1200);
+        log.info("eSocial: S-1200 da folha {} - {} gerações pendentes (execução {})",
+                execucao.getCompetencia(), pendentes.size(), execucaoId);
+        return eventoRepository.listarPorExecucao(execucaoId);
+    }
+
+    @Override
+    public Optional<LoteGerado> gerarProximoLote(Long geracaoId) {
+        Optional<GeracaoESocial> reivindicada = eventoRepository.reivindicar(geracaoId);
+        if (reivindicada.isEmpty()) {
+            return Optional.empty();
+        }
+        GeracaoESocial geracao = reivindicada.get();
+
+        long inicio = System.nanoTime();
+        List<RemuneracaoTrabalhador> trabalhadores = eventoRepository.remuneracoes(geracao, eventosPorLote);
+        if (trabalhadores.isEmpty()) {
+            eventoRepository.salvar(geracao.concluir(Instant.now()));
+            log.info("eSocial: geração {} concluída - {} eventos em {} lotes (empresa {})",
+                    geracaoId, geracao.getEventos(), geracao.getLotes(), geracao.getEmpresaId());
+            return Optional.empty();
+        }
+
+        // Cada XML é escrito em streaming; só os eventos do lote corrente ficam em memória
+        LocalDateTime momento = LocalDateTime.now(fuso);
+        List<EventoGerado> eventos = new ArrayList<>(trabalhadores.size());
+        long tamanhoXml = 0;
+        for (RemuneracaoTrabalhador trabalhador : trabalhadores) {
+            String idEvento = geracao.idEvento(momento, geracao.getEventos() + eventos.size() + 1);
+            StringWriter xml = new StringWriter(2048);
+            leiaute.escreverS1200(geracao, trabalhador, idEvento, xml);
+            tamanhoXml += xml.getBuffer().length();
+            eventos.add(new EventoGerado(trabalhador.colaboradorId(), idEvento, xml.toString()));
+        }
+
+        int lote = geracao.getLotes() + 1;
+        eventoRepository.gravarEventos(geracao, lote, leiaute.versao(), eventos);
+        GeracaoESocial atualizada = geracao.registrarLote(
+                trabalhadores.get(trabalhadores.size() - 1).colaboradorId(), eventos.size(), tamanhoXml);
+        // Lote incompleto: não há mais trabalhadores depois do checkpoint
+        if (trabalhadores.size() < eventosPorLote) {
+            atualizada = atualizada.concluir(Instant.now());
+        }
+        eventoRepository.salvar(atualizada);
+
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        return Optional.of(new LoteGerado(lote, eventos.size(), tamanhoXml, duracaoMs));
+    }
+
+    @Override
+    public boolean registrarFalha(Long geracaoId, String erro) {
+        return eventoRepository.registrarFalha(geracaoId, erro, maxTentativas);
+    }
+
+    @Override
+    public List<GeracaoESocial> consultar(Long execucaoId) {
+        buscarExecucao(execucaoId);
+        return eventoRepository.listarPorExecucao(execucaoId);
+    }
+
+    @Override
+    public List<Long> geracoesPendentes() {
+        return eventoRepository.geracoesPendentes();
+    }
+
+    private FolhaExecucao buscarExecucao(Long execucaoId) {
+        return folhaRepository.buscarPorId(execucaoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Execução da folha", execucaoId));
+    }
+}
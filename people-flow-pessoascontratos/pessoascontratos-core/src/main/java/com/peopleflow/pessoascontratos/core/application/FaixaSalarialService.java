@@ -3,10 +3,11 @@ package com.peopleflow.pessoascontratos.core.application;
 import com.peopleflow.common.exception.ResourceNotFoundException;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.common.validation.Referencia;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.domain.FaixaSalarial;
 import com.peopleflow.pessoascontratos.core.query.FaixaSalarialFilter;
 import com.peopleflow.pessoascontratos.core.ports.input.FaixaSalarialUseCase;
-import com.peopleflow.pessoascontratos.core.ports.output.CargoRepositoryPort;
 import com.peopleflow.pessoascontratos.core.ports.output.FaixaSalarialRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -18,7 +19,7 @@ public class FaixaSalarialService implements FaixaSalarialUseCase {
     private static final Logger log = LoggerFactory.getLogger(FaixaSalarialService.class);
 
     private final FaixaSalarialRepositoryPort faixaRepository;
-    private final CargoRepositoryPort cargoRepository;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public FaixaSalarial adicionar(Long cargoId, FaixaSalarial dados) {
@@ -55,9 +56,7 @@ public class FaixaSalarialService implements FaixaSalarialUseCase {
     }
 
     private void validarCargo(Long cargoId) {
-        if (!cargoRepository.existeAtivoPorId(cargoId)) {
-            throw new ResourceNotFoundException("Cargo", cargoId);
-        }
+        referenciaValidator.validar(Referencia.cargo(cargoId));
     }
 
     private FaixaSalarial buscarDoCargo(Long cargoId, Long faixaId) {
@@ -2,6 +2,8 @@ package com.peopleflow.pessoascontratos.core.application;
 
 import com.peopleflow.common.exception.BusinessException;
 import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
 import com.peopleflow.pessoascontratos.core.domain.FamiliaCargo;
 import com.peopleflow.pessoascontratos.core.ports.input.FamiliaCargoUseCase;
 import com.peopleflow.pessoascontratos.core.ports.output.FamiliaCargoRepositoryPort;
@@ -17,6 +19,7 @@ public class FamiliaCargoService implements FamiliaCargoUseCase {
     private static final Logger log = LoggerFactory.getLogger(FamiliaCargoService.class);
 
     private final FamiliaCargoRepositoryPort repository;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public FamiliaCargo adicionar(FamiliaCargo familiaCargo) {
@@ -56,6 +59,7 @@ public class FamiliaCargoService implements FamiliaCargoUseCase {
                     "Não é possível excluir: existem cargos ativos nesta família.");
         }
         repository.excluir(id);
+        referenciaValidator.esquecer(TipoReferencia.FAMILIA_CARGO, id);
         log.info("Família de cargo excluída: id={}", id);
     }
 
@@ -0,0 +1,157 @@
+package com.peopleflow.pessoascontratos.core.application;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.pessoascontratos.core.domain.ContratoFolha;
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.domain.ItemFolha;
+import com.peopleflow.pessoascontratos.core.domain.RegraRubrica;
+import com.peopleflow.pessoascontratos.core.ports.input.FolhaExecucaoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.FolhaExecucaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.FolhaExecucaoRepositoryPort.LoteFolha;
+import com.peopleflow.pessoascontratos.core.query.ProgressoFolha;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusFolha;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class FolhaExecucaoService implements FolhaExecucaoUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(FolhaExecucaoService.class);
+
+    private final FolhaExecucaoRepositoryPort folhaRepository;
+    private final int tamanhoLote;
+    private final int maxTentativas;
+
+    @Override
+    public FolhaExecucao abrir(YearMonth competencia) {
+        FolhaExecucao execucao = FolhaExecucao.abrir(competencia);
+        if (folhaRepository.existeCompetencia(competencia)) {
+            throw new BusinessException("FOLHA_COMPETENCIA_DUPLICADA",
+                    "Já existe execução da folha para a competência " + competencia);
+        }
+        FolhaExecucao salva = folhaRepository.salvar(execucao);
+        log.info("Folha {} aberta (execução {})", competencia, salva.getId());
+        return salva;
+    }
+
+    @Override
+    public FolhaExecucao iniciarCalculo(Long execucaoId) {
+        FolhaExecucao execucao = buscar(execucaoId);
+        boolean retomada = execucao.getStatus() == StatusFolha.EM_CALCULO;
+        boolean refazerErros = execucao.getStatus() == StatusFolha.ERRO_CALCULO;
+        FolhaExecucao emCalculo = folhaRepository.salvar(execucao.iniciarCalculo(Instant.now()));
+
+        int lotes = folhaRepository.planejarLotes(execucaoId, emCalculo.getCompetencia(), tamanhoLote);
+        if (refazerErros) {
+            int reabertos = folhaRepository.reabrirLotesComErro(execucaoId);
+            log.info("Folha {}: refazendo {} lotes com erro (execução {})",
+                    emCalculo.getCompetencia(), reabertos, execucaoId);
+        } else if (retomada) {
+            log.info("Folha {}: retomando cálculo (execução {})", emCalculo.getCompetencia(), execucaoId);
+        } else {
+            log.info("Folha {}: cálculo iniciado em {} lotes de até {} contratos (execução {})",
+                    emCalculo.getCompetencia(), lotes, tamanhoLote, execucaoId);
+        }
+        return emCalculo;
+    }
+
+    @Override
+    public Optional<ResultadoLote> processarProximoLote(Long execucaoId) {
+        FolhaExecucao execucao = buscar(execucaoId);
+        if (execucao.getStatus() != StatusFolha.EM_CALCULO) {
+            return Optional.empty();
+        }
+        Optional<LoteFolha> reivindicado = folhaRepository.reivindicarLote(execucaoId);
+        if (reivindicado.isEmpty()) {
+            return Optional.empty();
+        }
+
+        LoteFolha lote = reivindicado.get();
+        try {
+            return Optional.of(calcularLote(execucao, lote));
+        } catch (RuntimeException e) {
+            throw new FalhaLote(lote.lote(), e);
+        }
+    }
+
+    private ResultadoLote calcularLote(FolhaExecucao execucao, LoteFolha lote) {
+        long inicio = System.nanoTime();
+        List<RegraRubrica> regras = folhaRepository.rubricasAutomaticas();
+        List<ContratoFolha> contratos = folhaRepository.contratosDoLote(lote, execucao.getCompetencia());
+
+        List<ItemFolha> itens = new ArrayList<>(contratos.size() * Math.max(1, regras.size()));
+        for (ContratoFolha contrato : contratos) {
+            itens.addAll(contrato.calcular(execucao.getCompetencia(), regras));
+        }
+        if (!itens.isEmpty()) {
+            folhaRepository.gravarItens(execucao.getId(), itens);
+        }
+
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        folhaRepository.concluirLote(lote, contratos.size(), itens.size(), duracaoMs);
+        return new ResultadoLote(lote.lote(), contratos.size(), itens.size(), duracaoMs);
+    }
+
+    @Override
+    public boolean registrarFalhaLote(Long execucaoId, int lote, String erro) {
+        return folhaRepository.registrarFalhaLote(execucaoId, lote, erro, maxTentativas);
+    }
+
+    @Override
+    public FolhaExecucao concluirCalculo(Long execucaoId) {
+        FolhaExecucao execucao = buscar(execucaoId);
+        if (execucao.getStatus() != StatusFolha.EM_CALCULO) {
+            return execucao;
+        }
+        ProgressoFolha progresso = folhaRepository.progresso(execucaoId);
+        if (progresso.finalizado() && progresso.lotesComErro() > 0) {
+            FolhaExecucao comErro = folhaRepository.salvar(execucao.falharCalculo(Instant.now()));
+            log.error("Folha {}: cálculo encerrado com {} de {} lotes com erro (execução {})",
+                    execucao.getCompetencia(), progresso.lotesComErro(), progresso.lotes(), execucaoId);
+            return comErro;
+        }
+        if (!progresso.concluido()) {
+            log.warn("Folha {}: {} de {} lotes concluídos, cálculo segue pendente (execução {})",
+                    execucao.getCompetencia(), progresso.lotesConcluidos(), progresso.lotes(), execucaoId);
+            return execucao;
+        }
+        FolhaExecucao calculada = folhaRepository.salvar(execucao.concluirCalculo(Instant.now()));
+        log.info("Folha {}: calculada - {} contratos, {} itens (execução {})",
+                execucao.getCompetencia(), progresso.contratos(), progresso.itens(), execucaoId);
+        return calculada;
+    }
+
+    @Override
+    public FolhaExecucao falharCalculo(Long execucaoId) {
+        FolhaExecucao execucao = buscar(execucaoId);
+        if (execucao.getStatus() != StatusFolha.EM_CALCULO) {
+            return execucao;
+        }
+        log.error("Folha {}: cálculo encerrado com erro (execução {})", execucao.getCompetencia(), execucaoId);
+        return folhaRepository.salvar(execucao.falharCalculo(Instant.now()));
+    }
+
+    @Override
+    public ResumoExecucao consultar(Long execucaoId) {
+        FolhaExecucao execucao = buscar(execucaoId);
+        return new ResumoExecucao(execucao, folhaRepository.progresso(execucaoId));
+    }
+
+    @Override
+    public List<Long> execucoesEmCalculo() {
+        return folhaRepository.execucoesEmCalculo();
+    }
+
+    private FolhaExecucao buscar(Long execucaoId) {
+        return folhaRepository.buscarPorId(execucaoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Execução da folha", execucaoId));
+    }
+}
@@ -0,0 +1,51 @@
+package com.peopleflow.pessoascontratos.core.application;
+
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.pessoascontratos.core.ports.input.HeadcountUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.HeadcountProjecaoPort;
+import com.peopleflow.pessoascontratos.core.query.HeadcountUnidade;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class HeadcountService implements HeadcountUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(HeadcountService.class);
+
+    private final HeadcountProjecaoPort projecao;
+    private final AccessValidatorPort accessValidator;
+
+    @Override
+    public List<HeadcountUnidade> consultar(Long empresaId, Long departamentoId, Long centroCustoId) {
+        Long empresaFiltro = empresaId;
+        if (!accessValidator.isAdmin()) {
+            Long empresaIdUsuario = accessValidator.getEmpresaIdUsuario();
+            if (empresaIdUsuario == null) {
+                log.warn("Usuário sem empresaId - headcount sem resultados");
+                return List.of();
+            }
+            if (empresaId != null && !empresaId.equals(empresaIdUsuario)) {
+                accessValidator.validarAcessoEmpresa(empresaId);
+            }
+            if (empresaId == null) {
+                empresaFiltro = empresaIdUsuario;
+            }
+        }
+        return projecao.listar(empresaFiltro, departamentoId, centroCustoId);
+    }
+
+    @Override
+    public void atualizarProjecao(Long colaboradorId) {
+        if (projecao.sincronizarColaborador(colaboradorId)) {
+            log.debug("Headcount atualizado para colaborador {}", colaboradorId);
+        }
+    }
+
+    @Override
+    public int reconstruirProjecao() {
+        return projecao.verificarEReconstruir();
+    }
+}
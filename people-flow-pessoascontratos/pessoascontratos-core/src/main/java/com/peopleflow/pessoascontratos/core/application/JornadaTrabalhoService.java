@@ -2,6 +2,8 @@ package com.peopleflow.pessoascontratos.core.application;
 
 import com.peopleflow.common.exception.BusinessException;
 import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
 import com.peopleflow.pessoascontratos.core.domain.JornadaTrabalho;
 import com.peopleflow.pessoascontratos.core.ports.input.JornadaTrabalhoUseCase;
 import com.peopleflow.pessoascontratos.core.ports.output.JornadaTrabalhoRepositoryPort;
@@ -17,6 +19,7 @@ public class JornadaTrabalhoService implements JornadaTrabalhoUseCase {
     private static final Logger log = LoggerFactory.getLogger(JornadaTrabalhoService.class);
 
     private final JornadaTrabalhoRepositoryPort repository;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public JornadaTrabalho criar(JornadaTrabalho dados) {
@@ -54,6 +57,7 @@ public class JornadaTrabalhoService implements JornadaTrabalhoUseCase {
                     "Não é possível excluir: existem contratos ativos vinculados a esta jornada.");
         }
         repository.excluir(id);
+        referenciaValidator.esquecer(TipoReferencia.JORNADA_TRABALHO, id);
         log.info("Jornada excluída: id={}", id);
     }
 
@@ -0,0 +1,125 @@
+package com.peopleflow.pessoascontratos.core.application;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.common.exception.ValidationException;
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.AccessViolationException;
+import com.peopleflow.common.validation.Referencia;
+import com.peopleflow.common.validation.ReferenciaInvalida;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+import com.peopleflow.pessoascontratos.core.ports.input.MarcacaoPontoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.MarcacaoPontoRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@RequiredArgsConstructor
+public class MarcacaoPontoService implements MarcacaoPontoUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(MarcacaoPontoService.class);
+
+    private static final int TAMANHO_MAXIMO_LOTE = 5000;
+
+    private final MarcacaoPontoRepositoryPort marcacaoRepository;
+    private final AccessValidatorPort accessValidator;
+    private final ReferenciaValidatorPort referenciaValidator;
+
+    @Override
+    public CompletableFuture<ResultadoIngestao> registrar(List<NovaMarcacao> marcacoes) {
+        if (marcacoes == null || marcacoes.isEmpty()) {
+            throw new ValidationException("Lote de marcações vazio");
+        }
+        if (marcacoes.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new ValidationException(
+                    String.format("Lote de marcações deve ter no máximo %d itens", TAMANHO_MAXIMO_LOTE));
+        }
+
+        // Fora do admin, só colaboradores da empresa do usuário
+        Long empresaId = null;
+        if (!accessValidator.isAdmin()) {
+            empresaId = accessValidator.getEmpresaIdUsuario();
+            if (empresaId == null) {
+                throw new AccessViolationException(
+                        "Usuário não possui empresaId atribuído. Contate o administrador.");
+            }
+        }
+
+        Instant agora = Instant.now();
+        List<Rejeicao> rejeicoes = new ArrayList<>();
+        List<Integer> indicesValidos = new ArrayList<>(marcacoes.size());
+        List<MarcacaoPonto> validas = new ArrayList<>(marcacoes.size());
+
+        for (int i = 0; i < marcacoes.size(); i++) {
+            NovaMarcacao nova = marcacoes.get(i);
+            try {
+                validas.add(MarcacaoPonto.registrar(nova.colaboradorId(), nova.dataHora(), nova.tipo(),
+                        nova.origem(), nova.latitude(), nova.longitude(), agora));
+                indicesValidos.add(i);
+            } catch (BusinessException e) {
+                rejeicoes.add(new Rejeicao(i, e.getCode(), e.getMessage()));
+            }
+        }
+
+        Map<Long, ReferenciaInvalida> colaboradoresInvalidos = verificarColaboradores(validas, empresaId);
+        List<MarcacaoPonto> aceitas = new ArrayList<>(validas.size());
+        for (int j = 0; j < validas.size(); j++) {
+            MarcacaoPonto marcacao = validas.get(j);
+            ReferenciaInvalida invalida = colaboradoresInvalidos.get(marcacao.colaboradorId());
+            if (invalida != null) {
+                BusinessException erro = invalida.toException();
+                rejeicoes.add(new Rejeicao(indicesValidos.get(j), erro.getCode(), erro.getMessage()));
+            } else {
+                aceitas.add(marcacao);
+            }
+        }
+
+        rejeicoes.sort((a, b) -> Integer.compare(a.indice(), b.indice()));
+        ResultadoIngestao resultado = new ResultadoIngestao(marcacoes.size(), aceitas.size(), rejeicoes);
+        if (!rejeicoes.isEmpty()) {
+            log.debug("Marcações recusadas: {} de {}", rejeicoes.size(), marcacoes.size());
+        }
+        if (aceitas.isEmpty()) {
+            return CompletableFuture.completedFuture(resultado);
+        }
+        return marcacaoRepository.gravar(aceitas).thenApply(gravado -> resultado);
+    }
+
+    /**
+     * Colaboradores distintos do lote verificados em uma única chamada (cache de existências)
+     */
+    private Map<Long, ReferenciaInvalida> verificarColaboradores(List<MarcacaoPonto> marcacoes, Long empresaId) {
+        if (marcacoes.isEmpty()) {
+            return Map.of();
+        }
+        Set<Referencia> referencias = new LinkedHashSet<>();
+        for (MarcacaoPonto marcacao : marcacoes) {
+            referencias.add(Referencia.colaborador(marcacao.colaboradorId(), empresaId));
+        }
+        Map<Long, ReferenciaInvalida> invalidas = new HashMap<>();
+        for (ReferenciaInvalida invalida : referenciaValidator.verificar(referencias)) {
+            invalidas.put(invalida.referencia().id(), invalida);
+        }
+        return invalidas;
+    }
+
+    @Override
+    public List<String> prepararParticoes(int mesesAFrente) {
+        List<String> criadas = marcacaoRepository.criarParticoes(YearMonth.now(ZoneOffset.UTC), mesesAFrente);
+        if (!criadas.isEmpty()) {
+            log.info("Partições de marcação de ponto criadas: {}", criadas);
+        }
+        return criadas;
+    }
+}
@@ -2,6 +2,8 @@ package com.peopleflow.pessoascontratos.core.application;
 
 import com.peopleflow.common.exception.BusinessException;
 import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.common.validation.TipoReferencia;
 import com.peopleflow.pessoascontratos.core.domain.NivelHierarquico;
 import com.peopleflow.pessoascontratos.core.ports.input.NivelHierarquicoUseCase;
 import com.peopleflow.pessoascontratos.core.ports.output.NivelHierarquicoRepositoryPort;
@@ -17,6 +19,7 @@ public class NivelHierarquicoService implements NivelHierarquicoUseCase {
     private static final Logger log = LoggerFactory.getLogger(NivelHierarquicoService.class);
 
     private final NivelHierarquicoRepositoryPort repository;
+    private final ReferenciaValidatorPort referenciaValidator;
 
     @Override
     public NivelHierarquico adicionar(NivelHierarquico nivelHierarquico) {
@@ -63,6 +66,7 @@ public class NivelHierarquicoService implements NivelHierarquicoUseCase {
                     "Não é possível excluir o nível hierárquico enquanto existirem cargos ativos vinculados a ele.");
         }
         repository.excluir(id);
+        referenciaValidator.esquecer(TipoReferencia.NIVEL_HIERARQUICO, id);
         log.info("Nível hierárquico excluído (soft delete): id={}", id);
     }
 
@@ -0,0 +1,75 @@
+package com.peopleflow.pessoascontratos.core.application;
+
+import com.peopleflow.common.exception.ResourceNotFoundException;
+import com.peopleflow.common.exception.ValidationException;
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.AccessViolationException;
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
+import com.peopleflow.pessoascontratos.core.ports.input.NotificacaoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class NotificacaoService implements NotificacaoUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificacaoService.class);
+
+    private final NotificacaoRepositoryPort notificacaoRepository;
+    private final AccessValidatorPort accessValidator;
+
+    @Override
+    public Long enfileirar(NovaNotificacao notificacao) {
+        if (notificacao.canal() == null) {
+            throw new ValidationException("Canal da notificação é obrigatório");
+        }
+        if (notificacao.canal() == CanalNotificacao.KEYCLOAK) {
+            if (notificacao.usuarioId() == null) {
+                throw new ValidationException("Notificação do Keycloak exige o usuário");
+            }
+        } else if (notificacao.template() == null || notificacao.template().isBlank()) {
+            throw new ValidationException("Template da notificação é obrigatório");
+        }
+
+        Long id = notificacaoRepository.inserir(notificacao);
+        if (id == null) {
+            throw new ResourceNotFoundException("Template de notificação", notificacao.template());
+        }
+        return id;
+    }
+
+    @Override
+    public int enfileirarCampanha(Long templateId, Long empresaId, Long departamentoId, Map<String, Object> contexto) {
+        if (templateId == null) {
+            throw new ValidationException("Template da campanha é obrigatório");
+        }
+        Long empresaFiltro = empresaId;
+        if (!accessValidator.isAdmin()) {
+            Long empresaIdUsuario = accessValidator.getEmpresaIdUsuario();
+            if (empresaIdUsuario == null) {
+                throw new AccessViolationException(
+                        "Usuário não possui empresaId atribuído. Contate o administrador.");
+            }
+            if (empresaId != null && !empresaId.equals(empresaIdUsuario)) {
+                accessValidator.validarAcessoEmpresa(empresaId);
+            }
+            empresaFiltro = empresaIdUsuario;
+        }
+        if (empresaFiltro == null) {
+            throw new ValidationException("Empresa da campanha é obrigatória");
+        }
+
+        CanalNotificacao canal = notificacaoRepository.canalDoTemplateAtivo(templateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Template de notificação", templateId));
+
+        int enfileiradas = notificacaoRepository.inserirCampanha(
+                templateId, empresaFiltro, departamentoId, contexto != null ? contexto : Map.of());
+        log.info("Campanha de notificação: template {} ({}) enfileirado para {} colaboradores (empresa {})",
+                templateId, canal.getValor(), enfileiradas, empresaFiltro);
+        return enfileiradas;
+    }
+}
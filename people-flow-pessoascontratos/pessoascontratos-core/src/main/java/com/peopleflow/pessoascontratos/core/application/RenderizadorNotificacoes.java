@@ -0,0 +1,83 @@
+package com.peopleflow.pessoascontratos.core.application;
+
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.domain.TemplateCompilado;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort.NotificacaoPendente;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort.TemplateNotificacao;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renderiza as notificações reivindicadas a partir de templates pré-compilados
+ *
+ * Os templates compilados ficam em cache por ID; um template só é relido (uma consulta
+ * para todos os que faltam no lote) quando a versão da notificação difere da compilada.
+ */
+public class RenderizadorNotificacoes {
+
+    private final NotificacaoRepositoryPort notificacaoRepository;
+    private final Map<Long, TemplateCompilado> compilados = new ConcurrentHashMap<>();
+
+    public RenderizadorNotificacoes(NotificacaoRepositoryPort notificacaoRepository) {
+        this.notificacaoRepository = notificacaoRepository;
+    }
+
+    public Renderizacao renderizar(List<NotificacaoPendente> pendentes) {
+        Set<Long> faltantes = new HashSet<>();
+        for (NotificacaoPendente pendente : pendentes) {
+            if (pendente.templateVersao() != null) {
+                TemplateCompilado compilado = compilados.get(pendente.templateId());
+                if (compilado == null || compilado.getVersao() != pendente.templateVersao()) {
+                    faltantes.add(pendente.templateId());
+                }
+            }
+        }
+        if (!faltantes.isEmpty()) {
+            for (TemplateNotificacao template : notificacaoRepository.templates(faltantes)) {
+                compilados.put(template.id(), TemplateCompilado.compilar(
+                        template.id(), template.versao(), template.assunto(), template.corpo()));
+            }
+        }
+
+        List<NotificacaoRenderizada> prontas = new ArrayList<>(pendentes.size());
+        List<ResultadoEnvio> falhas = new ArrayList<>();
+        for (NotificacaoPendente pendente : pendentes) {
+            String assunto = pendente.assunto();
+            String corpo = pendente.corpo();
+            if (pendente.templateId() != null) {
+                TemplateCompilado template = pendente.templateVersao() != null
+                        ? compilados.get(pendente.templateId())
+                        : null;
+                if (template == null) {
+                    falhas.add(ResultadoEnvio.falhaDefinitiva(pendente.id(), "Template inativo ou excluído"));
+                    continue;
+                }
+                Map<String, Object> contexto = new HashMap<>(pendente.contexto());
+                if (pendente.nomeColaborador() != null) {
+                    contexto.putIfAbsent("nome", pendente.nomeColaborador());
+                }
+                assunto = template.renderizarAssunto(contexto);
+                corpo = template.renderizarCorpo(contexto);
+            }
+            if (pendente.canal() == CanalNotificacao.EMAIL && pendente.destinatario() == null) {
+                falhas.add(ResultadoEnvio.falhaDefinitiva(pendente.id(), "Destinatário sem e-mail"));
+                continue;
+            }
+            prontas.add(new NotificacaoRenderizada(pendente.id(), pendente.canal(), pendente.usuarioId(),
+                    pendente.colaboradorId(), pendente.destinatario(), assunto, corpo, pendente.contexto()));
+        }
+        return new Renderizacao(prontas, falhas);
+    }
+
+    public record Renderizacao(List<NotificacaoRenderizada> prontas, List<ResultadoEnvio> falhas) {
+    }
+}
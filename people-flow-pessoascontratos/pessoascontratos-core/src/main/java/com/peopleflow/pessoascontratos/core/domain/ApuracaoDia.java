@@ -0,0 +1,71 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Apuração do ponto de um colaborador em um dia
+ *
+ * Horas são gravadas com duas casas (NUMERIC(6,2)); o saldo do dia é calculado
+ * sobre os valores já arredondados, para que o saldo acumulado seja sempre a soma
+ * exata de (trabalhadas - previstas) das linhas gravadas.
+ */
+public record ApuracaoDia(Long colaboradorId,
+                          LocalDate data,
+                          BigDecimal horasTrabalhadas,
+                          BigDecimal horasPrevistas,
+                          boolean marcacoesIncompletas) {
+
+    /**
+     * Regras de Negócio:
+     * - Marcações em ordem cronológica formam pares abertura/encerramento
+     *   (entrada ou retorno do intervalo / saída ou início do intervalo)
+     * - Abertura sem encerramento (ou o contrário) não conta horas e marca o dia como incompleto
+     * - Horas previstas vêm da jornada vigente no dia (sem jornada, nada é previsto)
+     */
+    public static ApuracaoDia apurar(Long colaboradorId, LocalDate data, List<MarcacaoPonto> marcacoes,
+                                     JornadaTrabalho jornada) {
+        List<MarcacaoPonto> ordenadas = marcacoes.stream()
+                .sorted(Comparator.comparing(MarcacaoPonto::dataHora))
+                .toList();
+
+        long minutosTrabalhados = 0;
+        boolean incompletas = false;
+        Instant inicio = null;
+        for (MarcacaoPonto marcacao : ordenadas) {
+            if (marcacao.tipo().iniciaTrabalho()) {
+                incompletas |= inicio != null;
+                inicio = marcacao.dataHora();
+            } else if (inicio != null) {
+                minutosTrabalhados += Duration.between(inicio, marcacao.dataHora()).toMinutes();
+                inicio = null;
+            } else {
+                incompletas = true;
+            }
+        }
+        incompletas |= inicio != null;
+
+        long minutosPrevistos = jornada != null ? jornada.minutosPrevistos(data) : 0;
+        return new ApuracaoDia(colaboradorId, data, emHoras(minutosTrabalhados), emHoras(minutosPrevistos),
+                incompletas);
+    }
+
+    /** Horas além das previstas no dia */
+    public BigDecimal horasExtras() {
+        return horasTrabalhadas.subtract(horasPrevistas).max(BigDecimal.ZERO);
+    }
+
+    /** Contribuição do dia para o banco de horas (negativa quando faltam horas) */
+    public BigDecimal saldoDia() {
+        return horasTrabalhadas.subtract(horasPrevistas);
+    }
+
+    private static BigDecimal emHoras(long minutos) {
+        return BigDecimal.valueOf(minutos).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,49 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Campos cadastrais do colaborador alteráveis por atualização (PUT/PATCH)
+ *
+ * Empresa, status e vínculo com o Keycloak ficam de fora: mudam apenas pelos
+ * fluxos dedicados (transferência, transições de status, vínculo de acesso).
+ */
+public enum CampoColaborador {
+
+    NOME("nome", Colaborador::getNome),
+    CPF("cpf", Colaborador::getCpf),
+    MATRICULA("matricula", Colaborador::getMatricula),
+    EMAIL("email", Colaborador::getEmail),
+    DATA_ADMISSAO("dataAdmissao", Colaborador::getDataAdmissao),
+    DEPARTAMENTO_ID("departamentoId", Colaborador::getDepartamentoId),
+    CENTRO_CUSTO_ID("centroCustoId", Colaborador::getCentroCustoId),
+    CARGO_ID("cargoId", Colaborador::getCargoId);
+
+    private final String nome;
+    private final Function<Colaborador, Object> valor;
+
+    CampoColaborador(String nome, Function<Colaborador, Object> valor) {
+        this.nome = nome;
+        this.valor = valor;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    /**
+     * Campos cujo valor difere entre {@code original} e {@code atualizado}
+     */
+    public static Set<CampoColaborador> alterados(Colaborador original, Colaborador atualizado) {
+        Set<CampoColaborador> alterados = EnumSet.noneOf(CampoColaborador.class);
+        for (CampoColaborador campo : values()) {
+            if (!Objects.equals(campo.valor.apply(original), campo.valor.apply(atualizado))) {
+                alterados.add(campo);
+            }
+        }
+        return alterados;
+    }
+}
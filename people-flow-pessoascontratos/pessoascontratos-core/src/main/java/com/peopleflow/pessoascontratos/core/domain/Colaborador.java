@@ -30,6 +30,7 @@ public class Colaborador {
     private Long centroCustoId;
     private Long cargoId;
     private String keycloakUserId;
+    private Long versao;
 
     public static class ColaboradorBuilder {
         public Colaborador build() {
@@ -50,7 +51,8 @@ public class Colaborador {
                 departamentoId,
                 centroCustoId,
                 cargoId,
-                keycloakUserId
+                keycloakUserId,
+                versao
             );
 
             if (colaborador.nome != null) {
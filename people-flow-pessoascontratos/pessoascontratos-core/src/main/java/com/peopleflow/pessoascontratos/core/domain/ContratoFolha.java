@@ -0,0 +1,70 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contrato vigente na competência, com o necessário para o cálculo da folha
+ */
+public record ContratoFolha(Long contratoId,
+                            Long colaboradorId,
+                            BigDecimal salarioBase,
+                            LocalDate inicio,
+                            LocalDate fim) {
+
+    /** Mês comercial: salário proporcional é calculado sobre 30 dias */
+    private static final int DIAS_MES_COMERCIAL = 30;
+
+    private static final BigDecimal CEM = BigDecimal.valueOf(100);
+
+    /**
+     * Regras de Negócio:
+     * - Contrato vigente o mês inteiro conta 30 dias; admissão ou desligamento no mês
+     *   contam os dias corridos de vigência (no máximo 30)
+     * - Salário base e percentuais sobre ele são proporcionais aos dias; valores fixos não
+     * - Itens de valor zero não são gerados
+     */
+    public List<ItemFolha> calcular(YearMonth competencia, List<RegraRubrica> regras) {
+        int dias = diasVigentes(competencia);
+        BigDecimal salarioProporcional = salarioBase
+                .multiply(BigDecimal.valueOf(dias))
+                .divide(BigDecimal.valueOf(DIAS_MES_COMERCIAL), 2, RoundingMode.HALF_UP);
+
+        List<ItemFolha> itens = new ArrayList<>(regras.size());
+        for (RegraRubrica regra : regras) {
+            ItemFolha item = switch (regra.forma()) {
+                case SALARIO_BASE -> new ItemFolha(colaboradorId, regra.rubricaId(),
+                        BigDecimal.valueOf(dias), salarioProporcional);
+                case PERCENTUAL_SALARIO -> regra.percentual() == null ? null
+                        : new ItemFolha(colaboradorId, regra.rubricaId(), regra.percentual(),
+                                salarioProporcional.multiply(regra.percentual())
+                                        .divide(CEM, 2, RoundingMode.HALF_UP));
+                case VALOR_FIXO -> regra.valor() == null ? null
+                        : new ItemFolha(colaboradorId, regra.rubricaId(), BigDecimal.ONE,
+                                regra.valor().setScale(2, RoundingMode.HALF_UP));
+            };
+            if (item != null && item.valor().signum() > 0) {
+                itens.add(item);
+            }
+        }
+        return itens;
+    }
+
+    int diasVigentes(YearMonth competencia) {
+        LocalDate primeiro = competencia.atDay(1);
+        LocalDate ultimo = competencia.atEndOfMonth();
+        boolean mesInteiro = !inicio.isAfter(primeiro) && (fim == null || !fim.isBefore(ultimo));
+        if (mesInteiro) {
+            return DIAS_MES_COMERCIAL;
+        }
+        LocalDate de = inicio.isAfter(primeiro) ? inicio : primeiro;
+        LocalDate ate = fim != null && fim.isBefore(ultimo) ? fim : ultimo;
+        long dias = ChronoUnit.DAYS.between(de, ate) + 1;
+        return (int) Math.max(0, Math.min(dias, DIAS_MES_COMERCIAL));
+    }
+}
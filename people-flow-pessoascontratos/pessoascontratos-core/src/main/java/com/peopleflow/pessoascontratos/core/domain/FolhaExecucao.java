@@ -0,0 +1,81 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusFolha;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.YearMonth;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FolhaExecucao {
+
+    private Long id;
+    private YearMonth competencia;
+    private StatusFolha status;
+    private Instant iniciadoEm;
+    private Instant concluidoEm;
+
+    public static FolhaExecucao abrir(YearMonth competencia) {
+        if (competencia == null) {
+            throw new BusinessException("COMPETENCIA_OBRIGATORIA", "Competência da folha é obrigatória");
+        }
+        return FolhaExecucao.builder()
+                .competencia(competencia)
+                .status(StatusFolha.ABERTA)
+                .build();
+    }
+
+    /**
+     * Regras de Negócio:
+     * - Só folhas abertas iniciam o cálculo
+     * - Folha já em cálculo pode ser disparada de novo (retomada dos lotes pendentes)
+     * - Folha com erro no cálculo volta a ser calculada (refaz os lotes com erro)
+     */
+    public FolhaExecucao iniciarCalculo(Instant agora) {
+        if (status == StatusFolha.EM_CALCULO) {
+            return this;
+        }
+        if (status != StatusFolha.ABERTA && status != StatusFolha.ERRO_CALCULO) {
+            throw new BusinessException("FOLHA_STATUS_INVALIDO",
+                    "Folha com status '" + status.getValor() + "' não pode ser calculada");
+        }
+        return this.toBuilder()
+                .status(StatusFolha.EM_CALCULO)
+                .iniciadoEm(agora)
+                .concluidoEm(null)
+                .build();
+    }
+
+    public FolhaExecucao concluirCalculo(Instant agora) {
+        if (status != StatusFolha.EM_CALCULO) {
+            throw new BusinessException("FOLHA_STATUS_INVALIDO",
+                    "Folha com status '" + status.getValor() + "' não está em cálculo");
+        }
+        return this.toBuilder()
+                .status(StatusFolha.CALCULADA)
+                .concluidoEm(agora)
+                .build();
+    }
+
+    /**
+     * Encerra o cálculo com erro (lotes que esgotaram as tentativas)
+     */
+    public FolhaExecucao falharCalculo(Instant agora) {
+        if (status != StatusFolha.EM_CALCULO) {
+            throw new BusinessException("FOLHA_STATUS_INVALIDO",
+                    "Folha com status '" + status.getValor() + "' não está em cálculo");
+        }
+        return this.toBuilder()
+                .status(StatusFolha.ERRO_CALCULO)
+                .concluidoEm(agora)
+                .build();
+    }
+}
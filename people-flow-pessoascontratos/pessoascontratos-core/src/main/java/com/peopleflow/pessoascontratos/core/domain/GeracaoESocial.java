@@ -0,0 +1,84 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusGeracaoESocial;
+import com.peopleflow.pessoascontratos.core.valueobject.TipoEventoESocial;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Geração dos eventos eSocial de uma execução da folha para um empregador
+ *
+ * Os trabalhadores são percorridos em ordem de ID; {@code ultimoColaboradorId} é o
+ * checkpoint do último lote gravado.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeracaoESocial {
+
+    private static final DateTimeFormatter FORMATO_ID = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private Long id;
+    private Long execucaoId;
+    private Long empresaId;
+    /** CNPJ do empregador, só dígitos */
+    private String inscricaoEmpregador;
+    private TipoEventoESocial tipo;
+    private YearMonth competencia;
+    private StatusGeracaoESocial status;
+    private Long ultimoColaboradorId;
+    private int lotes;
+    private int eventos;
+    private long tamanhoXml;
+    /** Falhas seguidas desde o último lote gravado */
+    private int tentativas;
+    private String ultimoErro;
+    private Instant iniciadoEm;
+    private Instant concluidoEm;
+
+    /**
+     * Raiz do CNPJ (8 dígitos), usada na identificação do empregador nos eventos
+     */
+    public String inscricaoRaiz() {
+        return inscricaoEmpregador.substring(0, 8);
+    }
+
+    /**
+     * Atributo Id do evento: "ID" + tipo de inscrição + raiz do CNPJ completada com zeros
+     * (14) + data/hora da geração + sequencial de 5 dígitos
+     */
+    public String idEvento(LocalDateTime momento, int sequencial) {
+        return "ID1" + inscricaoRaiz() + "000000" + FORMATO_ID.format(momento)
+                + String.format("%05d", sequencial % 100_000);
+    }
+
+    public GeracaoESocial registrarLote(Long ultimoColaboradorId, int eventos, long tamanhoXml) {
+        if (status != StatusGeracaoESocial.GERANDO) {
+            throw new BusinessException("ESOCIAL_GERACAO_CONCLUIDA", "Geração eSocial " + id + " já foi concluída");
+        }
+        return this.toBuilder()
+                .ultimoColaboradorId(ultimoColaboradorId)
+                .lotes(this.lotes + 1)
+                .eventos(this.eventos + eventos)
+                .tamanhoXml(this.tamanhoXml + tamanhoXml)
+                .tentativas(0)
+                .build();
+    }
+
+    public GeracaoESocial concluir(Instant agora) {
+        return this.toBuilder()
+                .status(StatusGeracaoESocial.GERADO)
+                .concluidoEm(agora)
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import java.math.BigDecimal;
+
+/**
+ * Item calculado da folha (uma linha por colaborador e rubrica em FOLHA_ITEM)
+ */
+public record ItemFolha(Long colaboradorId, Long rubricaId, BigDecimal quantidade, BigDecimal valor) {
+}
@@ -8,6 +8,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 
 @Getter
 @Builder(toBuilder = true)
@@ -15,6 +18,8 @@ import java.math.BigDecimal;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class JornadaTrabalho {
 
+    private static final int DIAS_UTEIS_SEMANA = 5;
+
     private Long id;
     private String descricao;
     private BigDecimal cargaSemanalHoras;
@@ -51,6 +56,23 @@ public class JornadaTrabalho {
         }
     }
 
+    /**
+     * Minutos previstos no dia: carga semanal distribuída de segunda a sexta;
+     * sábado, domingo ou jornada sem carga definida não preveem horas
+     */
+    public long minutosPrevistos(LocalDate dia) {
+        if (cargaSemanalHoras == null) {
+            return 0;
+        }
+        DayOfWeek diaSemana = dia.getDayOfWeek();
+        if (diaSemana == DayOfWeek.SATURDAY || diaSemana == DayOfWeek.SUNDAY) {
+            return 0;
+        }
+        return cargaSemanalHoras.multiply(BigDecimal.valueOf(60))
+                .divide(BigDecimal.valueOf(DIAS_UTEIS_SEMANA), 0, RoundingMode.HALF_UP)
+                .longValue();
+    }
+
     private static String trimDesc(String s) {
         return s == null ? null : s.trim();
     }
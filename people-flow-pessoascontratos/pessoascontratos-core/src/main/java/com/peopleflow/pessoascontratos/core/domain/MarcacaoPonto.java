@@ -0,0 +1,57 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.pessoascontratos.core.valueobject.OrigemMarcacao;
+import com.peopleflow.pessoascontratos.core.valueobject.TipoMarcacao;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Marcação de ponto (append-only: nunca é alterada depois de gravada)
+ *
+ * Idempotente por (colaborador, dataHora, tipo): reenvios da mesma marcação
+ * pelo kiosk ou app não geram registros duplicados.
+ */
+public record MarcacaoPonto(Long colaboradorId,
+                            Instant dataHora,
+                            TipoMarcacao tipo,
+                            OrigemMarcacao origem,
+                            BigDecimal latitude,
+                            BigDecimal longitude) {
+
+    /** Diferença aceita entre o relógio do equipamento e o do servidor */
+    public static final Duration TOLERANCIA_RELOGIO = Duration.ofMinutes(5);
+
+    /**
+     * Factory Method para uma nova marcação recebida de um equipamento
+     *
+     * Regras de Negócio:
+     * - Colaborador, data/hora e tipo são obrigatórios
+     * - Data/hora não pode estar no futuro (além da tolerância de relógio)
+     * - Geolocalização é opcional, mas latitude e longitude vêm juntas e dentro dos limites
+     */
+    public static MarcacaoPonto registrar(Long colaboradorId, Instant dataHora, String tipo, String origem,
+                                          BigDecimal latitude, BigDecimal longitude, Instant agora) {
+        if (colaboradorId == null) {
+            throw new BusinessException("COLABORADOR_ID_OBRIGATORIO", "Colaborador da marcação é obrigatório");
+        }
+        if (dataHora == null) {
+            throw new BusinessException("DATA_HORA_OBRIGATORIA", "Data e hora da marcação são obrigatórias");
+        }
+        if (dataHora.isAfter(agora.plus(TOLERANCIA_RELOGIO))) {
+            throw new BusinessException("DATA_HORA_FUTURA", "Data e hora da marcação não podem estar no futuro");
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new BusinessException("GEOLOCALIZACAO_INCOMPLETA", "Latitude e longitude devem ser informadas juntas");
+        }
+        if (latitude != null && (latitude.abs().compareTo(BigDecimal.valueOf(90)) > 0
+                || longitude.abs().compareTo(BigDecimal.valueOf(180)) > 0)) {
+            throw new BusinessException("GEOLOCALIZACAO_INVALIDA", "Latitude ou longitude fora dos limites");
+        }
+
+        return new MarcacaoPonto(colaboradorId, dataHora, TipoMarcacao.of(tipo), OrigemMarcacao.of(origem),
+                latitude, longitude);
+    }
+}
@@ -0,0 +1,21 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+
+import java.util.Map;
+
+/**
+ * Notificação pronta para o adapter do canal
+ *
+ * @param destinatario e-mail (ou endereço do canal); pode ser nulo em canais que usam o usuário
+ * @param contexto     variáveis da notificação (ex.: {@code acao} no canal keycloak)
+ */
+public record NotificacaoRenderizada(Long id,
+                                     CanalNotificacao canal,
+                                     String usuarioId,
+                                     Long colaboradorId,
+                                     String destinatario,
+                                     String assunto,
+                                     String corpo,
+                                     Map<String, Object> contexto) {
+}
@@ -0,0 +1,28 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+
+import java.util.Map;
+
+/**
+ * Notificação a enfileirar
+ *
+ * @param template nome do template (usa a versão ativa mais recente do canal); nulo no canal keycloak
+ */
+public record NovaNotificacao(CanalNotificacao canal,
+                              String template,
+                              String usuarioId,
+                              Long colaboradorId,
+                              String destinatario,
+                              Map<String, Object> contexto) {
+
+    public static final String ACAO_DEFINIR_SENHA = "definir-senha";
+
+    /**
+     * E-mail de ação do Keycloak para o usuário (ex.: {@link #ACAO_DEFINIR_SENHA})
+     */
+    public static NovaNotificacao acaoKeycloak(String usuarioId, Long colaboradorId, String acao) {
+        return new NovaNotificacao(CanalNotificacao.KEYCLOAK, null, usuarioId, colaboradorId, null,
+                Map.of("acao", acao));
+    }
+}
@@ -0,0 +1,18 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.pessoascontratos.core.valueobject.FormaCalculoRubrica;
+
+import java.math.BigDecimal;
+
+/**
+ * Regra de cálculo automático de uma rubrica, lida de {@code RUBRICA.BASE_CALCULO}
+ *
+ * @param percentual usado em {@link FormaCalculoRubrica#PERCENTUAL_SALARIO}
+ * @param valor      usado em {@link FormaCalculoRubrica#VALOR_FIXO}
+ */
+public record RegraRubrica(Long rubricaId,
+                           String codigo,
+                           FormaCalculoRubrica forma,
+                           BigDecimal percentual,
+                           BigDecimal valor) {
+}
@@ -0,0 +1,21 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Remuneração de um trabalhador em uma execução da folha (conteúdo do S-1200)
+ *
+ * @param tipoContrato tipo do contrato mais recente (define a categoria do trabalhador)
+ * @param lotacao      código do centro de custo do colaborador, se houver
+ */
+public record RemuneracaoTrabalhador(Long colaboradorId,
+                                     String cpf,
+                                     String matricula,
+                                     String tipoContrato,
+                                     String lotacao,
+                                     List<ItemRemuneracao> itens) {
+
+    public record ItemRemuneracao(String codigoRubrica, BigDecimal quantidade, BigDecimal valor) {
+    }
+}
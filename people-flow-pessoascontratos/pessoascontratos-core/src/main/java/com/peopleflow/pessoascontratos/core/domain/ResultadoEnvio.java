@@ -0,0 +1,21 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+/**
+ * Resultado da entrega de uma notificação pelo adapter do canal
+ *
+ * @param definitivo falha que não adianta repetir (ex.: destinatário inválido)
+ */
+public record ResultadoEnvio(Long id, boolean enviado, boolean definitivo, String erro) {
+
+    public static ResultadoEnvio sucesso(Long id) {
+        return new ResultadoEnvio(id, true, false, null);
+    }
+
+    public static ResultadoEnvio falhaTemporaria(Long id, String erro) {
+        return new ResultadoEnvio(id, false, false, erro);
+    }
+
+    public static ResultadoEnvio falhaDefinitiva(Long id, String erro) {
+        return new ResultadoEnvio(id, false, true, erro);
+    }
+}
@@ -0,0 +1,89 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template de notificação pré-compilado
+ *
+ * Assunto e corpo são quebrados uma única vez em trechos fixos e variáveis
+ * ({@code {{nome}}}); renderizar é só concatenar, sem reprocessar o texto.
+ * Variável ausente no contexto é renderizada vazia.
+ */
+public final class TemplateCompilado {
+
+    private static final String ABRE = "{{";
+    private static final String FECHA = "}}";
+
+    private final Long id;
+    private final int versao;
+    private final List<Trecho> assunto;
+    private final List<Trecho> corpo;
+    private final int tamanhoFixoCorpo;
+
+    private TemplateCompilado(Long id, int versao, List<Trecho> assunto, List<Trecho> corpo) {
+        this.id = id;
+        this.versao = versao;
+        this.assunto = assunto;
+        this.corpo = corpo;
+        this.tamanhoFixoCorpo = corpo.stream().filter(t -> !t.variavel()).mapToInt(t -> t.texto().length()).sum();
+    }
+
+    public static TemplateCompilado compilar(Long id, int versao, String assunto, String corpo) {
+        return new TemplateCompilado(id, versao, assunto != null ? trechos(assunto) : null, trechos(corpo));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getVersao() {
+        return versao;
+    }
+
+    public String renderizarAssunto(Map<String, ?> contexto) {
+        return assunto != null ? renderizar(assunto, contexto, 64) : null;
+    }
+
+    public String renderizarCorpo(Map<String, ?> contexto) {
+        return renderizar(corpo, contexto, tamanhoFixoCorpo + 64);
+    }
+
+    private static String renderizar(List<Trecho> trechos, Map<String, ?> contexto, int capacidade) {
+        StringBuilder sb = new StringBuilder(capacidade);
+        for (Trecho trecho : trechos) {
+            if (!trecho.variavel()) {
+                sb.append(trecho.texto());
+            } else {
+                Object valor = contexto.get(trecho.texto());
+                if (valor != null) {
+                    sb.append(valor);
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static List<Trecho> trechos(String texto) {
+        List<Trecho> trechos = new ArrayList<>();
+        int inicio = 0;
+        while (inicio < texto.length()) {
+            int abre = texto.indexOf(ABRE, inicio);
+            int fecha = abre >= 0 ? texto.indexOf(FECHA, abre + ABRE.length()) : -1;
+            if (abre < 0 || fecha < 0) {
+                trechos.add(new Trecho(texto.substring(inicio), false));
+                break;
+            }
+            if (abre > inicio) {
+                trechos.add(new Trecho(texto.substring(inicio, abre), false));
+            }
+            trechos.add(new Trecho(texto.substring(abre + ABRE.length(), fecha).trim(), true));
+            inicio = fecha + FECHA.length();
+        }
+        return List.copyOf(trechos);
+    }
+
+    private record Trecho(String texto, boolean variavel) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusColaborador;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Transição de status aplicada direto no banco, em um único UPDATE condicionado
+ *
+ * As {@code origens} são derivadas de {@link Colaborador#demitir}, {@link Colaborador#ativar},
+ * {@link Colaborador#inativar} e {@link Colaborador#excluir}: cada status é aceito se o
+ * método do domínio não o rejeita. A data de admissão (demissão) é conferida no próprio
+ * UPDATE. Quando nenhuma linha é afetada, o service reaplica o método do domínio sobre
+ * o estado atual para obter o erro específico.
+ *
+ * @param destino status gravado
+ * @param origens status atuais a partir dos quais a transição é permitida
+ * @param dataDemissao gravada na demissão; também exige admissão até essa data
+ * @param limparDataDemissao zera DATA_DEMISSAO (ativação)
+ */
+public record TransicaoStatus(StatusColaborador destino,
+                              Set<StatusColaborador> origens,
+                              LocalDate dataDemissao,
+                              boolean limparDataDemissao) {
+
+    private static final Set<StatusColaborador> ORIGENS_DEMISSAO =
+            origensPermitidas(colaborador -> colaborador.demitir(LocalDate.EPOCH));
+    private static final Set<StatusColaborador> ORIGENS_ATIVACAO = origensPermitidas(Colaborador::ativar);
+    private static final Set<StatusColaborador> ORIGENS_INATIVACAO = origensPermitidas(Colaborador::inativar);
+    private static final Set<StatusColaborador> ORIGENS_EXCLUSAO = origensPermitidas(Colaborador::excluir);
+
+    public static TransicaoStatus demissao(LocalDate dataDemissao) {
+        if (dataDemissao == null) {
+            throw new BusinessException("DATA_DEMISSAO_OBRIGATORIA", "Data de demissão é obrigatória");
+        }
+        return new TransicaoStatus(StatusColaborador.DEMITIDO, ORIGENS_DEMISSAO, dataDemissao, false);
+    }
+
+    public static TransicaoStatus ativacao() {
+        return new TransicaoStatus(StatusColaborador.ATIVO, ORIGENS_ATIVACAO, null, true);
+    }
+
+    public static TransicaoStatus inativacao() {
+        return new TransicaoStatus(StatusColaborador.INATIVO, ORIGENS_INATIVACAO, null, false);
+    }
+
+    public static TransicaoStatus exclusao() {
+        return new TransicaoStatus(StatusColaborador.EXCLUIDO, ORIGENS_EXCLUSAO, null, false);
+    }
+
+    /**
+     * Status a partir dos quais o método do domínio aceita a transição
+     */
+    private static Set<StatusColaborador> origensPermitidas(UnaryOperator<Colaborador> transicao) {
+        return StatusColaborador.valores().stream()
+                .filter(status -> permite(transicao, status))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static boolean permite(UnaryOperator<Colaborador> transicao, StatusColaborador status) {
+        try {
+            transicao.apply(Colaborador.builder().status(status).build());
+            return true;
+        } catch (BusinessException e) {
+            return false;
+        }
+    }
+}
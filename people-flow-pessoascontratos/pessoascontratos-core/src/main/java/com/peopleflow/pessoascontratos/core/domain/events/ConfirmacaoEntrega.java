@@ -0,0 +1,49 @@
+package com.peopleflow.pessoascontratos.core.domain.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Confirmações assíncronas da entrega de um evento de domínio
+ *
+ * Um listener que só repassa o evento a uma fila em memória (ex.: sincronização com o
+ * Keycloak) registra aqui o future da aplicação de fato. Quem publica dentro de
+ * {@link #coletar(Runnable)} (relay do outbox) só confirma o evento quando todas as
+ * confirmações terminarem; fora dele, {@link #aguardar} não tem efeito.
+ */
+public final class ConfirmacaoEntrega {
+
+    private static final ThreadLocal<List<CompletableFuture<?>>> PENDENTES = new ThreadLocal<>();
+
+    private ConfirmacaoEntrega() {
+    }
+
+    /**
+     * Associa {@code confirmacao} ao evento sendo publicado nesta thread
+     */
+    public static void aguardar(CompletableFuture<?> confirmacao) {
+        List<CompletableFuture<?>> pendentes = PENDENTES.get();
+        if (pendentes != null) {
+            pendentes.add(confirmacao);
+        }
+    }
+
+    /**
+     * Executa a publicação e devolve um future que termina quando todas as confirmações
+     * registradas pelos listeners terminarem (já concluído se nenhum registrou)
+     */
+    public static CompletableFuture<Void> coletar(Runnable publicacao) {
+        List<CompletableFuture<?>> anteriores = PENDENTES.get();
+        List<CompletableFuture<?>> pendentes = new ArrayList<>();
+        PENDENTES.set(pendentes);
+        try {
+            publicacao.run();
+        } finally {
+            PENDENTES.set(anteriores);
+        }
+        return pendentes.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.allOf(pendentes.toArray(CompletableFuture[]::new));
+    }
+}
@@ -0,0 +1,43 @@
+package com.peopleflow.pessoascontratos.core.ports.input;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Use case do cálculo diário de ponto (horas trabalhadas, extras e banco de horas)
+ *
+ * O cálculo é incremental: só são recalculados os dias colocados na fila (marcações
+ * novas ou fechamento do mês), e a variação de saldo de cada dia é repassada aos dias
+ * seguintes sem recalculá-los.
+ */
+public interface CalculoPontoUseCase {
+
+    /**
+     * Colaboradores com dias aguardando recálculo
+     */
+    List<Long> colaboradoresPendentes(int limite);
+
+    /**
+     * Recalcula os dias pendentes dos colaboradores, em uma única transação
+     *
+     * @return quantidade de dias recalculados
+     */
+    int recalcular(List<Long> colaboradorIds);
+
+    /**
+     * Registra que o recálculo do colaborador falhou; ao esgotar as tentativas seus dias
+     * saem da fila (voltam com uma nova marcação ou o fechamento do mês)
+     *
+     * @return true se os dias foram movidos para erro
+     */
+    boolean registrarFalha(Long colaboradorId, String erro);
+
+    /**
+     * Coloca na fila todos os dias da competência (até hoje) dos colaboradores com contrato
+     * vigente, para que dias sem marcação também entrem no banco de horas.
+     * Usuários não-admin só fecham a própria empresa.
+     *
+     * @return quantidade de dias agendados
+     */
+    int fecharMes(YearMonth competencia, Long empresaId);
+}
@@ -1,18 +1,46 @@
 package com.peopleflow.pessoascontratos.core.ports.input;
 
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
+import com.peopleflow.common.pagination.CursorPagedResult;
+import com.peopleflow.common.pagination.CursorPagination;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorExportacao;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import com.peopleflow.pessoascontratos.core.query.VinculoAcesso;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ColaboradorUseCase {
     Colaborador criar(Colaborador colaborador);
     Colaborador criar(Colaborador colaborador, boolean requerAcessoSistema);
+
+    /**
+     * Admissão em massa: cada item é validado individualmente e o resultado
+     * é reportado por linha, na ordem recebida; itens rejeitados não impedem os demais.
+     */
+    List<ResultadoAdmissao> admitirEmLote(List<NovaAdmissao> admissoes);
     Colaborador atualizar(Long id, Colaborador colaborador);
+
+    /**
+     * Atualização parcial (PATCH): aplica apenas os campos não nulos de {@code alteracao},
+     * desde que o registro ainda esteja na versão informada; grava só as colunas alteradas.
+     */
+    Colaborador atualizarParcialmente(Long id, AlteracaoColaborador alteracao);
     Colaborador buscarPorId(Long id);
     PagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, Pagination pagination);
+    CursorPagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, CursorPagination pagination);
+    List<Colaborador> pesquisar(String termo, int limite);
+
+    /**
+     * Percorre todos os colaboradores do filtro (ordem de ID) entregando uma linha por vez
+     * ao consumidor, sem materializar o resultado. Aplica as mesmas restrições de empresa da listagem.
+     */
+    void exportar(ColaboradorFilter filter, Consumer<ColaboradorExportacao> consumidor);
     Colaborador demitir(Long id, LocalDate dataDemissao);
     Colaborador ativar(Long id);
     Colaborador inativar(Long id);
@@ -24,5 +52,41 @@ public interface ColaboradorUseCase {
     Colaborador reativar(Long id, LocalDate novaDataAdmissao);
 
     Colaborador vincularAcessoSistema(Long colaboradorId, String keycloakUserId);
-}
 
+    Optional<String> buscarKeycloakUserId(Long colaboradorId);
+
+    /**
+     * Página (keyset por ID, após {@code aposId}) de colaboradores com usuário vinculado.
+     * Uso interno da reconciliação com o Keycloak: não aplica restrições de empresa.
+     */
+    List<VinculoAcesso> listarVinculosAcesso(Long aposId, int limite);
+
+    /**
+     * Vínculos dos colaboradores ligados a algum dos usuários ou com algum dos IDs (uso interno)
+     */
+    List<VinculoAcesso> buscarVinculosAcesso(Collection<String> keycloakUserIds, Collection<Long> colaboradorIds);
+
+    record NovaAdmissao(String nome, String cpf, String email, String matricula, LocalDate dataAdmissao,
+                        Long empresaId, Long departamentoId, Long centroCustoId, Long cargoId,
+                        boolean requerAcessoSistema) {
+    }
+
+    /**
+     * Campos de uma atualização parcial: {@code null} mantém o valor atual.
+     * {@code versao} é a versão lida pelo cliente e é obrigatória.
+     */
+    record AlteracaoColaborador(Long versao, String nome, String cpf, String email, String matricula,
+                                LocalDate dataAdmissao, Long departamentoId, Long centroCustoId, Long cargoId) {
+    }
+
+    /**
+     * Resultado de uma linha do lote: {@code id} preenchido quando admitido,
+     * {@code codigoErro}/{@code mensagem} quando rejeitado.
+     */
+    record ResultadoAdmissao(int indice, Long id, String codigoErro, String mensagem) {
+
+        public boolean admitido() {
+            return id != null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.peopleflow.pessoascontratos.core.ports.input;
+
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case da geração dos eventos eSocial a partir da folha
+ *
+ * Cada empregador tem sua geração, processada em lotes de envio; cada lote é uma
+ * transação, então a memória é limitada pelo tamanho do lote e uma geração
+ * interrompida continua do último lote gravado.
+ */
+public interface EventoESocialUseCase {
+
+    /**
+     * Planeja a geração dos S-1200 de uma execução calculada, uma por empregador;
+     * gerações que terminaram com erro voltam a ser geradas do último lote gravado
+     *
+     * @return gerações da execução
+     */
+    List<GeracaoESocial> gerarS1200(Long execucaoId);
+
+    /**
+     * Gera e grava o próximo lote de eventos da geração, em uma única transação
+     *
+     * @return vazio se a geração terminou (ou está com outro worker)
+     */
+    Optional<LoteGerado> gerarProximoLote(Long geracaoId);
+
+    /**
+     * Registra a falha de um lote: a geração segue em geração ou, esgotadas as tentativas,
+     * fica com erro
+     *
+     * @return true se a geração foi marcada com erro
+     */
+    boolean registrarFalha(Long geracaoId, String erro);
+
+    List<GeracaoESocial> consultar(Long execucaoId);
+
+    /**
+     * Gerações não concluídas (ex.: interrompidas por reinício da aplicação)
+     */
+    List<Long> geracoesPendentes();
+
+    record LoteGerado(int lote, int eventos, long tamanhoXml, long duracaoMs) {
+    }
+}
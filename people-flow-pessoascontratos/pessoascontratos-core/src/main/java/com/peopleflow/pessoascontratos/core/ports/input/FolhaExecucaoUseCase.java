@@ -0,0 +1,80 @@
+package com.peopleflow.pessoascontratos.core.ports.input;
+
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.query.ProgressoFolha;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case das execuções da folha de pagamento
+ *
+ * O cálculo é dividido em lotes de contratos processados por workers em paralelo;
+ * cada lote é uma transação, então uma execução interrompida retoma dos lotes pendentes.
+ */
+public interface FolhaExecucaoUseCase {
+
+    FolhaExecucao abrir(YearMonth competencia);
+
+    /**
+     * Coloca a execução em cálculo e planeja os lotes (na retomada, mantém os já planejados)
+     */
+    FolhaExecucao iniciarCalculo(Long execucaoId);
+
+    /**
+     * Calcula o próximo lote pendente da execução, em uma única transação
+     *
+     * @return vazio se não há lote pendente livre
+     * @throws FalhaLote se o cálculo do lote reivindicado falhou (a transação é desfeita)
+     */
+    Optional<ResultadoLote> processarProximoLote(Long execucaoId);
+
+    /**
+     * Registra a falha de um lote: ele volta a pendente ou, esgotadas as tentativas, fica com erro
+     *
+     * @return true se o lote foi marcado com erro
+     */
+    boolean registrarFalhaLote(Long execucaoId, int lote, String erro);
+
+    /**
+     * Marca a execução como calculada se todos os lotes terminaram, ou com erro no cálculo
+     * se não resta lote pendente e algum terminou com erro
+     */
+    FolhaExecucao concluirCalculo(Long execucaoId);
+
+    /**
+     * Encerra o cálculo da execução com erro (ex.: workers sem conseguir reivindicar lotes)
+     */
+    FolhaExecucao falharCalculo(Long execucaoId);
+
+    ResumoExecucao consultar(Long execucaoId);
+
+    /**
+     * Execuções que ficaram em cálculo (ex.: interrompidas por reinício da aplicação)
+     */
+    List<Long> execucoesEmCalculo();
+
+    record ResultadoLote(int lote, int contratos, int itens, long duracaoMs) {
+    }
+
+    /**
+     * Falha no cálculo de um lote já reivindicado
+     */
+    class FalhaLote extends RuntimeException {
+
+        private final int lote;
+
+        public FalhaLote(int lote, Throwable causa) {
+            super(causa.getMessage(), causa);
+            this.lote = lote;
+        }
+
+        public int getLote() {
+            return lote;
+        }
+    }
+
+    record ResumoExecucao(FolhaExecucao execucao, ProgressoFolha progresso) {
+    }
+}
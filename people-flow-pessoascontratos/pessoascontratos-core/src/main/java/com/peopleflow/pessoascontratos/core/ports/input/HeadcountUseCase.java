@@ -0,0 +1,29 @@
+package com.peopleflow.pessoascontratos.core.ports.input;
+
+import com.peopleflow.pessoascontratos.core.query.HeadcountUnidade;
+
+import java.util.List;
+
+/**
+ * Use case do read model de headcount (colaboradores ativos por unidade organizacional)
+ */
+public interface HeadcountUseCase {
+
+    /**
+     * Headcount por unidade; filtros nulos não restringem.
+     * Usuários não-admin só enxergam a própria empresa.
+     */
+    List<HeadcountUnidade> consultar(Long empresaId, Long departamentoId, Long centroCustoId);
+
+    /**
+     * Reflete na projeção o estado atual do colaborador (idempotente)
+     */
+    void atualizarProjecao(Long colaboradorId);
+
+    /**
+     * Recalcula a projeção a partir de COLABORADOR se houver divergência
+     *
+     * @return quantidade de unidades que estavam divergentes
+     */
+    int reconstruirProjecao();
+}
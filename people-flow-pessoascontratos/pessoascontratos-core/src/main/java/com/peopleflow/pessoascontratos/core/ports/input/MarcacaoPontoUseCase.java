@@ -0,0 +1,38 @@
+package com.peopleflow.pessoascontratos.core.ports.input;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface MarcacaoPontoUseCase {
+
+    /**
+     * Registra um lote de marcações. Cada linha é validada individualmente; as aceitas
+     * seguem para o buffer de gravação e o futuro completa quando estão no banco.
+     * Com o buffer cheio o lote inteiro é recusado (CAPACIDADE_ESGOTADA) e deve ser reenviado.
+     */
+    CompletableFuture<ResultadoIngestao> registrar(List<NovaMarcacao> marcacoes);
+
+    /**
+     * Garante as partições mensais de MARCACAO_PONTO do mês atual até {@code mesesAFrente};
+     * devolve o nome das partições criadas
+     */
+    List<String> prepararParticoes(int mesesAFrente);
+
+    record NovaMarcacao(Long colaboradorId, Instant dataHora, String tipo, String origem,
+                        BigDecimal latitude, BigDecimal longitude) {
+    }
+
+    /**
+     * Linha recusada: {@code indice} é a posição no lote recebido (base 0)
+     */
+    record Rejeicao(int indice, String codigoErro, String mensagem) {
+    }
+
+    /**
+     * {@code aceitas} inclui reenvios de marcações já gravadas (ignorados pelo banco)
+     */
+    record ResultadoIngestao(int total, int aceitas, List<Rejeicao> rejeicoes) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.peopleflow.pessoascontratos.core.ports.input;
+
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
+
+import java.util.Map;
+
+/**
+ * Use case de enfileiramento de notificações
+ *
+ * O envio é assíncrono: as notificações ficam pendentes em NOTIFICACAO_ENVIO até o
+ * despachante entregá-las pelo canal.
+ */
+public interface NotificacaoUseCase {
+
+    Long enfileirar(NovaNotificacao notificacao);
+
+    /**
+     * Enfileira o template para todos os colaboradores ativos da empresa (e do departamento, se informado)
+     *
+     * @return quantidade de notificações enfileiradas
+     */
+    int enfileirarCampanha(Long templateId, Long empresaId, Long departamentoId, Map<String, Object> contexto);
+}
@@ -0,0 +1,90 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Port do cálculo diário de ponto (CALCULO_PONTO_DIA) e da fila de dias a recalcular
+ */
+public interface CalculoPontoRepositoryPort {
+
+    /**
+     * Colaboradores com dias aguardando recálculo, os mais antigos na fila primeiro
+     * (exceto os que aguardam nova tentativa após uma falha)
+     */
+    List<Long> colaboradoresPendentes(int limite);
+
+    /**
+     * Registra a falha do recálculo do colaborador: seus dias aguardam o backoff antes de
+     * voltar à fila ou, esgotadas as tentativas, saem dela com status de erro
+     *
+     * @return true se os dias foram movidos para erro
+     */
+    boolean registrarFalha(Long colaboradorId, String erro, int maxTentativas);
+
+    /**
+     * Retira da fila os dias pendentes dos colaboradores (deve participar da transação
+     * que grava o resultado: se ela falhar, os dias voltam para a fila)
+     */
+    List<DiaPendente> reivindicar(List<Long> colaboradorIds);
+
+    /**
+     * Estado atual de cada dia: jornada vigente, cálculo já gravado e saldo do dia anterior
+     */
+    List<SituacaoDia> carregar(List<DiaPendente> dias);
+
+    /**
+     * Marcações dos dias, com o dia definido pela data local em {@code fuso}
+     */
+    List<MarcacaoPonto> marcacoes(List<DiaPendente> dias, ZoneId fuso);
+
+    /**
+     * Grava os dias recalculados e repassa a variação de saldo de cada um aos dias seguintes
+     */
+    void gravar(List<DiaCalculado> dias);
+
+    /**
+     * Coloca na fila todos os dias do período em que cada colaborador tinha contrato vigente
+     *
+     * @param empresaId nulo para todas as empresas
+     * @return quantidade de dias incluídos
+     */
+    int agendar(LocalDate inicio, LocalDate fim, Long empresaId);
+
+    record DiaPendente(Long colaboradorId, LocalDate data) {
+    }
+
+    /**
+     * @param cargaSemanalHoras carga da jornada do contrato vigente (nula se não há contrato)
+     * @param calculado         se o dia já tem linha em CALCULO_PONTO_DIA
+     * @param horasTrabalhadas  horas gravadas no cálculo atual (zero se não calculado)
+     * @param horasPrevistas    horas previstas gravadas no cálculo atual (zero se não calculado)
+     * @param saldoAnterior     saldo acumulado do último dia calculado antes deste
+     */
+    record SituacaoDia(Long colaboradorId,
+                       LocalDate data,
+                       BigDecimal cargaSemanalHoras,
+                       boolean calculado,
+                       BigDecimal horasTrabalhadas,
+                       BigDecimal horasPrevistas,
+                       BigDecimal saldoAnterior) {
+    }
+
+    /**
+     * @param saldoInicial  saldo gravado se o dia ainda não existe (saldo anterior, antes das variações)
+     * @param variacaoSaldo diferença entre o novo saldo do dia e o que estava gravado; somada a este
+     *                      dia e a todos os seguintes do colaborador
+     */
+    record DiaCalculado(Long colaboradorId,
+                        LocalDate data,
+                        BigDecimal horasTrabalhadas,
+                        BigDecimal horasPrevistas,
+                        BigDecimal horasExtras,
+                        BigDecimal saldoInicial,
+                        BigDecimal variacaoSaldo) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+
+import java.util.List;
+
+/**
+ * Port de entrega de notificações de um canal (um adapter por canal)
+ *
+ * Recebe um pequeno lote para poder reaproveitar a conexão com o provedor; a
+ * concorrência e o limite de taxa são controlados pelo despachante.
+ */
+public interface CanalNotificacaoPort {
+
+    CanalNotificacao canal();
+
+    /**
+     * Entrega as notificações; falha de uma não interrompe as demais
+     *
+     * @return um resultado por notificação
+     */
+    List<ResultadoEnvio> enviar(List<NotificacaoRenderizada> notificacoes);
+}
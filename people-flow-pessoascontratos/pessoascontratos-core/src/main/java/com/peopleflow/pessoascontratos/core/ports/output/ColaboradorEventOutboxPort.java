@@ -0,0 +1,55 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.events.ColaboradorEvent;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Port do outbox transacional de eventos de Colaborador
+ *
+ * O registro acontece na mesma transação da escrita do colaborador; o relay
+ * reivindica lotes de eventos pendentes e os despacha com entrega at-least-once,
+ * respeitando a ordem por colaborador.
+ */
+public interface ColaboradorEventOutboxPort {
+
+    /**
+     * Grava o evento no outbox (deve participar da transação corrente)
+     */
+    void registrar(ColaboradorEvent event);
+
+    /**
+     * Grava vários eventos em um único lote, na ordem recebida
+     */
+    void registrarTodos(List<? extends ColaboradorEvent> events);
+
+    /**
+     * Reivindica até {@code limite} eventos pendentes, no máximo um por colaborador
+     * (o pendente mais antigo), reservando-os pelo tempo de {@code lease}.
+     */
+    List<EventoPendente> reivindicarLote(int limite, Duration lease);
+
+    void marcarProcessado(Long id);
+
+    /**
+     * Libera o evento para nova tentativa após {@code atraso}
+     */
+    void registrarFalha(Long id, String erro, Duration atraso);
+
+    /**
+     * Retira o evento da fila (tentativas esgotadas ou evento inválido); os eventos
+     * seguintes do mesmo colaborador deixam de esperar por ele
+     */
+    void marcarErro(Long id, String erro);
+
+    /**
+     * Remove eventos processados há mais de {@code retencao}
+     *
+     * @return quantidade de eventos removidos
+     */
+    int removerProcessados(Duration retencao);
+
+    record EventoPendente(Long id, ColaboradorEvent evento, int tentativas) {
+    }
+}
@@ -1,20 +1,68 @@
 package com.peopleflow.pessoascontratos.core.ports.output;
 
+import com.peopleflow.pessoascontratos.core.domain.CampoColaborador;
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
+import com.peopleflow.pessoascontratos.core.domain.TransicaoStatus;
+import com.peopleflow.common.pagination.CursorPagedResult;
+import com.peopleflow.common.pagination.CursorPagination;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorExportacao;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import com.peopleflow.pessoascontratos.core.query.VinculoAcesso;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ColaboradorRepositoryPort {
     Colaborador salvar(Colaborador colaborador);
+
+    /** Insere novos colaboradores em lote; retorna-os com ID, na mesma ordem */
+    List<Colaborador> salvarEmLote(List<Colaborador> colaboradores);
+
+    /**
+     * UPDATE apenas das colunas de {@code campos}, condicionado à versão de {@code colaborador};
+     * devolve a nova versão, ou vazio se o registro foi alterado desde a leitura
+     */
+    Optional<Long> atualizarCampos(Colaborador colaborador, Set<CampoColaborador> campos);
+
+    /**
+     * Aplica a transição em um único UPDATE ... RETURNING, sem leitura prévia.
+     * {@code empresaId} não nulo restringe à empresa; vazio se nenhuma linha atendeu às pré-condições.
+     */
+    Optional<Colaborador> alterarStatus(Long id, TransicaoStatus transicao, Long empresaId);
     Optional<Colaborador> buscarPorId(Long id);
+
+    /** Consulta indexada de COLABORADOR.KEYCLOAK_USER_ID, sem carregar o colaborador. */
+    Optional<String> buscarKeycloakUserIdPorId(Long id);
+
+    /** Keyset por ID sobre colaboradores com KEYCLOAK_USER_ID preenchido, incluindo excluídos */
+    List<VinculoAcesso> listarVinculosAcesso(Long aposId, int limite);
+
+    List<VinculoAcesso> buscarVinculosAcesso(Collection<String> keycloakUserIds, Collection<Long> colaboradorIds);
     PagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, Pagination pagination);
+    CursorPagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, CursorPagination pagination);
+
+    /** Busca textual ranqueada por nome (sem acentos), email ou CPF; {@code empresaId} nulo = todas */
+    List<Colaborador> buscarPorTermo(String termo, Long empresaId, int limite);
+
+    /** Lê o resultado do filtro com cursor no banco, ordenado por ID, uma linha por vez */
+    void percorrerParaExportacao(ColaboradorFilter filter, Consumer<ColaboradorExportacao> consumidor);
     
     boolean existePorCpf(String cpf);
     boolean existePorEmail(String email);
     boolean existePorMatricula(String matricula, Long empresaId);
+
+    /**
+     * Verifica de uma só vez quais CPFs, emails e matrículas (por empresa) já estão
+     * em uso por colaboradores não excluídos.
+     */
+    ChavesExistentes buscarChavesExistentes(Collection<String> cpfs,
+                                            Collection<String> emails,
+                                            Collection<MatriculaEmpresa> matriculas);
     
     boolean existePorCpfExcluindoId(String cpf, Long id);
     boolean existePorEmailExcluindoId(String email, Long id);
@@ -22,5 +70,10 @@ public interface ColaboradorRepositoryPort {
 
     /** Colaborador não excluído logicamente nem soft-delete por excluidoEm. */
     boolean existeNaoExcluidoPorEmpresaId(Long empresaId);
-}
 
+    record MatriculaEmpresa(Long empresaId, String matricula) {
+    }
+
+    record ChavesExistentes(Set<String> cpfs, Set<String> emails, Set<MatriculaEmpresa> matriculas) {
+    }
+}
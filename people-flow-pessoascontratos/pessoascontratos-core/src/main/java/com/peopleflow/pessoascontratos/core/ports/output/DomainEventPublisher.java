@@ -2,6 +2,8 @@ package com.peopleflow.pessoascontratos.core.ports.output;
 
 import com.peopleflow.pessoascontratos.core.domain.events.ColaboradorEvent;
 
+import java.util.List;
+
 /**
  * Port para publicação de eventos de domínio
  * 
@@ -17,5 +19,14 @@ public interface DomainEventPublisher {
      * @param event Evento a ser publicado
      */
     void publish(ColaboradorEvent event);
+
+    /**
+     * Publica vários eventos de domínio, na ordem recebida
+     *
+     * @param events Eventos a serem publicados
+     */
+    default void publishAll(List<? extends ColaboradorEvent> events) {
+        events.forEach(this::publish);
+    }
 }
 
@@ -0,0 +1,62 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador;
+import com.peopleflow.pessoascontratos.core.valueobject.TipoEventoESocial;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port das gerações de eventos eSocial (GERACAO_ESOCIAL, EVENTO_ESOCIAL e PAYLOAD_ESOCIAL)
+ */
+public interface EventoESocialRepositoryPort {
+
+    /**
+     * Cria uma geração por empregador com itens na execução (as já existentes são mantidas
+     * e as com erro voltam a gerar)
+     *
+     * @return gerações ainda não concluídas da execução
+     */
+    List<Long> planejarGeracoes(Long execucaoId, TipoEventoESocial tipo);
+
+    /**
+     * Nomes dos empregadores com itens na execução e sem CNPJ
+     */
+    List<String> empregadoresSemInscricao(Long execucaoId);
+
+    /**
+     * Trabalhadores com itens na execução e sem CPF (ficam fora dos eventos)
+     */
+    long trabalhadoresSemCpf(Long execucaoId);
+
+    /**
+     * Reserva a geração até o fim da transação corrente (SKIP LOCKED)
+     *
+     * @return vazio se já foi concluída ou está reservada por outro worker
+     */
+    Optional<GeracaoESocial> reivindicar(Long geracaoId);
+
+    /**
+     * Próximos {@code limite} trabalhadores após o checkpoint da geração, com seus itens
+     */
+    List<RemuneracaoTrabalhador> remuneracoes(GeracaoESocial geracao, int limite);
+
+    void gravarEventos(GeracaoESocial geracao, int lote, String versaoLeiaute, List<EventoGerado> eventos);
+
+    void salvar(GeracaoESocial geracao);
+
+    /**
+     * Incrementa as tentativas da geração; ao atingir {@code maxTentativas} ela fica com erro
+     *
+     * @return true se a geração foi marcada com erro
+     */
+    boolean registrarFalha(Long geracaoId, String erro, int maxTentativas);
+
+    List<GeracaoESocial> listarPorExecucao(Long execucaoId);
+
+    List<Long> geracoesPendentes();
+
+    record EventoGerado(Long colaboradorId, String idEvento, String xml) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.ContratoFolha;
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.domain.ItemFolha;
+import com.peopleflow.pessoascontratos.core.domain.RegraRubrica;
+import com.peopleflow.pessoascontratos.core.query.ProgressoFolha;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port das execuções da folha (FOLHA_EXECUCAO, FOLHA_EXECUCAO_LOTE e FOLHA_ITEM)
+ */
+public interface FolhaExecucaoRepositoryPort {
+
+    FolhaExecucao salvar(FolhaExecucao execucao);
+
+    Optional<FolhaExecucao> buscarPorId(Long id);
+
+    boolean existeCompetencia(YearMonth competencia);
+
+    /**
+     * Divide os contratos vigentes na competência em lotes de até {@code tamanhoLote}
+     * IDs consecutivos (keyset por ID). Não faz nada se a execução já tem lotes.
+     *
+     * @return quantidade de lotes criados
+     */
+    int planejarLotes(Long execucaoId, YearMonth competencia, int tamanhoLote);
+
+    /**
+     * Rubricas com cálculo automático
+     */
+    List<RegraRubrica> rubricasAutomaticas();
+
+    /**
+     * Reserva o próximo lote pendente até o fim da transação corrente (SKIP LOCKED:
+     * workers e nós diferentes nunca pegam o mesmo lote)
+     */
+    Optional<LoteFolha> reivindicarLote(Long execucaoId);
+
+    List<ContratoFolha> contratosDoLote(LoteFolha lote, YearMonth competencia);
+
+    void gravarItens(Long execucaoId, List<ItemFolha> itens);
+
+    void concluirLote(LoteFolha lote, int contratos, int itens, long duracaoMs);
+
+    /**
+     * Soma uma tentativa ao lote; ao chegar a {@code maxTentativas} ele fica com status de erro
+     *
+     * @return true se o lote foi marcado com erro
+     */
+    boolean registrarFalhaLote(Long execucaoId, int lote, String erro, int maxTentativas);
+
+    /**
+     * Devolve à fila os lotes com erro da execução, zerando as tentativas
+     *
+     * @return quantidade de lotes reabertos
+     */
+    int reabrirLotesComErro(Long execucaoId);
+
+    ProgressoFolha progresso(Long execucaoId);
+
+    List<Long> execucoesEmCalculo();
+
+    record LoteFolha(Long execucaoId, int lote, Long contratoIdInicio, Long contratoIdFim) {
+    }
+}
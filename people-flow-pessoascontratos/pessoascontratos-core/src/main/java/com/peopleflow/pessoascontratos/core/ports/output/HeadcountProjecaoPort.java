@@ -0,0 +1,30 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.query.HeadcountUnidade;
+
+import java.util.List;
+
+/**
+ * Port da projeção de headcount
+ *
+ * A projeção guarda, por colaborador ativo, a unidade em que ele está contado e,
+ * por unidade, o total de ativos. Sincronizar um colaborador compara o estado
+ * atual dele com o registrado e aplica apenas a diferença (-1 / +1), então
+ * reaplicar o mesmo evento não altera os totais.
+ */
+public interface HeadcountProjecaoPort {
+
+    /**
+     * @return true se a projeção foi alterada
+     */
+    boolean sincronizarColaborador(Long colaboradorId);
+
+    List<HeadcountUnidade> listar(Long empresaId, Long departamentoId, Long centroCustoId);
+
+    /**
+     * Compara os totais da projeção com COLABORADOR e, havendo diferença, reconstrói a projeção
+     *
+     * @return quantidade de unidades divergentes encontradas
+     */
+    int verificarEReconstruir();
+}
@@ -0,0 +1,22 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador;
+
+import java.io.Writer;
+
+/**
+ * Port de escrita do XML dos eventos no leiaute do eSocial
+ */
+public interface LeiauteESocialPort {
+
+    /**
+     * Versão do leiaute gravada em PAYLOAD_ESOCIAL.VERSAO_LAYOUT
+     */
+    String versao();
+
+    /**
+     * Escreve o evento S-1200 do trabalhador direto em {@code destino}, sem montar o documento em memória
+     */
+    void escreverS1200(GeracaoESocial geracao, RemuneracaoTrabalhador trabalhador, String idEvento, Writer destino);
+}
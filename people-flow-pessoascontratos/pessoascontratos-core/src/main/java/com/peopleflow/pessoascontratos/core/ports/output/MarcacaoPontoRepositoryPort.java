@@ -0,0 +1,22 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface MarcacaoPontoRepositoryPort {
+
+    /**
+     * Enfileira as marcações para gravação em lote; o futuro completa após o commit.
+     * Recusa na hora (BusinessException CAPACIDADE_ESGOTADA) se o buffer não comporta o lote.
+     */
+    CompletableFuture<Void> gravar(List<MarcacaoPonto> marcacoes);
+
+    /**
+     * Cria as partições mensais ainda inexistentes de {@code inicio} até {@code inicio + meses};
+     * devolve o nome das criadas
+     */
+    List<String> criarParticoes(YearMonth inicio, int meses);
+}
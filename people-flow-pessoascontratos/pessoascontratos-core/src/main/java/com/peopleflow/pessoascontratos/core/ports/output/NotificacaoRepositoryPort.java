@@ -0,0 +1,65 @@
+package com.peopleflow.pessoascontratos.core.ports.output;
+
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Port da fila de notificações (NOTIFICACAO_ENVIO) e dos templates (TEMPLATE_NOTIFICACAO)
+ */
+public interface NotificacaoRepositoryPort {
+
+    Long inserir(NovaNotificacao notificacao);
+
+    /**
+     * Enfileira, em um único INSERT ... SELECT, uma notificação do template para cada
+     * colaborador ativo do filtro (no e-mail, só quem tem e-mail)
+     *
+     * @return quantidade de notificações enfileiradas
+     */
+    int inserirCampanha(Long templateId, Long empresaId, Long departamentoId, Map<String, Object> contexto);
+
+    Optional<CanalNotificacao> canalDoTemplateAtivo(Long templateId);
+
+    /**
+     * Reivindica até {@code limite} notificações pendentes, reservando-as pelo tempo de {@code lease}
+     */
+    List<NotificacaoPendente> reivindicarLote(int limite, Duration lease);
+
+    List<TemplateNotificacao> templates(Collection<Long> ids);
+
+    /**
+     * Marca como enviadas, gravando o assunto e o corpo renderizados
+     */
+    void registrarEnvios(List<NotificacaoRenderizada> enviadas);
+
+    /**
+     * Devolve à fila com backoff exponencial, ou marca como erro se a falha é definitiva
+     * ou as tentativas acabaram
+     */
+    void registrarFalhas(List<ResultadoEnvio> falhas, int maxTentativas, Duration backoffInicial, Duration backoffMaximo);
+
+    record NotificacaoPendente(Long id,
+                               CanalNotificacao canal,
+                               Long templateId,
+                               Integer templateVersao,
+                               String usuarioId,
+                               Long colaboradorId,
+                               String nomeColaborador,
+                               String destinatario,
+                               String assunto,
+                               String corpo,
+                               Map<String, Object> contexto,
+                               int tentativas) {
+    }
+
+    record TemplateNotificacao(Long id, int versao, String assunto, String corpo) {
+    }
+}
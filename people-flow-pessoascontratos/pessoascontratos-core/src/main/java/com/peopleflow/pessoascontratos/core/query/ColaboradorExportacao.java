@@ -0,0 +1,22 @@
+package com.peopleflow.pessoascontratos.core.query;
+
+import java.time.LocalDate;
+
+/**
+ * Linha da exportação de colaboradores: valores como persistidos, sem montar o agregado
+ */
+public record ColaboradorExportacao(
+    Long id,
+    String nome,
+    String cpf,
+    String matricula,
+    String email,
+    LocalDate dataAdmissao,
+    LocalDate dataDemissao,
+    String status,
+    Long empresaId,
+    Long departamentoId,
+    Long centroCustoId,
+    Long cargoId
+) {
+}
@@ -0,0 +1,15 @@
+package com.peopleflow.pessoascontratos.core.query;
+
+/**
+ * Quantidade de colaboradores ativos em uma combinação empresa / departamento / centro de custo
+ *
+ * {@code departamentoId} e {@code centroCustoId} nulos representam colaboradores
+ * sem departamento ou sem centro de custo.
+ */
+public record HeadcountUnidade(
+    Long empresaId,
+    Long departamentoId,
+    Long centroCustoId,
+    long ativos
+) {
+}
@@ -0,0 +1,24 @@
+package com.peopleflow.pessoascontratos.core.query;
+
+/**
+ * Progresso do cálculo de uma execução da folha, somado dos lotes
+ *
+ * @param lotesComErro   lotes que esgotaram as tentativas de cálculo
+ * @param duracaoLotesMs soma do tempo de processamento dos lotes (sem contar o paralelismo)
+ */
+public record ProgressoFolha(int lotes,
+                             int lotesConcluidos,
+                             int lotesComErro,
+                             long contratos,
+                             long itens,
+                             long duracaoLotesMs) {
+
+    public boolean concluido() {
+        return lotesConcluidos >= lotes;
+    }
+
+    /** Nenhum lote pendente: todos concluídos ou com erro */
+    public boolean finalizado() {
+        return lotesConcluidos + lotesComErro >= lotes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.peopleflow.pessoascontratos.core.query;
+
+/**
+ * Situação de acesso de um colaborador: vínculo com o Keycloak e status como persistidos
+ *
+ * {@code keycloakUserId} nulo indica colaborador ainda sem usuário vinculado.
+ */
+public record VinculoAcesso(
+    Long colaboradorId,
+    String keycloakUserId,
+    String status
+) {
+
+    /** Só colaboradores ativos devem ter o usuário habilitado */
+    public boolean deveTerAcesso() {
+        return "ativo".equalsIgnoreCase(status);
+    }
+}
@@ -0,0 +1,38 @@
+package com.peopleflow.pessoascontratos.core.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+
+/**
+ * Valores persistidos em {@code NOTIFICACAO_ENVIO.CANAL} (alinhado ao {@code CHK_NE_CANAL}).
+ */
+public enum CanalNotificacao {
+
+    EMAIL("email"),
+    PUSH("push"),
+    INAPP("inapp"),
+    /** E-mails de ação enviados pelo próprio Keycloak (ex.: definir senha) */
+    KEYCLOAK("keycloak");
+
+    private final String valor;
+
+    CanalNotificacao(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public static CanalNotificacao of(String valor) {
+        if (valor == null || valor.isBlank()) {
+            throw new BusinessException("CANAL_NOTIFICACAO_OBRIGATORIO", "Canal da notificação não pode ser nulo ou vazio");
+        }
+        String s = valor.trim().toLowerCase();
+        for (CanalNotificacao canal : values()) {
+            if (canal.valor.equals(s)) {
+                return canal;
+            }
+        }
+        throw new BusinessException("CANAL_NOTIFICACAO_INVALIDO", "Canal de notificação inválido: '" + valor + "'");
+    }
+}
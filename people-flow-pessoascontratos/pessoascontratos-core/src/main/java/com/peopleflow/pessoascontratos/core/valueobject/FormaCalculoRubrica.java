@@ -0,0 +1,37 @@
+package com.peopleflow.pessoascontratos.core.valueobject;
+
+/**
+ * Forma de cálculo automático de uma rubrica ({@code RUBRICA.BASE_CALCULO->>'tipo'})
+ */
+public enum FormaCalculoRubrica {
+
+    SALARIO_BASE("salario_base"),
+    PERCENTUAL_SALARIO("percentual_salario"),
+    VALOR_FIXO("valor_fixo");
+
+    private final String valor;
+
+    FormaCalculoRubrica(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    /**
+     * @return a forma de cálculo, ou null se a rubrica não é calculada automaticamente
+     */
+    public static FormaCalculoRubrica ofNullable(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        String v = valor.trim().toLowerCase();
+        for (FormaCalculoRubrica forma : values()) {
+            if (forma.valor.equals(v)) {
+                return forma;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.peopleflow.pessoascontratos.core.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+
+public enum OrigemMarcacao {
+
+    KIOSK("kiosk"),
+    MOBILE("mobile"),
+    WEB("web"),
+    IMPORT("import"),
+    MANUAL("manual");
+
+    private final String valor;
+
+    OrigemMarcacao(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    /**
+     * @return a origem, ou null quando não informada
+     */
+    public static OrigemMarcacao of(String valor) {
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        for (OrigemMarcacao origem : values()) {
+            if (origem.valor.equalsIgnoreCase(valor.trim())) {
+                return origem;
+            }
+        }
+        throw new BusinessException(
+                "ORIGEM_MARCACAO_INVALIDA",
+                "Origem de marcação inválida: '" + valor + "'. Valores aceitos: kiosk, mobile, web, import, manual");
+    }
+}
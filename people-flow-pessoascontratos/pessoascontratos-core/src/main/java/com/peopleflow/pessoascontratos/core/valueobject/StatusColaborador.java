@@ -5,6 +5,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.util.List;
 import java.util.Objects;
 
 @Getter
@@ -39,6 +40,10 @@ public class StatusColaborador {
         };
     }
 
+    public static List<StatusColaborador> valores() {
+        return List.of(ATIVO, INATIVO, DEMITIDO, EXCLUIDO);
+    }
+
     public boolean isAtivo() {
         return this.equals(ATIVO);
     }
@@ -0,0 +1,40 @@
+package com.peopleflow.pessoascontratos.core.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+
+/**
+ * Valores persistidos em {@code FOLHA_EXECUCAO.STATUS} (alinhado ao {@code CHK_FE_STATUS}).
+ */
+public enum StatusFolha {
+
+    ABERTA("aberta"),
+    EM_CALCULO("em_calculo"),
+    ERRO_CALCULO("erro_calculo"),
+    CALCULADA("calculada"),
+    EM_APROVACAO("em_aprovacao"),
+    APROVADA("aprovada"),
+    FECHADA("fechada");
+
+    private final String valor;
+
+    StatusFolha(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public static StatusFolha of(String valor) {
+        if (valor == null || valor.isBlank()) {
+            throw new BusinessException("STATUS_FOLHA_OBRIGATORIO", "Status da folha não pode ser nulo ou vazio");
+        }
+        String s = valor.trim().toLowerCase();
+        for (StatusFolha status : values()) {
+            if (status.valor.equals(s)) {
+                return status;
+            }
+        }
+        throw new BusinessException("STATUS_FOLHA_INVALIDO", "Status de folha inválido: '" + valor + "'");
+    }
+}
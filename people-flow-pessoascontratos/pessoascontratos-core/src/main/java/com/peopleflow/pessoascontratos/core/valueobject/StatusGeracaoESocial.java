@@ -0,0 +1,36 @@
+package com.peopleflow.pessoascontratos.core.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+
+/**
+ * Valores persistidos em {@code GERACAO_ESOCIAL.STATUS} (alinhado ao {@code CHK_GESOCIAL_STATUS}).
+ */
+public enum StatusGeracaoESocial {
+
+    GERANDO("gerando"),
+    GERADO("gerado"),
+    ERRO("erro");
+
+    private final String valor;
+
+    StatusGeracaoESocial(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public static StatusGeracaoESocial of(String valor) {
+        if (valor == null || valor.isBlank()) {
+            throw new BusinessException("STATUS_GERACAO_ESOCIAL_OBRIGATORIO", "Status da geração eSocial não pode ser nulo ou vazio");
+        }
+        String s = valor.trim().toLowerCase();
+        for (StatusGeracaoESocial status : values()) {
+            if (status.valor.equals(s)) {
+                return status;
+            }
+        }
+        throw new BusinessException("STATUS_GERACAO_ESOCIAL_INVALIDO", "Status de geração eSocial inválido: '" + valor + "'");
+    }
+}
@@ -0,0 +1,34 @@
+package com.peopleflow.pessoascontratos.core.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+
+/**
+ * Eventos eSocial gerados pelo sistema (valor persistido em {@code EVENTO_ESOCIAL.TIPO})
+ */
+public enum TipoEventoESocial {
+
+    S1200("S-1200");
+
+    private final String valor;
+
+    TipoEventoESocial(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    public static TipoEventoESocial of(String valor) {
+        if (valor == null || valor.isBlank()) {
+            throw new BusinessException("TIPO_EVENTO_ESOCIAL_OBRIGATORIO", "Tipo do evento eSocial não pode ser nulo ou vazio");
+        }
+        String s = valor.trim().toUpperCase();
+        for (TipoEventoESocial tipo : values()) {
+            if (tipo.valor.equals(s)) {
+                return tipo;
+            }
+        }
+        throw new BusinessException("TIPO_EVENTO_ESOCIAL_INVALIDO", "Tipo de evento eSocial inválido: '" + valor + "'");
+    }
+}
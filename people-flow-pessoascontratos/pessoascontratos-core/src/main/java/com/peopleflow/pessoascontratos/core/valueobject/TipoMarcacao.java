@@ -0,0 +1,43 @@
+package com.peopleflow.pessoascontratos.core.valueobject;
+
+import com.peopleflow.common.exception.BusinessException;
+
+public enum TipoMarcacao {
+
+    ENTRADA("entrada"),
+    SAIDA("saida"),
+    ENTRADA_INTERVALO("entrada_intervalo"),
+    SAIDA_INTERVALO("saida_intervalo");
+
+    private final String valor;
+
+    TipoMarcacao(String valor) {
+        this.valor = valor;
+    }
+
+    public String getValor() {
+        return valor;
+    }
+
+    /**
+     * Marcações que abrem um período de trabalho (entrada e retorno do intervalo);
+     * as demais o encerram
+     */
+    public boolean iniciaTrabalho() {
+        return this == ENTRADA || this == SAIDA_INTERVALO;
+    }
+
+    public static TipoMarcacao of(String valor) {
+        if (valor == null) {
+            throw new BusinessException("TIPO_MARCACAO_OBRIGATORIO", "Tipo da marcação não pode ser nulo");
+        }
+        for (TipoMarcacao tipo : values()) {
+            if (tipo.valor.equalsIgnoreCase(valor.trim())) {
+                return tipo;
+            }
+        }
+        throw new BusinessException(
+                "TIPO_MARCACAO_INVALIDO",
+                "Tipo de marcação inválido: '" + valor + "'. Valores aceitos: entrada, saida, entrada_intervalo, saida_intervalo");
+    }
+}
@@ -0,0 +1,112 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.pessoascontratos.core.valueobject.TipoMarcacao;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApuracaoDia - Testes Unitários")
+class ApuracaoDiaTest {
+
+    // Segunda-feira
+    private static final LocalDate DIA = LocalDate.of(2026, 10, 12);
+
+    private static final JornadaTrabalho JORNADA_40H = JornadaTrabalho.nova("Comercial", new BigDecimal("40"));
+
+    @Test
+    @DisplayName("Deve somar os pares de marcações fora de ordem")
+    void deveSomarParesDeMarcacoes() {
+        // Arrange
+        List<MarcacaoPonto> marcacoes = List.of(
+                marcacao("2026-10-12T16:00:00Z", TipoMarcacao.SAIDA_INTERVALO),
+                marcacao("2026-10-12T12:00:00Z", TipoMarcacao.ENTRADA),
+                marcacao("2026-10-12T21:00:00Z", TipoMarcacao.SAIDA),
+                marcacao("2026-10-12T15:00:00Z", TipoMarcacao.ENTRADA_INTERVALO));
+
+        // Act
+        ApuracaoDia apuracao = ApuracaoDia.apurar(1L, DIA, marcacoes, JORNADA_40H);
+
+        // Assert
+        assertThat(apuracao.horasTrabalhadas()).isEqualByComparingTo("8.00");
+        assertThat(apuracao.horasPrevistas()).isEqualByComparingTo("8.00");
+        assertThat(apuracao.marcacoesIncompletas()).isFalse();
+        assertThat(apuracao.saldoDia()).isEqualByComparingTo("0");
+        assertThat(apuracao.horasExtras()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Deve marcar o dia como incompleto quando falta o encerramento")
+    void deveMarcarIncompletoSemEncerramento() {
+        // Arrange
+        List<MarcacaoPonto> marcacoes = List.of(
+                marcacao("2026-10-12T12:00:00Z", TipoMarcacao.ENTRADA),
+                marcacao("2026-10-12T15:00:00Z", TipoMarcacao.ENTRADA_INTERVALO),
+                marcacao("2026-10-12T16:00:00Z", TipoMarcacao.SAIDA_INTERVALO));
+
+        // Act
+        ApuracaoDia apuracao = ApuracaoDia.apurar(1L, DIA, marcacoes, JORNADA_40H);
+
+        // Assert
+        assertThat(apuracao.horasTrabalhadas()).isEqualByComparingTo("3.00");
+        assertThat(apuracao.marcacoesIncompletas()).isTrue();
+        assertThat(apuracao.saldoDia()).isEqualByComparingTo("-5.00");
+        assertThat(apuracao.horasExtras()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Deve marcar o dia como incompleto quando o encerramento vem sem abertura")
+    void deveMarcarIncompletoSemAbertura() {
+        // Act
+        ApuracaoDia apuracao = ApuracaoDia.apurar(1L, DIA,
+                List.of(marcacao("2026-10-12T21:00:00Z", TipoMarcacao.SAIDA)), JORNADA_40H);
+
+        // Assert
+        assertThat(apuracao.horasTrabalhadas()).isEqualByComparingTo("0");
+        assertThat(apuracao.marcacoesIncompletas()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve arredondar as horas para duas casas")
+    void deveArredondarHoras() {
+        // Arrange: 7h50min
+        List<MarcacaoPonto> marcacoes = List.of(
+                marcacao("2026-10-12T12:00:00Z", TipoMarcacao.ENTRADA),
+                marcacao("2026-10-12T19:50:00Z", TipoMarcacao.SAIDA));
+
+        // Act
+        ApuracaoDia apuracao = ApuracaoDia.apurar(1L, DIA, marcacoes, JORNADA_40H);
+
+        // Assert
+        assertThat(apuracao.horasTrabalhadas()).isEqualByComparingTo("7.83");
+        assertThat(apuracao.saldoDia()).isEqualByComparingTo("-0.17");
+    }
+
+    @Test
+    @DisplayName("Deve contar tudo como extra no fim de semana ou sem jornada")
+    void deveContarExtrasSemHorasPrevistas() {
+        // Arrange
+        List<MarcacaoPonto> marcacoes = List.of(
+                marcacao("2026-10-17T12:00:00Z", TipoMarcacao.ENTRADA),
+                marcacao("2026-10-17T16:00:00Z", TipoMarcacao.SAIDA));
+
+        // Act
+        ApuracaoDia sabado = ApuracaoDia.apurar(1L, LocalDate.of(2026, 10, 17), marcacoes, JORNADA_40H);
+        ApuracaoDia semJornada = ApuracaoDia.apurar(1L, DIA, marcacoes, null);
+
+        // Assert
+        assertThat(sabado.horasPrevistas()).isEqualByComparingTo("0");
+        assertThat(sabado.horasExtras()).isEqualByComparingTo("4.00");
+        assertThat(semJornada.horasPrevistas()).isEqualByComparingTo("0");
+        assertThat(semJornada.saldoDia()).isEqualByComparingTo("4.00");
+    }
+
+    private static MarcacaoPonto marcacao(String dataHora, TipoMarcacao tipo) {
+        return new MarcacaoPonto(1L, Instant.parse(dataHora), tipo, null, null, null);
+    }
+}
@@ -0,0 +1,68 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.common.valueobject.Cpf;
+import com.peopleflow.common.valueobject.Email;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CampoColaborador - Testes Unitários")
+class CampoColaboradorTest {
+
+    private final Colaborador original = Colaborador.builder()
+            .id(1L)
+            .nome("Maria Silva")
+            .cpf(new Cpf("52998224725"))
+            .email(new Email("maria@example.com"))
+            .matricula("M001")
+            .dataAdmissao(LocalDate.of(2024, 3, 1))
+            .empresaId(10L)
+            .departamentoId(20L)
+            .cargoId(30L)
+            .build();
+
+    @Test
+    @DisplayName("Deve retornar vazio quando nada mudou")
+    void deveRetornarVazioSemAlteracoes() {
+        Colaborador atualizado = original.toBuilder().build();
+
+        assertThat(CampoColaborador.alterados(original, atualizado)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve comparar value objects por valor")
+    void deveCompararValueObjectsPorValor() {
+        Colaborador atualizado = original.toBuilder()
+                .cpf(new Cpf("529.982.247-25"))
+                .email(new Email("maria@example.com"))
+                .build();
+
+        assertThat(CampoColaborador.alterados(original, atualizado)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar os campos alterados, incluindo valores removidos")
+    void deveRetornarCamposAlterados() {
+        // Arrange
+        Colaborador atualizado = original.atualizar("Maria Souza", original.getCpf(), original.getEmail(),
+                "M001", original.getDataAdmissao(), original.getEmpresaId(), 21L, 40L, null);
+
+        // Act & Assert
+        assertThat(CampoColaborador.alterados(original, atualizado)).containsExactlyInAnyOrder(
+                CampoColaborador.NOME,
+                CampoColaborador.DEPARTAMENTO_ID,
+                CampoColaborador.CENTRO_CUSTO_ID,
+                CampoColaborador.CARGO_ID);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar campos fora da atualização cadastral")
+    void deveIgnorarCamposForaDaAtualizacao() {
+        Colaborador atualizado = original.toBuilder().empresaId(11L).keycloakUserId("user-1").build().inativar();
+
+        assertThat(CampoColaborador.alterados(original, atualizado)).isEmpty();
+    }
+}
@@ -0,0 +1,88 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.pessoascontratos.core.valueobject.FormaCalculoRubrica;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContratoFolha - Testes Unitários")
+class ContratoFolhaTest {
+
+    private static final YearMonth OUTUBRO = YearMonth.of(2026, 10);
+    private static final YearMonth FEVEREIRO = YearMonth.of(2026, 2);
+
+    @Test
+    @DisplayName("Deve contar 30 dias quando o contrato cobre o mês inteiro")
+    void deveContarMesInteiro() {
+        assertThat(contrato(LocalDate.of(2025, 1, 1), null).diasVigentes(OUTUBRO)).isEqualTo(30);
+        assertThat(contrato(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28)).diasVigentes(FEVEREIRO))
+                .isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Deve contar os dias corridos na admissão e no desligamento")
+    void deveContarDiasCorridos() {
+        assertThat(contrato(LocalDate.of(2026, 10, 22), null).diasVigentes(OUTUBRO)).isEqualTo(10);
+        assertThat(contrato(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 10, 15)).diasVigentes(OUTUBRO))
+                .isEqualTo(15);
+        assertThat(contrato(LocalDate.of(2026, 10, 5), LocalDate.of(2026, 10, 9)).diasVigentes(OUTUBRO))
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a 30 dias e não contar dias fora da vigência")
+    void deveLimitarDiasVigentes() {
+        // Admissão em 2/10: 30 dias corridos em um mês de 31
+        assertThat(contrato(LocalDate.of(2026, 10, 2), null).diasVigentes(OUTUBRO)).isEqualTo(30);
+        assertThat(contrato(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 9, 30)).diasVigentes(OUTUBRO))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Deve calcular salário, percentual e valor fixo proporcionais aos dias")
+    void deveCalcularItensProporcionais() {
+        // Arrange: 10 dias em outubro
+        ContratoFolha contrato = contrato(LocalDate.of(2026, 10, 22), null);
+        List<RegraRubrica> regras = List.of(
+                new RegraRubrica(1L, "001", FormaCalculoRubrica.SALARIO_BASE, null, null),
+                new RegraRubrica(2L, "002", FormaCalculoRubrica.PERCENTUAL_SALARIO, new BigDecimal("10"), null),
+                new RegraRubrica(3L, "003", FormaCalculoRubrica.VALOR_FIXO, null, new BigDecimal("150")));
+
+        // Act
+        List<ItemFolha> itens = contrato.calcular(OUTUBRO, regras);
+
+        // Assert
+        assertThat(itens).containsExactly(
+                new ItemFolha(100L, 1L, BigDecimal.valueOf(10), new BigDecimal("1000.00")),
+                new ItemFolha(100L, 2L, new BigDecimal("10"), new BigDecimal("100.00")),
+                new ItemFolha(100L, 3L, BigDecimal.ONE, new BigDecimal("150.00")));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar regras sem valor e itens zerados")
+    void deveIgnorarItensSemValor() {
+        // Arrange
+        ContratoFolha contrato = contrato(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 9, 30));
+        List<RegraRubrica> regras = List.of(
+                new RegraRubrica(1L, "001", FormaCalculoRubrica.SALARIO_BASE, null, null),
+                new RegraRubrica(2L, "002", FormaCalculoRubrica.PERCENTUAL_SALARIO, null, null),
+                new RegraRubrica(3L, "003", FormaCalculoRubrica.VALOR_FIXO, null, null),
+                new RegraRubrica(4L, "004", FormaCalculoRubrica.VALOR_FIXO, null, BigDecimal.ZERO));
+
+        // Act
+        List<ItemFolha> itens = contrato.calcular(OUTUBRO, regras);
+
+        // Assert
+        assertThat(itens).isEmpty();
+    }
+
+    private static ContratoFolha contrato(LocalDate inicio, LocalDate fim) {
+        return new ContratoFolha(10L, 100L, new BigDecimal("3000.00"), inicio, fim);
+    }
+}
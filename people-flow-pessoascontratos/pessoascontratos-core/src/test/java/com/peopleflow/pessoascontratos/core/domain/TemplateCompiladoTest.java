@@ -0,0 +1,55 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TemplateCompilado - Testes Unitários")
+class TemplateCompiladoTest {
+
+    @Test
+    @DisplayName("Deve substituir as variáveis no assunto e no corpo")
+    void deveSubstituirVariaveis() {
+        // Arrange
+        TemplateCompilado template = TemplateCompilado.compilar(1L, 2,
+                "Bem-vindo, {{nome}}", "Olá {{ nome }}, sua matrícula é {{matricula}}.");
+
+        // Act
+        String assunto = template.renderizarAssunto(Map.of("nome", "Maria"));
+        String corpo = template.renderizarCorpo(Map.of("nome", "Maria", "matricula", 123));
+
+        // Assert
+        assertThat(assunto).isEqualTo("Bem-vindo, Maria");
+        assertThat(corpo).isEqualTo("Olá Maria, sua matrícula é 123.");
+        assertThat(template.getId()).isEqualTo(1L);
+        assertThat(template.getVersao()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve renderizar vazia a variável ausente no contexto")
+    void deveRenderizarVariavelAusenteVazia() {
+        TemplateCompilado template = TemplateCompilado.compilar(1L, 1, null, "[{{nome}}]{{cargo}}");
+
+        assertThat(template.renderizarCorpo(Map.of())).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Deve manter como texto um marcador sem fechamento")
+    void deveManterMarcadorSemFechamento() {
+        TemplateCompilado template = TemplateCompilado.compilar(1L, 1, null, "Oi {{nome}}, {{sem fim");
+
+        assertThat(template.renderizarCorpo(Map.of("nome", "Ana"))).isEqualTo("Oi Ana, {{sem fim");
+    }
+
+    @Test
+    @DisplayName("Deve devolver assunto nulo quando o template não tem assunto")
+    void deveDevolverAssuntoNulo() {
+        TemplateCompilado template = TemplateCompilado.compilar(1L, 1, null, "");
+
+        assertThat(template.renderizarAssunto(Map.of())).isNull();
+        assertThat(template.renderizarCorpo(Map.of())).isEmpty();
+    }
+}
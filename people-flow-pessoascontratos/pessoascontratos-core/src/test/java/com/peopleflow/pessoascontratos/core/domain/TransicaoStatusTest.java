@@ -0,0 +1,72 @@
+package com.peopleflow.pessoascontratos.core.domain;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusColaborador;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransicaoStatus - Testes Unitários")
+class TransicaoStatusTest {
+
+    private static final LocalDate DATA_DEMISSAO = LocalDate.of(2026, 10, 18);
+
+    @Test
+    @DisplayName("Deve permitir as mesmas origens que o domínio")
+    void devePermitirAsMesmasOrigensQueODominio() {
+        assertMesmasOrigens(TransicaoStatus.demissao(DATA_DEMISSAO), c -> c.demitir(DATA_DEMISSAO));
+        assertMesmasOrigens(TransicaoStatus.ativacao(), Colaborador::ativar);
+        assertMesmasOrigens(TransicaoStatus.inativacao(), Colaborador::inativar);
+        assertMesmasOrigens(TransicaoStatus.exclusao(), Colaborador::excluir);
+    }
+
+    @Test
+    @DisplayName("Deve derivar as origens de cada transição")
+    void deveDerivarOrigens() {
+        assertThat(TransicaoStatus.demissao(DATA_DEMISSAO).origens()).containsExactlyInAnyOrder(
+                StatusColaborador.ATIVO, StatusColaborador.INATIVO, StatusColaborador.EXCLUIDO);
+        assertThat(TransicaoStatus.ativacao().origens()).containsExactlyInAnyOrder(
+                StatusColaborador.ATIVO, StatusColaborador.INATIVO, StatusColaborador.DEMITIDO);
+        assertThat(TransicaoStatus.inativacao().origens()).containsExactlyInAnyOrderElementsOf(
+                StatusColaborador.valores());
+        assertThat(TransicaoStatus.exclusao().origens()).containsExactlyInAnyOrder(
+                StatusColaborador.ATIVO, StatusColaborador.INATIVO, StatusColaborador.DEMITIDO);
+    }
+
+    @Test
+    @DisplayName("Deve preencher destino e datas da transição")
+    void devePreencherDestinoEDatas() {
+        TransicaoStatus demissao = TransicaoStatus.demissao(DATA_DEMISSAO);
+        TransicaoStatus ativacao = TransicaoStatus.ativacao();
+
+        assertThat(demissao.destino()).isEqualTo(StatusColaborador.DEMITIDO);
+        assertThat(demissao.dataDemissao()).isEqualTo(DATA_DEMISSAO);
+        assertThat(demissao.limparDataDemissao()).isFalse();
+        assertThat(ativacao.destino()).isEqualTo(StatusColaborador.ATIVO);
+        assertThat(ativacao.limparDataDemissao()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve exigir data de demissão")
+    void deveExigirDataDemissao() {
+        assertThatThrownBy(() -> TransicaoStatus.demissao(null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Data de demissão é obrigatória");
+    }
+
+    private static void assertMesmasOrigens(TransicaoStatus transicao, UnaryOperator<Colaborador> dominio) {
+        for (StatusColaborador status : StatusColaborador.valores()) {
+            Colaborador colaborador = Colaborador.builder().status(status).build();
+            if (transicao.origens().contains(status)) {
+                assertThat(dominio.apply(colaborador).getStatus()).isEqualTo(transicao.destino());
+            } else {
+                assertThatThrownBy(() -> dominio.apply(colaborador)).isInstanceOf(BusinessException.class);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.peopleflow.pessoascontratos.inbound.adapter;
+
+import com.peopleflow.pessoascontratos.core.domain.events.ColaboradorEvent;
+import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorEventOutboxPort;
+import com.peopleflow.pessoascontratos.core.ports.output.DomainEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adaptador que implementa DomainEventPublisher gravando no outbox transacional
+ * 
+ * O evento é persistido na mesma transação da escrita do colaborador e só chega
+ * aos listeners do Spring pelo {@code ColaboradorOutboxRelay}, depois do commit.
+ * Assim, picos de admissão não ocupam as threads da requisição nem perdem eventos
+ * quando o pool assíncrono está cheio.
+ */
+@Component
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+    
+    private final ColaboradorEventOutboxPort outbox;
+    
+    public OutboxDomainEventPublisher(ColaboradorEventOutboxPort outbox) {
+        this.outbox = outbox;
+    }
+    
+    @Override
+    public void publish(ColaboradorEvent event) {
+        outbox.registrar(event);
+    }
+
+    @Override
+    public void publishAll(List<? extends ColaboradorEvent> events) {
+        outbox.registrarTodos(events);
+    }
+}
@@ -0,0 +1,61 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.pessoascontratos.core.application.CalculoPontoService;
+import com.peopleflow.pessoascontratos.core.ports.input.CalculoPontoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+@Configuration
+public class CalculoPontoConfig {
+
+    @Bean
+    public CalculoPontoUseCase calculoPontoUseCase(
+            CalculoPontoRepositoryPort calculoRepository,
+            AccessValidatorPort accessValidator,
+            @Value("${app.ponto.calculo.fuso:America/Sao_Paulo}") ZoneId fuso,
+            @Value("${app.ponto.calculo.max-tentativas:5}") int maxTentativas) {
+        CalculoPontoService service = new CalculoPontoService(calculoRepository, accessValidator, fuso,
+                maxTentativas);
+        return new TransactionalCalculoPontoUseCase(service);
+    }
+
+    private static class TransactionalCalculoPontoUseCase implements CalculoPontoUseCase {
+        private final CalculoPontoService delegate;
+
+        public TransactionalCalculoPontoUseCase(CalculoPontoService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public List<Long> colaboradoresPendentes(int limite) {
+            return delegate.colaboradoresPendentes(limite);
+        }
+
+        @Override
+        @Transactional
+        public int recalcular(List<Long> colaboradorIds) {
+            return delegate.recalcular(colaboradorIds);
+        }
+
+        @Override
+        @Transactional
+        public boolean registrarFalha(Long colaboradorId, String erro) {
+            return delegate.registrarFalha(colaboradorId, erro);
+        }
+
+        @Override
+        @Transactional
+        public int fecharMes(YearMonth competencia, Long empresaId) {
+            return delegate.fecharMes(competencia, empresaId);
+        }
+    }
+}
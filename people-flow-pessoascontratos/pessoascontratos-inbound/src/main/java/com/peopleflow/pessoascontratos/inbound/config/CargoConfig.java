@@ -2,13 +2,12 @@ package com.peopleflow.pessoascontratos.inbound.config;
 
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.application.CargoService;
 import com.peopleflow.pessoascontratos.core.domain.Cargo;
 import com.peopleflow.pessoascontratos.core.query.CargoFilter;
 import com.peopleflow.pessoascontratos.core.ports.input.CargoUseCase;
 import com.peopleflow.pessoascontratos.core.ports.output.CargoRepositoryPort;
-import com.peopleflow.pessoascontratos.core.ports.output.FamiliaCargoRepositoryPort;
-import com.peopleflow.pessoascontratos.core.ports.output.NivelHierarquicoRepositoryPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,9 +18,8 @@ public class CargoConfig {
     @Bean
     public CargoUseCase cargoUseCase(
             CargoRepositoryPort cargoRepository,
-            NivelHierarquicoRepositoryPort nivelHierarquicoRepository,
-            FamiliaCargoRepositoryPort familiaCargoRepository) {
-        CargoService service = new CargoService(cargoRepository, nivelHierarquicoRepository, familiaCargoRepository);
+            ReferenciaValidatorPort referenciaValidator) {
+        CargoService service = new CargoService(cargoRepository, referenciaValidator);
         return new TransactionalCargoUseCase(service);
     }
 
@@ -1,31 +1,43 @@
 package com.peopleflow.pessoascontratos.inbound.config;
 
+import com.peopleflow.common.pagination.CursorPagedResult;
+import com.peopleflow.common.pagination.CursorPagination;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.application.ColaboradorService;
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
 import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase;
 import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorRepositoryPort;
 import com.peopleflow.pessoascontratos.core.ports.output.DomainEventPublisher;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorExportacao;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import com.peopleflow.pessoascontratos.core.query.VinculoAcesso;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Configuration
 @EnableTransactionManagement
+@EnableConfigurationProperties(ExportacaoProperties.class)
 public class ColaboradorConfig {
     
     @Bean
     public ColaboradorUseCase colaboradorUseCase(
             ColaboradorRepositoryPort repository,
             DomainEventPublisher eventPublisher,
-            AccessValidatorPort accessValidator) {
-        ColaboradorService service = new ColaboradorService(repository, eventPublisher, accessValidator);
+            AccessValidatorPort accessValidator,
+            ReferenciaValidatorPort referenciaValidator) {
+        ColaboradorService service = new ColaboradorService(repository, eventPublisher, accessValidator, referenciaValidator);
         return new TransactionalColaboradorUseCase(service);
     }
 
@@ -47,6 +59,12 @@ public class ColaboradorConfig {
         public Colaborador criar(Colaborador colaborador, boolean requerAcessoSistema) {
             return delegate.criar(colaborador, requerAcessoSistema);
         }
+
+        @Override
+        @Transactional
+        public List<ResultadoAdmissao> admitirEmLote(List<NovaAdmissao> admissoes) {
+            return delegate.admitirEmLote(admissoes);
+        }
         
         @Override
         @Transactional(readOnly = true)
@@ -59,12 +77,36 @@ public class ColaboradorConfig {
         public PagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, Pagination pagination) {
             return delegate.buscarPorFiltros(filter, pagination);
         }
+
+        @Override
+        @Transactional(readOnly = true)
+        public CursorPagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, CursorPagination pagination) {
+            return delegate.buscarPorFiltros(filter, pagination);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public void exportar(ColaboradorFilter filter, Consumer<ColaboradorExportacao> consumidor) {
+            delegate.exportar(filter, consumidor);
+        }
         
+        @Override
+        @Transactional(readOnly = true)
+        public List<Colaborador> pesquisar(String termo, int limite) {
+            return delegate.pesquisar(termo, limite);
+        }
+
         @Override
         @Transactional
         public Colaborador atualizar(Long id, Colaborador colaborador) {
             return delegate.atualizar(id, colaborador);
         }
+
+        @Override
+        @Transactional
+        public Colaborador atualizarParcialmente(Long id, AlteracaoColaborador alteracao) {
+            return delegate.atualizarParcialmente(id, alteracao);
+        }
         
         @Override
         @Transactional
@@ -108,5 +150,24 @@ public class ColaboradorConfig {
         public Colaborador vincularAcessoSistema(Long colaboradorId, String keycloakUserId) {
             return delegate.vincularAcessoSistema(colaboradorId, keycloakUserId);
         }
+
+        @Override
+        @Transactional(readOnly = true)
+        public Optional<String> buscarKeycloakUserId(Long colaboradorId) {
+            return delegate.buscarKeycloakUserId(colaboradorId);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public List<VinculoAcesso> listarVinculosAcesso(Long aposId, int limite) {
+            return delegate.listarVinculosAcesso(aposId, limite);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public List<VinculoAcesso> buscarVinculosAcesso(Collection<String> keycloakUserIds,
+                                                        Collection<Long> colaboradorIds) {
+            return delegate.buscarVinculosAcesso(keycloakUserIds, colaboradorIds);
+        }
     }
 }
@@ -2,15 +2,14 @@ package com.peopleflow.pessoascontratos.inbound.config;
 
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.application.ContratoService;
 import com.peopleflow.pessoascontratos.core.domain.Contrato;
 import com.peopleflow.pessoascontratos.core.query.ContratoFilter;
 import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase;
 import com.peopleflow.pessoascontratos.core.ports.input.ContratoUseCase;
-import com.peopleflow.pessoascontratos.core.ports.output.CargoRepositoryPort;
 import com.peopleflow.pessoascontratos.core.ports.output.ContratoRepositoryPort;
 import com.peopleflow.pessoascontratos.core.ports.output.DocumentoContratoRepositoryPort;
-import com.peopleflow.pessoascontratos.core.ports.output.JornadaTrabalhoRepositoryPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,15 +21,13 @@ public class ContratoConfig {
     public ContratoUseCase contratoUseCase(
             ContratoRepositoryPort contratoRepository,
             ColaboradorUseCase colaboradorUseCase,
-            JornadaTrabalhoRepositoryPort jornadaTrabalhoRepository,
-            CargoRepositoryPort cargoRepository,
-            DocumentoContratoRepositoryPort documentoContratoRepository) {
+            DocumentoContratoRepositoryPort documentoContratoRepository,
+            ReferenciaValidatorPort referenciaValidator) {
         ContratoService service = new ContratoService(
                 contratoRepository,
                 colaboradorUseCase,
-                jornadaTrabalhoRepository,
-                cargoRepository,
-                documentoContratoRepository);
+                documentoContratoRepository,
+                referenciaValidator);
         return new TransactionalContratoUseCase(service);
     }
 
@@ -0,0 +1,71 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import com.peopleflow.pessoascontratos.core.application.EventoESocialService;
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.ports.input.EventoESocialUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.EventoESocialRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.FolhaExecucaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.LeiauteESocialPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+@Configuration
+public class EventoESocialConfig {
+
+    @Bean
+    public EventoESocialUseCase eventoESocialUseCase(
+            EventoESocialRepositoryPort eventoRepository,
+            FolhaExecucaoRepositoryPort folhaRepository,
+            LeiauteESocialPort leiaute,
+            @Value("${app.esocial.fuso:America/Sao_Paulo}") ZoneId fuso,
+            @Value("${app.esocial.geracao.eventos-por-lote:50}") int eventosPorLote,
+            @Value("${app.esocial.geracao.max-tentativas:3}") int maxTentativas) {
+        EventoESocialService service = new EventoESocialService(
+                eventoRepository, folhaRepository, leiaute, fuso, eventosPorLote, maxTentativas);
+        return new TransactionalEventoESocialUseCase(service);
+    }
+
+    private static class TransactionalEventoESocialUseCase implements EventoESocialUseCase {
+        private final EventoESocialService delegate;
+
+        public TransactionalEventoESocialUseCase(EventoESocialService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @Transactional
+        public List<GeracaoESocial> gerarS1200(Long execucaoId) {
+            return delegate.gerarS1200(execucaoId);
+        }
+
+        @Override
+        @Transactional
+        public Optional<LoteGerado> gerarProximoLote(Long geracaoId) {
+            return delegate.gerarProximoLote(geracaoId);
+        }
+
+        @Override
+        @Transactional
+        public boolean registrarFalha(Long geracaoId, String erro) {
+            return delegate.registrarFalha(geracaoId, erro);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public List<GeracaoESocial> consultar(Long execucaoId) {
+            return delegate.consultar(execucaoId);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public List<Long> geracoesPendentes() {
+            return delegate.geracoesPendentes();
+        }
+    }
+}
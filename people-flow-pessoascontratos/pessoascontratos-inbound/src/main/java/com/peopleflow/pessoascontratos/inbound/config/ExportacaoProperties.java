@@ -0,0 +1,21 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Exportação de colaboradores em streaming (prefixo {@code app.exportacao})
+ *
+ * @param timeout tempo máximo da requisição assíncrona da exportação (padrão PT30M);
+ *                os demais endpoints seguem o timeout de {@code spring.mvc.async}
+ */
+@ConfigurationProperties(prefix = "app.exportacao")
+public record ExportacaoProperties(Duration timeout) {
+
+    private static final Duration TIMEOUT_PADRAO = Duration.ofMinutes(30);
+
+    public ExportacaoProperties {
+        timeout = timeout != null ? timeout : TIMEOUT_PADRAO;
+    }
+}
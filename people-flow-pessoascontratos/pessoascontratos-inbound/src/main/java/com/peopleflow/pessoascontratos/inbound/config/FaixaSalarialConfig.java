@@ -2,11 +2,11 @@ package com.peopleflow.pessoascontratos.inbound.config;
 
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.application.FaixaSalarialService;
 import com.peopleflow.pessoascontratos.core.domain.FaixaSalarial;
 import com.peopleflow.pessoascontratos.core.query.FaixaSalarialFilter;
 import com.peopleflow.pessoascontratos.core.ports.input.FaixaSalarialUseCase;
-import com.peopleflow.pessoascontratos.core.ports.output.CargoRepositoryPort;
 import com.peopleflow.pessoascontratos.core.ports.output.FaixaSalarialRepositoryPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,8 +18,8 @@ public class FaixaSalarialConfig {
     @Bean
     public FaixaSalarialUseCase faixaSalarialUseCase(
             FaixaSalarialRepositoryPort faixaRepository,
-            CargoRepositoryPort cargoRepository) {
-        FaixaSalarialService service = new FaixaSalarialService(faixaRepository, cargoRepository);
+            ReferenciaValidatorPort referenciaValidator) {
+        FaixaSalarialService service = new FaixaSalarialService(faixaRepository, referenciaValidator);
         return new TransactionalFaixaSalarialUseCase(service);
     }
 
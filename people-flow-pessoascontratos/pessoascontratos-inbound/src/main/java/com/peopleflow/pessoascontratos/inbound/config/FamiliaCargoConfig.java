@@ -1,5 +1,6 @@
 package com.peopleflow.pessoascontratos.inbound.config;
 
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.application.FamiliaCargoService;
 import com.peopleflow.pessoascontratos.core.domain.FamiliaCargo;
 import com.peopleflow.pessoascontratos.core.ports.input.FamiliaCargoUseCase;
@@ -14,8 +15,10 @@ import java.util.List;
 public class FamiliaCargoConfig {
 
     @Bean
-    public FamiliaCargoUseCase familiaCargoUseCase(FamiliaCargoRepositoryPort repository) {
-        FamiliaCargoService service = new FamiliaCargoService(repository);
+    public FamiliaCargoUseCase familiaCargoUseCase(
+            FamiliaCargoRepositoryPort repository,
+            ReferenciaValidatorPort referenciaValidator) {
+        FamiliaCargoService service = new FamiliaCargoService(repository, referenciaValidator);
         return new TransactionalFamiliaCargoUseCase(service);
     }
 
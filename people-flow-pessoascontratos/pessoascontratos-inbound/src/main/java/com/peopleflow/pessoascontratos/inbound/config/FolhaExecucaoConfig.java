@@ -0,0 +1,83 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import com.peopleflow.pessoascontratos.core.application.FolhaExecucaoService;
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.ports.input.FolhaExecucaoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.FolhaExecucaoRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+@Configuration
+public class FolhaExecucaoConfig {
+
+    @Bean
+    public FolhaExecucaoUseCase folhaExecucaoUseCase(
+            FolhaExecucaoRepositoryPort folhaRepository,
+            @Value("${app.folha.calculo.tamanho-lote:1000}") int tamanhoLote,
+            @Value("${app.folha.calculo.max-tentativas:3}") int maxTentativas) {
+        FolhaExecucaoService service = new FolhaExecucaoService(folhaRepository, tamanhoLote, maxTentativas);
+        return new TransactionalFolhaExecucaoUseCase(service);
+    }
+
+    private static class TransactionalFolhaExecucaoUseCase implements FolhaExecucaoUseCase {
+        private final FolhaExecucaoService delegate;
+
+        public TransactionalFolhaExecucaoUseCase(FolhaExecucaoService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @Transactional
+        public FolhaExecucao abrir(YearMonth competencia) {
+            return delegate.abrir(competencia);
+        }
+
+        @Override
+        @Transactional
+        public FolhaExecucao iniciarCalculo(Long execucaoId) {
+            return delegate.iniciarCalculo(execucaoId);
+        }
+
+        @Override
+        @Transactional
+        public Optional<ResultadoLote> processarProximoLote(Long execucaoId) {
+            return delegate.processarProximoLote(execucaoId);
+        }
+
+        @Override
+        @Transactional
+        public boolean registrarFalhaLote(Long execucaoId, int lote, String erro) {
+            return delegate.registrarFalhaLote(execucaoId, lote, erro);
+        }
+
+        @Override
+        @Transactional
+        public FolhaExecucao concluirCalculo(Long execucaoId) {
+            return delegate.concluirCalculo(execucaoId);
+        }
+
+        @Override
+        @Transactional
+        public FolhaExecucao falharCalculo(Long execucaoId) {
+            return delegate.falharCalculo(execucaoId);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public ResumoExecucao consultar(Long execucaoId) {
+            return delegate.consultar(execucaoId);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public List<Long> execucoesEmCalculo() {
+            return delegate.execucoesEmCalculo();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.pessoascontratos.core.application.HeadcountService;
+import com.peopleflow.pessoascontratos.core.ports.input.HeadcountUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.HeadcountProjecaoPort;
+import com.peopleflow.pessoascontratos.core.query.HeadcountUnidade;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Configuration
+public class HeadcountConfig {
+
+    @Bean
+    public HeadcountUseCase headcountUseCase(
+            HeadcountProjecaoPort projecao,
+            AccessValidatorPort accessValidator) {
+        HeadcountService service = new HeadcountService(projecao, accessValidator);
+        return new TransactionalHeadcountUseCase(service);
+    }
+
+    private static class TransactionalHeadcountUseCase implements HeadcountUseCase {
+        private final HeadcountService delegate;
+
+        public TransactionalHeadcountUseCase(HeadcountService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public List<HeadcountUnidade> consultar(Long empresaId, Long departamentoId, Long centroCustoId) {
+            return delegate.consultar(empresaId, departamentoId, centroCustoId);
+        }
+
+        @Override
+        @Transactional
+        public void atualizarProjecao(Long colaboradorId) {
+            delegate.atualizarProjecao(colaboradorId);
+        }
+
+        @Override
+        @Transactional
+        public int reconstruirProjecao() {
+            return delegate.reconstruirProjecao();
+        }
+    }
+}
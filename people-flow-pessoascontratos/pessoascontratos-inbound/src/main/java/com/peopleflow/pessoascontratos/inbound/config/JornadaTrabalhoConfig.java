@@ -1,5 +1,6 @@
 package com.peopleflow.pessoascontratos.inbound.config;
 
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.application.JornadaTrabalhoService;
 import com.peopleflow.pessoascontratos.core.domain.JornadaTrabalho;
 import com.peopleflow.pessoascontratos.core.ports.input.JornadaTrabalhoUseCase;
@@ -14,8 +15,10 @@ import java.util.List;
 public class JornadaTrabalhoConfig {
 
     @Bean
-    public JornadaTrabalhoUseCase jornadaTrabalhoUseCase(JornadaTrabalhoRepositoryPort repository) {
-        JornadaTrabalhoService service = new JornadaTrabalhoService(repository);
+    public JornadaTrabalhoUseCase jornadaTrabalhoUseCase(
+            JornadaTrabalhoRepositoryPort repository,
+            ReferenciaValidatorPort referenciaValidator) {
+        JornadaTrabalhoService service = new JornadaTrabalhoService(repository, referenciaValidator);
         return new TransactionalJornadaTrabalhoUseCase(service);
     }
 
@@ -0,0 +1,25 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
+import com.peopleflow.pessoascontratos.core.application.MarcacaoPontoService;
+import com.peopleflow.pessoascontratos.core.ports.input.MarcacaoPontoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.MarcacaoPontoRepositoryPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MarcacaoPontoConfig {
+
+    /**
+     * Sem delegate transacional: a gravação acontece nos escritores do adapter,
+     * cada lote agrupado em sua própria transação
+     */
+    @Bean
+    public MarcacaoPontoUseCase marcacaoPontoUseCase(
+            MarcacaoPontoRepositoryPort marcacaoRepository,
+            AccessValidatorPort accessValidator,
+            ReferenciaValidatorPort referenciaValidator) {
+        return new MarcacaoPontoService(marcacaoRepository, accessValidator, referenciaValidator);
+    }
+}
@@ -1,5 +1,6 @@
 package com.peopleflow.pessoascontratos.inbound.config;
 
+import com.peopleflow.common.validation.ReferenciaValidatorPort;
 import com.peopleflow.pessoascontratos.core.application.NivelHierarquicoService;
 import com.peopleflow.pessoascontratos.core.domain.NivelHierarquico;
 import com.peopleflow.pessoascontratos.core.ports.input.NivelHierarquicoUseCase;
@@ -14,8 +15,10 @@ import java.util.List;
 public class NivelHierarquicoConfig {
 
     @Bean
-    public NivelHierarquicoUseCase nivelHierarquicoUseCase(NivelHierarquicoRepositoryPort repository) {
-        NivelHierarquicoService service = new NivelHierarquicoService(repository);
+    public NivelHierarquicoUseCase nivelHierarquicoUseCase(
+            NivelHierarquicoRepositoryPort repository,
+            ReferenciaValidatorPort referenciaValidator) {
+        NivelHierarquicoService service = new NivelHierarquicoService(repository, referenciaValidator);
         return new TransactionalNivelHierarquicoUseCase(service);
     }
 
@@ -0,0 +1,42 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Envio por canal de notificação (prefixo {@code app.notificacao})
+ *
+ * Cada canal em {@code canais} (email, push, inapp, keycloak) tem pool, taxa e tamanho
+ * de envio próprios; valores ausentes herdam a política {@code padrao}.
+ */
+@ConfigurationProperties(prefix = "app.notificacao")
+public record NotificacaoCanaisProperties(Politica padrao, Map<String, Politica> canais) {
+
+    private static final Politica PADRAO = new Politica(2, 0, 50);
+
+    public NotificacaoCanaisProperties {
+        padrao = padrao != null ? padrao.completarCom(PADRAO) : PADRAO;
+        canais = canais != null ? Map.copyOf(canais) : Map.of();
+    }
+
+    public Politica politicaDe(String canal) {
+        Politica politica = canais.get(canal);
+        return politica != null ? politica.completarCom(padrao) : padrao;
+    }
+
+    /**
+     * @param concorrencia threads enviando pelo canal ao mesmo tempo
+     * @param porSegundo   limite de envios por segundo (0 = sem limite)
+     * @param tamanhoEnvio notificações entregues ao adapter por chamada
+     */
+    public record Politica(Integer concorrencia, Integer porSegundo, Integer tamanhoEnvio) {
+
+        Politica completarCom(Politica base) {
+            return new Politica(
+                    concorrencia != null ? concorrencia : base.concorrencia(),
+                    porSegundo != null ? porSegundo : base.porSegundo(),
+                    tamanhoEnvio != null ? tamanhoEnvio : base.tamanhoEnvio());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.peopleflow.pessoascontratos.inbound.config;
+
+import com.peopleflow.common.validation.AccessValidatorPort;
+import com.peopleflow.pessoascontratos.core.application.NotificacaoService;
+import com.peopleflow.pessoascontratos.core.application.RenderizadorNotificacoes;
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
+import com.peopleflow.pessoascontratos.core.ports.input.NotificacaoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(NotificacaoCanaisProperties.class)
+public class NotificacaoConfig {
+
+    @Bean
+    public NotificacaoUseCase notificacaoUseCase(
+            NotificacaoRepositoryPort notificacaoRepository,
+            AccessValidatorPort accessValidator) {
+        NotificacaoService service = new NotificacaoService(notificacaoRepository, accessValidator);
+        return new TransactionalNotificacaoUseCase(service);
+    }
+
+    @Bean
+    public RenderizadorNotificacoes renderizadorNotificacoes(NotificacaoRepositoryPort notificacaoRepository) {
+        return new RenderizadorNotificacoes(notificacaoRepository);
+    }
+
+    private static class TransactionalNotificacaoUseCase implements NotificacaoUseCase {
+        private final NotificacaoService delegate;
+
+        public TransactionalNotificacaoUseCase(NotificacaoService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @Transactional
+        public Long enfileirar(NovaNotificacao notificacao) {
+            return delegate.enfileirar(notificacao);
+        }
+
+        @Override
+        @Transactional
+        public int enfileirarCampanha(Long templateId, Long empresaId, Long departamentoId, Map<String, Object> contexto) {
+            return delegate.enfileirarCampanha(templateId, empresaId, departamentoId, contexto);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.peopleflow.pessoascontratos.inbound.events;
+
+import com.peopleflow.pessoascontratos.core.ports.input.CalculoPontoUseCase;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor do cálculo diário de ponto
+ *
+ * A cada ciclo pega os colaboradores com dias na fila e os divide em partições
+ * recalculadas em paralelo em um ForkJoinPool dedicado, cada partição em sua própria
+ * transação (uma consulta por etapa para a partição inteira). Uma partição que falha
+ * é dividida ao meio e retentada, para que um colaborador com problema não segure os demais.
+ * Os dias do colaborador que falha sozinho voltam à fila com backoff e, esgotadas as
+ * tentativas ({@code max-tentativas}), ficam em erro fora da fila.
+ */
+@Component
+public class CalculoPontoJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CalculoPontoJob.class);
+
+    private final CalculoPontoUseCase calculoPontoUseCase;
+    private final ForkJoinPool pool;
+    private final int colaboradoresPorCiclo;
+    private final int tamanhoParticao;
+    private final int ciclosPorExecucao;
+
+    public CalculoPontoJob(
+            CalculoPontoUseCase calculoPontoUseCase,
+            @Value("${app.ponto.calculo.paralelismo:4}") int paralelismo,
+            @Value("${app.ponto.calculo.colaboradores-por-ciclo:5000}") int colaboradoresPorCiclo,
+            @Value("${app.ponto.calculo.tamanho-particao:200}") int tamanhoParticao,
+            @Value("${app.ponto.calculo.ciclos-por-execucao:20}") int ciclosPorExecucao) {
+        this.calculoPontoUseCase = calculoPontoUseCase;
+        this.colaboradoresPorCiclo = colaboradoresPorCiclo;
+        this.tamanhoParticao = tamanhoParticao;
+        this.ciclosPorExecucao = ciclosPorExecucao;
+        this.pool = new ForkJoinPool(paralelismo, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("calculo-ponto-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @Scheduled(fixedDelayString = "${app.ponto.calculo.intervalo-ms:5000}")
+    public void recalcularPendentes() {
+        long inicio = System.nanoTime();
+        int dias = 0;
+        for (int ciclo = 0; ciclo < ciclosPorExecucao; ciclo++) {
+            List<Long> colaboradores = calculoPontoUseCase.colaboradoresPendentes(colaboradoresPorCiclo);
+            if (colaboradores.isEmpty()) {
+                break;
+            }
+            int recalculados = pool.invoke(new Particao(colaboradores));
+            dias += recalculados;
+            if (recalculados == 0) {
+                break;
+            }
+        }
+        if (dias > 0) {
+            log.info("🕒 Cálculo de ponto: {} dias recalculados em {} ms",
+                    dias, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        pool.shutdown();
+        if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("⚠️ Cálculo de ponto: encerrado com partições em andamento");
+        }
+    }
+
+    private final class Particao extends RecursiveTask<Integer> {
+
+        private final List<Long> colaboradores;
+        private final boolean retentativa;
+
+        Particao(List<Long> colaboradores) {
+            this(colaboradores, false);
+        }
+
+        private Particao(List<Long> colaboradores, boolean retentativa) {
+            this.colaboradores = colaboradores;
+            this.retentativa = retentativa;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (colaboradores.size() > tamanhoParticao) {
+                return dividir(false);
+            }
+            try {
+                return calculoPontoUseCase.recalcular(colaboradores);
+            } catch (Exception e) {
+                if (colaboradores.size() == 1) {
+                    registrarFalha(colaboradores.get(0), e);
+                    return 0;
+                }
+                if (!retentativa) {
+                    log.warn("⚠️ Cálculo de ponto: partição de {} colaboradores falhou, dividindo: {}",
+                            colaboradores.size(), e.getMessage());
+                }
+                return dividir(true);
+            }
+        }
+
+        private void registrarFalha(Long colaboradorId, Exception e) {
+            try {
+                if (calculoPontoUseCase.registrarFalha(colaboradorId, e.getMessage())) {
+                    log.error("❌ Cálculo de ponto: colaborador {} movido para erro após esgotar as tentativas: {}",
+                            colaboradorId, e.getMessage(), e);
+                } else {
+                    log.warn("⚠️ Cálculo de ponto: falha no colaborador {}, nova tentativa com backoff: {}",
+                            colaboradorId, e.getMessage());
+                }
+            } catch (Exception falhaRegistro) {
+                log.error("❌ Cálculo de ponto: falha no colaborador {} ({}) e ao registrá-la: {}",
+                        colaboradorId, e.getMessage(), falhaRegistro.getMessage());
+            }
+        }
+
+        private int dividir(boolean retentativa) {
+            int meio = colaboradores.size() / 2;
+            Particao esquerda = new Particao(colaboradores.subList(0, meio), retentativa);
+            Particao direita = new Particao(colaboradores.subList(meio, colaboradores.size()), retentativa);
+            esquerda.fork();
+            return direita.compute() + esquerda.join();
+        }
+    }
+}
@@ -26,14 +26,15 @@ import org.springframework.transaction.event.TransactionPhase;
  * - Integrações assíncronas (futuro)
  *
  * @TransactionalEventListener garante que o evento só é processado
- * APÓS o commit da transação (evita inconsistências)
+ * APÓS o commit da transação (evita inconsistências); o relay do outbox publica
+ * fora de transação, daí o fallbackExecution
  */
 @Component
 public class ColaboradorDomainEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(ColaboradorDomainEventListener.class);
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorCriado(ColaboradorCriado event) {
         log.info("📢 EVENTO: Colaborador criado - ID: {}, Nome: {}, Email: {}, Timestamp: {}",
                  event.colaboradorId(),
@@ -42,7 +43,7 @@ public class ColaboradorDomainEventListener {
                  event.ocorridoEm());
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorAtualizado(ColaboradorAtualizado event) {
         log.info("📢 EVENTO: Colaborador atualizado - ID: {}, Nome: {}, Campos: {}, Timestamp: {}",
                  event.colaboradorId(),
@@ -52,7 +53,7 @@ public class ColaboradorDomainEventListener {
     }
 
     @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorDemitido(ColaboradorDemitido event) {
         log.info("📢 EVENTO: Colaborador demitido - ID: {}, Nome: {}, Data Demissão: {}, Timestamp: {}",
                  event.colaboradorId(),
@@ -61,7 +62,7 @@ public class ColaboradorDomainEventListener {
                  event.ocorridoEm());
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorAtivado(ColaboradorAtivado event) {
         log.info("📢 EVENTO: Colaborador ativado - ID: {}, Nome: {}, Timestamp: {}",
                  event.colaboradorId(),
@@ -69,7 +70,7 @@ public class ColaboradorDomainEventListener {
                  event.ocorridoEm());
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorInativado(ColaboradorInativado event) {
         log.info("📢 EVENTO: Colaborador inativado - ID: {}, Nome: {}, Timestamp: {}",
                  event.colaboradorId(),
@@ -78,7 +79,7 @@ public class ColaboradorDomainEventListener {
     }
 
     @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorExcluido(ColaboradorExcluido event) {
         log.info("📢 EVENTO: Colaborador excluído (soft delete) - ID: {}, Nome: {}, Timestamp: {}",
                  event.colaboradorId(),
@@ -87,7 +88,7 @@ public class ColaboradorDomainEventListener {
     }
 
     @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorTransferido(ColaboradorTransferido event) {
         log.info("📢 EVENTO: Colaborador transferido - ID: {}, Nome: {}, De: Empresa {} para Empresa {}, Data: {}",
                  event.colaboradorId(),
@@ -98,7 +99,7 @@ public class ColaboradorDomainEventListener {
     }
 
     @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleColaboradorReativado(ColaboradorReativado event) {
         log.info("📢 EVENTO: Colaborador reativado - ID: {}, Nome: {}, Admissão Anterior: {}, Nova: {}",
                  event.colaboradorId(),
@@ -0,0 +1,171 @@
+package com.peopleflow.pessoascontratos.inbound.events;
+
+import com.peopleflow.pessoascontratos.core.domain.events.ConfirmacaoEntrega;
+import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorEventOutboxPort;
+import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorEventOutboxPort.EventoPendente;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relay do outbox de eventos de Colaborador
+ *
+ * Reivindica lotes de eventos pendentes (FOR UPDATE SKIP LOCKED, seguro com vários nós)
+ * e os entrega aos listeners do Spring fora de transação: listeners que chamam o
+ * Keycloak não seguram conexão do banco, e os que gravam usam a transação dos seus
+ * use cases. O evento só é marcado como processado se todos os listeners síncronos
+ * terminarem sem erro e as entregas assíncronas registradas em {@link ConfirmacaoEntrega}
+ * forem confirmadas dentro do lease; do contrário volta à fila com backoff (at-least-once). Após
+ * {@code max-tentativas} falhas o evento vai para erro e libera a fila do colaborador.
+ *
+ * Cada lote tem no máximo um evento por colaborador, então o despacho em
+ * paralelo não altera a ordem dos eventos de um mesmo colaborador.
+ */
+@Component
+public class ColaboradorOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(ColaboradorOutboxRelay.class);
+
+    private static final Duration BACKOFF_INICIAL = Duration.ofSeconds(5);
+    private static final Duration BACKOFF_MAXIMO = Duration.ofMinutes(30);
+
+    private final ColaboradorEventOutboxPort outbox;
+    private final ApplicationEventPublisher springPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService dispatcher;
+    private final int tamanhoLote;
+    private final int lotesPorCiclo;
+    private final int maxTentativas;
+    private final Duration lease;
+    private final Duration retencao;
+
+    public ColaboradorOutboxRelay(
+            ColaboradorEventOutboxPort outbox,
+            ApplicationEventPublisher springPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.outbox.relay.tamanho-lote:100}") int tamanhoLote,
+            @Value("${app.outbox.relay.lotes-por-ciclo:20}") int lotesPorCiclo,
+            @Value("${app.outbox.relay.paralelismo:4}") int paralelismo,
+            @Value("${app.outbox.relay.max-tentativas:10}") int maxTentativas,
+            @Value("${app.outbox.relay.lease:PT2M}") Duration lease,
+            @Value("${app.outbox.retencao:P7D}") Duration retencao) {
+        this.outbox = outbox;
+        this.springPublisher = springPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatcher = Executors.newFixedThreadPool(paralelismo, new CustomizableThreadFactory("outbox-relay-"));
+        this.tamanhoLote = tamanhoLote;
+        this.lotesPorCiclo = lotesPorCiclo;
+        this.maxTentativas = maxTentativas;
+        this.lease = lease;
+        this.retencao = retencao;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.intervalo-ms:500}")
+    public void drenar() {
+        for (int i = 0; i < lotesPorCiclo; i++) {
+            List<EventoPendente> lote = transactionTemplate.execute(
+                    status -> outbox.reivindicarLote(tamanhoLote, lease));
+
+            if (lote == null || lote.isEmpty()) {
+                return;
+            }
+
+            log.debug("📤 Outbox: despachando lote de {} eventos", lote.size());
+
+            CompletableFuture.allOf(lote.stream()
+                    .map(pendente -> CompletableFuture.supplyAsync(() -> despachar(pendente), dispatcher)
+                            .thenCompose(confirmacao -> confirmacao))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+
+            if (lote.size() < tamanhoLote) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.outbox.limpeza.cron:0 30 3 * * *}")
+    public void limparProcessados() {
+        int removidos = transactionTemplate.execute(status -> outbox.removerProcessados(retencao));
+        log.info("🧹 Outbox: {} eventos processados removidos (retenção {})", removidos, retencao);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        dispatcher.shutdown();
+    }
+
+    private CompletableFuture<Void> despachar(EventoPendente pendente) {
+        CompletableFuture<Void> confirmacao;
+        try {
+            confirmacao = ConfirmacaoEntrega.coletar(() -> springPublisher.publishEvent(pendente.evento()));
+        } catch (Exception e) {
+            falhar(pendente, e);
+            return CompletableFuture.completedFuture(null);
+        }
+        // Desiste com folga antes do lease expirar, para o evento não ser reivindicado de novo enquanto aguarda
+        return confirmacao
+                .orTimeout(lease.toMillis() * 3 / 4, TimeUnit.MILLISECONDS)
+                .handle((ok, erro) -> {
+                    if (erro != null) {
+                        falhar(pendente, erro instanceof CompletionException ? erro.getCause() : erro);
+                    } else {
+                        marcarProcessado(pendente);
+                    }
+                    return null;
+                });
+    }
+
+    private void marcarProcessado(EventoPendente pendente) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outbox.marcarProcessado(pendente.id()));
+        } catch (Exception e) {
+            // O lease expira e o evento é reentregue (listeners são idempotentes)
+            log.error("❌ Outbox: não foi possível marcar o evento {} como processado: {}",
+                    pendente.id(), e.getMessage());
+        }
+    }
+
+    private void falhar(EventoPendente pendente, Throwable e) {
+        String evento = pendente.evento().getClass().getSimpleName();
+        Long colaboradorId = pendente.evento().colaboradorId();
+        try {
+            if (pendente.tentativas() >= maxTentativas) {
+                log.error("❌ Outbox: {} do colaborador {} movido para erro após {} tentativas: {}",
+                        evento, colaboradorId, pendente.tentativas(), e.getMessage());
+                transactionTemplate.executeWithoutResult(status -> outbox.marcarErro(pendente.id(), e.getMessage()));
+                return;
+            }
+            Duration atraso = calcularBackoff(pendente.tentativas());
+            log.error("❌ Outbox: falha ao despachar {} do colaborador {} (tentativa {}), nova tentativa em {}: {}",
+                    evento, colaboradorId, pendente.tentativas(), atraso, e.getMessage());
+            transactionTemplate.executeWithoutResult(
+                    status -> outbox.registrarFalha(pendente.id(), e.getMessage(), atraso));
+        } catch (Exception falhaRegistro) {
+            // O lease expira e o evento volta à fila de qualquer forma
+            log.error("❌ Outbox: não foi possível registrar falha do evento {}: {}",
+                    pendente.id(), falhaRegistro.getMessage());
+        }
+    }
+
+    private static Duration calcularBackoff(int tentativas) {
+        int expoente = Math.min(Math.max(tentativas - 1, 0), 16);
+        Duration atraso = BACKOFF_INICIAL.multipliedBy(1L << expoente);
+        return atraso.compareTo(BACKOFF_MAXIMO) > 0 ? BACKOFF_MAXIMO : atraso;
+    }
+}
@@ -0,0 +1,176 @@
+package com.peopleflow.pessoascontratos.inbound.events;
+
+import com.peopleflow.pessoascontratos.core.ports.input.EventoESocialUseCase;
+import com.peopleflow.pessoascontratos.core.ports.input.EventoESocialUseCase.LoteGerado;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gera os eventos eSocial em segundo plano, em paralelo por empregador
+ *
+ * Cada geração (um empregador) é processada por um worker, lote a lote; o pool limita
+ * quantos empregadores geram ao mesmo tempo. Gerações interrompidas (reinício da
+ * aplicação) são retomadas na subida, a partir do último lote gravado.
+ *
+ * Um lote que falha é retentado com backoff; cada falha fica registrada na geração
+ * (tentativas, último erro) e, após {@code max-tentativas} falhas seguidas, a geração
+ * fica com erro até ser pedida de novo.
+ */
+@Component
+public class ESocialGeracaoExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ESocialGeracaoExecutor.class);
+
+    private static final Duration BACKOFF_INICIAL = Duration.ofSeconds(2);
+    private static final Duration BACKOFF_MAXIMO = Duration.ofMinutes(1);
+
+    private final EventoESocialUseCase eventoUseCase;
+    private final ExecutorService workers;
+    private final int maxTentativas;
+    private final Set<Long> emAndamento = ConcurrentHashMap.newKeySet();
+    private final Timer tempoLote;
+    private final Counter eventos;
+    private final Counter tamanhoXml;
+
+    public ESocialGeracaoExecutor(
+            EventoESocialUseCase eventoUseCase,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.esocial.geracao.paralelismo:4}") int paralelismo,
+            @Value("${app.esocial.geracao.max-tentativas:3}") int maxTentativas) {
+        this.eventoUseCase = eventoUseCase;
+        this.maxTentativas = maxTentativas;
+        this.workers = Executors.newFixedThreadPool(paralelismo, new CustomizableThreadFactory("esocial-geracao-"));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            this.tempoLote = Timer.builder("esocial.geracao.lote").register(registry);
+            this.eventos = Counter.builder("esocial.geracao.eventos").register(registry);
+            this.tamanhoXml = Counter.builder("esocial.geracao.xml").baseUnit("chars").register(registry);
+        } else {
+            this.tempoLote = null;
+            this.eventos = null;
+            this.tamanhoXml = null;
+        }
+    }
+
+    /**
+     * Enfileira as gerações (ignora as que já estão sendo processadas neste nó)
+     */
+    public void disparar(Collection<Long> geracaoIds) {
+        for (Long geracaoId : geracaoIds) {
+            if (emAndamento.add(geracaoId)) {
+                workers.execute(() -> processar(geracaoId));
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarInterrompidas() {
+        List<Long> pendentes = eventoUseCase.geracoesPendentes();
+        if (!pendentes.isEmpty()) {
+            log.info("📨 eSocial: retomando {} gerações interrompidas", pendentes.size());
+            disparar(pendentes);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        // O lote em andamento termina; os seguintes ficam para a retomada
+        workers.shutdownNow();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("⚠️ eSocial: encerrado com gerações em andamento (serão retomadas)");
+        }
+    }
+
+    private void processar(Long geracaoId) {
+        long inicio = System.nanoTime();
+        long gerados = 0;
+        int falhasSeguidas = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Optional<LoteGerado> resultado;
+                try {
+                    resultado = eventoUseCase.gerarProximoLote(geracaoId);
+                    falhasSeguidas = 0;
+                } catch (Exception e) {
+                    falhasSeguidas++;
+                    if (registrarFalha(geracaoId, gerados, falhasSeguidas, e)) {
+                        return;
+                    }
+                    Thread.sleep(backoff(falhasSeguidas).toMillis());
+                    continue;
+                }
+                if (resultado.isEmpty()) {
+                    break;
+                }
+                LoteGerado lote = resultado.get();
+                gerados += lote.eventos();
+                if (tempoLote != null) {
+                    tempoLote.record(lote.duracaoMs(), TimeUnit.MILLISECONDS);
+                    eventos.increment(lote.eventos());
+                    tamanhoXml.increment(lote.tamanhoXml());
+                }
+                log.debug("eSocial: geração {} lote {} - {} eventos em {} ms",
+                        geracaoId, lote.lote(), lote.eventos(), lote.duracaoMs());
+            }
+            double segundos = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)) / 1000.0;
+            log.info("📨 eSocial: geração {} - {} eventos em {}s",
+                    geracaoId, gerados, String.format("%.1f", segundos));
+        } catch (InterruptedException e) {
+            // Encerramento: a geração continua em geração e é retomada na subida
+            Thread.currentThread().interrupt();
+        } finally {
+            emAndamento.remove(geracaoId);
+        }
+    }
+
+    /**
+     * @return true se a geração deve parar (marcada com erro ou falhas sem registro esgotadas)
+     */
+    private boolean registrarFalha(Long geracaoId, long gerados, int falhasSeguidas, Exception falha) {
+        try {
+            if (eventoUseCase.registrarFalha(geracaoId, falha.getMessage())) {
+                log.error("❌ eSocial: geração {} com erro após {} tentativas ({} eventos gerados): {}",
+                        geracaoId, maxTentativas, gerados, falha.getMessage(), falha);
+                return true;
+            }
+            log.warn("⚠️ eSocial: falha na geração {} (tentativa {}), nova tentativa em {}: {}",
+                    geracaoId, falhasSeguidas, backoff(falhasSeguidas), falha.getMessage());
+            return false;
+        } catch (Exception e) {
+            // Sem registro (ex.: banco fora): a geração segue em geração e é retomada na subida
+            if (falhasSeguidas >= maxTentativas) {
+                log.error("❌ eSocial: geração {} interrompida após {} falhas sem registro: {}",
+                        geracaoId, falhasSeguidas, falha.getMessage(), falha);
+                return true;
+            }
+            log.warn("⚠️ eSocial: não foi possível registrar a falha da geração {}: {}", geracaoId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static Duration backoff(int falhasSeguidas) {
+        Duration atraso = BACKOFF_INICIAL.multipliedBy(1L << Math.min(falhasSeguidas - 1, 16));
+        return atraso.compareTo(BACKOFF_MAXIMO) > 0 ? BACKOFF_MAXIMO : atraso;
+    }
+}
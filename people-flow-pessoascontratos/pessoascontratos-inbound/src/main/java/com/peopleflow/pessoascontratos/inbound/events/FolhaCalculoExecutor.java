@@ -0,0 +1,198 @@
+package com.peopleflow.pessoascontratos.inbound.events;
+
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.ports.input.FolhaExecucaoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.input.FolhaExecucaoUseCase.FalhaLote;
+import com.peopleflow.pessoascontratos.core.ports.input.FolhaExecucaoUseCase.ResultadoLote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executa o cálculo das folhas em segundo plano
+ *
+ * Cada execução é processada por {@code paralelismo} workers que reivindicam lotes
+ * pendentes até não sobrar nenhum; cada lote é uma transação. Execuções que ficaram
+ * em cálculo (reinício da aplicação) são retomadas na subida, a partir dos lotes pendentes.
+ * Outro nó processando a mesma execução apenas divide os lotes (SKIP LOCKED).
+ *
+ * Um lote que falha volta à fila e é retentado até {@code max-tentativas}; depois fica com
+ * erro e a execução termina em erro_calculo. Falhas fora de um lote (ex.: banco indisponível)
+ * são retentadas pelo worker; se persistirem, a execução também termina com erro.
+ */
+@Component
+public class FolhaCalculoExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(FolhaCalculoExecutor.class);
+
+    private static final long PAUSA_APOS_FALHA_MS = 1_000;
+
+    private final FolhaExecucaoUseCase folhaUseCase;
+    private final ExecutorService workers;
+    private final int paralelismo;
+    private final int maxTentativas;
+    private final Set<Long> emAndamento = ConcurrentHashMap.newKeySet();
+    private final Timer tempoLote;
+    private final Counter contratos;
+    private final Counter itens;
+
+    public FolhaCalculoExecutor(
+            FolhaExecucaoUseCase folhaUseCase,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.folha.calculo.paralelismo:4}") int paralelismo,
+            @Value("${app.folha.calculo.max-tentativas:3}") int maxTentativas) {
+        this.folhaUseCase = folhaUseCase;
+        this.paralelismo = paralelismo;
+        this.maxTentativas = maxTentativas;
+        this.workers = Executors.newFixedThreadPool(paralelismo, new CustomizableThreadFactory("folha-calculo-"));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            this.tempoLote = Timer.builder("folha.calculo.lote").register(registry);
+            this.contratos = Counter.builder("folha.calculo.contratos").register(registry);
+            this.itens = Counter.builder("folha.calculo.itens").register(registry);
+        } else {
+            this.tempoLote = null;
+            this.contratos = null;
+            this.itens = null;
+        }
+    }
+
+    /**
+     * Dispara os workers da execução (ignorado se ela já está sendo processada neste nó)
+     */
+    public void disparar(Long execucaoId) {
+        if (!emAndamento.add(execucaoId)) {
+            log.info("💰 Folha: execução {} já está em processamento", execucaoId);
+            return;
+        }
+        long inicio = System.nanoTime();
+        LongAdder processados = new LongAdder();
+        AtomicBoolean desistiu = new AtomicBoolean();
+        CompletableFuture<?>[] tarefas = new CompletableFuture<?>[paralelismo];
+        for (int i = 0; i < paralelismo; i++) {
+            tarefas[i] = CompletableFuture.runAsync(() -> processar(execucaoId, processados, desistiu), workers);
+        }
+        CompletableFuture.allOf(tarefas).whenComplete((ok, erro) -> {
+            emAndamento.remove(execucaoId);
+            try {
+                FolhaExecucao execucao = desistiu.get()
+                        ? folhaUseCase.falharCalculo(execucaoId)
+                        : folhaUseCase.concluirCalculo(execucaoId);
+                double segundos = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)) / 1000.0;
+                log.info("💰 Folha: execução {} ({}) - {} contratos calculados em {}s ({} contratos/s)",
+                        execucaoId, execucao.getStatus().getValor(), processados.sum(),
+                        String.format("%.1f", segundos), String.format("%.0f", processados.sum() / segundos));
+            } catch (Exception e) {
+                log.error("❌ Folha: falha ao concluir execução {}: {}", execucaoId, e.getMessage(), e);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarInterrompidas() {
+        for (Long execucaoId : folhaUseCase.execucoesEmCalculo()) {
+            log.info("💰 Folha: retomando execução {} interrompida", execucaoId);
+            disparar(execucaoId);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        // Lotes em andamento terminam; os pendentes ficam para a retomada
+        workers.shutdownNow();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("⚠️ Folha: encerrado com lotes em andamento (serão refeitos na retomada)");
+        }
+    }
+
+    private void processar(Long execucaoId, LongAdder processados, AtomicBoolean desistiu) {
+        int falhasSeguidas = 0;
+        while (!Thread.currentThread().isInterrupted() && !desistiu.get()) {
+            Optional<ResultadoLote> resultado;
+            try {
+                resultado = folhaUseCase.processarProximoLote(execucaoId);
+                falhasSeguidas = 0;
+            } catch (FalhaLote e) {
+                registrarFalha(execucaoId, e);
+                if (!pausar()) {
+                    return;
+                }
+                continue;
+            } catch (Exception e) {
+                if (++falhasSeguidas >= maxTentativas) {
+                    log.error("❌ Folha: execução {} sem conseguir reivindicar lotes após {} tentativas: {}",
+                            execucaoId, falhasSeguidas, e.getMessage(), e);
+                    desistiu.set(true);
+                    return;
+                }
+                log.warn("⚠️ Folha: falha ao reivindicar lote da execução {} (tentativa {}): {}",
+                        execucaoId, falhasSeguidas, e.getMessage());
+                if (!pausar()) {
+                    return;
+                }
+                continue;
+            }
+            if (resultado.isEmpty()) {
+                return;
+            }
+            ResultadoLote lote = resultado.get();
+            processados.add(lote.contratos());
+            if (tempoLote != null) {
+                tempoLote.record(lote.duracaoMs(), TimeUnit.MILLISECONDS);
+                contratos.increment(lote.contratos());
+                itens.increment(lote.itens());
+            }
+            log.debug("Folha: execução {} lote {} - {} contratos, {} itens em {} ms",
+                    execucaoId, lote.lote(), lote.contratos(), lote.itens(), lote.duracaoMs());
+        }
+    }
+
+    private void registrarFalha(Long execucaoId, FalhaLote falha) {
+        try {
+            if (folhaUseCase.registrarFalhaLote(execucaoId, falha.getLote(), falha.getMessage())) {
+                log.error("❌ Folha: lote {} da execução {} com erro após {} tentativas: {}",
+                        falha.getLote(), execucaoId, maxTentativas, falha.getMessage(), falha.getCause());
+            } else {
+                log.warn("⚠️ Folha: falha no lote {} da execução {}, será retentado: {}",
+                        falha.getLote(), execucaoId, falha.getMessage());
+            }
+        } catch (Exception e) {
+            // Sem registro o lote continua pendente e é retentado
+            log.error("❌ Folha: não foi possível registrar a falha do lote {} da execução {}: {}",
+                    falha.getLote(), execucaoId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return false se a thread foi interrompida durante a pausa
+     */
+    private static boolean pausar() {
+        try {
+            Thread.sleep(PAUSA_APOS_FALHA_MS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
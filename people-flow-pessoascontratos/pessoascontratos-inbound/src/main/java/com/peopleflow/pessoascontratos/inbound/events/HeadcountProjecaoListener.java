@@ -0,0 +1,42 @@
+package com.peopleflow.pessoascontratos.inbound.events;
+
+import com.peopleflow.pessoascontratos.core.domain.events.ColaboradorEvent;
+import com.peopleflow.pessoascontratos.core.ports.input.HeadcountUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantém a projeção de headcount a partir dos eventos de Colaborador
+ *
+ * Roda de forma síncrona no despacho do evento pelo relay do outbox, na transação
+ * do use case: se a projeção falhar, o evento volta à fila. Como a sincronização parte do estado
+ * atual do colaborador, reentregas e eventos fora de ordem não distorcem os totais.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeadcountProjecaoListener {
+
+    private final HeadcountUseCase headcountUseCase;
+
+    @EventListener
+    public void handleColaboradorEvent(ColaboradorEvent event) {
+        headcountUseCase.atualizarProjecao(event.colaboradorId());
+    }
+
+    /**
+     * Verificação noturna de divergência (eventos perdidos, escritas fora da aplicação)
+     */
+    @Scheduled(cron = "${app.headcount.reconstrucao.cron:0 15 3 * * *}")
+    public void verificarDivergencias() {
+        int divergentes = headcountUseCase.reconstruirProjecao();
+        if (divergentes > 0) {
+            log.warn("🧮 Headcount: {} unidades divergentes corrigidas", divergentes);
+        } else {
+            log.info("🧮 Headcount: projeção consistente");
+        }
+    }
+}
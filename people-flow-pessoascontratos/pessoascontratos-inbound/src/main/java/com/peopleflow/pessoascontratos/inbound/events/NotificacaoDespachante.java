@@ -0,0 +1,246 @@
+package com.peopleflow.pessoascontratos.inbound.events;
+
+import com.peopleflow.common.util.LimitadorTaxa;
+import com.peopleflow.pessoascontratos.core.application.RenderizadorNotificacoes;
+import com.peopleflow.pessoascontratos.core.application.RenderizadorNotificacoes.Renderizacao;
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.ports.output.CanalNotificacaoPort;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort.NotificacaoPendente;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+import com.peopleflow.pessoascontratos.inbound.config.NotificacaoCanaisProperties;
+import com.peopleflow.pessoascontratos.inbound.config.NotificacaoCanaisProperties.Politica;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Despacha a fila de notificações (NOTIFICACAO_ENVIO) em lotes
+ *
+ * Cada lote é reivindicado com lease (FOR UPDATE SKIP LOCKED, seguro com vários nós),
+ * renderizado com os templates compilados em cache e entregue aos adapters de cada canal
+ * fora de transação: cada canal tem seu pool, limite de envios por segundo e tamanho de
+ * envio. Os resultados do lote são gravados de uma vez; falhas temporárias voltam à fila
+ * com backoff exponencial. Um nó que cai no meio do envio deixa o lease expirar e o lote
+ * é reenviado (at-least-once).
+ */
+@Component
+public class NotificacaoDespachante {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificacaoDespachante.class);
+
+    private final NotificacaoRepositoryPort notificacaoRepository;
+    private final RenderizadorNotificacoes renderizador;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<CanalNotificacao, Canal> canais = new EnumMap<>(CanalNotificacao.class);
+    private final int tamanhoLote;
+    private final int lotesPorCiclo;
+    private final Duration lease;
+    private final int maxTentativas;
+    private final Duration backoffInicial;
+    private final Duration backoffMaximo;
+    private final MeterRegistry registry;
+    private final Timer tempoLote;
+
+    public NotificacaoDespachante(
+            NotificacaoRepositoryPort notificacaoRepository,
+            RenderizadorNotificacoes renderizador,
+            List<CanalNotificacaoPort> adapters,
+            NotificacaoCanaisProperties properties,
+            PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.notificacao.despacho.tamanho-lote:500}") int tamanhoLote,
+            @Value("${app.notificacao.despacho.lotes-por-ciclo:10}") int lotesPorCiclo,
+            @Value("${app.notificacao.despacho.lease:PT5M}") Duration lease,
+            @Value("${app.notificacao.despacho.max-tentativas:5}") int maxTentativas,
+            @Value("${app.notificacao.despacho.backoff-inicial:PT30S}") Duration backoffInicial,
+            @Value("${app.notificacao.despacho.backoff-maximo:PT30M}") Duration backoffMaximo) {
+        this.notificacaoRepository = notificacaoRepository;
+        this.renderizador = renderizador;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.lotesPorCiclo = lotesPorCiclo;
+        this.lease = lease;
+        this.maxTentativas = maxTentativas;
+        this.backoffInicial = backoffInicial;
+        this.backoffMaximo = backoffMaximo;
+
+        for (CanalNotificacaoPort adapter : adapters) {
+            Politica politica = properties.politicaDe(adapter.canal().getValor());
+            canais.put(adapter.canal(), new Canal(
+                    adapter,
+                    Executors.newFixedThreadPool(politica.concorrencia(),
+                            new CustomizableThreadFactory("notificacao-" + adapter.canal().getValor() + "-")),
+                    new LimitadorTaxa(politica.porSegundo()),
+                    politica.tamanhoEnvio()));
+            log.info("📬 Notificações: canal {} com {} threads, {} envios/s, {} por envio",
+                    adapter.canal().getValor(), politica.concorrencia(),
+                    politica.porSegundo() > 0 ? politica.porSegundo() : "sem limite de", politica.tamanhoEnvio());
+        }
+
+        this.registry = meterRegistry.getIfAvailable();
+        this.tempoLote = registry != null ? Timer.builder("notificacao.despacho.lote").register(registry) : null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notificacao.despacho.intervalo-ms:1000}")
+    public void despachar() {
+        for (int i = 0; i < lotesPorCiclo; i++) {
+            List<NotificacaoPendente> lote = transactionTemplate.execute(
+                    status -> notificacaoRepository.reivindicarLote(tamanhoLote, lease));
+
+            if (lote == null || lote.isEmpty()) {
+                return;
+            }
+
+            long inicio = System.nanoTime();
+            Renderizacao renderizacao = renderizador.renderizar(lote);
+            List<ResultadoEnvio> resultados = new ArrayList<>(lote.size());
+            resultados.addAll(renderizacao.falhas());
+            resultados.addAll(enviar(renderizacao.prontas()));
+            registrar(renderizacao.prontas(), resultados);
+            medir(lote, resultados, System.nanoTime() - inicio);
+
+            if (lote.size() < tamanhoLote) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        canais.values().forEach(canal -> canal.pool().shutdown());
+    }
+
+    private List<ResultadoEnvio> enviar(List<NotificacaoRenderizada> prontas) {
+        Map<CanalNotificacao, List<NotificacaoRenderizada>> porCanal = new EnumMap<>(CanalNotificacao.class);
+        for (NotificacaoRenderizada notificacao : prontas) {
+            porCanal.computeIfAbsent(notificacao.canal(), c -> new ArrayList<>()).add(notificacao);
+        }
+
+        List<ResultadoEnvio> resultados = new ArrayList<>(prontas.size());
+        List<CompletableFuture<List<ResultadoEnvio>>> envios = new ArrayList<>();
+        porCanal.forEach((tipo, notificacoes) -> {
+            Canal canal = canais.get(tipo);
+            if (canal == null) {
+                notificacoes.forEach(n -> resultados.add(
+                        ResultadoEnvio.falhaDefinitiva(n.id(), "Canal sem adapter: " + tipo.getValor())));
+                return;
+            }
+            for (int i = 0; i < notificacoes.size(); i += canal.tamanhoEnvio()) {
+                List<NotificacaoRenderizada> parte =
+                        notificacoes.subList(i, Math.min(i + canal.tamanhoEnvio(), notificacoes.size()));
+                envios.add(CompletableFuture.supplyAsync(() -> enviarParte(canal, parte), canal.pool()));
+            }
+        });
+        envios.forEach(envio -> resultados.addAll(envio.join()));
+        return resultados;
+    }
+
+    private List<ResultadoEnvio> enviarParte(Canal canal, List<NotificacaoRenderizada> parte) {
+        List<ResultadoEnvio> resultados;
+        try {
+            canal.limitador().adquirir(parte.size());
+            resultados = new ArrayList<>(canal.adapter().enviar(parte));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return falharTodas(parte, "Envio interrompido");
+        } catch (RuntimeException e) {
+            log.error("❌ Notificações: falha no canal {} ({} notificações): {}",
+                    canal.adapter().canal().getValor(), parte.size(), e.getMessage());
+            return falharTodas(parte, e.getMessage());
+        }
+
+        // Notificação sem resultado do adapter volta para a fila
+        Set<Long> respondidas = new HashSet<>();
+        resultados.forEach(resultado -> respondidas.add(resultado.id()));
+        for (NotificacaoRenderizada notificacao : parte) {
+            if (!respondidas.contains(notificacao.id())) {
+                resultados.add(ResultadoEnvio.falhaTemporaria(notificacao.id(), "Sem resultado do adapter"));
+            }
+        }
+        return resultados;
+    }
+
+    private void registrar(List<NotificacaoRenderizada> prontas, List<ResultadoEnvio> resultados) {
+        Set<Long> enviadas = new HashSet<>();
+        List<ResultadoEnvio> falhas = new ArrayList<>();
+        for (ResultadoEnvio resultado : resultados) {
+            if (resultado.enviado()) {
+                enviadas.add(resultado.id());
+            } else {
+                falhas.add(resultado);
+            }
+        }
+        List<NotificacaoRenderizada> registradas = prontas.stream()
+                .filter(notificacao -> enviadas.contains(notificacao.id()))
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!registradas.isEmpty()) {
+                    notificacaoRepository.registrarEnvios(registradas);
+                }
+                if (!falhas.isEmpty()) {
+                    notificacaoRepository.registrarFalhas(falhas, maxTentativas, backoffInicial, backoffMaximo);
+                }
+            });
+        } catch (Exception e) {
+            // O lease expira e o lote volta à fila (pode haver reenvio)
+            log.error("❌ Notificações: não foi possível registrar o resultado de {} envios: {}",
+                    resultados.size(), e.getMessage());
+            return;
+        }
+
+        if (!falhas.isEmpty()) {
+            log.warn("⚠️ Notificações: {} enviadas, {} falharam", registradas.size(), falhas.size());
+        } else {
+            log.debug("📬 Notificações: {} enviadas", registradas.size());
+        }
+    }
+
+    private void medir(List<NotificacaoPendente> lote, List<ResultadoEnvio> resultados, long duracaoNanos) {
+        if (registry == null) {
+            return;
+        }
+        tempoLote.record(Duration.ofNanos(duracaoNanos));
+        Map<Long, CanalNotificacao> canalPorId = new HashMap<>();
+        lote.forEach(pendente -> canalPorId.put(pendente.id(), pendente.canal()));
+        for (ResultadoEnvio resultado : resultados) {
+            String situacao = resultado.enviado() ? "enviado" : resultado.definitivo() ? "falha_definitiva" : "falha_temporaria";
+            registry.counter("notificacao.envios",
+                    "canal", canalPorId.get(resultado.id()).getValor(),
+                    "resultado", situacao).increment();
+        }
+    }
+
+    private static List<ResultadoEnvio> falharTodas(List<NotificacaoRenderizada> parte, String erro) {
+        return parte.stream()
+                .map(notificacao -> ResultadoEnvio.falhaTemporaria(notificacao.id(), erro))
+                .toList();
+    }
+
+    private record Canal(CanalNotificacaoPort adapter, ExecutorService pool, LimitadorTaxa limitador, int tamanhoEnvio) {
+    }
+}
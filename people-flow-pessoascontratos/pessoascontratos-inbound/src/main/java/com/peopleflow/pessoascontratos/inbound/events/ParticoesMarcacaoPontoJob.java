@@ -0,0 +1,38 @@
+package com.peopleflow.pessoascontratos.inbound.events;
+
+import com.peopleflow.pessoascontratos.core.ports.input.MarcacaoPontoUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mantém as partições mensais de MARCACAO_PONTO criadas com antecedência, para que
+ * as marcações nunca caiam na partição DEFAULT
+ */
+@Slf4j
+@Component
+public class ParticoesMarcacaoPontoJob {
+
+    private final MarcacaoPontoUseCase marcacaoPontoUseCase;
+    private final int mesesAFrente;
+
+    public ParticoesMarcacaoPontoJob(
+            MarcacaoPontoUseCase marcacaoPontoUseCase,
+            @Value("${app.ponto.particoes.meses-a-frente:2}") int mesesAFrente) {
+        this.marcacaoPontoUseCase = marcacaoPontoUseCase;
+        this.mesesAFrente = mesesAFrente;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.ponto.particoes.cron:0 0 2 * * *}")
+    public void prepararParticoes() {
+        try {
+            marcacaoPontoUseCase.prepararParticoes(mesesAFrente);
+        } catch (Exception e) {
+            log.error("❌ Falha ao criar partições de marcação de ponto: {}", e.getMessage(), e);
+        }
+    }
+}
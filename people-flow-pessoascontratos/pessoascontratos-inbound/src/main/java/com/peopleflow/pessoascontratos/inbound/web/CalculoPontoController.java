@@ -0,0 +1,46 @@
+package com.peopleflow.pessoascontratos.inbound.web;
+
+import com.peopleflow.pessoascontratos.core.ports.input.CalculoPontoUseCase;
+import com.peopleflow.pessoascontratos.inbound.web.dto.FechamentoPontoResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/v1/ponto/calculo")
+@RequiredArgsConstructor
+@Tag(name = "Marcações de Ponto", description = "Cálculo diário de ponto e banco de horas")
+public class CalculoPontoController {
+
+    private final CalculoPontoUseCase calculoPontoUseCase;
+
+    @PostMapping("/fechamento")
+    @PreAuthorize("hasRole('ponto:fechar')")
+    @Operation(
+        summary = "Fechar competência",
+        description = "Agenda o cálculo de todos os dias da competência (até hoje) dos colaboradores com contrato "
+                      + "vigente, inclusive dias sem marcação, que entram no banco de horas como horas faltantes. "
+                      + "O cálculo roda em segundo plano; dias já calculados só têm o saldo repassado aos seguintes. "
+                      + "Usuários não-admin fecham apenas a própria empresa."
+    )
+    public ResponseEntity<FechamentoPontoResponse> fecharMes(
+            @Parameter(description = "Competência (AAAA-MM)", example = "2026-10")
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth competencia,
+            @RequestParam(required = false) Long empresaId) {
+        int agendados = calculoPontoUseCase.fecharMes(competencia, empresaId);
+        return ResponseEntity.accepted().body(FechamentoPontoResponse.builder()
+                .competencia(competencia)
+                .diasAgendados(agendados)
+                .build());
+    }
+}
@@ -1,25 +1,39 @@
 package com.peopleflow.pessoascontratos.inbound.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peopleflow.common.pagination.CursorPagedResult;
+import com.peopleflow.common.pagination.CursorPagination;
 import com.peopleflow.common.pagination.PageablePagination;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
 import com.peopleflow.common.security.SecurityContextHelper;
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
 import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase;
+import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase.NovaAdmissao;
+import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase.ResultadoAdmissao;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import com.peopleflow.pessoascontratos.inbound.config.ExportacaoProperties;
+import com.peopleflow.pessoascontratos.inbound.web.dto.AdmissaoLoteResponse;
+import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorAtualizacaoParcialRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorFilterRequest;
+import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorLoteRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorResponse;
 import com.peopleflow.pessoascontratos.inbound.web.dto.DemissaoRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.ReativacaoRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.TransferenciaRequest;
+import com.peopleflow.pessoascontratos.inbound.web.export.ColaboradorExportWriter;
+import com.peopleflow.pessoascontratos.inbound.web.export.FormatoExportacao;
 import com.peopleflow.pessoascontratos.inbound.web.mapper.ColaboradorWebMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -31,7 +45,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/colaboradores")
@@ -46,6 +67,8 @@ public class ColaboradorController {
     private final ColaboradorUseCase colaboradorUseCase;
     private final ColaboradorWebMapper mapper;
     private final SecurityContextHelper securityHelper;
+    private final ObjectMapper objectMapper;
+    private final ExportacaoProperties exportacaoProperties;
 
     @PostMapping
     @PreAuthorize("hasRole('colaborador:criar')")
@@ -71,6 +94,40 @@ public class ColaboradorController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/lote")
+    @PreAuthorize("hasRole('colaborador:criar')")
+    @Operation(
+        summary = "Admitir colaboradores em lote",
+        description = "Admite até 1000 colaboradores em uma única transação. Unicidade de CPF, email e matrícula é "
+                      + "verificada para o lote inteiro (contra a base e entre as linhas). Linhas rejeitadas não "
+                      + "impedem as demais: o resultado informa, por índice, o ID criado ou o código do erro."
+    )
+    public ResponseEntity<AdmissaoLoteResponse> admitirEmLote(@Valid @RequestBody ColaboradorLoteRequest request) {
+        List<NovaAdmissao> admissoes = request.getColaboradores().stream()
+                .map(mapper::toNovaAdmissao)
+                .toList();
+
+        List<ResultadoAdmissao> resultados = colaboradorUseCase.admitirEmLote(admissoes);
+
+        int admitidos = (int) resultados.stream().filter(ResultadoAdmissao::admitido).count();
+        AdmissaoLoteResponse response = AdmissaoLoteResponse.builder()
+                .total(resultados.size())
+                .admitidos(admitidos)
+                .rejeitados(resultados.size() - admitidos)
+                .resultados(resultados.stream()
+                        .map(r -> AdmissaoLoteResponse.Item.builder()
+                                .indice(r.indice())
+                                .admitido(r.admitido())
+                                .id(r.id())
+                                .codigoErro(r.codigoErro())
+                                .mensagem(r.mensagem())
+                                .build())
+                        .toList())
+                .build();
+        HttpStatus status = admitidos > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('colaborador:ler')")
     @Operation(summary = "Buscar colaborador por ID", description = "Retorna os dados de um colaborador específico")
@@ -97,6 +154,83 @@ public class ColaboradorController {
         return ResponseEntity.ok(PagedResult.map(resultado, mapper::toResponse));
     }
 
+    @GetMapping("/busca")
+    @PreAuthorize("hasRole('colaborador:ler')")
+    @Operation(
+        summary = "Pesquisar colaboradores (typeahead)",
+        description = "Busca textual por nome (sem distinção de acentos), email ou CPF, ordenada por relevância. "
+                      + "Mínimo de 3 caracteres; `limite` máximo 50."
+    )
+    public ResponseEntity<List<ColaboradorResponse>> pesquisar(
+            @RequestParam("q") String termo,
+            @RequestParam(defaultValue = "10") int limite) {
+        List<ColaboradorResponse> resultado = colaboradorUseCase.pesquisar(termo, limite).stream()
+                .map(mapper::toResponse)
+                .toList();
+        return ResponseEntity.ok(resultado);
+    }
+
+    @GetMapping("/exportacao")
+    @PreAuthorize("hasRole('colaborador:ler')")
+    @Operation(
+        summary = "Exportar colaboradores (NDJSON ou CSV)",
+        description = "Exporta todos os colaboradores do filtro em uma única resposta, ordenados por ID, lidos com "
+                      + "cursor no banco e escritos em streaming. Mesmos filtros e restrições de empresa da listagem. "
+                      + "`formato`: ndjson (padrão) ou csv."
+    )
+    public WebAsyncTask<Void> exportar(
+            @ModelAttribute ColaboradorFilterRequest filtrosRequest,
+            @RequestParam(defaultValue = "ndjson") String formato,
+            HttpServletResponse response) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.of(formato);
+        ColaboradorFilter filter = mapper.toDomain(filtrosRequest);
+
+        response.setContentType(formatoExportacao.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("colaboradores." + formatoExportacao.getExtensao())
+                .build()
+                .toString());
+
+        // Timeout próprio da exportação: o padrão do spring.mvc.async vale para os demais endpoints
+        return new WebAsyncTask<>(exportacaoProperties.timeout().toMillis(), () -> {
+            OutputStream out = response.getOutputStream();
+            ColaboradorExportWriter writer = ColaboradorExportWriter.para(formatoExportacao, out, objectMapper);
+            colaboradorUseCase.exportar(filter, linha -> {
+                try {
+                    writer.escrever(linha);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finalizar();
+            out.flush();
+            return null;
+        });
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasRole('colaborador:ler')")
+    @Operation(
+        summary = "Buscar colaboradores com paginação por cursor",
+        description = "Mesmos filtros da listagem paginada, mas sem OFFSET: envie o `nextCursor` devolvido para "
+                      + "obter a próxima página (ausente na última). Ordenação por `id` (padrão) ou `nome`; "
+                      + "`incluirTotal=true` calcula o total de elementos. Indicado para integrações que percorrem "
+                      + "toda a base."
+    )
+    public ResponseEntity<CursorPagedResult<ColaboradorResponse>> buscarPorCursor(
+            @ModelAttribute ColaboradorFilterRequest filtrosRequest,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Pagination.DEFAULT_PAGE_SIZE_PARAM) int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") Pagination.SortDirection direction,
+            @RequestParam(defaultValue = "false") boolean incluirTotal) {
+
+        CursorPagination pagination = CursorPagination.of(cursor, size, sortBy, direction, incluirTotal);
+        CursorPagedResult<Colaborador> resultado =
+                colaboradorUseCase.buscarPorFiltros(mapper.toDomain(filtrosRequest), pagination);
+        return ResponseEntity.ok(resultado.map(mapper::toResponse));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('colaborador:editar')")
     @Operation(
@@ -120,6 +254,21 @@ public class ColaboradorController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasRole('colaborador:editar')")
+    @Operation(
+        summary = "Atualizar colaborador parcialmente",
+        description = "Altera apenas os campos informados (ausentes mantêm o valor atual) e grava só as colunas "
+                      + "que mudaram. `versao` é obrigatória: se o colaborador foi alterado desde a leitura, "
+                      + "retorna 409 (CONFLITO_VERSAO). empresaId e status não são alterados por este endpoint."
+    )
+    public ResponseEntity<ColaboradorResponse> atualizarParcialmente(
+            @PathVariable Long id,
+            @Valid @RequestBody ColaboradorAtualizacaoParcialRequest request) {
+        Colaborador atualizado = colaboradorUseCase.atualizarParcialmente(id, mapper.toAlteracao(request));
+        return ResponseEntity.ok(mapper.toResponse(atualizado));
+    }
+
     @PatchMapping("/{id}/demitir")
     @PreAuthorize("hasRole('colaborador:demitir')")
     @Operation(summary = "Demitir colaborador", description = "Registra a demissão de um colaborador")
@@ -0,0 +1,71 @@
+package com.peopleflow.pessoascontratos.inbound.web;
+
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.ports.input.EventoESocialUseCase;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusGeracaoESocial;
+import com.peopleflow.pessoascontratos.inbound.events.ESocialGeracaoExecutor;
+import com.peopleflow.pessoascontratos.inbound.web.dto.GeracaoESocialResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/folha/execucoes/{execucaoId}/esocial")
+@RequiredArgsConstructor
+@Tag(name = "eSocial", description = "Geração dos eventos eSocial da folha")
+public class EventoESocialController {
+
+    private final EventoESocialUseCase eventoUseCase;
+    private final ESocialGeracaoExecutor geracaoExecutor;
+
+    @PostMapping("/s1200")
+    @PreAuthorize("hasRole('esocial:gerar')")
+    @Operation(
+        summary = "Gerar S-1200",
+        description = "Gera em segundo plano os eventos de remuneração (S-1200) de uma folha calculada, "
+                      + "em paralelo por empregador e em lotes de envio. Chamado de novo, retoma as "
+                      + "gerações não concluídas, inclusive as com erro. Acompanhe em GET /geracoes."
+    )
+    public ResponseEntity<List<GeracaoESocialResponse>> gerarS1200(@PathVariable Long execucaoId) {
+        List<GeracaoESocial> geracoes = eventoUseCase.gerarS1200(execucaoId);
+        geracaoExecutor.disparar(geracoes.stream()
+                .filter(geracao -> geracao.getStatus() == StatusGeracaoESocial.GERANDO)
+                .map(GeracaoESocial::getId)
+                .toList());
+        return ResponseEntity.accepted().body(geracoes.stream().map(this::toResponse).toList());
+    }
+
+    @GetMapping("/geracoes")
+    @PreAuthorize("hasRole('esocial:ler')")
+    @Operation(summary = "Consultar gerações", description = "Progresso das gerações de eventos eSocial da folha.")
+    public ResponseEntity<List<GeracaoESocialResponse>> consultar(@PathVariable Long execucaoId) {
+        return ResponseEntity.ok(eventoUseCase.consultar(execucaoId).stream().map(this::toResponse).toList());
+    }
+
+    private GeracaoESocialResponse toResponse(GeracaoESocial geracao) {
+        return GeracaoESocialResponse.builder()
+                .id(geracao.getId())
+                .execucaoId(geracao.getExecucaoId())
+                .empresaId(geracao.getEmpresaId())
+                .tipo(geracao.getTipo().getValor())
+                .competencia(geracao.getCompetencia())
+                .status(geracao.getStatus().getValor())
+                .lotes(geracao.getLotes())
+                .eventos(geracao.getEventos())
+                .tamanhoXml(geracao.getTamanhoXml())
+                .tentativas(geracao.getTentativas())
+                .ultimoErro(geracao.getUltimoErro())
+                .iniciadoEm(geracao.getIniciadoEm())
+                .concluidoEm(geracao.getConcluidoEm())
+                .build();
+    }
+}
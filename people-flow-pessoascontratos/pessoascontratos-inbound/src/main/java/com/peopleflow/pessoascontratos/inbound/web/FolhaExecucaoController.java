@@ -0,0 +1,92 @@
+package com.peopleflow.pessoascontratos.inbound.web;
+
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.ports.input.FolhaExecucaoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.input.FolhaExecucaoUseCase.ResumoExecucao;
+import com.peopleflow.pessoascontratos.core.query.ProgressoFolha;
+import com.peopleflow.pessoascontratos.inbound.events.FolhaCalculoExecutor;
+import com.peopleflow.pessoascontratos.inbound.web.dto.FolhaExecucaoRequest;
+import com.peopleflow.pessoascontratos.inbound.web.dto.FolhaExecucaoResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/v1/folha/execucoes")
+@RequiredArgsConstructor
+@Tag(name = "Folha de Pagamento", description = "Execuções e cálculo da folha de pagamento")
+public class FolhaExecucaoController {
+
+    private final FolhaExecucaoUseCase folhaUseCase;
+    private final FolhaCalculoExecutor calculoExecutor;
+
+    @PostMapping
+    @PreAuthorize("hasRole('folha:processar')")
+    @Operation(summary = "Abrir folha", description = "Abre a execução da folha de uma competência (uma por competência).")
+    public ResponseEntity<FolhaExecucaoResponse> abrir(@Valid @RequestBody FolhaExecucaoRequest request) {
+        FolhaExecucao execucao = folhaUseCase.abrir(request.getCompetencia());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(toResponse(new ResumoExecucao(execucao, new ProgressoFolha(0, 0, 0, 0, 0, 0))));
+    }
+
+    @PostMapping("/{id}/calculo")
+    @PreAuthorize("hasRole('folha:processar')")
+    @Operation(
+        summary = "Calcular folha",
+        description = "Inicia o cálculo em segundo plano: os contratos vigentes são divididos em lotes calculados "
+                      + "em paralelo. Chamado de novo numa folha em cálculo, retoma os lotes pendentes; numa folha "
+                      + "com erro no cálculo, refaz os lotes com erro. "
+                      + "Acompanhe o progresso em GET /{id}."
+    )
+    public ResponseEntity<FolhaExecucaoResponse> calcular(@PathVariable Long id) {
+        folhaUseCase.iniciarCalculo(id);
+        calculoExecutor.disparar(id);
+        return ResponseEntity.accepted().body(toResponse(folhaUseCase.consultar(id)));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('folha:ler')")
+    @Operation(summary = "Consultar execução", description = "Status, progresso do cálculo e vazão da execução.")
+    public ResponseEntity<FolhaExecucaoResponse> consultar(@PathVariable Long id) {
+        return ResponseEntity.ok(toResponse(folhaUseCase.consultar(id)));
+    }
+
+    private FolhaExecucaoResponse toResponse(ResumoExecucao resumo) {
+        FolhaExecucao execucao = resumo.execucao();
+        ProgressoFolha progresso = resumo.progresso();
+
+        Double vazao = null;
+        if (execucao.getIniciadoEm() != null) {
+            Instant fim = execucao.getConcluidoEm() != null ? execucao.getConcluidoEm() : Instant.now();
+            long millis = Math.max(1, Duration.between(execucao.getIniciadoEm(), fim).toMillis());
+            vazao = progresso.contratos() * 1000.0 / millis;
+        }
+
+        return FolhaExecucaoResponse.builder()
+                .id(execucao.getId())
+                .competencia(execucao.getCompetencia())
+                .status(execucao.getStatus().getValor())
+                .iniciadoEm(execucao.getIniciadoEm())
+                .concluidoEm(execucao.getConcluidoEm())
+                .lotes(progresso.lotes())
+                .lotesConcluidos(progresso.lotesConcluidos())
+                .lotesComErro(progresso.lotesComErro())
+                .contratosCalculados(progresso.contratos())
+                .itensGerados(progresso.itens())
+                .contratosPorSegundo(vazao)
+                .build();
+    }
+}
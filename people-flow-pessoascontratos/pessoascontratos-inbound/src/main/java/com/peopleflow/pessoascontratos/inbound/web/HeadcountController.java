@@ -0,0 +1,53 @@
+package com.peopleflow.pessoascontratos.inbound.web;
+
+import com.peopleflow.pessoascontratos.core.ports.input.HeadcountUseCase;
+import com.peopleflow.pessoascontratos.core.query.HeadcountUnidade;
+import com.peopleflow.pessoascontratos.inbound.web.dto.HeadcountResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/colaboradores/headcount")
+@RequiredArgsConstructor
+@Tag(name = "Colaboradores", description = "Headcount de colaboradores ativos por unidade organizacional")
+public class HeadcountController {
+
+    private final HeadcountUseCase headcountUseCase;
+
+    @GetMapping
+    @PreAuthorize("hasRole('colaborador:ler')")
+    @Operation(
+        summary = "Headcount por unidade",
+        description = "Colaboradores ativos por empresa, departamento e centro de custo, lidos de uma projeção "
+                      + "mantida pelos eventos de colaborador (pode atrasar alguns segundos em relação às escritas). "
+                      + "Todos os filtros são opcionais; usuários não-admin veem apenas a própria empresa."
+    )
+    public ResponseEntity<HeadcountResponse> consultar(
+            @RequestParam(required = false) Long empresaId,
+            @RequestParam(required = false) Long departamentoId,
+            @RequestParam(required = false) Long centroCustoId) {
+        List<HeadcountUnidade> unidades = headcountUseCase.consultar(empresaId, departamentoId, centroCustoId);
+
+        HeadcountResponse response = HeadcountResponse.builder()
+                .totalAtivos(unidades.stream().mapToLong(HeadcountUnidade::ativos).sum())
+                .unidades(unidades.stream()
+                        .map(u -> HeadcountResponse.Item.builder()
+                                .empresaId(u.empresaId())
+                                .departamentoId(u.departamentoId())
+                                .centroCustoId(u.centroCustoId())
+                                .ativos(u.ativos())
+                                .build())
+                        .toList())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,71 @@
+package com.peopleflow.pessoascontratos.inbound.web;
+
+import com.peopleflow.pessoascontratos.core.ports.input.MarcacaoPontoUseCase;
+import com.peopleflow.pessoascontratos.core.ports.input.MarcacaoPontoUseCase.NovaMarcacao;
+import com.peopleflow.pessoascontratos.core.ports.input.MarcacaoPontoUseCase.ResultadoIngestao;
+import com.peopleflow.pessoascontratos.inbound.web.dto.IngestaoMarcacaoResponse;
+import com.peopleflow.pessoascontratos.inbound.web.dto.MarcacaoPontoLoteRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/ponto/marcacoes")
+@RequiredArgsConstructor
+@Tag(name = "Marcações de Ponto", description = "Ingestão de marcações de ponto")
+public class MarcacaoPontoController {
+
+    private final MarcacaoPontoUseCase marcacaoPontoUseCase;
+
+    @PostMapping("/lote")
+    @PreAuthorize("hasRole('ponto:registrar')")
+    @Operation(
+        summary = "Registrar marcações em lote",
+        description = "Registra até 5000 marcações. A resposta só é enviada depois de gravadas; reenvios da mesma "
+                      + "marcação (colaborador, data/hora e tipo) são ignorados, então o lote pode ser reenviado com "
+                      + "segurança. Linhas rejeitadas não impedem as demais. Com o buffer de gravação cheio a "
+                      + "requisição é recusada com 503 e Retry-After."
+    )
+    public CompletableFuture<ResponseEntity<IngestaoMarcacaoResponse>> registrarEmLote(
+            @Valid @RequestBody MarcacaoPontoLoteRequest request) {
+        List<NovaMarcacao> marcacoes = request.getMarcacoes().stream()
+                .map(item -> new NovaMarcacao(
+                        item.getColaboradorId(),
+                        item.getDataHora().toInstant(),
+                        item.getTipo(),
+                        item.getOrigem(),
+                        item.getLatitude(),
+                        item.getLongitude()))
+                .toList();
+
+        return marcacaoPontoUseCase.registrar(marcacoes).thenApply(this::toResponse);
+    }
+
+    private ResponseEntity<IngestaoMarcacaoResponse> toResponse(ResultadoIngestao resultado) {
+        IngestaoMarcacaoResponse response = IngestaoMarcacaoResponse.builder()
+                .total(resultado.total())
+                .aceitas(resultado.aceitas())
+                .rejeitadas(resultado.rejeicoes().size())
+                .rejeicoes(resultado.rejeicoes().stream()
+                        .map(r -> IngestaoMarcacaoResponse.Item.builder()
+                                .indice(r.indice())
+                                .codigoErro(r.codigoErro())
+                                .mensagem(r.mensagem())
+                                .build())
+                        .toList())
+                .build();
+        HttpStatus status = resultado.aceitas() > 0 ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -0,0 +1,41 @@
+package com.peopleflow.pessoascontratos.inbound.web;
+
+import com.peopleflow.pessoascontratos.core.ports.input.NotificacaoUseCase;
+import com.peopleflow.pessoascontratos.inbound.web.dto.CampanhaNotificacaoRequest;
+import com.peopleflow.pessoascontratos.inbound.web.dto.CampanhaNotificacaoResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/notificacoes")
+@RequiredArgsConstructor
+@Tag(name = "Notificações", description = "Envio de notificações a colaboradores")
+public class NotificacaoController {
+
+    private final NotificacaoUseCase notificacaoUseCase;
+
+    @PostMapping("/campanhas")
+    @PreAuthorize("hasRole('notificacao:enviar')")
+    @Operation(
+        summary = "Enviar campanha",
+        description = "Enfileira o template para todos os colaboradores ativos da empresa (ou do departamento). "
+                      + "O envio é feito em segundo plano, em lotes, respeitando o limite de cada canal."
+    )
+    public ResponseEntity<CampanhaNotificacaoResponse> enviarCampanha(
+            @Valid @RequestBody CampanhaNotificacaoRequest request) {
+        int enfileiradas = notificacaoUseCase.enfileirarCampanha(request.getTemplateId(),
+                request.getEmpresaId(), request.getDepartamentoId(), request.getContexto());
+        return ResponseEntity.accepted().body(CampanhaNotificacaoResponse.builder()
+                .templateId(request.getTemplateId())
+                .enfileiradas(enfileiradas)
+                .build());
+    }
+}
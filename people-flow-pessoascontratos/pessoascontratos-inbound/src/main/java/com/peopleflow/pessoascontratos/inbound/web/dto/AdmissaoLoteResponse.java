@@ -0,0 +1,32 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissaoLoteResponse {
+    private int total;
+    private int admitidos;
+    private int rejeitados;
+    private List<Item> resultados;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        /** Posição da linha no lote enviado (base 0) */
+        private int indice;
+        private boolean admitido;
+        private Long id;
+        private String codigoErro;
+        private String mensagem;
+    }
+}
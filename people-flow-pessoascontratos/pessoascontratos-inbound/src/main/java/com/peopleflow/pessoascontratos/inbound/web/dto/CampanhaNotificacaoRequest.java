@@ -0,0 +1,24 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class CampanhaNotificacaoRequest {
+
+    @NotNull(message = "Template é obrigatório")
+    @Schema(description = "ID do template de notificação (ativo)", example = "1")
+    private Long templateId;
+
+    @Schema(description = "Empresa dos destinatários (sem acesso admin, vale a empresa do usuário)", example = "1")
+    private Long empresaId;
+
+    @Schema(description = "Restringe aos colaboradores do departamento", example = "3")
+    private Long departamentoId;
+
+    @Schema(description = "Variáveis do template comuns a todos os destinatários ({{nome}} vem do colaborador)")
+    private Map<String, Object> contexto;
+}
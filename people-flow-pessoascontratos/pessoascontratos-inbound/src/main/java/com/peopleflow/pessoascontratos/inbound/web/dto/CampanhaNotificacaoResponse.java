@@ -0,0 +1,16 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampanhaNotificacaoResponse {
+    private Long templateId;
+    /** Notificações enfileiradas; o envio segue em segundo plano */
+    private int enfileiradas;
+}
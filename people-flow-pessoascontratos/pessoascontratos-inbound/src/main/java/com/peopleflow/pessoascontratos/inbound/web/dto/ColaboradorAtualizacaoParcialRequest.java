@@ -0,0 +1,55 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Atualização parcial do colaborador (PATCH /{id}).
+ * <p>
+ * Apenas os campos informados são alterados; campos ausentes ou nulos mantêm o valor atual.
+ * {@code versao} é a versão devolvida na última leitura: se o registro mudou desde então,
+ * a requisição falha com 409.
+ */
+@Data
+public class ColaboradorAtualizacaoParcialRequest {
+
+    @NotNull(message = "Versão é obrigatória")
+    @Schema(description = "Versão lida do colaborador (campo versao da resposta).")
+    private Long versao;
+
+    @Size(min = 3, max = 100, message = "Nome deve ter entre 3 e 100 caracteres")
+    private String nome;
+
+    @Pattern(
+        regexp = "^\\d{3}\\.?\\d{3}\\.?\\d{3}-?\\d{2}$",
+        message = "CPF deve estar no formato XXX.XXX.XXX-XX ou apenas números (11 dígitos)"
+    )
+    private String cpf;
+
+    @Size(max = 20, message = "Matrícula deve ter no máximo 20 caracteres")
+    private String matricula;
+
+    @Email(message = "Email deve ter formato válido (exemplo@dominio.com)")
+    @Size(max = 100, message = "Email deve ter no máximo 100 caracteres")
+    private String email;
+
+    @PastOrPresent(message = "Data de admissão não pode ser futura")
+    private LocalDate dataAdmissao;
+
+    @Positive(message = "Cargo ID deve ser um número positivo")
+    private Long cargoId;
+
+    @Positive(message = "Departamento ID deve ser um número positivo")
+    private Long departamentoId;
+
+    @Positive(message = "Centro de Custo ID deve ser um número positivo")
+    private Long centroCustoId;
+}
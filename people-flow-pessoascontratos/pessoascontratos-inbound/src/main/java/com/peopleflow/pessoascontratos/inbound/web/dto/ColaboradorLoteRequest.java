@@ -0,0 +1,20 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Lote de admissões (POST /lote). Erros de formato rejeitam o lote inteiro;
+ * regras de negócio (CPF inválido, duplicidade) são reportadas por linha.
+ */
+@Data
+public class ColaboradorLoteRequest {
+
+    @NotEmpty(message = "Informe ao menos um colaborador")
+    @Size(max = 1000, message = "Lote deve ter no máximo 1000 colaboradores")
+    private List<@Valid ColaboradorRequest> colaboradores;
+}
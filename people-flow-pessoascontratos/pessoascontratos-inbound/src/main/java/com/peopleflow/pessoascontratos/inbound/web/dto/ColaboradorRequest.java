@@ -71,4 +71,11 @@ public class ColaboradorRequest {
      */
     @Schema(description = "Somente para POST. Indica se deve criar usuário no Keycloak.", defaultValue = "false")
     private Boolean requerAcessoSistema = false;
+
+    /**
+     * Versão lida pelo cliente. Opcional no PUT: quando informada, a atualização
+     * falha com 409 se o colaborador foi alterado nesse meio tempo. Ignorada no POST.
+     */
+    @Schema(description = "Opcional no PUT. Versão lida; se o registro mudou, retorna 409.")
+    private Long versao;
 }
\ No newline at end of file
@@ -25,4 +25,5 @@ public class ColaboradorResponse {
     private LocalDate dataDemissao;
     private String status;
     private boolean acessoSistema;
+    private Long versao;
 }
\ No newline at end of file
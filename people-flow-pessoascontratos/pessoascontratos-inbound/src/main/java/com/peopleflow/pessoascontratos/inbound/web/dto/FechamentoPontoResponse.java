@@ -0,0 +1,18 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FechamentoPontoResponse {
+    private YearMonth competencia;
+    /** Dias de colaborador colocados na fila de cálculo (já pendentes não contam de novo) */
+    private int diasAgendados;
+}
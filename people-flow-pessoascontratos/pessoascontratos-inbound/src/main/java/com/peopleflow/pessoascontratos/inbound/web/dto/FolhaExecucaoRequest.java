@@ -0,0 +1,15 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.YearMonth;
+
+@Data
+public class FolhaExecucaoRequest {
+
+    @NotNull(message = "Competência é obrigatória")
+    @Schema(description = "Competência da folha (AAAA-MM)", example = "2026-10", type = "string")
+    private YearMonth competencia;
+}
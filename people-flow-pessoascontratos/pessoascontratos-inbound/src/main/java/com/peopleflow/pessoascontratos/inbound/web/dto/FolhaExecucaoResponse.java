@@ -0,0 +1,29 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FolhaExecucaoResponse {
+    private Long id;
+    private YearMonth competencia;
+    private String status;
+    private Instant iniciadoEm;
+    private Instant concluidoEm;
+    private int lotes;
+    private int lotesConcluidos;
+    /** Lotes que esgotaram as tentativas de cálculo (a execução fica com status erro_calculo) */
+    private int lotesComErro;
+    private long contratosCalculados;
+    private long itensGerados;
+    /** Contratos calculados por segundo desde o início do cálculo (inclui pausas de uma retomada) */
+    private Double contratosPorSegundo;
+}
@@ -0,0 +1,29 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.YearMonth;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeracaoESocialResponse {
+    private Long id;
+    private Long execucaoId;
+    private Long empresaId;
+    private String tipo;
+    private YearMonth competencia;
+    private String status;
+    private int lotes;
+    private int eventos;
+    private long tamanhoXml;
+    private int tentativas;
+    private String ultimoErro;
+    private Instant iniciadoEm;
+    private Instant concluidoEm;
+}
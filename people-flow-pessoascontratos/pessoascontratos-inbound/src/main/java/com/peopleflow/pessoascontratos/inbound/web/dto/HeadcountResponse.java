@@ -0,0 +1,31 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadcountResponse {
+    /** Soma dos ativos de todas as unidades retornadas */
+    private long totalAtivos;
+    private List<Item> unidades;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long empresaId;
+        /** Nulo: colaboradores sem departamento */
+        private Long departamentoId;
+        /** Nulo: colaboradores sem centro de custo */
+        private Long centroCustoId;
+        private long ativos;
+    }
+}
@@ -0,0 +1,32 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestaoMarcacaoResponse {
+    private int total;
+    /** Marcações gravadas; reenvios de marcações já registradas também contam como aceitas */
+    private int aceitas;
+    private int rejeitadas;
+    /** Apenas as linhas rejeitadas */
+    private List<Item> rejeicoes;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        /** Posição da linha no lote enviado (base 0) */
+        private int indice;
+        private String codigoErro;
+        private String mensagem;
+    }
+}
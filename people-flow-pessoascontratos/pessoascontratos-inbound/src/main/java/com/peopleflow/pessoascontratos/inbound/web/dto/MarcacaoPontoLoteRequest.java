@@ -0,0 +1,46 @@
+package com.peopleflow.pessoascontratos.inbound.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Lote de marcações de ponto (POST /lote). Erros de formato rejeitam o lote inteiro;
+ * regras de negócio (colaborador inexistente, data futura) são reportadas por linha.
+ */
+@Data
+public class MarcacaoPontoLoteRequest {
+
+    @NotEmpty(message = "Informe ao menos uma marcação")
+    @Size(max = 5000, message = "Lote deve ter no máximo 5000 marcações")
+    private List<@Valid Item> marcacoes;
+
+    @Data
+    public static class Item {
+
+        @NotNull(message = "Colaborador ID é obrigatório")
+        private Long colaboradorId;
+
+        @NotNull(message = "Data e hora são obrigatórias")
+        @Schema(description = "Instante da marcação com offset (ISO-8601)", example = "2026-10-18T08:01:12-03:00")
+        private OffsetDateTime dataHora;
+
+        @NotNull(message = "Tipo é obrigatório")
+        @Schema(allowableValues = {"entrada", "saida", "entrada_intervalo", "saida_intervalo"})
+        private String tipo;
+
+        @Schema(allowableValues = {"kiosk", "mobile", "web", "import", "manual"})
+        private String origem;
+
+        private BigDecimal latitude;
+
+        private BigDecimal longitude;
+    }
+}
@@ -0,0 +1,121 @@
+package com.peopleflow.pessoascontratos.inbound.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorExportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Escreve linhas de exportação direto no stream da resposta
+ *
+ * Só o buffer do writer fica em memória; nada é acumulado entre linhas.
+ */
+public interface ColaboradorExportWriter {
+
+    void escrever(ColaboradorExportacao linha) throws IOException;
+
+    /** Descarrega o buffer; não fecha o stream da resposta */
+    void finalizar() throws IOException;
+
+    static ColaboradorExportWriter para(FormatoExportacao formato, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (formato) {
+            case NDJSON -> new Ndjson(out, objectMapper);
+            case CSV -> new Csv(out);
+        };
+    }
+
+    /** Um objeto JSON por linha */
+    final class Ndjson implements ColaboradorExportWriter {
+        private final JsonGenerator generator;
+
+        Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void escrever(ColaboradorExportacao linha) throws IOException {
+            generator.writeObject(linha);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /** CSV (RFC 4180), UTF-8, com cabeçalho */
+    final class Csv implements ColaboradorExportWriter {
+        private static final String CABECALHO = "id,nome,cpf,matricula,email,dataAdmissao,dataDemissao,status,"
+                + "empresaId,departamentoId,centroCustoId,cargoId";
+
+        private final Writer writer;
+
+        Csv(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8192);
+            writer.write(CABECALHO);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void escrever(ColaboradorExportacao linha) throws IOException {
+            campo(linha.id()).write(',');
+            texto(linha.nome()).write(',');
+            texto(linha.cpf()).write(',');
+            texto(linha.matricula()).write(',');
+            texto(linha.email()).write(',');
+            campo(linha.dataAdmissao()).write(',');
+            campo(linha.dataDemissao()).write(',');
+            texto(linha.status()).write(',');
+            campo(linha.empresaId()).write(',');
+            campo(linha.departamentoId()).write(',');
+            campo(linha.centroCustoId()).write(',');
+            campo(linha.cargoId()).write("\r\n");
+        }
+
+        @Override
+        public void finalizar() throws IOException {
+            writer.flush();
+        }
+
+        private Writer campo(Object valor) throws IOException {
+            if (valor != null) {
+                writer.write(valor.toString());
+            }
+            return writer;
+        }
+
+        private Writer texto(String valor) throws IOException {
+            if (valor == null) {
+                return writer;
+            }
+            boolean precisaAspas = false;
+            for (int i = 0; i < valor.length() && !precisaAspas; i++) {
+                char c = valor.charAt(i);
+                precisaAspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!precisaAspas) {
+                writer.write(valor);
+                return writer;
+            }
+            writer.write('"');
+            for (int i = 0; i < valor.length(); i++) {
+                char c = valor.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+            return writer;
+        }
+    }
+}
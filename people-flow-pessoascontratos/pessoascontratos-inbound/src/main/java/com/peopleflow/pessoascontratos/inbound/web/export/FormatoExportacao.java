@@ -0,0 +1,37 @@
+package com.peopleflow.pessoascontratos.inbound.web.export;
+
+import com.peopleflow.common.exception.ValidationException;
+
+import java.util.Locale;
+
+public enum FormatoExportacao {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extensao;
+
+    FormatoExportacao(String contentType, String extensao) {
+        this.contentType = contentType;
+        this.extensao = extensao;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public static FormatoExportacao of(String formato) {
+        if (formato == null || formato.isBlank()) {
+            return NDJSON;
+        }
+        return switch (formato.trim().toLowerCase(Locale.ROOT)) {
+            case "ndjson", "jsonl" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw new ValidationException("Formato de exportação inválido: " + formato + ". Use ndjson ou csv");
+        };
+    }
+}
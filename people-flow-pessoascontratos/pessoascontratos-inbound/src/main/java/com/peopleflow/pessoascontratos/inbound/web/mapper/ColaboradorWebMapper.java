@@ -1,10 +1,13 @@
 package com.peopleflow.pessoascontratos.inbound.web.mapper;
 
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
+import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase.AlteracaoColaborador;
+import com.peopleflow.pessoascontratos.core.ports.input.ColaboradorUseCase.NovaAdmissao;
 import com.peopleflow.common.valueobject.Cpf;
 import com.peopleflow.common.valueobject.Email;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
 import com.peopleflow.pessoascontratos.core.valueobject.StatusColaborador;
+import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorAtualizacaoParcialRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorFilterRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorRequest;
 import com.peopleflow.pessoascontratos.inbound.web.dto.ColaboradorResponse;
@@ -24,6 +27,37 @@ public interface ColaboradorWebMapper {
     @Mapping(target = "email", source = "email", qualifiedByName = "stringToEmail")
     Colaborador toDomain(ColaboradorRequest request);
 
+    // CPF/email seguem como texto: a validação acontece por linha no core
+    default NovaAdmissao toNovaAdmissao(ColaboradorRequest request) {
+        return new NovaAdmissao(
+                request.getNome(),
+                request.getCpf(),
+                request.getEmail(),
+                request.getMatricula(),
+                request.getDataAdmissao(),
+                request.getEmpresaId(),
+                request.getDepartamentoId(),
+                request.getCentroCustoId(),
+                request.getCargoId(),
+                Boolean.TRUE.equals(request.getRequerAcessoSistema())
+        );
+    }
+
+    // Nulos significam "manter o valor atual"; CPF/email são validados no core
+    default AlteracaoColaborador toAlteracao(ColaboradorAtualizacaoParcialRequest request) {
+        return new AlteracaoColaborador(
+                request.getVersao(),
+                request.getNome(),
+                request.getCpf(),
+                request.getEmail(),
+                request.getMatricula(),
+                request.getDataAdmissao(),
+                request.getDepartamentoId(),
+                request.getCentroCustoId(),
+                request.getCargoId()
+        );
+    }
+
     @Mapping(target = "cpf", source = "cpf", qualifiedByName = "cpfToString")
     @Mapping(target = "email", source = "email", qualifiedByName = "emailToString")
     @Mapping(target = "status", source = "status", qualifiedByName = "statusToString")
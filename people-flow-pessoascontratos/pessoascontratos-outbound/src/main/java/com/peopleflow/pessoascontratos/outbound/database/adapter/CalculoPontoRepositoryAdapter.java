@@ -0,0 +1,66 @@
+package com.peopleflow.pessoascontratos.outbound.database.adapter;
+
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort;
+import com.peopleflow.pessoascontratos.outbound.database.repository.CalculoPontoJdbcRepository;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Adapter do cálculo diário de ponto (PEOPLE_FLOW_RH.CALCULO_PONTO_*)
+ */
+@Component
+public class CalculoPontoRepositoryAdapter implements CalculoPontoRepositoryPort {
+
+    private static final Duration BACKOFF_INICIAL = Duration.ofSeconds(30);
+    private static final Duration BACKOFF_MAXIMO = Duration.ofHours(1);
+
+    private final CalculoPontoJdbcRepository repository;
+    private final AuditorAware<String> auditorAware;
+
+    public CalculoPontoRepositoryAdapter(final CalculoPontoJdbcRepository repository,
+                                         final AuditorAware<String> auditorAware) {
+        this.repository = repository;
+        this.auditorAware = auditorAware;
+    }
+
+    @Override
+    public List<Long> colaboradoresPendentes(int limite) {
+        return repository.findColaboradoresPendentes(limite);
+    }
+
+    @Override
+    public boolean registrarFalha(Long colaboradorId, String erro, int maxTentativas) {
+        return repository.registrarFalha(colaboradorId, erro, maxTentativas, BACKOFF_INICIAL, BACKOFF_MAXIMO);
+    }
+
+    @Override
+    public List<DiaPendente> reivindicar(List<Long> colaboradorIds) {
+        return repository.reivindicar(colaboradorIds);
+    }
+
+    @Override
+    public List<SituacaoDia> carregar(List<DiaPendente> dias) {
+        return repository.carregar(dias);
+    }
+
+    @Override
+    public List<MarcacaoPonto> marcacoes(List<DiaPendente> dias, ZoneId fuso) {
+        return repository.findMarcacoes(dias, fuso);
+    }
+
+    @Override
+    public void gravar(List<DiaCalculado> dias) {
+        repository.gravar(dias, auditorAware.getCurrentAuditor().orElse(null));
+    }
+
+    @Override
+    public int agendar(LocalDate inicio, LocalDate fim, Long empresaId) {
+        return repository.agendar(inicio, fim, empresaId);
+    }
+}
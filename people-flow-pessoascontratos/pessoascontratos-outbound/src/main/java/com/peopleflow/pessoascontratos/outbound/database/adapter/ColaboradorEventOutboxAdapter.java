@@ -0,0 +1,109 @@
+package com.peopleflow.pessoascontratos.outbound.database.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peopleflow.pessoascontratos.core.domain.events.ColaboradorEvent;
+import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorEventOutboxPort;
+import com.peopleflow.pessoascontratos.outbound.database.repository.OutboxEventoJdbcRepository;
+import com.peopleflow.pessoascontratos.outbound.database.repository.OutboxEventoJdbcRepository.OutboxEventoRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter do outbox de eventos de Colaborador (JSON em PEOPLE_FLOW_RH.OUTBOX_EVENTO)
+ */
+@Slf4j
+@Component
+public class ColaboradorEventOutboxAdapter implements ColaboradorEventOutboxPort {
+
+    private static final String AGREGADO_TIPO = "Colaborador";
+
+    /** Tipos permitidos pela hierarquia selada, indexados pelo nome gravado em TIPO_EVENTO */
+    private static final Map<String, Class<?>> TIPOS_EVENTO = Arrays.stream(ColaboradorEvent.class.getPermittedSubclasses())
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final OutboxEventoJdbcRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public ColaboradorEventOutboxAdapter(final OutboxEventoJdbcRepository repository, final ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void registrar(ColaboradorEvent event) {
+        repository.insert(AGREGADO_TIPO, event.colaboradorId(), event.getClass().getSimpleName(), serializar(event));
+    }
+
+    @Override
+    public void registrarTodos(List<? extends ColaboradorEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEventoRow> rows = events.stream()
+            .map(event -> new OutboxEventoRow(
+                null, event.colaboradorId(), event.getClass().getSimpleName(), serializar(event), 0))
+            .toList();
+        repository.insertAll(AGREGADO_TIPO, rows);
+    }
+
+    @Override
+    public List<EventoPendente> reivindicarLote(int limite, Duration lease) {
+        List<OutboxEventoRow> rows = repository.reservarLote(limite, lease);
+        List<EventoPendente> pendentes = new ArrayList<>(rows.size());
+
+        for (OutboxEventoRow row : rows) {
+            Class<?> tipo = TIPOS_EVENTO.get(row.tipoEvento());
+            if (tipo == null) {
+                log.error("Tipo de evento desconhecido no outbox: id={}, tipo={}", row.id(), row.tipoEvento());
+                repository.marcarErro(row.id(), "Tipo de evento desconhecido: " + row.tipoEvento());
+                continue;
+            }
+            try {
+                ColaboradorEvent evento = (ColaboradorEvent) objectMapper.readValue(row.payload(), tipo);
+                pendentes.add(new EventoPendente(row.id(), evento, row.tentativas()));
+            } catch (JsonProcessingException e) {
+                log.error("Payload inválido no outbox: id={}, tipo={}", row.id(), row.tipoEvento(), e);
+                repository.marcarErro(row.id(), "Payload inválido: " + e.getOriginalMessage());
+            }
+        }
+
+        return pendentes;
+    }
+
+    @Override
+    public void marcarProcessado(Long id) {
+        repository.marcarProcessado(id);
+    }
+
+    @Override
+    public void marcarErro(Long id, String erro) {
+        repository.marcarErro(id, erro);
+    }
+
+    @Override
+    public void registrarFalha(Long id, String erro, Duration atraso) {
+        repository.registrarFalha(id, erro, atraso);
+    }
+
+    @Override
+    public int removerProcessados(Duration retencao) {
+        return repository.deleteProcessadosHaMaisDe(retencao);
+    }
+
+    private String serializar(ColaboradorEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar evento " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
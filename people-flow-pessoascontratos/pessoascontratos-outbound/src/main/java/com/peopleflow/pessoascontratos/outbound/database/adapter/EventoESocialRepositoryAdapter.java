@@ -0,0 +1,79 @@
+package com.peopleflow.pessoascontratos.outbound.database.adapter;
+
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador;
+import com.peopleflow.pessoascontratos.core.ports.output.EventoESocialRepositoryPort;
+import com.peopleflow.pessoascontratos.core.valueobject.TipoEventoESocial;
+import com.peopleflow.pessoascontratos.outbound.database.repository.EventoESocialJdbcRepository;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter das gerações de eventos eSocial (PEOPLE_FLOW_RH.GERACAO_ESOCIAL / EVENTO_ESOCIAL / PAYLOAD_ESOCIAL)
+ */
+@Component
+public class EventoESocialRepositoryAdapter implements EventoESocialRepositoryPort {
+
+    private final EventoESocialJdbcRepository repository;
+    private final AuditorAware<String> auditorAware;
+
+    public EventoESocialRepositoryAdapter(final EventoESocialJdbcRepository repository,
+                                          final AuditorAware<String> auditorAware) {
+        this.repository = repository;
+        this.auditorAware = auditorAware;
+    }
+
+    @Override
+    public List<Long> planejarGeracoes(Long execucaoId, TipoEventoESocial tipo) {
+        repository.planejarGeracoes(execucaoId, tipo, auditorAware.getCurrentAuditor().orElse(null));
+        return repository.findIdsPendentes(execucaoId, tipo);
+    }
+
+    @Override
+    public List<String> empregadoresSemInscricao(Long execucaoId) {
+        return repository.findEmpregadoresSemInscricao(execucaoId);
+    }
+
+    @Override
+    public long trabalhadoresSemCpf(Long execucaoId) {
+        return repository.countTrabalhadoresSemCpf(execucaoId);
+    }
+
+    @Override
+    public Optional<GeracaoESocial> reivindicar(Long geracaoId) {
+        return repository.reivindicar(geracaoId);
+    }
+
+    @Override
+    public List<RemuneracaoTrabalhador> remuneracoes(GeracaoESocial geracao, int limite) {
+        return repository.findRemuneracoes(geracao, limite);
+    }
+
+    @Override
+    public void gravarEventos(GeracaoESocial geracao, int lote, String versaoLeiaute, List<EventoGerado> eventos) {
+        repository.inserirEventos(geracao, lote, versaoLeiaute, eventos, auditorAware.getCurrentAuditor().orElse(null));
+    }
+
+    @Override
+    public void salvar(GeracaoESocial geracao) {
+        repository.atualizar(geracao, auditorAware.getCurrentAuditor().orElse(null));
+    }
+
+    @Override
+    public boolean registrarFalha(Long geracaoId, String erro, int maxTentativas) {
+        return repository.registrarFalha(geracaoId, erro, maxTentativas, auditorAware.getCurrentAuditor().orElse(null));
+    }
+
+    @Override
+    public List<GeracaoESocial> listarPorExecucao(Long execucaoId) {
+        return repository.findByExecucao(execucaoId);
+    }
+
+    @Override
+    public List<Long> geracoesPendentes() {
+        return repository.findIdsPendentes();
+    }
+}
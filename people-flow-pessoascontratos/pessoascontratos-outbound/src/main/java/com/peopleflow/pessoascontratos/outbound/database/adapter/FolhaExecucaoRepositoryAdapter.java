@@ -0,0 +1,102 @@
+package com.peopleflow.pessoascontratos.outbound.database.adapter;
+
+import com.peopleflow.pessoascontratos.core.domain.ContratoFolha;
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.domain.ItemFolha;
+import com.peopleflow.pessoascontratos.core.domain.RegraRubrica;
+import com.peopleflow.pessoascontratos.core.ports.output.FolhaExecucaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.query.ProgressoFolha;
+import com.peopleflow.pessoascontratos.outbound.database.repository.FolhaExecucaoJdbcRepository;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter das execuções da folha (PEOPLE_FLOW_RH.FOLHA_*)
+ */
+@Component
+public class FolhaExecucaoRepositoryAdapter implements FolhaExecucaoRepositoryPort {
+
+    private final FolhaExecucaoJdbcRepository repository;
+    private final AuditorAware<String> auditorAware;
+
+    public FolhaExecucaoRepositoryAdapter(final FolhaExecucaoJdbcRepository repository,
+                                          final AuditorAware<String> auditorAware) {
+        this.repository = repository;
+        this.auditorAware = auditorAware;
+    }
+
+    @Override
+    public FolhaExecucao salvar(FolhaExecucao execucao) {
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        if (execucao.getId() == null) {
+            Long id = repository.inserir(execucao, auditor);
+            return execucao.toBuilder().id(id).build();
+        }
+        repository.atualizar(execucao, auditor);
+        return execucao;
+    }
+
+    @Override
+    public Optional<FolhaExecucao> buscarPorId(Long id) {
+        return repository.findById(id);
+    }
+
+    @Override
+    public boolean existeCompetencia(YearMonth competencia) {
+        return repository.existsByCompetencia(competencia);
+    }
+
+    @Override
+    public int planejarLotes(Long execucaoId, YearMonth competencia, int tamanhoLote) {
+        return repository.planejarLotes(execucaoId, competencia, tamanhoLote);
+    }
+
+    @Override
+    public List<RegraRubrica> rubricasAutomaticas() {
+        return repository.findRubricasAutomaticas();
+    }
+
+    @Override
+    public Optional<LoteFolha> reivindicarLote(Long execucaoId) {
+        return repository.reivindicarLote(execucaoId);
+    }
+
+    @Override
+    public List<ContratoFolha> contratosDoLote(LoteFolha lote, YearMonth competencia) {
+        return repository.findContratosDoLote(lote, competencia);
+    }
+
+    @Override
+    public void gravarItens(Long execucaoId, List<ItemFolha> itens) {
+        repository.inserirItens(execucaoId, itens, auditorAware.getCurrentAuditor().orElse(null));
+    }
+
+    @Override
+    public void concluirLote(LoteFolha lote, int contratos, int itens, long duracaoMs) {
+        repository.concluirLote(lote, contratos, itens, duracaoMs);
+    }
+
+    @Override
+    public boolean registrarFalhaLote(Long execucaoId, int lote, String erro, int maxTentativas) {
+        return repository.registrarFalhaLote(execucaoId, lote, erro, maxTentativas);
+    }
+
+    @Override
+    public int reabrirLotesComErro(Long execucaoId) {
+        return repository.reabrirLotesComErro(execucaoId);
+    }
+
+    @Override
+    public ProgressoFolha progresso(Long execucaoId) {
+        return repository.progresso(execucaoId);
+    }
+
+    @Override
+    public List<Long> execucoesEmCalculo() {
+        return repository.findIdsEmCalculo();
+    }
+}
@@ -0,0 +1,59 @@
+package com.peopleflow.pessoascontratos.outbound.database.adapter;
+
+import com.peopleflow.pessoascontratos.core.ports.output.HeadcountProjecaoPort;
+import com.peopleflow.pessoascontratos.core.query.HeadcountUnidade;
+import com.peopleflow.pessoascontratos.outbound.database.repository.HeadcountJdbcRepository;
+import com.peopleflow.pessoascontratos.outbound.database.repository.HeadcountJdbcRepository.UnidadeRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adapter da projeção de headcount (PEOPLE_FLOW_RH.HEADCOUNT_*)
+ */
+@Slf4j
+@Component
+public class HeadcountProjecaoAdapter implements HeadcountProjecaoPort {
+
+    private final HeadcountJdbcRepository repository;
+
+    public HeadcountProjecaoAdapter(final HeadcountJdbcRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public boolean sincronizarColaborador(Long colaboradorId) {
+        UnidadeRow contada = repository.findUnidadeContadaForUpdate(colaboradorId).orElse(null);
+        UnidadeRow atual = repository.findUnidadeSeAtivo(colaboradorId).orElse(null);
+
+        if (contada == null ? atual == null : contada.mesmaUnidade(atual)) {
+            return false;
+        }
+        if (contada != null) {
+            repository.descontar(colaboradorId, contada);
+        }
+        if (atual != null) {
+            repository.contar(colaboradorId, atual);
+        }
+        return true;
+    }
+
+    @Override
+    public List<HeadcountUnidade> listar(Long empresaId, Long departamentoId, Long centroCustoId) {
+        return repository.findAll(empresaId, departamentoId, centroCustoId).stream()
+            .map(row -> new HeadcountUnidade(row.empresaId(), row.departamentoId(), row.centroCustoId(), row.ativos()))
+            .toList();
+    }
+
+    @Override
+    public int verificarEReconstruir() {
+        repository.bloquearProjecao();
+        int divergentes = repository.countUnidadesDivergentes();
+        if (divergentes > 0) {
+            log.warn("Headcount divergente em {} unidades; reconstruindo projeção", divergentes);
+            repository.reconstruir();
+        }
+        return divergentes;
+    }
+}
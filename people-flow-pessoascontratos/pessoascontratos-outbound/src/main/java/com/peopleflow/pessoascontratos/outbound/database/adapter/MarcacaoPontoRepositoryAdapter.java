@@ -0,0 +1,258 @@
+package com.peopleflow.pessoascontratos.outbound.database.adapter;
+
+import com.peopleflow.common.exception.BusinessException;
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+import com.peopleflow.pessoascontratos.core.ports.output.MarcacaoPontoRepositoryPort;
+import com.peopleflow.pessoascontratos.outbound.database.repository.MarcacaoPontoJdbcRepository;
+import com.peopleflow.pessoascontratos.outbound.database.repository.MarcacaoPontoJdbcRepository.Linha;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escritor de marcações de ponto com buffer em memória
+ *
+ * As requisições apenas enfileiram suas marcações; escritores dedicados juntam o que
+ * estiver no buffer (cerca de {@code tamanho-lote} marcações, de várias requisições) e gravam
+ * tudo em um único INSERT. O future de cada requisição só completa depois do commit, então
+ * a resposta ao cliente continua significando "gravado".
+ *
+ * O buffer é limitado em marcações: cheio, a requisição é recusada de imediato com
+ * CAPACIDADE_ESGOTADA (503 + Retry-After) em vez de acumular memória e latência.
+ * Toda requisição aceita termina com o future concluído e as vagas devolvidas, inclusive
+ * quando o escritor é interrompido ou a aplicação encerra com marcações no buffer.
+ */
+@Slf4j
+@Component
+public class MarcacaoPontoRepositoryAdapter implements MarcacaoPontoRepositoryPort {
+
+    private static final long ESPERA_POLL_MS = 200;
+
+    private final MarcacaoPontoJdbcRepository repository;
+    private final AuditorAware<String> auditorAware;
+    private final ZoneId fuso;
+    private final int capacidade;
+    private final int tamanhoLote;
+    private final int quantidadeEscritores;
+    private final Semaphore vagas;
+    private final BlockingQueue<Pendente> fila = new LinkedBlockingQueue<>();
+    private final ExecutorService escritores;
+    private final Counter gravadas;
+    private final Counter recusadas;
+    private final Timer tempoGravacao;
+    private volatile boolean aceitando = true;
+
+    /** Marcações de uma requisição aguardando gravação */
+    private record Pendente(List<Linha> linhas, CompletableFuture<Void> concluido) {
+    }
+
+    public MarcacaoPontoRepositoryAdapter(
+            MarcacaoPontoJdbcRepository repository,
+            AuditorAware<String> auditorAware,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.ponto.calculo.fuso:America/Sao_Paulo}") ZoneId fuso,
+            @Value("${app.ponto.ingestao.capacidade:100000}") int capacidade,
+            @Value("${app.ponto.ingestao.tamanho-lote:5000}") int tamanhoLote,
+            @Value("${app.ponto.ingestao.escritores:2}") int quantidadeEscritores) {
+        this.repository = repository;
+        this.auditorAware = auditorAware;
+        this.fuso = fuso;
+        this.capacidade = capacidade;
+        this.tamanhoLote = tamanhoLote;
+        this.quantidadeEscritores = quantidadeEscritores;
+        this.vagas = new Semaphore(capacidade);
+        this.escritores = Executors.newFixedThreadPool(quantidadeEscritores,
+                new CustomizableThreadFactory("ponto-escritor-"));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder("ponto.ingestao.buffer", this, a -> a.capacidade - a.vagas.availablePermits())
+                    .description("Marcações aguardando gravação")
+                    .register(registry);
+            this.gravadas = Counter.builder("ponto.ingestao.gravadas").register(registry);
+            this.recusadas = Counter.builder("ponto.ingestao.recusadas").register(registry);
+            this.tempoGravacao = Timer.builder("ponto.ingestao.flush").register(registry);
+        } else {
+            this.gravadas = null;
+            this.recusadas = null;
+            this.tempoGravacao = null;
+        }
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        for (int i = 0; i < quantidadeEscritores; i++) {
+            escritores.submit(this::escrever);
+        }
+        log.info("✅ Ingestão de ponto: {} escritores, buffer de {} marcações, lotes de até {}",
+                quantidadeEscritores, capacidade, tamanhoLote);
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        // Escritores esvaziam o buffer antes de sair
+        aceitando = false;
+        escritores.shutdown();
+        if (!escritores.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("⚠️ Ingestão de ponto: encerrada com {} marcações no buffer",
+                    capacidade - vagas.availablePermits());
+            escritores.shutdownNow();
+            escritores.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        descartarFila();
+    }
+
+    @Override
+    public CompletableFuture<Void> gravar(List<MarcacaoPonto> marcacoes) {
+        int quantidade = marcacoes.size();
+        if (!aceitando || quantidade > capacidade || !vagas.tryAcquire(quantidade)) {
+            if (recusadas != null) {
+                recusadas.increment(quantidade);
+            }
+            throw new BusinessException("CAPACIDADE_ESGOTADA",
+                    "Ingestão de marcações sobrecarregada. Tente novamente em instantes.");
+        }
+
+        // Auditor resolvido na thread da requisição (o contexto de segurança não chega aos escritores)
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        List<Linha> linhas = new ArrayList<>(quantidade);
+        for (MarcacaoPonto marcacao : marcacoes) {
+            linhas.add(new Linha(marcacao, auditor));
+        }
+        CompletableFuture<Void> concluido = new CompletableFuture<>();
+        fila.add(new Pendente(linhas, concluido));
+        if (!aceitando && escritores.isTerminated()) {
+            // Chegou depois que os escritores saíram: ninguém mais vai gravar
+            descartarFila();
+        }
+        return concluido;
+    }
+
+    @Override
+    public List<String> criarParticoes(YearMonth inicio, int meses) {
+        List<String> criadas = new ArrayList<>();
+        for (int i = 0; i <= meses; i++) {
+            String nome = repository.criarParticao(inicio.plusMonths(i).atDay(1));
+            if (nome != null) {
+                criadas.add(nome);
+            }
+        }
+        return criadas;
+    }
+
+    private void escrever() {
+        List<Pendente> lote = new ArrayList<>();
+        while (aceitando || !fila.isEmpty()) {
+            try {
+                Pendente primeiro = fila.poll(ESPERA_POLL_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                int linhas = primeiro.linhas().size();
+                Pendente proximo;
+                while (linhas < tamanhoLote && (proximo = fila.poll()) != null) {
+                    lote.add(proximo);
+                    linhas += proximo.linhas().size();
+                }
+                gravarLote(lote, linhas);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                lote.forEach(pendente -> concluir(pendente, encerrada()));
+                return;
+            } catch (Exception e) {
+                log.error("❌ Ingestão de ponto: erro inesperado no escritor: {}", e.getMessage(), e);
+                lote.forEach(pendente -> concluir(pendente, e));
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravarLote(List<Pendente> lote, int quantidade) {
+        List<Linha> linhas = new ArrayList<>(quantidade);
+        for (Pendente pendente : lote) {
+            linhas.addAll(pendente.linhas());
+        }
+        try {
+            inserir(linhas);
+            lote.forEach(pendente -> concluir(pendente, null));
+        } catch (Exception e) {
+            if (lote.size() == 1) {
+                concluir(lote.get(0), e);
+                return;
+            }
+            // Isola a requisição com problema: as demais não podem falhar por causa dela
+            log.warn("⚠️ Ingestão de ponto: lote de {} marcações falhou, gravando por requisição: {}",
+                    quantidade, e.getMessage());
+            for (Pendente pendente : lote) {
+                try {
+                    inserir(pendente.linhas());
+                    concluir(pendente, null);
+                } catch (Exception erro) {
+                    concluir(pendente, erro);
+                }
+            }
+        }
+    }
+
+    private void inserir(List<Linha> linhas) {
+        long inicio = System.nanoTime();
+        int inseridas = repository.inserir(linhas, fuso);
+        if (tempoGravacao != null) {
+            tempoGravacao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            gravadas.increment(inseridas);
+        }
+        log.debug("Ingestão de ponto: {} marcações gravadas ({} já existentes)", inseridas, linhas.size() - inseridas);
+    }
+
+    /**
+     * Falha as requisições que ficaram no buffer sem escritor para gravá-las
+     */
+    private void descartarFila() {
+        Pendente pendente;
+        while ((pendente = fila.poll()) != null) {
+            concluir(pendente, encerrada());
+        }
+    }
+
+    private static BusinessException encerrada() {
+        return new BusinessException("CAPACIDADE_ESGOTADA",
+                "Ingestão de marcações encerrada. Tente novamente em instantes.");
+    }
+
+    private void concluir(Pendente pendente, Exception erro) {
+        if (pendente.concluido().isDone()) {
+            // Já concluída (ex.: falha depois de parte do lote ter sido confirmada): vagas já devolvidas
+            return;
+        }
+        vagas.release(pendente.linhas().size());
+        if (erro == null) {
+            pendente.concluido().complete(null);
+        } else {
+            log.error("❌ Ingestão de ponto: falha ao gravar {} marcações: {}", pendente.linhas().size(), erro.getMessage());
+            pendente.concluido().completeExceptionally(erro);
+        }
+    }
+}
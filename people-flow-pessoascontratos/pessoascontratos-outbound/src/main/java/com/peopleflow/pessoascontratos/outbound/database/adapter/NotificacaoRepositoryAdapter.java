@@ -0,0 +1,134 @@
+package com.peopleflow.pessoascontratos.outbound.database.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+import com.peopleflow.pessoascontratos.outbound.database.repository.NotificacaoJdbcRepository;
+import com.peopleflow.pessoascontratos.outbound.database.repository.NotificacaoJdbcRepository.NotificacaoRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Adapter da fila de notificações (PEOPLE_FLOW_RH.NOTIFICACAO_ENVIO, contexto em JSONB)
+ */
+@Slf4j
+@Component
+public class NotificacaoRepositoryAdapter implements NotificacaoRepositoryPort {
+
+    private static final TypeReference<Map<String, Object>> TIPO_CONTEXTO = new TypeReference<>() {
+    };
+
+    private final NotificacaoJdbcRepository repository;
+    private final AuditorAware<String> auditorAware;
+    private final ObjectMapper objectMapper;
+
+    public NotificacaoRepositoryAdapter(final NotificacaoJdbcRepository repository,
+                                        final AuditorAware<String> auditorAware,
+                                        final ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.auditorAware = auditorAware;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Long inserir(NovaNotificacao notificacao) {
+        return repository.insert(notificacao, serializar(notificacao.contexto()),
+                auditorAware.getCurrentAuditor().orElse(null)).orElse(null);
+    }
+
+    @Override
+    public int inserirCampanha(Long templateId, Long empresaId, Long departamentoId, Map<String, Object> contexto) {
+        return repository.insertCampanha(templateId, empresaId, departamentoId, serializar(contexto),
+                auditorAware.getCurrentAuditor().orElse(null));
+    }
+
+    @Override
+    public Optional<CanalNotificacao> canalDoTemplateAtivo(Long templateId) {
+        return repository.findCanalDoTemplateAtivo(templateId).map(CanalNotificacao::of);
+    }
+
+    @Override
+    public List<NotificacaoPendente> reivindicarLote(int limite, Duration lease) {
+        return repository.reservarLote(limite, lease).stream()
+                .map(this::toPendente)
+                .toList();
+    }
+
+    @Override
+    public List<TemplateNotificacao> templates(Collection<Long> ids) {
+        return repository.findTemplates(ids);
+    }
+
+    @Override
+    public void registrarEnvios(List<NotificacaoRenderizada> enviadas) {
+        if (enviadas.isEmpty()) {
+            return;
+        }
+        repository.marcarEnviadas(
+                enviadas.stream().map(NotificacaoRenderizada::id).toArray(Long[]::new),
+                enviadas.stream().map(NotificacaoRenderizada::assunto).toArray(String[]::new),
+                enviadas.stream().map(NotificacaoRenderizada::corpo).toArray(String[]::new));
+    }
+
+    @Override
+    public void registrarFalhas(List<ResultadoEnvio> falhas, int maxTentativas,
+                                Duration backoffInicial, Duration backoffMaximo) {
+        if (falhas.isEmpty()) {
+            return;
+        }
+        repository.registrarFalhas(
+                falhas.stream().map(ResultadoEnvio::id).toArray(Long[]::new),
+                falhas.stream().map(ResultadoEnvio::erro).toArray(String[]::new),
+                falhas.stream().map(ResultadoEnvio::definitivo).toArray(Boolean[]::new),
+                maxTentativas, backoffInicial, backoffMaximo);
+    }
+
+    private NotificacaoPendente toPendente(NotificacaoRow row) {
+        return new NotificacaoPendente(
+                row.id(),
+                CanalNotificacao.of(row.canal()),
+                row.templateId(),
+                row.templateVersao(),
+                row.usuarioId(),
+                row.colaboradorId(),
+                row.nomeColaborador(),
+                row.destinatario(),
+                row.assunto(),
+                row.corpo(),
+                desserializar(row.id(), row.contexto()),
+                row.tentativas());
+    }
+
+    private Map<String, Object> desserializar(Long id, String contexto) {
+        if (contexto == null || contexto.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(contexto, TIPO_CONTEXTO);
+        } catch (JsonProcessingException e) {
+            // CONTEXTO é JSONB: só chega aqui se não for um objeto (ex.: array)
+            log.warn("Contexto da notificação {} não é um objeto JSON; ignorado", id);
+            return Map.of();
+        }
+    }
+
+    private String serializar(Map<String, Object> contexto) {
+        try {
+            return objectMapper.writeValueAsString(contexto != null ? contexto : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar contexto da notificação", e);
+        }
+    }
+}
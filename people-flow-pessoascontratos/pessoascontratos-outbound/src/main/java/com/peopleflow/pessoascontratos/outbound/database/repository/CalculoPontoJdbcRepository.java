@@ -0,0 +1,295 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort.DiaCalculado;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort.DiaPendente;
+import com.peopleflow.pessoascontratos.core.ports.output.CalculoPontoRepositoryPort.SituacaoDia;
+import com.peopleflow.pessoascontratos.core.valueobject.TipoMarcacao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Consultas e escritas do cálculo diário de ponto (CALCULO_PONTO_DIA / CALCULO_PONTO_PENDENTE)
+ *
+ * Todas as operações recebem os dias como arrays (unnest), uma consulta por lote de colaboradores.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalculoPontoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    /** Namespace do advisory lock por colaborador (primeiro argumento de pg_advisory_xact_lock) */
+    private static final int LOCK_CALCULO_PONTO = 7301;
+
+    /**
+     * Colaboradores com dias pendentes, ignorando os que estão em backoff após uma falha
+     */
+    public List<Long> findColaboradoresPendentes(int limite) {
+        String sql = String.format(
+            "SELECT colaborador_id FROM %s.calculo_ponto_pendente " +
+            "WHERE status = 'pendente' " +
+            "GROUP BY colaborador_id " +
+            "HAVING MAX(proxima_tentativa_em) IS NULL OR MAX(proxima_tentativa_em) <= clock_timestamp() " +
+            "ORDER BY MIN(incluido_em) LIMIT ?",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForList(sql, Long.class, limite);
+    }
+
+    /**
+     * Registra a falha do recálculo nos dias pendentes do colaborador: agenda a próxima
+     * tentativa com backoff exponencial ou, esgotadas as tentativas, tira os dias da fila
+     *
+     * @return true se os dias foram movidos para erro
+     */
+    public boolean registrarFalha(Long colaboradorId, String erro, int maxTentativas, Duration backoffInicial,
+                                  Duration backoffMaximo) {
+        String sql = String.format(
+            "UPDATE %s.calculo_ponto_pendente SET " +
+            "tentativas = tentativas + 1, ultimo_erro = ?, " +
+            "status = CASE WHEN tentativas + 1 >= ? THEN 'erro' ELSE status END, " +
+            "proxima_tentativa_em = clock_timestamp() + " +
+            "  LEAST(? * power(2, LEAST(tentativas, 16)), ?) * INTERVAL '1 millisecond' " +
+            "WHERE colaborador_id = ? AND status = 'pendente' " +
+            "RETURNING status",
+            SCHEMA
+        );
+        List<String> status = jdbcTemplate.queryForList(sql, String.class,
+            truncar(erro), maxTentativas, backoffInicial.toMillis(), backoffMaximo.toMillis(), colaboradorId);
+        return status.contains("erro");
+    }
+
+    /**
+     * Bloqueia os colaboradores até o fim da transação (em ordem de ID, sem deadlock entre nós)
+     * e retira seus dias da fila. O bloqueio impede que dois recálculos do mesmo colaborador
+     * leiam o mesmo saldo anterior e repassem variações um por cima do outro.
+     */
+    public List<DiaPendente> reivindicar(List<Long> colaboradorIds) {
+        Long[] ids = colaboradorIds.stream().sorted().distinct().toArray(Long[]::new);
+
+        String lock = String.format(
+            "SELECT pg_advisory_xact_lock(%d, (c.id %% 2147483647)::INT) " +
+            "FROM unnest(?::BIGINT[]) WITH ORDINALITY AS c(id, ordem) ORDER BY c.ordem",
+            LOCK_CALCULO_PONTO
+        );
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(lock);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            return ps;
+        }, rs -> {
+        });
+
+        String sql = String.format(
+            "DELETE FROM %s.calculo_ponto_pendente WHERE colaborador_id = ANY(?) AND status = 'pendente' " +
+            "RETURNING colaborador_id, data",
+            SCHEMA
+        );
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            return ps;
+        }, (rs, rowNum) -> new DiaPendente(rs.getLong("colaborador_id"), rs.getObject("data", LocalDate.class)));
+    }
+
+    public List<SituacaoDia> carregar(List<DiaPendente> dias) {
+        String sql = String.format(
+            "SELECT p.colaborador_id, p.data, j.carga_semanal_horas, d.id IS NOT NULL AS calculado, " +
+            "COALESCE(d.horas_trabalhadas, 0) AS horas_trabalhadas, " +
+            "COALESCE(d.horas_previstas, 0) AS horas_previstas, " +
+            "COALESCE(a.banco_horas_saldo, 0) AS saldo_anterior " +
+            "FROM unnest(?::BIGINT[], ?::DATE[]) AS p(colaborador_id, data) " +
+            "LEFT JOIN %1$s.calculo_ponto_dia d ON d.colaborador_id = p.colaborador_id AND d.data = p.data " +
+            "LEFT JOIN LATERAL (" +
+            "  SELECT banco_horas_saldo FROM %1$s.calculo_ponto_dia " +
+            "  WHERE colaborador_id = p.colaborador_id AND data < p.data " +
+            "  ORDER BY data DESC LIMIT 1" +
+            ") a ON TRUE " +
+            "LEFT JOIN LATERAL (" +
+            "  SELECT jt.carga_semanal_horas FROM %1$s.contrato c " +
+            "  JOIN %1$s.jornada_trabalho jt ON jt.id = c.jornada_id " +
+            "  WHERE c.colaborador_id = p.colaborador_id AND c.excluido_em IS NULL " +
+            "    AND c.inicio <= p.data AND (c.fim IS NULL OR c.fim >= p.data) " +
+            "  ORDER BY c.inicio DESC LIMIT 1" +
+            ") j ON TRUE",
+            SCHEMA
+        );
+        return jdbcTemplate.query(con -> dias(con, sql, dias), (rs, rowNum) -> new SituacaoDia(
+            rs.getLong("colaborador_id"),
+            rs.getObject("data", LocalDate.class),
+            rs.getBigDecimal("carga_semanal_horas"),
+            rs.getBoolean("calculado"),
+            rs.getBigDecimal("horas_trabalhadas"),
+            rs.getBigDecimal("horas_previstas"),
+            rs.getBigDecimal("saldo_anterior")
+        ));
+    }
+
+    public List<MarcacaoPonto> findMarcacoes(List<DiaPendente> dias, ZoneId fuso) {
+        String sql = String.format(
+            "SELECT m.colaborador_id, m.data_hora, m.tipo " +
+            "FROM unnest(?::BIGINT[], ?::DATE[]) AS p(colaborador_id, data) " +
+            "JOIN %s.marcacao_ponto m ON m.colaborador_id = p.colaborador_id " +
+            "  AND m.data_hora >= (p.data::TIMESTAMP AT TIME ZONE ?) " +
+            "  AND m.data_hora < ((p.data + 1)::TIMESTAMP AT TIME ZONE ?) " +
+            "WHERE m.excluido_em IS NULL",
+            SCHEMA
+        );
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = dias(con, sql, dias);
+            ps.setString(3, fuso.getId());
+            ps.setString(4, fuso.getId());
+            return ps;
+        }, (rs, rowNum) -> new MarcacaoPonto(
+            rs.getLong("colaborador_id"),
+            rs.getObject("data_hora", OffsetDateTime.class).toInstant(),
+            TipoMarcacao.of(rs.getString("tipo")),
+            null,
+            null,
+            null
+        ));
+    }
+
+    /**
+     * Grava as horas dos dias (o saldo de dias já existentes não é tocado aqui) e em seguida
+     * soma a cada linha do colaborador a variação de todos os dias recalculados até a data dela
+     */
+    public void gravar(List<DiaCalculado> dias, String auditor) {
+        int quantidade = dias.size();
+        Long[] colaboradores = new Long[quantidade];
+        Date[] datas = new Date[quantidade];
+        BigDecimal[] trabalhadas = new BigDecimal[quantidade];
+        BigDecimal[] previstas = new BigDecimal[quantidade];
+        BigDecimal[] extras = new BigDecimal[quantidade];
+        BigDecimal[] saldosIniciais = new BigDecimal[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            DiaCalculado dia = dias.get(i);
+            colaboradores[i] = dia.colaboradorId();
+            datas[i] = Date.valueOf(dia.data());
+            trabalhadas[i] = dia.horasTrabalhadas();
+            previstas[i] = dia.horasPrevistas();
+            extras[i] = dia.horasExtras();
+            saldosIniciais[i] = dia.saldoInicial();
+        }
+
+        String upsert = String.format(
+            "INSERT INTO %s.calculo_ponto_dia " +
+            "(colaborador_id, data, horas_trabalhadas, horas_previstas, horas_extras, banco_horas_saldo, " +
+            "criado_por, atualizado_por) " +
+            "SELECT d.colaborador_id, d.data, d.trabalhadas, d.previstas, d.extras, d.saldo, ?, ? " +
+            "FROM unnest(?::BIGINT[], ?::DATE[], ?::NUMERIC[], ?::NUMERIC[], ?::NUMERIC[], ?::NUMERIC[]) " +
+            "AS d(colaborador_id, data, trabalhadas, previstas, extras, saldo) " +
+            "ON CONFLICT (colaborador_id, data) DO UPDATE SET " +
+            "horas_trabalhadas = EXCLUDED.horas_trabalhadas, horas_previstas = EXCLUDED.horas_previstas, " +
+            "horas_extras = EXCLUDED.horas_extras, atualizado_por = EXCLUDED.atualizado_por, " +
+            "atualizado_em = clock_timestamp()",
+            SCHEMA
+        );
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(upsert);
+            ps.setString(1, auditor);
+            ps.setString(2, auditor);
+            ps.setArray(3, con.createArrayOf("bigint", colaboradores));
+            ps.setArray(4, con.createArrayOf("date", datas));
+            ps.setArray(5, con.createArrayOf("numeric", trabalhadas));
+            ps.setArray(6, con.createArrayOf("numeric", previstas));
+            ps.setArray(7, con.createArrayOf("numeric", extras));
+            ps.setArray(8, con.createArrayOf("numeric", saldosIniciais));
+            return ps;
+        });
+
+        List<DiaCalculado> variacoes = dias.stream()
+            .filter(dia -> dia.variacaoSaldo().signum() != 0)
+            .toList();
+        if (variacoes.isEmpty()) {
+            return;
+        }
+        Long[] colaboradoresVariacao = variacoes.stream().map(DiaCalculado::colaboradorId).toArray(Long[]::new);
+        Date[] datasVariacao = variacoes.stream().map(dia -> Date.valueOf(dia.data())).toArray(Date[]::new);
+        BigDecimal[] valoresVariacao = variacoes.stream().map(DiaCalculado::variacaoSaldo).toArray(BigDecimal[]::new);
+
+        String repasse = String.format(
+            "UPDATE %1$s.calculo_ponto_dia cpd " +
+            "SET banco_horas_saldo = cpd.banco_horas_saldo + a.ajuste, atualizado_em = clock_timestamp() " +
+            "FROM (" +
+            "  SELECT c.id, SUM(v.variacao) AS ajuste " +
+            "  FROM unnest(?::BIGINT[], ?::DATE[], ?::NUMERIC[]) AS v(colaborador_id, data, variacao) " +
+            "  JOIN %1$s.calculo_ponto_dia c ON c.colaborador_id = v.colaborador_id AND c.data >= v.data " +
+            "  GROUP BY c.id" +
+            ") a " +
+            "WHERE cpd.id = a.id",
+            SCHEMA
+        );
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(repasse);
+            ps.setArray(1, con.createArrayOf("bigint", colaboradoresVariacao));
+            ps.setArray(2, con.createArrayOf("date", datasVariacao));
+            ps.setArray(3, con.createArrayOf("numeric", valoresVariacao));
+            return ps;
+        });
+    }
+
+    public int agendar(LocalDate inicio, LocalDate fim, Long empresaId) {
+        String sql = String.format(
+            "INSERT INTO %1$s.calculo_ponto_pendente (colaborador_id, data) " +
+            "SELECT DISTINCT c.colaborador_id, d.dia::DATE " +
+            "FROM %1$s.contrato c " +
+            "JOIN %1$s.colaborador col ON col.id = c.colaborador_id " +
+            "CROSS JOIN LATERAL generate_series(GREATEST(c.inicio, ?::DATE), LEAST(COALESCE(c.fim, ?::DATE), ?::DATE), " +
+            "  INTERVAL '1 day') AS d(dia) " +
+            "WHERE c.excluido_em IS NULL AND col.status <> 'excluido' " +
+            "  AND c.inicio <= ? AND (c.fim IS NULL OR c.fim >= ?)" +
+            (empresaId != null ? " AND col.empresa_id = ?" : "") +
+            " ON CONFLICT (colaborador_id, data) DO UPDATE SET status = 'pendente', tentativas = 0, " +
+            "proxima_tentativa_em = NULL " +
+            "WHERE %1$s.calculo_ponto_pendente.status = 'erro'",
+            SCHEMA
+        );
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setDate(1, Date.valueOf(inicio));
+            ps.setDate(2, Date.valueOf(fim));
+            ps.setDate(3, Date.valueOf(fim));
+            ps.setDate(4, Date.valueOf(fim));
+            ps.setDate(5, Date.valueOf(inicio));
+            if (empresaId != null) {
+                ps.setLong(6, empresaId);
+            }
+            return ps;
+        });
+    }
+
+    private static String truncar(String erro) {
+        if (erro == null) {
+            return null;
+        }
+        return erro.length() > 1000 ? erro.substring(0, 1000) : erro;
+    }
+
+    private static PreparedStatement dias(Connection con, String sql, List<DiaPendente> dias) throws SQLException {
+        Long[] colaboradores = new Long[dias.size()];
+        Date[] datas = new Date[dias.size()];
+        for (int i = 0; i < dias.size(); i++) {
+            colaboradores[i] = dias.get(i).colaboradorId();
+            datas[i] = Date.valueOf(dias.get(i).data());
+        }
+        PreparedStatement ps = con.prepareStatement(sql);
+        ps.setArray(1, con.createArrayOf("bigint", colaboradores));
+        ps.setArray(2, con.createArrayOf("date", datas));
+        return ps;
+    }
+}
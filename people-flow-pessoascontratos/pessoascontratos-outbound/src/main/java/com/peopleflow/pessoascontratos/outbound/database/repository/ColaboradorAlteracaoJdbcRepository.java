@@ -0,0 +1,170 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.core.domain.CampoColaborador;
+import com.peopleflow.pessoascontratos.core.domain.TransicaoStatus;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusColaborador;
+import com.peopleflow.pessoascontratos.outbound.jpa.entity.ColaboradorEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Escritas pontuais em COLABORADOR: UPDATE só das colunas alteradas e transições
+ * de status em um único comando, ambos incrementando VERSAO (lock otimista)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ColaboradorAlteracaoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private static final String COLUNAS_RETORNO =
+        "id, nome, cpf, matricula, email, data_admissao, data_demissao, status, empresa_id, " +
+        "departamento_id, centro_custo_id, cargo_id, keycloak_user_id, versao";
+
+    private final RowMapper<ColaboradorEntity> colaboradorRowMapper = (rs, rowNum) -> {
+        ColaboradorEntity entity = new ColaboradorEntity();
+        entity.setId(rs.getLong("id"));
+        entity.setNome(rs.getString("nome"));
+        entity.setCpf(rs.getString("cpf"));
+        entity.setMatricula(rs.getString("matricula"));
+        entity.setEmail(rs.getString("email"));
+        entity.setDataAdmissao(rs.getObject("data_admissao", LocalDate.class));
+        entity.setDataDemissao(rs.getObject("data_demissao", LocalDate.class));
+        entity.setStatus(rs.getString("status"));
+        entity.setEmpresaId(rs.getLong("empresa_id"));
+        entity.setDepartamentoId(rs.getObject("departamento_id", Long.class));
+        entity.setCentroCustoId(rs.getObject("centro_custo_id", Long.class));
+        entity.setCargoId(rs.getObject("cargo_id", Long.class));
+        entity.setKeycloakUserId(rs.getString("keycloak_user_id"));
+        entity.setVersao(rs.getLong("versao"));
+        return entity;
+    };
+
+    /**
+     * UPDATE ... SET (apenas {@code campos}) WHERE id = ? AND versao = ?
+     *
+     * @return nova versão, ou vazio se a versão do registro não é mais a de {@code colaborador}
+     */
+    public Optional<Long> atualizarCampos(ColaboradorEntity colaborador, Set<CampoColaborador> campos, String auditor) {
+        StringBuilder set = new StringBuilder();
+        for (CampoColaborador campo : campos) {
+            set.append(coluna(campo)).append(" = ?, ");
+        }
+        String sql = String.format(
+            "UPDATE %s.colaborador SET %sversao = versao + 1, atualizado_por = ?, atualizado_em = clock_timestamp() " +
+            "WHERE id = ? AND versao = ? RETURNING versao",
+            SCHEMA, set
+        );
+
+        List<Long> versoes = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            int i = 1;
+            for (CampoColaborador campo : campos) {
+                definirValor(ps, i++, campo, colaborador);
+            }
+            ps.setString(i++, auditor);
+            ps.setLong(i++, colaborador.getId());
+            ps.setLong(i, colaborador.getVersao());
+            return ps;
+        }, (rs, rowNum) -> rs.getLong("versao"));
+        return versoes.stream().findFirst();
+    }
+
+    /**
+     * UPDATE ... SET status WHERE id = ? AND status = ANY(?) [AND empresa_id = ?] RETURNING *
+     *
+     * @return o colaborador já com o novo status, ou vazio se nenhuma linha atendeu às pré-condições
+     */
+    public Optional<ColaboradorEntity> alterarStatus(Long id, TransicaoStatus transicao, Long empresaId, String auditor) {
+        StringBuilder sql = new StringBuilder(String.format(
+            "UPDATE %s.colaborador SET status = ?, versao = versao + 1, atualizado_por = ?, " +
+            "atualizado_em = clock_timestamp()",
+            SCHEMA
+        ));
+        if (transicao.dataDemissao() != null) {
+            sql.append(", data_demissao = ?");
+        } else if (transicao.limparDataDemissao()) {
+            sql.append(", data_demissao = NULL");
+        }
+        sql.append(" WHERE id = ? AND status = ANY(?)");
+        if (transicao.dataDemissao() != null) {
+            sql.append(" AND (data_admissao IS NULL OR data_admissao <= ?)");
+        }
+        if (empresaId != null) {
+            sql.append(" AND empresa_id = ?");
+        }
+        sql.append(" RETURNING ").append(COLUNAS_RETORNO);
+
+        String[] origens = transicao.origens().stream()
+            .map(StatusColaborador::getValor)
+            .toArray(String[]::new);
+
+        List<ColaboradorEntity> alterados = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int i = 1;
+            ps.setString(i++, transicao.destino().getValor());
+            ps.setString(i++, auditor);
+            if (transicao.dataDemissao() != null) {
+                ps.setDate(i++, Date.valueOf(transicao.dataDemissao()));
+            }
+            ps.setLong(i++, id);
+            ps.setArray(i++, con.createArrayOf("text", origens));
+            if (transicao.dataDemissao() != null) {
+                ps.setDate(i++, Date.valueOf(transicao.dataDemissao()));
+            }
+            if (empresaId != null) {
+                ps.setLong(i, empresaId);
+            }
+            return ps;
+        }, colaboradorRowMapper);
+        return alterados.stream().findFirst();
+    }
+
+    private static String coluna(CampoColaborador campo) {
+        return switch (campo) {
+            case NOME -> "nome";
+            case CPF -> "cpf";
+            case MATRICULA -> "matricula";
+            case EMAIL -> "email";
+            case DATA_ADMISSAO -> "data_admissao";
+            case DEPARTAMENTO_ID -> "departamento_id";
+            case CENTRO_CUSTO_ID -> "centro_custo_id";
+            case CARGO_ID -> "cargo_id";
+        };
+    }
+
+    private static void definirValor(PreparedStatement ps, int indice, CampoColaborador campo,
+                                     ColaboradorEntity c) throws SQLException {
+        switch (campo) {
+            case NOME -> ps.setString(indice, c.getNome());
+            case CPF -> ps.setString(indice, c.getCpf());
+            case MATRICULA -> ps.setString(indice, c.getMatricula());
+            case EMAIL -> ps.setString(indice, c.getEmail());
+            case DATA_ADMISSAO -> ps.setDate(indice, c.getDataAdmissao() != null ? Date.valueOf(c.getDataAdmissao()) : null);
+            case DEPARTAMENTO_ID -> setLongOuNulo(ps, indice, c.getDepartamentoId());
+            case CENTRO_CUSTO_ID -> setLongOuNulo(ps, indice, c.getCentroCustoId());
+            case CARGO_ID -> setLongOuNulo(ps, indice, c.getCargoId());
+        }
+    }
+
+    private static void setLongOuNulo(PreparedStatement ps, int indice, Long valor) throws SQLException {
+        if (valor != null) {
+            ps.setLong(indice, valor);
+        } else {
+            ps.setNull(indice, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.common.valueobject.Cpf;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorExportacao;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Leitura em streaming de COLABORADOR para exportação
+ *
+ * Com autocommit desligado (transação ativa) o driver do PostgreSQL usa um cursor
+ * no servidor e traz {@link #TAMANHO_FETCH} linhas por round trip, então a memória
+ * usada não depende do tamanho do resultado.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ColaboradorExportacaoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private static final int TAMANHO_FETCH = 1000;
+
+    /**
+     * Mesmos critérios de {@code ColaboradorSpecification.filter}, ordenados por ID
+     */
+    public void stream(ColaboradorFilter filter, Consumer<ColaboradorExportacao> consumidor) {
+        List<Object> params = new ArrayList<>();
+        String sql = String.format(
+            "SELECT id, nome, cpf, matricula, email, data_admissao, data_demissao, status, " +
+            "empresa_id, departamento_id, centro_custo_id, cargo_id " +
+            "FROM %s.colaborador WHERE %s ORDER BY id",
+            SCHEMA,
+            montarCondicoes(filter, params)
+        );
+
+        RowCallbackHandler handler = rs -> consumidor.accept(toExportacao(rs));
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(TAMANHO_FETCH);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static String montarCondicoes(ColaboradorFilter filter, List<Object> params) {
+        List<String> condicoes = new ArrayList<>();
+        condicoes.add("status <> 'excluido'");
+
+        if (temTexto(filter.getNome())) {
+            condicoes.add("LOWER(nome) LIKE ?");
+            params.add("%" + filter.getNome().toLowerCase().trim() + "%");
+        }
+        if (temTexto(filter.getCpf())) {
+            condicoes.add("cpf LIKE ?");
+            params.add("%" + Cpf.fromStorage(filter.getCpf()).getValor() + "%");
+        }
+        if (temTexto(filter.getEmail())) {
+            condicoes.add("LOWER(email) LIKE ?");
+            params.add("%" + filter.getEmail().toLowerCase().trim() + "%");
+        }
+        if (temTexto(filter.getMatricula())) {
+            condicoes.add("matricula = ?");
+            params.add(filter.getMatricula().trim());
+        }
+        if (temTexto(filter.getStatus())) {
+            condicoes.add("LOWER(status) = ?");
+            params.add(filter.getStatus().toLowerCase().trim());
+        }
+        adicionarIgual(condicoes, params, "empresa_id", filter.getEmpresaId());
+        adicionarIgual(condicoes, params, "departamento_id", filter.getDepartamentoId());
+        adicionarIgual(condicoes, params, "centro_custo_id", filter.getCentroCustoId());
+        adicionarData(condicoes, params, "data_admissao >= ?", filter.getDataAdmissaoInicio());
+        adicionarData(condicoes, params, "data_admissao <= ?", filter.getDataAdmissaoFim());
+        adicionarData(condicoes, params, "data_demissao >= ?", filter.getDataDemissaoInicio());
+        adicionarData(condicoes, params, "data_demissao <= ?", filter.getDataDemissaoFim());
+
+        return String.join(" AND ", condicoes);
+    }
+
+    private static boolean temTexto(String valor) {
+        return valor != null && !valor.trim().isEmpty();
+    }
+
+    private static void adicionarIgual(List<String> condicoes, List<Object> params, String coluna, Long valor) {
+        if (valor != null) {
+            condicoes.add(coluna + " = ?");
+            params.add(valor);
+        }
+    }
+
+    private static void adicionarData(List<String> condicoes, List<Object> params, String condicao, LocalDate valor) {
+        if (valor != null) {
+            condicoes.add(condicao);
+            params.add(Date.valueOf(valor));
+        }
+    }
+
+    private static ColaboradorExportacao toExportacao(ResultSet rs) throws SQLException {
+        Date admissao = rs.getDate("data_admissao");
+        Date demissao = rs.getDate("data_demissao");
+        return new ColaboradorExportacao(
+            rs.getLong("id"),
+            rs.getString("nome"),
+            rs.getString("cpf"),
+            rs.getString("matricula"),
+            rs.getString("email"),
+            admissao != null ? admissao.toLocalDate() : null,
+            demissao != null ? demissao.toLocalDate() : null,
+            rs.getString("status"),
+            rs.getObject("empresa_id", Long.class),
+            rs.getObject("departamento_id", Long.class),
+            rs.getObject("centro_custo_id", Long.class),
+            rs.getObject("cargo_id", Long.class)
+        );
+    }
+}
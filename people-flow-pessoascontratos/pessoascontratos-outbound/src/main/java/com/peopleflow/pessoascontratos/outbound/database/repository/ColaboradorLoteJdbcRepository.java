@@ -0,0 +1,130 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.outbound.jpa.entity.ColaboradorEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Operações em lote sobre COLABORADOR (admissão em massa)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ColaboradorLoteJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private static final int TAMANHO_LOTE_INSERT = 500;
+
+    public static final String CHAVE_CPF = "cpf";
+    public static final String CHAVE_EMAIL = "email";
+    public static final String CHAVE_MATRICULA = "matricula";
+
+    public record ChaveExistenteRow(String tipo, String valor, Long empresaId) {
+    }
+
+    private final RowMapper<ChaveExistenteRow> chaveRowMapper = (rs, rowNum) -> new ChaveExistenteRow(
+        rs.getString("tipo"),
+        rs.getString("valor"),
+        rs.getObject("empresa_id", Long.class)
+    );
+
+    /**
+     * Reserva {@code quantidade} IDs da sequence em um único round trip.
+     *
+     * Mesma semântica do otimizador pooled do Hibernate: cada nextval devolve o
+     * fim de um bloco de {@link ColaboradorEntity#ID_ALLOCATION_SIZE} ids.
+     */
+    public List<Long> reservarIds(int quantidade) {
+        int incremento = ColaboradorEntity.ID_ALLOCATION_SIZE;
+        int blocos = (quantidade + incremento - 1) / incremento;
+        String sql = String.format(
+            "SELECT nextval('%s.colaborador_id_seq') FROM generate_series(1, ?)",
+            SCHEMA
+        );
+        List<Long> finaisDeBloco = jdbcTemplate.queryForList(sql, Long.class, blocos);
+
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (Long fim : finaisDeBloco) {
+            for (long id = fim - incremento + 1; id <= fim && ids.size() < quantidade; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Insere os colaboradores (com ID já reservado) usando JDBC batch;
+     * CRIADO_EM, ATUALIZADO_EM e VERSAO ficam com o default do banco.
+     */
+    public void insertAll(List<ColaboradorEntity> colaboradores) {
+        String sql = String.format(
+            "INSERT INTO %s.colaborador (id, nome, cpf, matricula, email, data_admissao, status, " +
+            "empresa_id, departamento_id, centro_custo_id, cargo_id, criado_por, atualizado_por) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            SCHEMA
+        );
+        jdbcTemplate.batchUpdate(sql, colaboradores, TAMANHO_LOTE_INSERT, (ps, c) -> {
+            ps.setLong(1, c.getId());
+            ps.setString(2, c.getNome());
+            ps.setString(3, c.getCpf());
+            ps.setString(4, c.getMatricula());
+            ps.setString(5, c.getEmail());
+            ps.setDate(6, c.getDataAdmissao() != null ? Date.valueOf(c.getDataAdmissao()) : null);
+            ps.setString(7, c.getStatus());
+            ps.setLong(8, c.getEmpresaId());
+            setLongOuNulo(ps, 9, c.getDepartamentoId());
+            setLongOuNulo(ps, 10, c.getCentroCustoId());
+            setLongOuNulo(ps, 11, c.getCargoId());
+            ps.setString(12, c.getCriadoPor());
+            ps.setString(13, c.getAtualizadoPor());
+        });
+    }
+
+    /**
+     * CPFs, emails e pares (empresa, matrícula) já usados por colaboradores não excluídos,
+     * resolvidos em uma única consulta.
+     */
+    public List<ChaveExistenteRow> buscarChavesExistentes(String[] cpfs, String[] emails,
+                                                          Long[] empresaIds, String[] matriculas) {
+        String sql = String.format(
+            "SELECT '%2$s' AS tipo, c.cpf AS valor, NULL::BIGINT AS empresa_id FROM %1$s.colaborador c " +
+            "WHERE c.status <> 'excluido' AND c.cpf = ANY(?) " +
+            "UNION ALL " +
+            "SELECT '%3$s', c.email, NULL FROM %1$s.colaborador c " +
+            "WHERE c.status <> 'excluido' AND c.email = ANY(?) " +
+            "UNION ALL " +
+            "SELECT '%4$s', c.matricula, c.empresa_id FROM %1$s.colaborador c " +
+            "JOIN unnest(?::BIGINT[], ?::TEXT[]) AS m(empresa_id, matricula) " +
+            "  ON m.empresa_id = c.empresa_id AND m.matricula = c.matricula " +
+            "WHERE c.status <> 'excluido'",
+            SCHEMA, CHAVE_CPF, CHAVE_EMAIL, CHAVE_MATRICULA
+        );
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("text", cpfs));
+            ps.setArray(2, con.createArrayOf("text", emails));
+            ps.setArray(3, con.createArrayOf("bigint", empresaIds));
+            ps.setArray(4, con.createArrayOf("text", matriculas));
+            return ps;
+        }, chaveRowMapper);
+    }
+
+    private static void setLongOuNulo(PreparedStatement ps, int indice, Long valor) throws SQLException {
+        if (valor != null) {
+            ps.setLong(indice, valor);
+        } else {
+            ps.setNull(indice, Types.BIGINT);
+        }
+    }
+}
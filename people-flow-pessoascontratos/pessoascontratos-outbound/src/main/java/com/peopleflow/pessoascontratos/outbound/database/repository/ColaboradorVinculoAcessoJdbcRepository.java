@@ -0,0 +1,61 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.core.query.VinculoAcesso;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas de COLABORADOR.KEYCLOAK_USER_ID / STATUS para a reconciliação com o Keycloak
+ *
+ * Inclui colaboradores excluídos: o usuário deles também precisa estar desabilitado.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ColaboradorVinculoAcessoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private final RowMapper<VinculoAcesso> rowMapper = (rs, rowNum) -> new VinculoAcesso(
+        rs.getLong("id"),
+        rs.getString("keycloak_user_id"),
+        rs.getString("status")
+    );
+
+    /**
+     * Próxima página (keyset por ID) de colaboradores com usuário vinculado
+     */
+    public List<VinculoAcesso> findVinculadosAposId(Long aposId, int limite) {
+        String sql = String.format(
+            "SELECT id, keycloak_user_id, status FROM %s.colaborador " +
+            "WHERE keycloak_user_id IS NOT NULL AND id > ? " +
+            "ORDER BY id LIMIT ?",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, rowMapper, aposId != null ? aposId : 0L, limite);
+    }
+
+    /**
+     * Colaboradores vinculados a algum dos usuários ou com algum dos IDs, em um único round trip
+     */
+    public List<VinculoAcesso> findPorUsuariosOuIds(Collection<String> keycloakUserIds, Collection<Long> colaboradorIds) {
+        String sql = String.format(
+            "SELECT id, keycloak_user_id, status FROM %s.colaborador " +
+            "WHERE keycloak_user_id = ANY(?) OR id = ANY(?)",
+            SCHEMA
+        );
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("varchar", keycloakUserIds.toArray()));
+            ps.setArray(2, con.createArrayOf("bigint", colaboradorIds.toArray()));
+            return ps;
+        }, rowMapper);
+    }
+}
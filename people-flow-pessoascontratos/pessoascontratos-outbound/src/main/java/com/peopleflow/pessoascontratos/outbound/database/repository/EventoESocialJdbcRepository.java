@@ -0,0 +1,275 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador.ItemRemuneracao;
+import com.peopleflow.pessoascontratos.core.ports.output.EventoESocialRepositoryPort.EventoGerado;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusGeracaoESocial;
+import com.peopleflow.pessoascontratos.core.valueobject.TipoEventoESocial;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Gerações de eventos eSocial: GERACAO_ESOCIAL, EVENTO_ESOCIAL e PAYLOAD_ESOCIAL
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventoESocialJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private static final String COLUNAS_GERACAO =
+        "g.id, g.execucao_id, g.empresa_id, regexp_replace(emp.cnpj, '\\D', '', 'g') AS inscricao, g.tipo, " +
+        "g.competencia, g.status, g.ultimo_colaborador_id, g.lotes, g.eventos, g.tamanho_xml, " +
+        "g.iniciado_em, g.concluido_em, g.tentativas, g.ultimo_erro ";
+
+    private final RowMapper<GeracaoESocial> geracaoRowMapper = (rs, rowNum) -> GeracaoESocial.builder()
+        .id(rs.getLong("id"))
+        .execucaoId(rs.getLong("execucao_id"))
+        .empresaId(rs.getLong("empresa_id"))
+        .inscricaoEmpregador(rs.getString("inscricao"))
+        .tipo(TipoEventoESocial.of(rs.getString("tipo")))
+        .competencia(YearMonth.from(rs.getObject("competencia", LocalDate.class)))
+        .status(StatusGeracaoESocial.of(rs.getString("status")))
+        .ultimoColaboradorId(rs.getLong("ultimo_colaborador_id"))
+        .lotes(rs.getInt("lotes"))
+        .eventos(rs.getInt("eventos"))
+        .tamanhoXml(rs.getLong("tamanho_xml"))
+        .iniciadoEm(instante(rs.getObject("iniciado_em", OffsetDateTime.class)))
+        .concluidoEm(instante(rs.getObject("concluido_em", OffsetDateTime.class)))
+        .tentativas(rs.getInt("tentativas"))
+        .ultimoErro(rs.getString("ultimo_erro"))
+        .build();
+
+    public void planejarGeracoes(Long execucaoId, TipoEventoESocial tipo, String auditor) {
+        String sql = String.format(
+            "INSERT INTO %1$s.geracao_esocial (execucao_id, empresa_id, tipo, competencia, criado_por, atualizado_por) " +
+            "SELECT fe.id, e.empresa_id, ?, fe.competencia, ?, ? " +
+            "FROM %1$s.folha_execucao fe " +
+            "CROSS JOIN (" +
+            "  SELECT DISTINCT col.empresa_id FROM %1$s.folha_item fi " +
+            "  JOIN %1$s.colaborador col ON col.id = fi.colaborador_id " +
+            "  WHERE fi.execucao_id = ? AND fi.excluido_em IS NULL" +
+            ") e " +
+            "WHERE fe.id = ? " +
+            "ON CONFLICT (execucao_id, empresa_id, tipo) WHERE excluido_em IS NULL DO UPDATE SET " +
+            "status = 'gerando', tentativas = 0, concluido_em = NULL, " +
+            "atualizado_por = EXCLUDED.atualizado_por, atualizado_em = clock_timestamp() " +
+            "WHERE %1$s.geracao_esocial.status = 'erro'",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, tipo.getValor(), auditor, auditor, execucaoId, execucaoId);
+    }
+
+    public List<Long> findIdsPendentes(Long execucaoId, TipoEventoESocial tipo) {
+        String sql = String.format(
+            "SELECT id FROM %s.geracao_esocial " +
+            "WHERE execucao_id = ? AND tipo = ? AND status = 'gerando' AND excluido_em IS NULL ORDER BY id",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForList(sql, Long.class, execucaoId, tipo.getValor());
+    }
+
+    public List<String> findEmpregadoresSemInscricao(Long execucaoId) {
+        String sql = String.format(
+            "SELECT DISTINCT emp.nome FROM %1$s.folha_item fi " +
+            "JOIN %1$s.colaborador col ON col.id = fi.colaborador_id " +
+            "JOIN %1$s.empresa emp ON emp.id = col.empresa_id " +
+            "WHERE fi.execucao_id = ? AND fi.excluido_em IS NULL " +
+            "  AND (emp.cnpj IS NULL OR length(regexp_replace(emp.cnpj, '\\D', '', 'g')) <> 14) " +
+            "ORDER BY emp.nome",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForList(sql, String.class, execucaoId);
+    }
+
+    public long countTrabalhadoresSemCpf(Long execucaoId) {
+        String sql = String.format(
+            "SELECT COUNT(DISTINCT fi.colaborador_id) FROM %1$s.folha_item fi " +
+            "JOIN %1$s.colaborador col ON col.id = fi.colaborador_id " +
+            "WHERE fi.execucao_id = ? AND fi.excluido_em IS NULL AND col.cpf IS NULL",
+            SCHEMA
+        );
+        Long total = jdbcTemplate.queryForObject(sql, Long.class, execucaoId);
+        return total != null ? total : 0L;
+    }
+
+    public Optional<GeracaoESocial> reivindicar(Long geracaoId) {
+        String sql = String.format(
+            "SELECT " + COLUNAS_GERACAO +
+            "FROM %1$s.geracao_esocial g JOIN %1$s.empresa emp ON emp.id = g.empresa_id " +
+            "WHERE g.id = ? AND g.status = 'gerando' AND g.excluido_em IS NULL " +
+            "FOR UPDATE OF g SKIP LOCKED",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, geracaoRowMapper, geracaoId).stream().findFirst();
+    }
+
+    /**
+     * Próximos trabalhadores (keyset por ID) do empregador, com os itens somados por rubrica
+     *
+     * As linhas chegam ordenadas por colaborador e são agrupadas na leitura.
+     */
+    public List<RemuneracaoTrabalhador> findRemuneracoes(GeracaoESocial geracao, int limite) {
+        String sql = String.format(
+            "WITH trab AS (" +
+            "  SELECT DISTINCT fi.colaborador_id FROM %1$s.folha_item fi " +
+            "  JOIN %1$s.colaborador col ON col.id = fi.colaborador_id " +
+            "  WHERE fi.execucao_id = ? AND fi.excluido_em IS NULL AND fi.colaborador_id > ? " +
+            "    AND col.empresa_id = ? AND col.cpf IS NOT NULL " +
+            "  ORDER BY fi.colaborador_id LIMIT ?" +
+            ") " +
+            "SELECT col.id, col.cpf, col.matricula, ct.tipo AS tipo_contrato, cc.codigo AS lotacao, " +
+            "       r.codigo AS rubrica, SUM(fi.quantidade) AS quantidade, SUM(fi.valor) AS valor " +
+            "FROM trab t " +
+            "JOIN %1$s.colaborador col ON col.id = t.colaborador_id " +
+            "LEFT JOIN %1$s.centro_custo cc ON cc.id = col.centro_custo_id " +
+            "LEFT JOIN LATERAL (" +
+            "  SELECT c.tipo FROM %1$s.contrato c " +
+            "  WHERE c.colaborador_id = col.id AND c.excluido_em IS NULL ORDER BY c.inicio DESC LIMIT 1" +
+            ") ct ON true " +
+            "JOIN %1$s.folha_item fi ON fi.colaborador_id = t.colaborador_id " +
+            "  AND fi.execucao_id = ? AND fi.excluido_em IS NULL " +
+            "JOIN %1$s.rubrica r ON r.id = fi.rubrica_id " +
+            "GROUP BY col.id, col.cpf, col.matricula, ct.tipo, cc.codigo, r.codigo " +
+            "ORDER BY col.id, r.codigo",
+            SCHEMA
+        );
+
+        return jdbcTemplate.query(sql, rs -> {
+            List<RemuneracaoTrabalhador> trabalhadores = new ArrayList<>(limite);
+            List<ItemRemuneracao> itens = null;
+            long colaboradorAtual = -1;
+            while (rs.next()) {
+                long colaboradorId = rs.getLong("id");
+                if (colaboradorId != colaboradorAtual) {
+                    colaboradorAtual = colaboradorId;
+                    itens = new ArrayList<>();
+                    trabalhadores.add(new RemuneracaoTrabalhador(
+                        colaboradorId,
+                        rs.getString("cpf"),
+                        rs.getString("matricula"),
+                        rs.getString("tipo_contrato"),
+                        rs.getString("lotacao"),
+                        itens
+                    ));
+                }
+                itens.add(new ItemRemuneracao(
+                    rs.getString("rubrica"),
+                    rs.getBigDecimal("quantidade"),
+                    rs.getBigDecimal("valor")
+                ));
+            }
+            return trabalhadores;
+        }, geracao.getExecucaoId(), geracao.getUltimoColaboradorId(), geracao.getEmpresaId(), limite,
+            geracao.getExecucaoId());
+    }
+
+    /**
+     * Eventos e payloads do lote em um único statement (INSERT ... RETURNING encadeado)
+     */
+    public void inserirEventos(GeracaoESocial geracao, int lote, String versaoLeiaute,
+                               List<EventoGerado> eventos, String auditor) {
+        String sql = String.format(
+            "WITH ev AS (" +
+            "  INSERT INTO %1$s.evento_esocial " +
+            "  (tipo, referencia_id, geracao_id, lote, id_evento, criado_por, atualizado_por) " +
+            "  SELECT ?, e.colaborador_id, ?, ?, e.id_evento, ?, ? " +
+            "  FROM unnest(?::BIGINT[], ?::VARCHAR[]) AS e(colaborador_id, id_evento) " +
+            "  RETURNING id, referencia_id" +
+            ") " +
+            "INSERT INTO %1$s.payload_esocial (evento_id, versao_layout, xml, criado_por, atualizado_por) " +
+            "SELECT ev.id, ?, p.xml, ?, ? " +
+            "FROM ev JOIN unnest(?::BIGINT[], ?::TEXT[]) AS p(colaborador_id, xml) " +
+            "  ON p.colaborador_id = ev.referencia_id",
+            SCHEMA
+        );
+        Long[] colaboradores = eventos.stream().map(EventoGerado::colaboradorId).toArray(Long[]::new);
+        String[] ids = eventos.stream().map(EventoGerado::idEvento).toArray(String[]::new);
+        String[] xmls = eventos.stream().map(EventoGerado::xml).toArray(String[]::new);
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setString(1, geracao.getTipo().getValor());
+            ps.setLong(2, geracao.getId());
+            ps.setInt(3, lote);
+            ps.setString(4, auditor);
+            ps.setString(5, auditor);
+            ps.setArray(6, con.createArrayOf("bigint", colaboradores));
+            ps.setArray(7, con.createArrayOf("varchar", ids));
+            ps.setString(8, versaoLeiaute);
+            ps.setString(9, auditor);
+            ps.setString(10, auditor);
+            ps.setArray(11, con.createArrayOf("bigint", colaboradores));
+            ps.setArray(12, con.createArrayOf("text", xmls));
+            return ps;
+        });
+    }
+
+    public void atualizar(GeracaoESocial geracao, String auditor) {
+        String sql = String.format(
+            "UPDATE %s.geracao_esocial SET status = ?, ultimo_colaborador_id = ?, lotes = ?, eventos = ?, " +
+            "tamanho_xml = ?, tentativas = ?, concluido_em = ?, atualizado_por = ?, " +
+            "atualizado_em = clock_timestamp() WHERE id = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, geracao.getStatus().getValor(), geracao.getUltimoColaboradorId(),
+            geracao.getLotes(), geracao.getEventos(), geracao.getTamanhoXml(), geracao.getTentativas(),
+            timestamp(geracao.getConcluidoEm()), auditor, geracao.getId());
+    }
+
+    public boolean registrarFalha(Long geracaoId, String erro, int maxTentativas, String auditor) {
+        String sql = String.format(
+            "UPDATE %s.geracao_esocial SET tentativas = tentativas + 1, ultimo_erro = ?, " +
+            "status = CASE WHEN tentativas + 1 >= ? THEN 'erro' ELSE status END, " +
+            "concluido_em = CASE WHEN tentativas + 1 >= ? THEN clock_timestamp() ELSE concluido_em END, " +
+            "atualizado_por = ?, atualizado_em = clock_timestamp() " +
+            "WHERE id = ? AND status = 'gerando' " +
+            "RETURNING status",
+            SCHEMA
+        );
+        String mensagem = erro != null && erro.length() > 1000 ? erro.substring(0, 1000) : erro;
+        return jdbcTemplate.queryForList(sql, String.class, mensagem, maxTentativas, maxTentativas, auditor, geracaoId)
+            .contains("erro");
+    }
+
+    public List<GeracaoESocial> findByExecucao(Long execucaoId) {
+        String sql = String.format(
+            "SELECT " + COLUNAS_GERACAO +
+            "FROM %1$s.geracao_esocial g JOIN %1$s.empresa emp ON emp.id = g.empresa_id " +
+            "WHERE g.execucao_id = ? AND g.excluido_em IS NULL ORDER BY g.tipo, g.empresa_id",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, geracaoRowMapper, execucaoId);
+    }
+
+    public List<Long> findIdsPendentes() {
+        String sql = String.format(
+            "SELECT id FROM %s.geracao_esocial WHERE status = 'gerando' AND excluido_em IS NULL ORDER BY id",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    private static Instant instante(OffsetDateTime valor) {
+        return valor != null ? valor.toInstant() : null;
+    }
+
+    private static Timestamp timestamp(Instant valor) {
+        return valor != null ? Timestamp.from(valor) : null;
+    }
+}
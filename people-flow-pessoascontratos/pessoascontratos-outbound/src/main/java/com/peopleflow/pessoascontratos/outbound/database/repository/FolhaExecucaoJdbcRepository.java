@@ -0,0 +1,249 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.core.domain.ContratoFolha;
+import com.peopleflow.pessoascontratos.core.domain.FolhaExecucao;
+import com.peopleflow.pessoascontratos.core.domain.ItemFolha;
+import com.peopleflow.pessoascontratos.core.domain.RegraRubrica;
+import com.peopleflow.pessoascontratos.core.ports.output.FolhaExecucaoRepositoryPort.LoteFolha;
+import com.peopleflow.pessoascontratos.core.query.ProgressoFolha;
+import com.peopleflow.pessoascontratos.core.valueobject.FormaCalculoRubrica;
+import com.peopleflow.pessoascontratos.core.valueobject.StatusFolha;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Execuções da folha: FOLHA_EXECUCAO, lotes de cálculo (FOLHA_EXECUCAO_LOTE) e itens (FOLHA_ITEM)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FolhaExecucaoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    /** Contratos vigentes em algum dia da competência, com salário definido */
+    private static final String CONTRATOS_VIGENTES =
+        "FROM %1$s.contrato c " +
+        "JOIN %1$s.colaborador col ON col.id = c.colaborador_id " +
+        "WHERE c.excluido_em IS NULL AND c.salario_base IS NOT NULL AND col.status <> 'excluido' " +
+        "  AND c.inicio <= ? AND (c.fim IS NULL OR c.fim >= ?)";
+
+    private final RowMapper<FolhaExecucao> execucaoRowMapper = (rs, rowNum) -> FolhaExecucao.builder()
+        .id(rs.getLong("id"))
+        .competencia(YearMonth.from(rs.getObject("competencia", LocalDate.class)))
+        .status(StatusFolha.of(rs.getString("status")))
+        .iniciadoEm(instante(rs.getObject("iniciado_em", OffsetDateTime.class)))
+        .concluidoEm(instante(rs.getObject("concluido_em", OffsetDateTime.class)))
+        .build();
+
+    public Long inserir(FolhaExecucao execucao, String auditor) {
+        String sql = String.format(
+            "INSERT INTO %s.folha_execucao (competencia, status, criado_por, atualizado_por) " +
+            "VALUES (?, ?, ?, ?) RETURNING id",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForObject(sql, Long.class,
+            Date.valueOf(execucao.getCompetencia().atDay(1)), execucao.getStatus().getValor(), auditor, auditor);
+    }
+
+    public void atualizar(FolhaExecucao execucao, String auditor) {
+        String sql = String.format(
+            "UPDATE %s.folha_execucao SET status = ?, iniciado_em = ?, concluido_em = ?, " +
+            "atualizado_por = ?, atualizado_em = clock_timestamp() WHERE id = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, execucao.getStatus().getValor(), timestamp(execucao.getIniciadoEm()),
+            timestamp(execucao.getConcluidoEm()), auditor, execucao.getId());
+    }
+
+    public Optional<FolhaExecucao> findById(Long id) {
+        String sql = String.format(
+            "SELECT id, competencia, status, iniciado_em, concluido_em FROM %s.folha_execucao " +
+            "WHERE id = ? AND excluido_em IS NULL",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, execucaoRowMapper, id).stream().findFirst();
+    }
+
+    public boolean existsByCompetencia(YearMonth competencia) {
+        String sql = String.format(
+            "SELECT EXISTS (SELECT 1 FROM %s.folha_execucao WHERE competencia = ? AND excluido_em IS NULL)",
+            SCHEMA
+        );
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class,
+            Date.valueOf(competencia.atDay(1))));
+    }
+
+    public int planejarLotes(Long execucaoId, YearMonth competencia, int tamanhoLote) {
+        String sql = String.format(
+            "INSERT INTO %1$s.folha_execucao_lote (execucao_id, lote, contrato_id_inicio, contrato_id_fim) " +
+            "SELECT ?, t.lote, MIN(t.id), MAX(t.id) FROM (" +
+            "  SELECT c.id, (ROW_NUMBER() OVER (ORDER BY c.id) - 1) / ? AS lote " +
+            "  " + CONTRATOS_VIGENTES +
+            ") t " +
+            "WHERE NOT EXISTS (SELECT 1 FROM %1$s.folha_execucao_lote WHERE execucao_id = ?) " +
+            "GROUP BY t.lote",
+            SCHEMA
+        );
+        return jdbcTemplate.update(sql, execucaoId, tamanhoLote,
+            Date.valueOf(competencia.atEndOfMonth()), Date.valueOf(competencia.atDay(1)), execucaoId);
+    }
+
+    public List<RegraRubrica> findRubricasAutomaticas() {
+        String sql = String.format(
+            "SELECT id, codigo, base_calculo->>'tipo' AS forma, " +
+            "(base_calculo->>'percentual')::NUMERIC AS percentual, (base_calculo->>'valor')::NUMERIC AS valor " +
+            "FROM %s.rubrica WHERE excluido_em IS NULL AND base_calculo->>'tipo' IS NOT NULL ORDER BY id",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new RegraRubrica(
+                rs.getLong("id"),
+                rs.getString("codigo"),
+                FormaCalculoRubrica.ofNullable(rs.getString("forma")),
+                rs.getBigDecimal("percentual"),
+                rs.getBigDecimal("valor")
+            )).stream()
+            .filter(regra -> regra.forma() != null)
+            .toList();
+    }
+
+    public Optional<LoteFolha> reivindicarLote(Long execucaoId) {
+        String sql = String.format(
+            "SELECT execucao_id, lote, contrato_id_inicio, contrato_id_fim FROM %s.folha_execucao_lote " +
+            "WHERE execucao_id = ? AND status = 'pendente' ORDER BY lote LIMIT 1 FOR UPDATE SKIP LOCKED",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new LoteFolha(
+            rs.getLong("execucao_id"),
+            rs.getInt("lote"),
+            rs.getLong("contrato_id_inicio"),
+            rs.getLong("contrato_id_fim")
+        ), execucaoId).stream().findFirst();
+    }
+
+    public List<ContratoFolha> findContratosDoLote(LoteFolha lote, YearMonth competencia) {
+        String sql = String.format(
+            "SELECT c.id, c.colaborador_id, c.salario_base, c.inicio, c.fim " +
+            CONTRATOS_VIGENTES + " AND c.id BETWEEN ? AND ? ORDER BY c.id",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ContratoFolha(
+            rs.getLong("id"),
+            rs.getLong("colaborador_id"),
+            rs.getBigDecimal("salario_base"),
+            rs.getObject("inicio", LocalDate.class),
+            rs.getObject("fim", LocalDate.class)
+        ), Date.valueOf(competencia.atEndOfMonth()), Date.valueOf(competencia.atDay(1)),
+            lote.contratoIdInicio(), lote.contratoIdFim());
+    }
+
+    /**
+     * Todos os itens do lote em um único INSERT ... SELECT FROM unnest
+     */
+    public void inserirItens(Long execucaoId, List<ItemFolha> itens, String auditor) {
+        String sql = String.format(
+            "INSERT INTO %s.folha_item " +
+            "(execucao_id, colaborador_id, rubrica_id, quantidade, valor, criado_por, atualizado_por) " +
+            "SELECT ?, i.colaborador_id, i.rubrica_id, i.quantidade, i.valor, ?, ? " +
+            "FROM unnest(?::BIGINT[], ?::BIGINT[], ?::NUMERIC[], ?::NUMERIC[]) " +
+            "AS i(colaborador_id, rubrica_id, quantidade, valor)",
+            SCHEMA
+        );
+        Long[] colaboradores = itens.stream().map(ItemFolha::colaboradorId).toArray(Long[]::new);
+        Long[] rubricas = itens.stream().map(ItemFolha::rubricaId).toArray(Long[]::new);
+        BigDecimal[] quantidades = itens.stream().map(ItemFolha::quantidade).toArray(BigDecimal[]::new);
+        BigDecimal[] valores = itens.stream().map(ItemFolha::valor).toArray(BigDecimal[]::new);
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setLong(1, execucaoId);
+            ps.setString(2, auditor);
+            ps.setString(3, auditor);
+            ps.setArray(4, con.createArrayOf("bigint", colaboradores));
+            ps.setArray(5, con.createArrayOf("bigint", rubricas));
+            ps.setArray(6, con.createArrayOf("numeric", quantidades));
+            ps.setArray(7, con.createArrayOf("numeric", valores));
+            return ps;
+        });
+    }
+
+    public void concluirLote(LoteFolha lote, int contratos, int itens, long duracaoMs) {
+        String sql = String.format(
+            "UPDATE %s.folha_execucao_lote SET status = 'concluido', contratos = ?, itens = ?, duracao_ms = ?, " +
+            "concluido_em = clock_timestamp() WHERE execucao_id = ? AND lote = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, contratos, itens, duracaoMs, lote.execucaoId(), lote.lote());
+    }
+
+    public boolean registrarFalhaLote(Long execucaoId, int lote, String erro, int maxTentativas) {
+        String sql = String.format(
+            "UPDATE %s.folha_execucao_lote SET tentativas = tentativas + 1, ultimo_erro = ?, " +
+            "status = CASE WHEN tentativas + 1 >= ? THEN 'erro' ELSE status END " +
+            "WHERE execucao_id = ? AND lote = ? AND status = 'pendente' " +
+            "RETURNING status",
+            SCHEMA
+        );
+        String mensagem = erro != null && erro.length() > 1000 ? erro.substring(0, 1000) : erro;
+        return jdbcTemplate.queryForList(sql, String.class, mensagem, maxTentativas, execucaoId, lote)
+            .contains("erro");
+    }
+
+    public int reabrirLotesComErro(Long execucaoId) {
+        String sql = String.format(
+            "UPDATE %s.folha_execucao_lote SET status = 'pendente', tentativas = 0 " +
+            "WHERE execucao_id = ? AND status = 'erro'",
+            SCHEMA
+        );
+        return jdbcTemplate.update(sql, execucaoId);
+    }
+
+    public ProgressoFolha progresso(Long execucaoId) {
+        String sql = String.format(
+            "SELECT COUNT(*) AS lotes, COUNT(*) FILTER (WHERE status = 'concluido') AS concluidos, " +
+            "COUNT(*) FILTER (WHERE status = 'erro') AS com_erro, " +
+            "COALESCE(SUM(contratos), 0) AS contratos, COALESCE(SUM(itens), 0) AS itens, " +
+            "COALESCE(SUM(duracao_ms), 0) AS duracao_ms " +
+            "FROM %s.folha_execucao_lote WHERE execucao_id = ?",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new ProgressoFolha(
+            rs.getInt("lotes"),
+            rs.getInt("concluidos"),
+            rs.getInt("com_erro"),
+            rs.getLong("contratos"),
+            rs.getLong("itens"),
+            rs.getLong("duracao_ms")
+        ), execucaoId);
+    }
+
+    public List<Long> findIdsEmCalculo() {
+        String sql = String.format(
+            "SELECT id FROM %s.folha_execucao WHERE status = 'em_calculo' AND excluido_em IS NULL ORDER BY id",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    private static Instant instante(OffsetDateTime valor) {
+        return valor != null ? valor.toInstant() : null;
+    }
+
+    private static Timestamp timestamp(Instant valor) {
+        return valor != null ? Timestamp.from(valor) : null;
+    }
+}
@@ -0,0 +1,191 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Projeção de headcount: HEADCOUNT_COLABORADOR (unidade em que cada ativo está contado)
+ * e HEADCOUNT_UNIDADE (total de ativos por empresa / departamento / centro de custo)
+ */
+@Repository
+@RequiredArgsConstructor
+public class HeadcountJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private static final String STATUS_ATIVO = "ativo";
+
+    public record UnidadeRow(Long empresaId, Long departamentoId, Long centroCustoId) {
+
+        public boolean mesmaUnidade(UnidadeRow outra) {
+            return outra != null
+                && Objects.equals(empresaId, outra.empresaId)
+                && Objects.equals(departamentoId, outra.departamentoId)
+                && Objects.equals(centroCustoId, outra.centroCustoId);
+        }
+    }
+
+    public record HeadcountRow(Long empresaId, Long departamentoId, Long centroCustoId, long ativos) {
+    }
+
+    private final RowMapper<UnidadeRow> unidadeRowMapper = (rs, rowNum) -> new UnidadeRow(
+        rs.getLong("empresa_id"),
+        rs.getObject("departamento_id", Long.class),
+        rs.getObject("centro_custo_id", Long.class)
+    );
+
+    private final RowMapper<HeadcountRow> headcountRowMapper = (rs, rowNum) -> new HeadcountRow(
+        rs.getLong("empresa_id"),
+        rs.getObject("departamento_id", Long.class),
+        rs.getObject("centro_custo_id", Long.class),
+        rs.getLong("ativos")
+    );
+
+    /**
+     * Unidade atual do colaborador, se ele estiver ativo
+     */
+    public Optional<UnidadeRow> findUnidadeSeAtivo(Long colaboradorId) {
+        String sql = String.format(
+            "SELECT empresa_id, departamento_id, centro_custo_id FROM %s.colaborador " +
+            "WHERE id = ? AND status = ?",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, unidadeRowMapper, colaboradorId, STATUS_ATIVO).stream().findFirst();
+    }
+
+    /**
+     * Unidade em que o colaborador está contado na projeção (com lock da linha)
+     */
+    public Optional<UnidadeRow> findUnidadeContadaForUpdate(Long colaboradorId) {
+        String sql = String.format(
+            "SELECT empresa_id, departamento_id, centro_custo_id FROM %s.headcount_colaborador " +
+            "WHERE colaborador_id = ? FOR UPDATE",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, unidadeRowMapper, colaboradorId).stream().findFirst();
+    }
+
+    public void contar(Long colaboradorId, UnidadeRow unidade) {
+        String membro = String.format(
+            "INSERT INTO %s.headcount_colaborador (colaborador_id, empresa_id, departamento_id, centro_custo_id) " +
+            "VALUES (?, ?, ?, ?)",
+            SCHEMA
+        );
+        jdbcTemplate.update(membro, colaboradorId, unidade.empresaId(), unidade.departamentoId(), unidade.centroCustoId());
+
+        String total = String.format(
+            "INSERT INTO %s.headcount_unidade (empresa_id, departamento_id, centro_custo_id, ativos) " +
+            "VALUES (?, ?, ?, 1) " +
+            "ON CONFLICT (empresa_id, departamento_id, centro_custo_id) " +
+            "DO UPDATE SET ativos = headcount_unidade.ativos + 1, atualizado_em = clock_timestamp()",
+            SCHEMA
+        );
+        jdbcTemplate.update(total, unidade.empresaId(), unidade.departamentoId(), unidade.centroCustoId());
+    }
+
+    public void descontar(Long colaboradorId, UnidadeRow unidade) {
+        String membro = String.format(
+            "DELETE FROM %s.headcount_colaborador WHERE colaborador_id = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(membro, colaboradorId);
+
+        String total = String.format(
+            "UPDATE %s.headcount_unidade SET ativos = ativos - 1, atualizado_em = clock_timestamp() " +
+            "WHERE empresa_id = ? " +
+            "  AND departamento_id IS NOT DISTINCT FROM ?::BIGINT " +
+            "  AND centro_custo_id IS NOT DISTINCT FROM ?::BIGINT",
+            SCHEMA
+        );
+        jdbcTemplate.update(total, unidade.empresaId(), unidade.departamentoId(), unidade.centroCustoId());
+    }
+
+    public List<HeadcountRow> findAll(Long empresaId, Long departamentoId, Long centroCustoId) {
+        StringBuilder sql = new StringBuilder(String.format(
+            "SELECT empresa_id, departamento_id, centro_custo_id, ativos FROM %s.headcount_unidade " +
+            "WHERE ativos > 0",
+            SCHEMA
+        ));
+        List<Object> params = new ArrayList<>(3);
+        if (empresaId != null) {
+            sql.append(" AND empresa_id = ?");
+            params.add(empresaId);
+        }
+        if (departamentoId != null) {
+            sql.append(" AND departamento_id = ?");
+            params.add(departamentoId);
+        }
+        if (centroCustoId != null) {
+            sql.append(" AND centro_custo_id = ?");
+            params.add(centroCustoId);
+        }
+        sql.append(" ORDER BY empresa_id, departamento_id NULLS FIRST, centro_custo_id NULLS FIRST");
+        return jdbcTemplate.query(sql.toString(), headcountRowMapper, params.toArray());
+    }
+
+    /**
+     * Bloqueia a projeção contra sincronizações concorrentes até o fim da transação
+     */
+    public void bloquearProjecao() {
+        String sql = String.format(
+            "LOCK TABLE %1$s.headcount_colaborador, %1$s.headcount_unidade IN EXCLUSIVE MODE",
+            SCHEMA
+        );
+        jdbcTemplate.execute(sql);
+    }
+
+    /**
+     * Unidades cujo total na projeção difere da contagem real em COLABORADOR
+     */
+    public int countUnidadesDivergentes() {
+        // COALESCE(…, 0) em vez de IS NOT DISTINCT FROM: FULL JOIN exige condição hash/merge-joinable
+        String sql = String.format(
+            "WITH real AS (" +
+            "  SELECT empresa_id, departamento_id, centro_custo_id, COUNT(*) AS ativos " +
+            "  FROM %1$s.colaborador WHERE status = ? " +
+            "  GROUP BY empresa_id, departamento_id, centro_custo_id" +
+            ") " +
+            "SELECT COUNT(*) FROM real r " +
+            "FULL OUTER JOIN %1$s.headcount_unidade h " +
+            "  ON h.empresa_id = r.empresa_id " +
+            " AND COALESCE(h.departamento_id, 0) = COALESCE(r.departamento_id, 0) " +
+            " AND COALESCE(h.centro_custo_id, 0) = COALESCE(r.centro_custo_id, 0) " +
+            "WHERE COALESCE(r.ativos, 0) <> COALESCE(h.ativos, 0)",
+            SCHEMA
+        );
+        Integer divergentes = jdbcTemplate.queryForObject(sql, Integer.class, STATUS_ATIVO);
+        return divergentes != null ? divergentes : 0;
+    }
+
+    /**
+     * Recria a projeção inteira a partir de COLABORADOR
+     */
+    public void reconstruir() {
+        jdbcTemplate.update(String.format("DELETE FROM %s.headcount_colaborador", SCHEMA));
+        jdbcTemplate.update(String.format("DELETE FROM %s.headcount_unidade", SCHEMA));
+
+        String membros = String.format(
+            "INSERT INTO %1$s.headcount_colaborador (colaborador_id, empresa_id, departamento_id, centro_custo_id) " +
+            "SELECT id, empresa_id, departamento_id, centro_custo_id FROM %1$s.colaborador WHERE status = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(membros, STATUS_ATIVO);
+
+        String totais = String.format(
+            "INSERT INTO %1$s.headcount_unidade (empresa_id, departamento_id, centro_custo_id, ativos) " +
+            "SELECT empresa_id, departamento_id, centro_custo_id, COUNT(*) FROM %1$s.headcount_colaborador " +
+            "GROUP BY empresa_id, departamento_id, centro_custo_id",
+            SCHEMA
+        );
+        jdbcTemplate.update(totais);
+    }
+}
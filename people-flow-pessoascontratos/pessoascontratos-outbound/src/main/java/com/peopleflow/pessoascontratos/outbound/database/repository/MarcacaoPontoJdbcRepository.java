@@ -0,0 +1,104 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.core.domain.MarcacaoPonto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Gravação em massa de MARCACAO_PONTO (tabela particionada por mês)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MarcacaoPontoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    /** Marcação a gravar e o usuário que a enviou (CRIADO_POR) */
+    public record Linha(MarcacaoPonto marcacao, String criadoPor) {
+    }
+
+    /**
+     * Insere todas as linhas em um único comando (INSERT ... SELECT FROM unnest dos arrays):
+     * um round trip e um plano por lote, sem o limite de parâmetros do multi-row VALUES.
+     * Marcações já gravadas (mesmo colaborador, data/hora e tipo) são ignoradas; os dias
+     * (data local em {@code fuso}) das marcações inseridas entram na fila de recálculo do ponto
+     * no mesmo comando.
+     *
+     * @return quantidade efetivamente inserida
+     */
+    public int inserir(List<Linha> linhas, ZoneId fuso) {
+        String sql = String.format(
+            "WITH inseridas AS (" +
+            "  INSERT INTO %1$s.marcacao_ponto " +
+            "  (colaborador_id, data_hora, tipo, origem, latitude, longitude, criado_por, atualizado_por) " +
+            "  SELECT m.colaborador_id, m.data_hora::TIMESTAMPTZ, m.tipo, m.origem, m.latitude, m.longitude, " +
+            "  m.criado_por, m.criado_por " +
+            "  FROM unnest(?::BIGINT[], ?::TEXT[], ?::TEXT[], ?::TEXT[], ?::NUMERIC[], ?::NUMERIC[], ?::TEXT[]) " +
+            "  AS m(colaborador_id, data_hora, tipo, origem, latitude, longitude, criado_por) " +
+            "  ON CONFLICT (colaborador_id, data_hora, tipo) DO NOTHING " +
+            "  RETURNING colaborador_id, data_hora" +
+            "), pendentes AS (" +
+            "  INSERT INTO %1$s.calculo_ponto_pendente (colaborador_id, data) " +
+            "  SELECT DISTINCT colaborador_id, (data_hora AT TIME ZONE ?)::DATE FROM inseridas " +
+            "  ON CONFLICT (colaborador_id, data) DO UPDATE SET status = 'pendente', tentativas = 0, " +
+            "  proxima_tentativa_em = NULL WHERE %1$s.calculo_ponto_pendente.status = 'erro'" +
+            ") " +
+            "SELECT COUNT(*) FROM inseridas",
+            SCHEMA
+        );
+
+        int quantidade = linhas.size();
+        Long[] colaboradores = new Long[quantidade];
+        String[] datasHoras = new String[quantidade];
+        String[] tipos = new String[quantidade];
+        String[] origens = new String[quantidade];
+        BigDecimal[] latitudes = new BigDecimal[quantidade];
+        BigDecimal[] longitudes = new BigDecimal[quantidade];
+        String[] criadosPor = new String[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            MarcacaoPonto m = linhas.get(i).marcacao();
+            colaboradores[i] = m.colaboradorId();
+            // ISO-8601 em UTC: independe do fuso da JVM e da sessão
+            datasHoras[i] = m.dataHora().toString();
+            tipos[i] = m.tipo().getValor();
+            origens[i] = m.origem() != null ? m.origem().getValor() : null;
+            latitudes[i] = m.latitude();
+            longitudes[i] = m.longitude();
+            criadosPor[i] = linhas.get(i).criadoPor();
+        }
+
+        Integer inseridas = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", colaboradores));
+            ps.setArray(2, con.createArrayOf("text", datasHoras));
+            ps.setArray(3, con.createArrayOf("text", tipos));
+            ps.setArray(4, con.createArrayOf("text", origens));
+            ps.setArray(5, con.createArrayOf("numeric", latitudes));
+            ps.setArray(6, con.createArrayOf("numeric", longitudes));
+            ps.setArray(7, con.createArrayOf("text", criadosPor));
+            ps.setString(8, fuso.getId());
+            return ps;
+        }, rs -> rs.next() ? rs.getInt(1) : 0);
+        return inseridas != null ? inseridas : 0;
+    }
+
+    /**
+     * Cria a partição do mês de {@code mes}, se ainda não existe
+     *
+     * @return nome da partição criada, ou null se já existia
+     */
+    public String criarParticao(LocalDate mes) {
+        String sql = String.format("SELECT %s.criar_particao_marcacao_ponto(?)", SCHEMA);
+        return jdbcTemplate.queryForObject(sql, String.class, Date.valueOf(mes));
+    }
+}
@@ -0,0 +1,219 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import com.peopleflow.pessoascontratos.core.domain.NovaNotificacao;
+import com.peopleflow.pessoascontratos.core.ports.output.NotificacaoRepositoryPort.TemplateNotificacao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fila de notificações (NOTIFICACAO_ENVIO) e templates (TEMPLATE_NOTIFICACAO)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificacaoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private static final int TAMANHO_MAXIMO_ERRO = 2000;
+
+    /**
+     * @param contexto JSON do contexto
+     */
+    public record NotificacaoRow(Long id, String canal, Long templateId, Integer templateVersao, String usuarioId,
+                                 Long colaboradorId, String nomeColaborador, String destinatario, String assunto,
+                                 String corpo, String contexto, int tentativas) {
+    }
+
+    private final RowMapper<NotificacaoRow> rowMapper = (rs, rowNum) -> new NotificacaoRow(
+        rs.getLong("id"),
+        rs.getString("canal"),
+        rs.getObject("template_id", Long.class),
+        rs.getObject("template_versao", Integer.class),
+        rs.getString("usuario_id"),
+        rs.getObject("colaborador_id", Long.class),
+        rs.getString("nome_colaborador"),
+        rs.getString("destinatario"),
+        rs.getString("assunto"),
+        rs.getString("corpo_renderizado"),
+        rs.getString("contexto"),
+        rs.getInt("tentativas")
+    );
+
+    /**
+     * @return ID da notificação, ou vazio se o template não existe (ativo) no canal
+     */
+    public Optional<Long> insert(NovaNotificacao notificacao, String contexto, String auditor) {
+        if (notificacao.template() == null) {
+            String sql = String.format(
+                "INSERT INTO %s.notificacao_envio " +
+                "(usuario_id, colaborador_id, canal, destinatario, contexto, criado_por, atualizado_por) " +
+                "VALUES (?, ?, ?, ?, ?::JSONB, ?, ?) RETURNING id",
+                SCHEMA
+            );
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, Long.class,
+                notificacao.usuarioId(), notificacao.colaboradorId(), notificacao.canal().getValor(),
+                notificacao.destinatario(), contexto, auditor, auditor));
+        }
+        String sql = String.format(
+            "INSERT INTO %1$s.notificacao_envio " +
+            "(template_id, usuario_id, colaborador_id, canal, destinatario, contexto, criado_por, atualizado_por) " +
+            "SELECT t.id, ?, ?, t.canal, ?, ?::JSONB, ?, ? FROM %1$s.template_notificacao t " +
+            "WHERE t.nome = ? AND t.canal = ? AND t.ativo AND t.excluido_em IS NULL " +
+            "ORDER BY t.versao DESC LIMIT 1 " +
+            "RETURNING id",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForList(sql, Long.class,
+            notificacao.usuarioId(), notificacao.colaboradorId(), notificacao.destinatario(), contexto,
+            auditor, auditor, notificacao.template(), notificacao.canal().getValor()).stream().findFirst();
+    }
+
+    public int insertCampanha(Long templateId, Long empresaId, Long departamentoId, String contexto, String auditor) {
+        String sql = String.format(
+            "INSERT INTO %1$s.notificacao_envio (template_id, colaborador_id, canal, contexto, criado_por, atualizado_por) " +
+            "SELECT t.id, col.id, t.canal, ?::JSONB, ?, ? " +
+            "FROM %1$s.template_notificacao t " +
+            "JOIN %1$s.colaborador col ON col.empresa_id = ? " +
+            "WHERE t.id = ? AND t.ativo AND t.excluido_em IS NULL " +
+            "  AND col.status = 'ativo' AND col.excluido_em IS NULL " +
+            "  AND (t.canal <> 'email' OR col.email IS NOT NULL)" +
+            (departamentoId != null ? " AND col.departamento_id = ?" : ""),
+            SCHEMA
+        );
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setString(1, contexto);
+            ps.setString(2, auditor);
+            ps.setString(3, auditor);
+            ps.setLong(4, empresaId);
+            ps.setLong(5, templateId);
+            if (departamentoId != null) {
+                ps.setLong(6, departamentoId);
+            }
+            return ps;
+        });
+    }
+
+    public Optional<String> findCanalDoTemplateAtivo(Long templateId) {
+        String sql = String.format(
+            "SELECT canal FROM %s.template_notificacao WHERE id = ? AND ativo AND excluido_em IS NULL",
+            SCHEMA
+        );
+        return jdbcTemplate.queryForList(sql, String.class, templateId).stream().findFirst();
+    }
+
+    /**
+     * Reserva um lote de notificações pendentes em um único round trip, já com o
+     * e-mail e o nome do colaborador e a versão ativa do template
+     */
+    public List<NotificacaoRow> reservarLote(int limite, Duration lease) {
+        String sql = String.format(
+            "WITH r AS (" +
+            "  UPDATE %1$s.notificacao_envio " +
+            "  SET reservado_ate = clock_timestamp() + (? * INTERVAL '1 millisecond'), tentativas = tentativas + 1 " +
+            "  WHERE id IN (" +
+            "    SELECT n.id FROM %1$s.notificacao_envio n " +
+            "    WHERE n.status = 'pendente' AND n.excluido_em IS NULL " +
+            "      AND n.disponivel_em <= clock_timestamp() " +
+            "      AND (n.reservado_ate IS NULL OR n.reservado_ate < clock_timestamp()) " +
+            "    ORDER BY n.disponivel_em, n.id " +
+            "    LIMIT ? " +
+            "    FOR UPDATE SKIP LOCKED" +
+            "  ) " +
+            "  RETURNING id, canal, template_id, usuario_id, colaborador_id, destinatario, assunto, " +
+            "            corpo_renderizado, contexto, tentativas" +
+            ") " +
+            "SELECT r.id, r.canal, r.template_id, t.versao AS template_versao, r.usuario_id, r.colaborador_id, " +
+            "       col.nome AS nome_colaborador, COALESCE(r.destinatario, col.email) AS destinatario, r.assunto, " +
+            "       r.corpo_renderizado, r.contexto::TEXT AS contexto, r.tentativas " +
+            "FROM r " +
+            "LEFT JOIN %1$s.colaborador col ON col.id = r.colaborador_id " +
+            "LEFT JOIN %1$s.template_notificacao t ON t.id = r.template_id AND t.ativo AND t.excluido_em IS NULL " +
+            "ORDER BY r.id",
+            SCHEMA
+        );
+        return jdbcTemplate.query(sql, rowMapper, lease.toMillis(), limite);
+    }
+
+    public List<TemplateNotificacao> findTemplates(Collection<Long> ids) {
+        String sql = String.format(
+            "SELECT id, versao, assunto, corpo FROM %s.template_notificacao " +
+            "WHERE id = ANY(?) AND ativo AND excluido_em IS NULL",
+            SCHEMA
+        );
+        Long[] array = ids.toArray(Long[]::new);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", array));
+            return ps;
+        }, (rs, rowNum) -> new TemplateNotificacao(
+            rs.getLong("id"),
+            rs.getInt("versao"),
+            rs.getString("assunto"),
+            rs.getString("corpo")
+        ));
+    }
+
+    public void marcarEnviadas(Long[] ids, String[] assuntos, String[] corpos) {
+        String sql = String.format(
+            "UPDATE %s.notificacao_envio ne " +
+            "SET status = 'enviado', enviado_em = clock_timestamp(), reservado_ate = NULL, erro = NULL, " +
+            "    assunto = COALESCE(r.assunto, ne.assunto), " +
+            "    corpo_renderizado = COALESCE(r.corpo, ne.corpo_renderizado), " +
+            "    atualizado_em = clock_timestamp() " +
+            "FROM unnest(?::BIGINT[], ?::TEXT[], ?::TEXT[]) AS r(id, assunto, corpo) " +
+            "WHERE ne.id = r.id",
+            SCHEMA
+        );
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("text", assuntos));
+            ps.setArray(3, con.createArrayOf("text", corpos));
+            return ps;
+        });
+    }
+
+    /**
+     * Falhas definitivas ou sem tentativas restantes viram 'erro'; as demais voltam
+     * à fila com backoff exponencial pela quantidade de tentativas
+     */
+    public void registrarFalhas(Long[] ids, String[] erros, Boolean[] definitivas, int maxTentativas,
+                                Duration backoffInicial, Duration backoffMaximo) {
+        String sql = String.format(
+            "UPDATE %s.notificacao_envio ne " +
+            "SET reservado_ate = NULL, erro = r.erro, atualizado_em = clock_timestamp(), " +
+            "    status = CASE WHEN r.definitiva OR ne.tentativas >= ? THEN 'erro' ELSE 'pendente' END, " +
+            "    disponivel_em = clock_timestamp() + " +
+            "      LEAST(? * power(2, LEAST(GREATEST(ne.tentativas - 1, 0), 16)), ?) * INTERVAL '1 millisecond' " +
+            "FROM unnest(?::BIGINT[], ?::TEXT[], ?::BOOLEAN[]) AS r(id, erro, definitiva) " +
+            "WHERE ne.id = r.id",
+            SCHEMA
+        );
+        for (int i = 0; i < erros.length; i++) {
+            if (erros[i] != null && erros[i].length() > TAMANHO_MAXIMO_ERRO) {
+                erros[i] = erros[i].substring(0, TAMANHO_MAXIMO_ERRO);
+            }
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setInt(1, maxTentativas);
+            ps.setLong(2, backoffInicial.toMillis());
+            ps.setLong(3, backoffMaximo.toMillis());
+            ps.setArray(4, con.createArrayOf("bigint", ids));
+            ps.setArray(5, con.createArrayOf("text", erros));
+            ps.setArray(6, con.createArrayOf("boolean", definitivas));
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.peopleflow.pessoascontratos.outbound.database.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventoJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String SCHEMA = "people_flow_rh";
+
+    private static final int TAMANHO_MAXIMO_ERRO = 2000;
+
+    private static final int TAMANHO_LOTE_INSERT = 500;
+
+    public record OutboxEventoRow(Long id, Long agregadoId, String tipoEvento, String payload, int tentativas) {
+    }
+
+    private final RowMapper<OutboxEventoRow> rowMapper = (rs, rowNum) -> new OutboxEventoRow(
+        rs.getLong("id"),
+        rs.getLong("agregado_id"),
+        rs.getString("tipo_evento"),
+        rs.getString("payload"),
+        rs.getInt("tentativas")
+    );
+
+    public void insert(String agregadoTipo, Long agregadoId, String tipoEvento, String payload) {
+        String sql = String.format(
+            "INSERT INTO %s.outbox_evento (agregado_tipo, agregado_id, tipo_evento, payload) " +
+            "VALUES (?, ?, ?, ?)",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, agregadoTipo, agregadoId, tipoEvento, payload);
+    }
+
+    /**
+     * Insere os eventos com JDBC batch; a ordem da lista define a ordem dos IDs
+     */
+    public void insertAll(String agregadoTipo, List<OutboxEventoRow> eventos) {
+        String sql = String.format(
+            "INSERT INTO %s.outbox_evento (agregado_tipo, agregado_id, tipo_evento, payload) " +
+            "VALUES (?, ?, ?, ?)",
+            SCHEMA
+        );
+        jdbcTemplate.batchUpdate(sql, eventos, TAMANHO_LOTE_INSERT, (ps, evento) -> {
+            ps.setString(1, agregadoTipo);
+            ps.setLong(2, evento.agregadoId());
+            ps.setString(3, evento.tipoEvento());
+            ps.setString(4, evento.payload());
+        });
+    }
+
+    /**
+     * Reserva um lote de eventos pendentes em um único round trip.
+     *
+     * Só entra no lote o evento pendente mais antigo de cada agregado: enquanto ele
+     * estiver reservado por outro nó (SKIP LOCKED / lease), os seguintes do mesmo
+     * agregado ficam de fora, preservando a ordem. Eventos em erro não bloqueiam.
+     */
+    public List<OutboxEventoRow> reservarLote(int limite, Duration lease) {
+        String sql = String.format(
+            "UPDATE %1$s.outbox_evento " +
+            "SET reservado_ate = clock_timestamp() + (? * INTERVAL '1 millisecond'), tentativas = tentativas + 1 " +
+            "WHERE id IN (" +
+            "  SELECT o.id FROM %1$s.outbox_evento o " +
+            "  WHERE o.status = 'pendente' " +
+            "    AND o.disponivel_em <= clock_timestamp() " +
+            "    AND (o.reservado_ate IS NULL OR o.reservado_ate < clock_timestamp()) " +
+            "    AND NOT EXISTS (" +
+            "      SELECT 1 FROM %1$s.outbox_evento a " +
+            "      WHERE a.agregado_id = o.agregado_id AND a.status = 'pendente' AND a.id < o.id" +
+            "    ) " +
+            "  ORDER BY o.id " +
+            "  LIMIT ? " +
+            "  FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "RETURNING id, agregado_id, tipo_evento, payload, tentativas",
+            SCHEMA
+        );
+        List<OutboxEventoRow> rows = jdbcTemplate.query(sql, rowMapper, lease.toMillis(), limite);
+        // RETURNING não garante ordem; o relay despacha na ordem de gravação
+        return rows.stream()
+            .sorted(Comparator.comparing(OutboxEventoRow::id))
+            .toList();
+    }
+
+    public void marcarProcessado(Long id) {
+        String sql = String.format(
+            "UPDATE %s.outbox_evento SET status = 'processado', processado_em = clock_timestamp(), " +
+            "reservado_ate = NULL, ultimo_erro = NULL " +
+            "WHERE id = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, id);
+    }
+
+    /**
+     * Retira o evento da fila (status erro), guardando o motivo
+     */
+    public void marcarErro(Long id, String erro) {
+        String sql = String.format(
+            "UPDATE %s.outbox_evento SET status = 'erro', reservado_ate = NULL, ultimo_erro = ? WHERE id = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, truncar(erro), id);
+    }
+
+    public void registrarFalha(Long id, String erro, Duration atraso) {
+        String sql = String.format(
+            "UPDATE %s.outbox_evento " +
+            "SET reservado_ate = NULL, ultimo_erro = ?, disponivel_em = clock_timestamp() + (? * INTERVAL '1 millisecond') " +
+            "WHERE id = ?",
+            SCHEMA
+        );
+        jdbcTemplate.update(sql, truncar(erro), atraso.toMillis(), id);
+    }
+
+    public int deleteProcessadosHaMaisDe(Duration retencao) {
+        String sql = String.format(
+            "DELETE FROM %s.outbox_evento " +
+            "WHERE status = 'processado' AND processado_em < clock_timestamp() - (? * INTERVAL '1 millisecond')",
+            SCHEMA
+        );
+        return jdbcTemplate.update(sql, retencao.toMillis());
+    }
+
+    private static String truncar(String erro) {
+        return erro != null && erro.length() > TAMANHO_MAXIMO_ERRO
+            ? erro.substring(0, TAMANHO_MAXIMO_ERRO)
+            : erro;
+    }
+}
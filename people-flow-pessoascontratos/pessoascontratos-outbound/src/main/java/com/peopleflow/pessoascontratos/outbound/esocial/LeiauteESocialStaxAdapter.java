@@ -0,0 +1,145 @@
+package com.peopleflow.pessoascontratos.outbound.esocial;
+
+import com.peopleflow.pessoascontratos.core.domain.GeracaoESocial;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador;
+import com.peopleflow.pessoascontratos.core.domain.RemuneracaoTrabalhador.ItemRemuneracao;
+import com.peopleflow.pessoascontratos.core.ports.output.LeiauteESocialPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/**
+ * Escreve os eventos no leiaute S-1.2 do eSocial com StAX (XMLStreamWriter)
+ *
+ * O XML vai direto para o Writer de destino, elemento a elemento, sem árvore DOM.
+ */
+@Component
+public class LeiauteESocialStaxAdapter implements LeiauteESocialPort {
+
+    private static final String VERSAO = "S-1.2";
+    private static final String NS_S1200 = "http://www.esocial.gov.br/schema/evt/evtRemun/v_S_01_02_00";
+    private static final String VERSAO_PROCESSO = "people-flow";
+    private static final String LOTACAO_PADRAO = "GERAL";
+    private static final String TIPO_INSCRICAO_CNPJ = "1";
+
+    /** Categoria do trabalhador (tabela 01 do eSocial) pelo tipo do contrato */
+    private static final Map<String, String> CATEGORIA_POR_TIPO_CONTRATO = Map.of(
+        "CLT", "101",
+        "temporario", "106",
+        "intermitente", "111",
+        "PJ", "701",
+        "estagio", "901"
+    );
+    private static final String CATEGORIA_PADRAO = "101";
+
+    private final XMLOutputFactory outputFactory = XMLOutputFactory.newFactory();
+    private final String ambiente;
+    private final String tabelaRubricas;
+
+    public LeiauteESocialStaxAdapter(
+            @Value("${app.esocial.ambiente:2}") String ambiente,
+            @Value("${app.esocial.tabela-rubricas:PF}") String tabelaRubricas) {
+        this.ambiente = ambiente;
+        this.tabelaRubricas = tabelaRubricas;
+    }
+
+    @Override
+    public String versao() {
+        return VERSAO;
+    }
+
+    @Override
+    public void escreverS1200(GeracaoESocial geracao, RemuneracaoTrabalhador trabalhador, String idEvento,
+                              Writer destino) {
+        try {
+            XMLStreamWriter xml = outputFactory.createXMLStreamWriter(destino);
+            try {
+                xml.writeStartDocument("UTF-8", "1.0");
+                xml.writeStartElement("eSocial");
+                xml.writeDefaultNamespace(NS_S1200);
+                xml.writeStartElement("evtRemun");
+                xml.writeAttribute("Id", idEvento);
+
+                xml.writeStartElement("ideEvento");
+                elemento(xml, "indRetif", "1");
+                elemento(xml, "indApuracao", "1");
+                elemento(xml, "perApur", geracao.getCompetencia().toString());
+                elemento(xml, "tpAmb", ambiente);
+                elemento(xml, "procEmi", "1");
+                elemento(xml, "verProc", VERSAO_PROCESSO);
+                xml.writeEndElement();
+
+                xml.writeStartElement("ideEmpregador");
+                elemento(xml, "tpInsc", TIPO_INSCRICAO_CNPJ);
+                elemento(xml, "nrInsc", geracao.inscricaoRaiz());
+                xml.writeEndElement();
+
+                xml.writeStartElement("ideTrabalhador");
+                elemento(xml, "cpfTrab", digitos(trabalhador.cpf()));
+                xml.writeEndElement();
+
+                xml.writeStartElement("dmDev");
+                elemento(xml, "ideDmDev", "F" + geracao.getExecucaoId());
+                elemento(xml, "codCateg", CATEGORIA_POR_TIPO_CONTRATO.getOrDefault(
+                        trabalhador.tipoContrato() != null ? trabalhador.tipoContrato() : "", CATEGORIA_PADRAO));
+                xml.writeStartElement("infoPerApur");
+                xml.writeStartElement("ideEstabLot");
+                elemento(xml, "tpInsc", TIPO_INSCRICAO_CNPJ);
+                elemento(xml, "nrInsc", geracao.getInscricaoEmpregador());
+                elemento(xml, "codLotacao", trabalhador.lotacao() != null ? trabalhador.lotacao() : LOTACAO_PADRAO);
+                xml.writeStartElement("remunPerApur");
+                if (trabalhador.matricula() != null) {
+                    elemento(xml, "matricula", trabalhador.matricula());
+                }
+                for (ItemRemuneracao item : trabalhador.itens()) {
+                    if (item.valor() == null) {
+                        // vrRubr é obrigatório: rubrica sem valor não tem o que informar
+                        continue;
+                    }
+                    xml.writeStartElement("itensRemun");
+                    elemento(xml, "codRubr", item.codigoRubrica());
+                    elemento(xml, "ideTabRubr", tabelaRubricas);
+                    if (item.quantidade() != null) {
+                        elemento(xml, "qtdRubr", decimal(item.quantidade()));
+                    }
+                    elemento(xml, "vrRubr", decimal(item.valor()));
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement(); // remunPerApur
+                xml.writeEndElement(); // ideEstabLot
+                xml.writeEndElement(); // infoPerApur
+                xml.writeEndElement(); // dmDev
+
+                xml.writeEndElement(); // evtRemun
+                xml.writeEndElement(); // eSocial
+                xml.writeEndDocument();
+                xml.flush();
+            } finally {
+                xml.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Falha ao escrever S-1200 do colaborador " + trabalhador.colaboradorId(), e);
+        }
+    }
+
+    private static void elemento(XMLStreamWriter xml, String nome, String valor) throws XMLStreamException {
+        xml.writeStartElement(nome);
+        xml.writeCharacters(valor);
+        xml.writeEndElement();
+    }
+
+    private static String decimal(BigDecimal valor) {
+        return valor.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String digitos(String valor) {
+        return valor.replaceAll("\\D", "");
+    }
+}
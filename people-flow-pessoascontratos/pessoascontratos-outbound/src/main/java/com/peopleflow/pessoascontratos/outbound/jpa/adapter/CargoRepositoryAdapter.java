@@ -14,6 +14,8 @@ import com.peopleflow.pessoascontratos.outbound.jpa.repository.FaixaSalarialJpaR
 import com.peopleflow.pessoascontratos.outbound.jpa.repository.FamiliaCargoJpaRepository;
 import com.peopleflow.pessoascontratos.outbound.jpa.repository.NivelHierarquicoJpaRepository;
 import com.peopleflow.pessoascontratos.outbound.jpa.specification.CargoSpecification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -54,6 +56,7 @@ public class CargoRepositoryAdapter implements CargoRepositoryPort {
     }
 
     @Override
+    @CacheEvict(value = "cargos", key = "#cargo.id", condition = "#cargo.id != null")
     public Cargo salvar(Cargo cargo) {
         if (cargo.getId() == null) {
             CargoEntity entity = mapper.toEntity(cargo);
@@ -73,6 +76,7 @@ public class CargoRepositoryAdapter implements CargoRepositoryPort {
     }
 
     @Override
+    @Cacheable(value = "cargos", key = "#id", unless = "#result == null")
     public Optional<Cargo> buscarAtivoPorId(Long id) {
         return cargoJpaRepository.findByIdAndExcluidoEmIsNull(id).map(mapper::toDomain);
     }
@@ -119,6 +123,7 @@ public class CargoRepositoryAdapter implements CargoRepositoryPort {
     }
 
     @Override
+    @CacheEvict(value = "cargos", key = "#id")
     public void excluir(Long id) {
         CargoEntity entity = cargoJpaRepository.findByIdAndExcluidoEmIsNull(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Cargo", id));
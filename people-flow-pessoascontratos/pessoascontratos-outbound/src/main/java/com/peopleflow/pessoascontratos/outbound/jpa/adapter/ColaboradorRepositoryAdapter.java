@@ -1,31 +1,71 @@
 package com.peopleflow.pessoascontratos.outbound.jpa.adapter;
 
+import com.peopleflow.common.exception.ValidationException;
+import com.peopleflow.common.pagination.CursorPagedResult;
+import com.peopleflow.common.pagination.CursorPagination;
+import com.peopleflow.common.pagination.KeysetCursor;
+import com.peopleflow.pessoascontratos.core.domain.CampoColaborador;
 import com.peopleflow.pessoascontratos.core.domain.Colaborador;
+import com.peopleflow.pessoascontratos.core.domain.TransicaoStatus;
 import com.peopleflow.common.pagination.PagedResult;
 import com.peopleflow.common.pagination.Pagination;
+import com.peopleflow.pessoascontratos.core.query.ColaboradorExportacao;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
+import com.peopleflow.pessoascontratos.core.query.VinculoAcesso;
 import com.peopleflow.pessoascontratos.core.ports.output.ColaboradorRepositoryPort;
+import com.peopleflow.pessoascontratos.outbound.database.repository.ColaboradorAlteracaoJdbcRepository;
+import com.peopleflow.pessoascontratos.outbound.database.repository.ColaboradorExportacaoJdbcRepository;
+import com.peopleflow.pessoascontratos.outbound.database.repository.ColaboradorLoteJdbcRepository;
+import com.peopleflow.pessoascontratos.outbound.database.repository.ColaboradorLoteJdbcRepository.ChaveExistenteRow;
+import com.peopleflow.pessoascontratos.outbound.database.repository.ColaboradorVinculoAcessoJdbcRepository;
 import com.peopleflow.pessoascontratos.outbound.jpa.entity.ColaboradorEntity;
 import com.peopleflow.pessoascontratos.outbound.jpa.mapper.ColaboradorJpaMapper;
 import com.peopleflow.pessoascontratos.outbound.jpa.repository.ColaboradorJpaRepository;
 import com.peopleflow.pessoascontratos.outbound.jpa.specification.ColaboradorSpecification;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Component
 public class ColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
 
+    /** Campos com índice (campo, ID) para paginação keyset; o id é sempre o desempate */
+    private static final Set<String> CAMPOS_ORDENACAO_CURSOR = Set.of("id", "nome");
+
     private final ColaboradorJpaRepository repository;
     private final ColaboradorJpaMapper mapper;
+    private final ColaboradorLoteJdbcRepository loteRepository;
+    private final ColaboradorExportacaoJdbcRepository exportacaoRepository;
+    private final ColaboradorVinculoAcessoJdbcRepository vinculoAcessoRepository;
+    private final ColaboradorAlteracaoJdbcRepository alteracaoRepository;
+    private final AuditorAware<String> auditorAware;
 
-    public ColaboradorRepositoryAdapter(final ColaboradorJpaRepository repository, final ColaboradorJpaMapper mapper) {
+    public ColaboradorRepositoryAdapter(final ColaboradorJpaRepository repository,
+                                        final ColaboradorJpaMapper mapper,
+                                        final ColaboradorLoteJdbcRepository loteRepository,
+                                        final ColaboradorExportacaoJdbcRepository exportacaoRepository,
+                                        final ColaboradorVinculoAcessoJdbcRepository vinculoAcessoRepository,
+                                        final ColaboradorAlteracaoJdbcRepository alteracaoRepository,
+                                        final AuditorAware<String> auditorAware) {
         this.repository = repository;
         this.mapper = mapper;
+        this.loteRepository = loteRepository;
+        this.exportacaoRepository = exportacaoRepository;
+        this.vinculoAcessoRepository = vinculoAcessoRepository;
+        this.alteracaoRepository = alteracaoRepository;
+        this.auditorAware = auditorAware;
     }
 
     @Override
@@ -35,12 +75,56 @@ public class ColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Colaborador> salvarEmLote(List<Colaborador> colaboradores) {
+        if (colaboradores.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = loteRepository.reservarIds(colaboradores.size());
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+
+        List<ColaboradorEntity> entities = new ArrayList<>(colaboradores.size());
+        for (int i = 0; i < colaboradores.size(); i++) {
+            ColaboradorEntity entity = mapper.toEntity(colaboradores.get(i));
+            entity.setId(ids.get(i));
+            entity.setCriadoPor(auditor);
+            entity.setAtualizadoPor(auditor);
+            entity.setVersao(0L);
+            entities.add(entity);
+        }
+
+        loteRepository.insertAll(entities);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public Optional<Long> atualizarCampos(Colaborador colaborador, Set<CampoColaborador> campos) {
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        return alteracaoRepository.atualizarCampos(mapper.toEntity(colaborador), campos, auditor);
+    }
+
+    @Override
+    public Optional<Colaborador> alterarStatus(Long id, TransicaoStatus transicao, Long empresaId) {
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        return alteracaoRepository.alterarStatus(id, transicao, empresaId, auditor)
+                .map(mapper::toDomain);
+    }
+
     @Override
     public Optional<Colaborador> buscarPorId(Long id) {
         return repository.findById(id)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<String> buscarKeycloakUserIdPorId(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return repository.findKeycloakUserIdById(id);
+    }
+
     @Override
     public PagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, Pagination pagination) {
         Specification<ColaboradorEntity> specification = ColaboradorSpecification.filter(filter);
@@ -64,6 +148,89 @@ public class ColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
         );
     }
 
+    @Override
+    public CursorPagedResult<Colaborador> buscarPorFiltros(ColaboradorFilter filter, CursorPagination pagination) {
+        String sortBy = pagination.sortBy() != null ? pagination.sortBy() : "id";
+        if (!CAMPOS_ORDENACAO_CURSOR.contains(sortBy)) {
+            throw new ValidationException("Paginação por cursor suporta ordenação apenas por: " + CAMPOS_ORDENACAO_CURSOR);
+        }
+        boolean ascendente = pagination.direction() == Pagination.SortDirection.ASC;
+
+        Specification<ColaboradorEntity> filtro = ColaboradorSpecification.filter(filter);
+        Specification<ColaboradorEntity> specification = filtro;
+
+        if (!pagination.isFirstPage()) {
+            KeysetCursor cursor = KeysetCursor.decode(pagination.cursor());
+            if (!cursor.correspondeA(sortBy, pagination.direction())) {
+                throw new ValidationException("Cursor gerado para outra ordenação; reinicie a paginação");
+            }
+            specification = specification.and(
+                ColaboradorSpecification.aposCursor(sortBy, ascendente, cursor.sortValue(), cursor.lastId()));
+        }
+
+        Sort.Direction direction = ascendente ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = "id".equals(sortBy)
+            ? Sort.by(direction, "id")
+            : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+
+        // Busca um item a mais para saber se existe próxima página sem COUNT
+        List<ColaboradorEntity> entidades = repository.findBy(specification,
+            q -> q.sortBy(sort).limit(pagination.size() + 1).all());
+
+        boolean hasNext = entidades.size() > pagination.size();
+        List<ColaboradorEntity> pagina = hasNext ? entidades.subList(0, pagination.size()) : entidades;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ColaboradorEntity ultimo = pagina.get(pagina.size() - 1);
+            String valorOrdenacao = "nome".equals(sortBy) ? ultimo.getNome() : null;
+            nextCursor = new KeysetCursor(sortBy, pagination.direction(), valorOrdenacao, ultimo.getId()).encode();
+        }
+
+        Long totalElements = pagination.includeTotal() ? repository.count(filtro) : null;
+
+        return new CursorPagedResult<>(
+            pagina.stream().map(mapper::toDomain).toList(),
+            nextCursor,
+            hasNext,
+            pagination.size(),
+            totalElements
+        );
+    }
+
+    @Override
+    public void percorrerParaExportacao(ColaboradorFilter filter, Consumer<ColaboradorExportacao> consumidor) {
+        exportacaoRepository.stream(filter, consumidor);
+    }
+
+    @Override
+    public List<VinculoAcesso> listarVinculosAcesso(Long aposId, int limite) {
+        return vinculoAcessoRepository.findVinculadosAposId(aposId, limite);
+    }
+
+    @Override
+    public List<VinculoAcesso> buscarVinculosAcesso(Collection<String> keycloakUserIds, Collection<Long> colaboradorIds) {
+        return vinculoAcessoRepository.findPorUsuariosOuIds(keycloakUserIds, colaboradorIds);
+    }
+
+    @Override
+    public List<Colaborador> buscarPorTermo(String termo, Long empresaId, int limite) {
+        String termoNormalizado = termo.trim().toLowerCase(Locale.ROOT);
+        String cpfDigitos = termo.replaceAll("[^0-9]", "");
+        // CPF só entra na busca se o termo for numérico (com ou sem máscara) e tiver 3+ dígitos
+        if (cpfDigitos.length() < 3 || cpfDigitos.length() != termo.replaceAll("[.\\-\\s]", "").length()) {
+            cpfDigitos = "";
+        }
+
+        return repository.buscarPorTermo(termoNormalizado, escaparLike(termoNormalizado), cpfDigitos, empresaId, limite).stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
+    private static String escaparLike(String valor) {
+        return valor.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     @Override
     public boolean existePorCpf(String cpf) {
         return repository.existsByCpfAndStatusNot(cpf, "excluido");
@@ -82,6 +249,30 @@ public class ColaboradorRepositoryAdapter implements ColaboradorRepositoryPort {
         return repository.existsByMatriculaAndEmpresaIdAndStatusNot(matricula, empresaId, "excluido");
     }
 
+    @Override
+    public ChavesExistentes buscarChavesExistentes(Collection<String> cpfs,
+                                                   Collection<String> emails,
+                                                   Collection<MatriculaEmpresa> matriculas) {
+        List<ChaveExistenteRow> rows = loteRepository.buscarChavesExistentes(
+            cpfs.toArray(String[]::new),
+            emails.toArray(String[]::new),
+            matriculas.stream().map(MatriculaEmpresa::empresaId).toArray(Long[]::new),
+            matriculas.stream().map(MatriculaEmpresa::matricula).toArray(String[]::new)
+        );
+
+        Set<String> cpfsExistentes = new HashSet<>();
+        Set<String> emailsExistentes = new HashSet<>();
+        Set<MatriculaEmpresa> matriculasExistentes = new HashSet<>();
+        for (ChaveExistenteRow row : rows) {
+            switch (row.tipo()) {
+                case ColaboradorLoteJdbcRepository.CHAVE_CPF -> cpfsExistentes.add(row.valor());
+                case ColaboradorLoteJdbcRepository.CHAVE_EMAIL -> emailsExistentes.add(row.valor());
+                default -> matriculasExistentes.add(new MatriculaEmpresa(row.empresaId(), row.valor()));
+            }
+        }
+        return new ChavesExistentes(cpfsExistentes, emailsExistentes, matriculasExistentes);
+    }
+
     @Override
     public boolean existePorCpfExcluindoId(String cpf, Long id) {
         return repository.existsByCpfAndIdNotAndStatusNot(cpf, id, "excluido");
@@ -32,7 +32,7 @@ public class CargoEntity extends AuditableEntity {
         name = "CARGO_SEQ_GEN",
         sequenceName = "CARGO_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
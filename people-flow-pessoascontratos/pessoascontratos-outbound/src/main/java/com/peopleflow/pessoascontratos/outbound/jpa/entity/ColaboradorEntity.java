@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -25,13 +26,16 @@ import java.time.LocalDate;
 @ToString(callSuper = true)
 public class ColaboradorEntity extends AuditableEntity {
 
+    /** Igual ao INCREMENT BY de COLABORADOR_ID_SEQ (otimizador pooled) */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "colaborador_seq_gen")
     @SequenceGenerator(
         name = "colaborador_seq_gen",
         sequenceName = "COLABORADOR_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = ColaboradorEntity.ID_ALLOCATION_SIZE
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
@@ -71,4 +75,8 @@ public class ColaboradorEntity extends AuditableEntity {
 
     @Column(name = "KEYCLOAK_USER_ID", length = 36)
     private String keycloakUserId;
+
+    @Version
+    @Column(name = "VERSAO", nullable = false)
+    private Long versao;
 }
\ No newline at end of file
@@ -29,7 +29,7 @@ public class ContaBancariaEntity extends AuditableEntity {
         name = "CONTA_BANCARIA_SEQ_GEN",
         sequenceName = "CONTA_BANCARIA_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
@@ -32,7 +32,7 @@ public class ContratoEntity extends AuditableEntity {
         name = "CONTRATO_SEQ_GEN",
         sequenceName = "CONTRATO_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
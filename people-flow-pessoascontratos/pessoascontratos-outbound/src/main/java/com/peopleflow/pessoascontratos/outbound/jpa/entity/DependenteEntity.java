@@ -31,7 +31,7 @@ public class DependenteEntity extends AuditableEntity {
         name = "DEPENDENTE_SEQ_GEN",
         sequenceName = "DEPENDENTE_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
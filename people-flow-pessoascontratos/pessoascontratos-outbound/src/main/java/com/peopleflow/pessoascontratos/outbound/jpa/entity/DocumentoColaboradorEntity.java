@@ -29,7 +29,7 @@ public class DocumentoColaboradorEntity extends AuditableEntity {
         name = "DOCUMENTO_COLABORADOR_SEQ_GEN",
         sequenceName = "DOCUMENTO_COLABORADOR_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
@@ -29,7 +29,7 @@ public class DocumentoContratoEntity extends AuditableEntity {
             name = "DOCUMENTO_CONTRATO_SEQ_GEN",
             sequenceName = "DOCUMENTO_CONTRATO_ID_SEQ",
             schema = "PEOPLE_FLOW_RH",
-            allocationSize = 1
+            allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
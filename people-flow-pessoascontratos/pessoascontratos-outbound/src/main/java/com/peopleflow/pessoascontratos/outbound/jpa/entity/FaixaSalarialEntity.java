@@ -31,7 +31,7 @@ public class FaixaSalarialEntity extends AuditableEntity {
         name = "FAIXA_SALARIAL_SEQ_GEN",
         sequenceName = "FAIXA_SALARIAL_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
@@ -29,7 +29,7 @@ public class FamiliaCargoEntity extends AuditableEntity {
             name = "FAMILIA_CARGO_SEQ_GEN",
             sequenceName = "FAMILIA_CARGO_ID_SEQ",
             schema = "PEOPLE_FLOW_RH",
-            allocationSize = 1
+            allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
@@ -31,7 +31,7 @@ public class JornadaTrabalhoEntity extends AuditableEntity {
         name = "JORNADA_TRABALHO_SEQ_GEN",
         sequenceName = "JORNADA_TRABALHO_ID_SEQ",
         schema = "PEOPLE_FLOW_RH",
-        allocationSize = 1
+        allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
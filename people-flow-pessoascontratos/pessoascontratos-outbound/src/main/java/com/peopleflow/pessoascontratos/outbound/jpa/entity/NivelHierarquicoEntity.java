@@ -29,7 +29,7 @@ public class NivelHierarquicoEntity extends AuditableEntity {
             name = "NIVEL_HIERARQUICO_SEQ_GEN",
             sequenceName = "NIVEL_HIERARQUICO_ID_SEQ",
             schema = "PEOPLE_FLOW_RH",
-            allocationSize = 1
+            allocationSize = 20
     )
     @Column(name = "ID", nullable = false, updatable = false)
     private Long id;
@@ -7,6 +7,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ColaboradorJpaRepository extends JpaRepository<ColaboradorEntity, Long>, 
                                                    JpaSpecificationExecutor<ColaboradorEntity> {
@@ -23,4 +26,37 @@ public interface ColaboradorJpaRepository extends JpaRepository<ColaboradorEntit
     long countAtivosPorCargoId(@Param("cargoId") Long cargoId);
 
     boolean existsByEmpresaIdAndExcluidoEmIsNullAndStatusNot(Long empresaId, String status);
+
+    /**
+     * Busca textual ranqueada (typeahead) por nome, email ou dígitos do CPF.
+     * Usa os índices GIN de trigrama de V11; nome é comparado sem acentos.
+     * {@code termo} vem em minúsculas e é usado na similaridade; {@code padrao} é o
+     * mesmo termo com os curingas de LIKE escapados, usado nas comparações por substring.
+     */
+    @Query(value = """
+            SELECT c.* FROM people_flow_rh.colaborador c
+            WHERE c.status <> 'excluido'
+              AND (CAST(:empresaId AS BIGINT) IS NULL OR c.empresa_id = CAST(:empresaId AS BIGINT))
+              AND (
+                    people_flow_rh.f_unaccent(lower(c.nome)) LIKE '%' || people_flow_rh.f_unaccent(:padrao) || '%'
+                 OR people_flow_rh.f_unaccent(:termo) <% people_flow_rh.f_unaccent(lower(c.nome))
+                 OR lower(c.email) LIKE '%' || :padrao || '%'
+                 OR (:cpfDigitos <> '' AND regexp_replace(c.cpf, '[^0-9]', '', 'g') LIKE '%' || :cpfDigitos || '%')
+              )
+            ORDER BY GREATEST(
+                    word_similarity(people_flow_rh.f_unaccent(:termo), people_flow_rh.f_unaccent(lower(c.nome))),
+                    CASE WHEN lower(c.email) LIKE :padrao || '%' THEN 0.9 ELSE 0 END,
+                    CASE WHEN :cpfDigitos <> '' AND regexp_replace(c.cpf, '[^0-9]', '', 'g') LIKE :cpfDigitos || '%'
+                         THEN 1 ELSE 0 END
+                 ) DESC, c.nome, c.id
+            LIMIT :limite
+            """, nativeQuery = true)
+    List<ColaboradorEntity> buscarPorTermo(@Param("termo") String termo,
+                                           @Param("padrao") String padrao,
+                                           @Param("cpfDigitos") String cpfDigitos,
+                                           @Param("empresaId") Long empresaId,
+                                           @Param("limite") int limite);
+
+    @Query("SELECT c.keycloakUserId FROM ColaboradorEntity c WHERE c.id = :id AND c.keycloakUserId IS NOT NULL")
+    Optional<String> findKeycloakUserIdById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.peopleflow.pessoascontratos.outbound.jpa.specification;
 
+import com.peopleflow.common.valueobject.Cpf;
 import com.peopleflow.pessoascontratos.core.query.ColaboradorFilter;
 import com.peopleflow.pessoascontratos.outbound.jpa.entity.ColaboradorEntity;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -34,14 +36,9 @@ public class ColaboradorSpecification {
 
             if (filter.getCpf() != null && !filter.getCpf().trim().isEmpty()) {
                 // O banco armazena CPF formatado (999.999.999-99).
-                // Busca por substring no valor formatado, aceitando input com ou sem máscara.
-                String cpfDigitos = filter.getCpf().replaceAll("[^0-9]", "");
-                String cpfFiltro = cpfDigitos.length() == 11
-                        ? cpfDigitos.substring(0, 3) + "." +
-                          cpfDigitos.substring(3, 6) + "." +
-                          cpfDigitos.substring(6, 9) + "-" +
-                          cpfDigitos.substring(9, 11)
-                        : filter.getCpf().trim();
+                // Busca por substring no valor formatado, aceitando input com ou sem máscara
+                // (fromStorage formata 11 dígitos e mantém o termo parcial como veio).
+                String cpfFiltro = Cpf.fromStorage(filter.getCpf()).getValor();
                 predicates.add(
                     criteriaBuilder.like(
                         root.get("cpf"),
@@ -130,5 +127,36 @@ public class ColaboradorSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Predicado keyset: itens posteriores a (valorOrdenacao, ultimoId) na ordenação informada.
+     * O limite redundante {@code campo >= valor} permite ao planner usar o índice (campo, ID).
+     */
+    public static Specification<ColaboradorEntity> aposCursor(String sortBy, boolean ascendente,
+                                                              String valorOrdenacao, long ultimoId) {
+        return (root, query, criteriaBuilder) -> {
+            Path<Long> id = root.get("id");
+
+            if ("id".equals(sortBy)) {
+                return ascendente
+                        ? criteriaBuilder.greaterThan(id, ultimoId)
+                        : criteriaBuilder.lessThan(id, ultimoId);
+            }
+
+            Path<String> campo = root.get(sortBy);
+            if (ascendente) {
+                return criteriaBuilder.and(
+                        criteriaBuilder.greaterThanOrEqualTo(campo, valorOrdenacao),
+                        criteriaBuilder.or(
+                                criteriaBuilder.greaterThan(campo, valorOrdenacao),
+                                criteriaBuilder.greaterThan(id, ultimoId)));
+            }
+            return criteriaBuilder.and(
+                    criteriaBuilder.lessThanOrEqualTo(campo, valorOrdenacao),
+                    criteriaBuilder.or(
+                            criteriaBuilder.lessThan(campo, valorOrdenacao),
+                            criteriaBuilder.lessThan(id, ultimoId)));
+        };
+    }
 }
 
@@ -0,0 +1,165 @@
+package com.peopleflow.pessoascontratos.outbound.notificacao;
+
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.ports.output.CanalNotificacaoPort;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canal de e-mail
+ *
+ * Provedores ({@code app.notificacao.email.provedor}):
+ * - log: só registra o envio no log (padrão; desenvolvimento e testes sem servidor de e-mail)
+ * - smtp: entrega pelo {@link JavaMailSender} configurado em {@code spring.mail.*}
+ *   (ex.: Mailpit no docker-compose de dev)
+ *
+ * No smtp o lote vai numa única chamada ao JavaMailSender (uma conexão); uma mensagem
+ * recusada não derruba as demais.
+ */
+@Component
+public class EmailCanalAdapter implements CanalNotificacaoPort {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailCanalAdapter.class);
+
+    private final String remetente;
+    private final JavaMailSender mailSender;
+
+    public EmailCanalAdapter(
+            @Value("${app.notificacao.email.provedor:log}") String provedor,
+            @Value("${app.notificacao.email.remetente:nao-responda@peopleflow.local}") String remetente,
+            ObjectProvider<JavaMailSender> mailSender) {
+        this.remetente = remetente;
+        this.mailSender = switch (provedor) {
+            case "smtp" -> mailSender.getIfAvailable(() -> {
+                throw new IllegalStateException(
+                        "app.notificacao.email.provedor=smtp exige spring.mail.host configurado");
+            });
+            case "log" -> null;
+            default -> throw new IllegalStateException(
+                    "app.notificacao.email.provedor inválido: " + provedor + " (esperado: log ou smtp)");
+        };
+        log.info("📧 Canal de e-mail: provedor {}", provedor);
+    }
+
+    @Override
+    public CanalNotificacao canal() {
+        return CanalNotificacao.EMAIL;
+    }
+
+    @Override
+    public List<ResultadoEnvio> enviar(List<NotificacaoRenderizada> notificacoes) {
+        if (mailSender != null) {
+            return enviarSmtp(notificacoes);
+        }
+        return notificacoes.stream()
+                .map(notificacao -> {
+                    log.info("📧 [log] e-mail {} para {}: {}",
+                            notificacao.id(), notificacao.destinatario(), notificacao.assunto());
+                    return ResultadoEnvio.sucesso(notificacao.id());
+                })
+                .toList();
+    }
+
+    private List<ResultadoEnvio> enviarSmtp(List<NotificacaoRenderizada> notificacoes) {
+        ResultadoEnvio[] resultados = new ResultadoEnvio[notificacoes.size()];
+        List<MimeMessage> mensagens = new ArrayList<>(notificacoes.size());
+        List<Integer> indices = new ArrayList<>(notificacoes.size());
+        for (int i = 0; i < notificacoes.size(); i++) {
+            NotificacaoRenderizada notificacao = notificacoes.get(i);
+            try {
+                mensagens.add(mensagem(notificacao));
+                indices.add(i);
+            } catch (AddressException e) {
+                resultados[i] = ResultadoEnvio.falhaDefinitiva(notificacao.id(),
+                        "Endereço de e-mail inválido: " + notificacao.destinatario());
+            } catch (MessagingException e) {
+                resultados[i] = ResultadoEnvio.falhaDefinitiva(notificacao.id(), "E-mail inválido: " + e.getMessage());
+            }
+        }
+
+        Map<Object, Exception> falhas = Map.of();
+        MailException erroGeral = null;
+        if (!mensagens.isEmpty()) {
+            try {
+                mailSender.send(mensagens.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                // Só as mensagens do mapa falharam (inclusive todas, se a conexão caiu); mapa vazio
+                // significa erro ao fechar a conexão depois de tudo entregue
+                falhas = e.getFailedMessages();
+            } catch (MailException e) {
+                // Ex.: falha de autenticação; nada foi confirmado, o lote volta para a fila
+                erroGeral = e;
+            }
+        }
+
+        for (int j = 0; j < mensagens.size(); j++) {
+            Long id = notificacoes.get(indices.get(j)).id();
+            Exception falha = erroGeral != null ? erroGeral : falhas.get(mensagens.get(j));
+            resultados[indices.get(j)] = falha == null ? ResultadoEnvio.sucesso(id) : resultado(id, falha);
+        }
+        return List.of(resultados);
+    }
+
+    private MimeMessage mensagem(NotificacaoRenderizada notificacao) throws MessagingException {
+        if (notificacao.destinatario() == null) {
+            throw new AddressException("destinatário ausente");
+        }
+        String corpo = notificacao.corpo() != null ? notificacao.corpo() : "";
+        MimeMessage mensagem = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mensagem, StandardCharsets.UTF_8.name());
+        helper.setFrom(remetente);
+        helper.setTo(new InternetAddress(notificacao.destinatario(), true));
+        if (notificacao.assunto() != null) {
+            helper.setSubject(notificacao.assunto());
+        }
+        helper.setText(corpo, corpo.stripLeading().startsWith("<"));
+        return mensagem;
+    }
+
+    /**
+     * Respostas 5xx e destinatários recusados são definitivas; o resto (conexão, 4xx) volta para a fila
+     */
+    private static ResultadoEnvio resultado(Long id, Exception falha) {
+        for (Throwable causa = falha; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SMTPAddressFailedException recusado) {
+                return classificar(id, recusado.getReturnCode(), recusado.getMessage());
+            }
+            if (causa instanceof SMTPSendFailedException recusado) {
+                return classificar(id, recusado.getReturnCode(), recusado.getMessage());
+            }
+            if (causa instanceof SendFailedException envio && envio.getInvalidAddresses() != null
+                    && envio.getInvalidAddresses().length > 0) {
+                return ResultadoEnvio.falhaDefinitiva(id, "SMTP: " + envio.getMessage());
+            }
+        }
+        return ResultadoEnvio.falhaTemporaria(id, "SMTP: " + falha.getMessage());
+    }
+
+    private static ResultadoEnvio classificar(Long id, int codigo, String mensagem) {
+        String erro = "SMTP " + codigo + ": " + (mensagem != null ? mensagem.strip() : "");
+        return codigo >= 500
+                ? ResultadoEnvio.falhaDefinitiva(id, erro)
+                : ResultadoEnvio.falhaTemporaria(id, erro);
+    }
+}
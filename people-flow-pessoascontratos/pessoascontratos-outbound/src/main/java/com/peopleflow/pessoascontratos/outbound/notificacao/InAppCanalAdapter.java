@@ -0,0 +1,29 @@
+package com.peopleflow.pessoascontratos.outbound.notificacao;
+
+import com.peopleflow.pessoascontratos.core.domain.NotificacaoRenderizada;
+import com.peopleflow.pessoascontratos.core.domain.ResultadoEnvio;
+import com.peopleflow.pessoascontratos.core.ports.output.CanalNotificacaoPort;
+import com.peopleflow.pessoascontratos.core.valueobject.CanalNotificacao;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Canal in-app: a própria linha de NOTIFICACAO_ENVIO é a mensagem na caixa do usuário,
+ * então entregar é só gravar o corpo renderizado e marcá-la como enviada
+ */
+@Component
+public class InAppCanalAdapter implements CanalNotificacaoPort {
+
+    @Override
+    public CanalNotificacao canal() {
+        return CanalNotificacao.INAPP;
+    }
+
+    @Override
+    public List<ResultadoEnvio> enviar(List<NotificacaoRenderizada> notificacoes) {
+        return notificacoes.stream()
+                .map(notificacao -> ResultadoEnvio.sucesso(notificacao.id()))
+                .toList();
+    }
+}